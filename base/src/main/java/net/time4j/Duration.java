@@ -43,6 +43,7 @@ import java.time.temporal.IsoFields;
 import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -148,6 +149,16 @@ public final class Duration<U extends IsoUnit>
     private static final long MRD = 1000000000L;
     private static final long MIO = 1000000L;
 
+    // Standardeinheiten in absteigender Länge (Index = Bitposition der kompakten Darstellung)
+    private static final IsoUnit[] STD_UNITS = {
+        MILLENNIA, CENTURIES, DECADES, YEARS, QUARTERS, MONTHS, WEEKS, DAYS,
+        HOURS, MINUTES, SECONDS, MILLIS, MICROS, NANOS
+    };
+    private static final int NOT_PACKED = -1;
+    private static final int MILLIS_SLOT = 11;
+    private static final int MICROS_SLOT = 12;
+    private static final int NANOS_SLOT = 13;
+
     @SuppressWarnings("rawtypes")
     private static final Duration ZERO = new Duration();
 
@@ -272,7 +283,9 @@ public final class Duration<U extends IsoUnit>
 
     //~ Instanzvariablen --------------------------------------------------
 
-    private transient final List<Item<U>> items;
+    private transient volatile List<Item<U>> items;
+    private transient final int mask;
+    private transient final long[] amounts;
     private transient final boolean negative;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -294,15 +307,53 @@ public final class Duration<U extends IsoUnit>
 
         if (empty) {
             this.items = Collections.emptyList();
+            this.mask = 0;
+            this.amounts = new long[0];
         } else {
             Collections.sort(items, ITEM_COMPARATOR);
             this.items = Collections.unmodifiableList(items);
+
+            // kompakte Darstellung, falls nur Standardeinheiten mit positiven Beträgen vorliegen
+            int bits = 0;
+            long[] values = new long[items.size()];
+
+            for (int i = 0, n = items.size(); i < n; i++) {
+                Item<U> item = items.get(i);
+                int slot = slotOf(item.getUnit());
+
+                if ((slot < 0) || (item.getAmount() <= 0) || ((bits & (1 << slot)) != 0)) {
+                    bits = NOT_PACKED;
+                    values = null;
+                    break;
+                }
+
+                bits |= (1 << slot);
+                values[i] = item.getAmount();
+            }
+
+            this.mask = bits;
+            this.amounts = values;
         }
 
         this.negative = (!empty && negative);
 
     }
 
+    // kompakte Darstellung (die Elementliste wird erst bei Bedarf erzeugt)
+    private Duration(
+        int mask,
+        long[] amounts,
+        boolean negative
+    ) {
+        super();
+
+        this.items = ((mask == 0) ? Collections.<Item<U>>emptyList() : null);
+        this.mask = mask;
+        this.amounts = amounts;
+        this.negative = ((mask != 0) && negative);
+
+    }
+
     // Kopiekonstruktor (siehe inverse())
     private Duration(
         Duration<U> duration,
@@ -311,6 +362,8 @@ public final class Duration<U extends IsoUnit>
         super();
 
         this.items = duration.items;
+        this.mask = duration.mask;
+        this.amounts = duration.amounts;
         this.negative = (inverse != duration.negative);
 
     }
@@ -320,6 +373,8 @@ public final class Duration<U extends IsoUnit>
         super();
 
         this.items = Collections.emptyList();
+        this.mask = 0;
+        this.amounts = new long[0];
         this.negative = false;
 
     }
@@ -985,7 +1040,24 @@ public final class Duration<U extends IsoUnit>
     @Override
     public List<Item<U>> getTotalLength() {
 
-        return this.items;
+        List<Item<U>> list = this.items;
+
+        if (list == null) {
+            list = new ArrayList<>(this.amounts.length);
+
+            for (int slot = 0, i = 0; i < this.amounts.length; slot++) {
+                if ((this.mask & (1 << slot)) != 0) {
+                    U unit = cast(STD_UNITS[slot]);
+                    list.add(Item.of(this.amounts[i], unit));
+                    i++;
+                }
+            }
+
+            list = Collections.unmodifiableList(list);
+            this.items = list;
+        }
+
+        return list;
 
     }
 
@@ -996,6 +1068,13 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    @Override
+    public boolean isEmpty() {
+
+        return ((this.mask == NOT_PACKED) ? super.isEmpty() : (this.mask == 0));
+
+    }
+
     /**
      * <p>Queries if this duration contains given time unit. </p>
      *
@@ -1026,10 +1105,17 @@ public final class Duration<U extends IsoUnit>
             return false;
         }
 
+        int slot = slotOf(unit);
+
+        if ((this.mask != NOT_PACKED) && (slot >= 0) && (slot < MILLIS_SLOT)) {
+            return ((this.mask & (1 << slot)) != 0);
+        }
+
         boolean fractional = isFractionUnit(unit);
+        List<Item<U>> list = this.getTotalLength();
 
-        for (int i = 0, n = this.items.size(); i < n; i++) {
-            Item<U> item = this.items.get(i);
+        for (int i = 0, n = list.size(); i < n; i++) {
+            Item<U> item = list.get(i);
             U u = item.getUnit();
 
             if (
@@ -1078,10 +1164,18 @@ public final class Duration<U extends IsoUnit>
             return 0;
         }
 
+        int slot = slotOf(unit);
+
+        if ((this.mask != NOT_PACKED) && (slot >= 0) && (slot < MILLIS_SLOT)) {
+            int bit = 1 << slot;
+            return (((this.mask & bit) == 0) ? 0 : this.amounts[Integer.bitCount(this.mask & (bit - 1))]);
+        }
+
         boolean fractional = isFractionUnit(unit);
+        List<Item<U>> list = this.getTotalLength();
 
-        for (int i = 0, n = this.items.size(); i < n; i++) {
-            Item<U> item = this.items.get(i);
+        for (int i = 0, n = list.size(); i < n; i++) {
+            Item<U> item = list.get(i);
             U u = item.getUnit();
 
             if (u.equals(unit)) {
@@ -1227,6 +1321,26 @@ public final class Duration<U extends IsoUnit>
             negatedValue = true;
         }
 
+        int slot = slotOf(unit);
+
+        if ((this.mask != NOT_PACKED) && (slot >= 0)) {
+            if (slot == MILLIS_SLOT) {
+                amount = MathUtils.safeMultiply(amount, MIO);
+                slot = NANOS_SLOT;
+            } else if (slot == MICROS_SLOT) {
+                amount = MathUtils.safeMultiply(amount, 1000L);
+                slot = NANOS_SLOT;
+            }
+
+            Duration<U> result = this.plusPacked(amount, slot, negatedValue);
+
+            if (result == null) { // mixed signs possible => last try
+                return this.plus(Duration.of(originalAmount, originalUnit));
+            }
+
+            return result;
+        }
+
         // Millis und Micros ersetzen
         List<Item<U>> temp = new ArrayList<>(this.getTotalLength());
         Item<U> item = replaceFraction(amount, unit);
@@ -1343,7 +1457,13 @@ public final class Duration<U extends IsoUnit>
     @SuppressWarnings("unchecked")
     public Duration<U> plus(TimeSpan<? extends U> timespan) {
 
-        Duration<U> result = merge(this, timespan);
+        Duration<U> result;
+
+        if ((this.mask != NOT_PACKED) && isPacked(timespan)) {
+            result = mergePacked(this, Duration.class.cast(timespan));
+        } else {
+            result = merge(this, timespan);
+        }
 
     	if (result == null) {
             long[] sums = new long[4];
@@ -1774,7 +1894,7 @@ public final class Duration<U extends IsoUnit>
 
         List<Item<CalendarUnit>> calItems = new ArrayList<>();
 
-        for (Item<U> item : this.items) {
+        for (Item<U> item : this.getTotalLength()) {
             if (item.getUnit() instanceof CalendarUnit) {
                 calItems.add(Item.of(item.getAmount(), CalendarUnit.class.cast(item.getUnit())));
             }
@@ -1817,7 +1937,7 @@ public final class Duration<U extends IsoUnit>
 
         List<Item<ClockUnit>> clockItems = new ArrayList<>();
 
-        for (Item<U> item : this.items) {
+        for (Item<U> item : this.getTotalLength()) {
             if (item.getUnit() instanceof ClockUnit) {
                 clockItems.add(Item.of(item.getAmount(), ClockUnit.class.cast(item.getUnit())));
             }
@@ -1863,7 +1983,7 @@ public final class Duration<U extends IsoUnit>
         List<Item<ClockUnit>> clockItems = new ArrayList<>();
         long extraHours = 0L;
 
-        for (Item<U> item : this.items) {
+        for (Item<U> item : this.getTotalLength()) {
             if (item.getUnit() instanceof ClockUnit) {
                 clockItems.add(Item.of(item.getAmount(), ClockUnit.class.cast(item.getUnit())));
             } else if (item.getUnit().equals(CalendarUnit.DAYS)) {
@@ -2214,10 +2334,13 @@ public final class Duration<U extends IsoUnit>
             return true;
         } else if (obj instanceof Duration) {
             Duration<?> that = Duration.class.cast(obj);
-            return (
-                (this.negative == that.negative)
-                && this.getTotalLength().equals(that.getTotalLength())
-            );
+            if (this.negative != that.negative) {
+                return false;
+            } else if ((this.mask != NOT_PACKED) && (that.mask != NOT_PACKED)) {
+                return ((this.mask == that.mask) && Arrays.equals(this.amounts, that.amounts));
+            } else {
+                return this.getTotalLength().equals(that.getTotalLength());
+            }
         } else {
             return false;
         }
@@ -2863,7 +2986,7 @@ public final class Duration<U extends IsoUnit>
 
     private int count() {
 
-        return this.getTotalLength().size();
+        return ((this.mask == NOT_PACKED) ? this.getTotalLength().size() : this.amounts.length);
 
     }
 
@@ -2983,6 +3106,332 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    // Bitposition einer Standardeinheit in der kompakten Darstellung, sonst -1
+    private static int slotOf(Object unit) {
+
+        if (unit instanceof CalendarUnit) {
+            return CalendarUnit.class.cast(unit).ordinal();
+        } else if (unit instanceof ClockUnit) {
+            return DAYS.ordinal() + 1 + ClockUnit.class.cast(unit).ordinal();
+        } else {
+            return -1;
+        }
+
+    }
+
+    /**
+     * <p>Is given time span a duration in compact representation using
+     * only standard units with positive amounts? </p>
+     *
+     * @param   timespan    time span to be checked
+     * @return  boolean
+     * @since   5.0
+     */
+    static boolean isPacked(TimeSpan<?> timespan) {
+
+        return (
+            (timespan instanceof Duration)
+            && (Duration.class.cast(timespan).mask != NOT_PACKED));
+
+    }
+
+    /**
+     * <p>Yields the count of standard units in the compact representation. </p>
+     *
+     * @return  int
+     * @since   5.0
+     */
+    static int getStandardUnitCount() {
+
+        return STD_UNITS.length;
+
+    }
+
+    /**
+     * <p>Yields the standard unit at given position in descending order of length. </p>
+     *
+     * @param   slot    position in the compact representation
+     * @return  CalendarUnit or ClockUnit
+     * @since   5.0
+     */
+    static IsoUnit getStandardUnit(int slot) {
+
+        return STD_UNITS[slot];
+
+    }
+
+    /**
+     * <p>Yields the amount of the standard unit at given position. </p>
+     *
+     * @param   slot    position in the compact representation
+     * @return  non-negative amount, zero if not present
+     * @since   5.0
+     * @see     #isPacked(TimeSpan)
+     */
+    long getStandardAmount(int slot) {
+
+        int bit = 1 << slot;
+
+        if ((this.mask & bit) == 0) {
+            return 0;
+        }
+
+        return this.amounts[Integer.bitCount(this.mask & (bit - 1))];
+
+    }
+
+    /**
+     * <p>Creates a duration in compact representation out of normalized amounts. </p>
+     *
+     * <p>Zero amounts will be ignored. </p>
+     *
+     * @param   years       non-negative amount of years
+     * @param   months      non-negative amount of months
+     * @param   weeks       non-negative amount of weeks
+     * @param   days        non-negative amount of days
+     * @param   hours       non-negative amount of hours
+     * @param   minutes     non-negative amount of minutes
+     * @param   seconds     non-negative amount of seconds
+     * @param   nanos       non-negative amount of nanoseconds
+     * @param   negative    negative duration indicated?
+     * @return  new duration
+     * @since   5.0
+     */
+    static <U extends IsoUnit> Duration<U> ofNormalized(
+        long years,
+        long months,
+        long weeks,
+        long days,
+        long hours,
+        long minutes,
+        long seconds,
+        long nanos,
+        boolean negative
+    ) {
+
+        int bits = 0;
+
+        if (years != 0) {
+            bits |= (1 << slotOf(YEARS));
+        }
+        if (months != 0) {
+            bits |= (1 << slotOf(MONTHS));
+        }
+        if (weeks != 0) {
+            bits |= (1 << slotOf(WEEKS));
+        }
+        if (days != 0) {
+            bits |= (1 << slotOf(DAYS));
+        }
+        if (hours != 0) {
+            bits |= (1 << slotOf(HOURS));
+        }
+        if (minutes != 0) {
+            bits |= (1 << slotOf(MINUTES));
+        }
+        if (seconds != 0) {
+            bits |= (1 << slotOf(SECONDS));
+        }
+        if (nanos != 0) {
+            bits |= (1 << NANOS_SLOT);
+        }
+
+        if (bits == 0) {
+            return ofZero();
+        }
+
+        long[] values = new long[Integer.bitCount(bits)];
+        int i = 0;
+
+        if (years != 0) {
+            values[i++] = years;
+        }
+        if (months != 0) {
+            values[i++] = months;
+        }
+        if (weeks != 0) {
+            values[i++] = weeks;
+        }
+        if (days != 0) {
+            values[i++] = days;
+        }
+        if (hours != 0) {
+            values[i++] = hours;
+        }
+        if (minutes != 0) {
+            values[i++] = minutes;
+        }
+        if (seconds != 0) {
+            values[i++] = seconds;
+        }
+        if (nanos != 0) {
+            values[i] = nanos;
+        }
+
+        return new Duration<>(bits, values, negative);
+
+    }
+
+    // Addition eines Betrags in der kompakten Darstellung, null im Fall gemischter Vorzeichen
+    private Duration<U> plusPacked(
+        long amount,
+        int slot,
+        boolean negatedValue
+    ) {
+
+        int bit = 1 << slot;
+
+        if (this.mask == 0) {
+            return new Duration<>(bit, new long[] {amount}, negatedValue);
+        }
+
+        int n = this.amounts.length;
+        int index = Integer.bitCount(this.mask & (bit - 1));
+        long[] values;
+
+        if ((this.mask & bit) == 0) { // Einheit nicht vorhanden
+            if (this.negative != negatedValue) {
+                return null;
+            }
+
+            values = new long[n + 1];
+            System.arraycopy(this.amounts, 0, values, 0, index);
+            values[index] = amount;
+            System.arraycopy(this.amounts, index, values, index + 1, n - index);
+            return new Duration<>(this.mask | bit, values, this.negative);
+        }
+
+        long sum =
+            MathUtils.safeAdd(
+                MathUtils.safeMultiply(
+                    this.amounts[index],
+                    (this.negative ? -1 : 1)
+                ),
+                MathUtils.safeMultiply(
+                    amount,
+                    (negatedValue ? -1 : 1)
+                )
+            );
+
+        if (sum == 0) {
+            values = new long[n - 1];
+            System.arraycopy(this.amounts, 0, values, 0, index);
+            System.arraycopy(this.amounts, index + 1, values, index, n - index - 1);
+            return new Duration<>(this.mask & ~bit, values, this.negative);
+        } else if (
+            (n == 1)
+            || (this.negative == (sum < 0))
+        ) {
+            values = this.amounts.clone();
+            values[index] = ((sum < 0) ? MathUtils.safeNegate(sum) : sum);
+            return new Duration<>(this.mask, values, (sum < 0));
+        } else {
+            return null;
+        }
+
+    }
+
+    // analog zu merge(), aber ohne Elementlisten und Boxing
+    private static <U extends IsoUnit> Duration<U> mergePacked(
+        Duration<U> duration,
+        Duration<?> timespan
+    ) {
+
+        if (duration.mask == 0) {
+            return ((timespan.mask == 0) ? duration : Duration.<Duration<U>>cast(timespan));
+        }
+
+        long[] sums = new long[STD_UNITS.length];
+        int keys = duration.mask;
+
+        for (int slot = 0, i = 0; i < duration.amounts.length; slot++) {
+            if ((duration.mask & (1 << slot)) != 0) {
+                long amount = duration.amounts[i++];
+                sums[slot] = (duration.negative ? -amount : amount);
+            }
+        }
+
+        boolean tsign = timespan.negative;
+
+        for (int slot = 0, i = 0; i < timespan.amounts.length; slot++) {
+            if ((timespan.mask & (1 << slot)) != 0) {
+                long amount = timespan.amounts[i++];
+                int key = slot;
+
+                // Millis und Micros ersetzen
+                if (slot == MILLIS_SLOT) {
+                    amount = MathUtils.safeMultiply(amount, MIO);
+                    key = NANOS_SLOT;
+                } else if (slot == MICROS_SLOT) {
+                    amount = MathUtils.safeMultiply(amount, 1000L);
+                    key = NANOS_SLOT;
+                }
+
+                sums[key] = MathUtils.safeAdd(sums[key], (tsign ? -amount : amount));
+                keys |= (1 << key);
+            }
+        }
+
+        boolean negative;
+
+        if (duration.negative == tsign) {
+            negative = tsign;
+        } else {
+            boolean anyNegative = false;
+            boolean anyNonNegative = false;
+            for (int slot = 0; slot < sums.length; slot++) {
+                if ((keys & (1 << slot)) != 0) {
+                    if (sums[slot] < 0) {
+                        anyNegative = true;
+                    } else {
+                        anyNonNegative = true;
+                    }
+                }
+            }
+            if (anyNegative && anyNonNegative) {
+                return null; // mixed signs
+            }
+            negative = anyNegative;
+        }
+
+        long nanos = 0;
+        int bits = 0;
+        int count = 0;
+
+        for (int slot = 0; slot < sums.length; slot++) {
+            long amount = sums[slot];
+
+            if (amount != 0) {
+                if (negative) {
+                    amount = MathUtils.safeNegate(amount);
+                }
+
+                if (slot == MILLIS_SLOT) {
+                    nanos = MathUtils.safeAdd(nanos, MathUtils.safeMultiply(amount, MIO));
+                } else if (slot == MICROS_SLOT) {
+                    nanos = MathUtils.safeAdd(nanos, MathUtils.safeMultiply(amount, 1000));
+                } else if (slot == NANOS_SLOT) {
+                    nanos = MathUtils.safeAdd(nanos, amount);
+                } else {
+                    sums[count++] = amount;
+                    bits |= (1 << slot);
+                }
+            }
+        }
+
+        if (nanos != 0) {
+            sums[count++] = nanos;
+            bits |= (1 << NANOS_SLOT);
+        } else if (bits == 0) {
+            return ofZero();
+        }
+
+        long[] values = new long[count];
+        System.arraycopy(sums, 0, values, 0, count);
+        return new Duration<>(bits, values, negative);
+
+    }
+
     private static <U extends IsoUnit> Duration<U> merge(
     	Duration<U> duration,
     	TimeSpan<? extends U> timespan
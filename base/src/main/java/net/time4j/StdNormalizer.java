@@ -27,6 +27,7 @@ import net.time4j.engine.Normalizer;
 import net.time4j.engine.TimeSpan;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -101,97 +102,37 @@ class StdNormalizer<U extends IsoUnit>
     @Override
     public Duration<U> normalize(TimeSpan<? extends U> timespan) {
 
-        int count = timespan.getTotalLength().size();
-        List<TimeSpan.Item<U>> items = new ArrayList<>(count);
-        long years = 0, months = 0, weeks = 0, days = 0;
-        long hours = 0, minutes = 0, seconds = 0, nanos = 0;
-
-        for (int i = 0; i < count; i++) {
-            TimeSpan.Item<? extends U> item = timespan.getTotalLength().get(i);
-            long amount = item.getAmount();
-            U unit = item.getUnit();
-
-            if (unit instanceof CalendarUnit) {
-                switch ((CalendarUnit.class.cast(unit))) {
-                    case MILLENNIA:
-                        years =
-                            MathUtils.safeAdd(
-                                MathUtils.safeMultiply(amount, 1000),
-                                years
-                            );
-                        break;
-                    case CENTURIES:
-                        years =
-                            MathUtils.safeAdd(
-                                MathUtils.safeMultiply(amount, 100),
-                                years
-                            );
-                        break;
-                    case DECADES:
-                        years =
-                            MathUtils.safeAdd(
-                                MathUtils.safeMultiply(amount, 10),
-                                years
-                            );
-                        break;
-                    case YEARS:
-                        years = MathUtils.safeAdd(amount, years);
-                        break;
-                    case QUARTERS:
-                        months =
-                            MathUtils.safeAdd(
-                                MathUtils.safeMultiply(amount, 3),
-                                months
-                            );
-                        break;
-                    case MONTHS:
-                        months = MathUtils.safeAdd(amount, months);
-                        break;
-                    case WEEKS:
-                        weeks = amount;
-                        break;
-                    case DAYS:
-                        days = amount;
-                        break;
-                    default:
-                        throw new UnsupportedOperationException(unit.toString());
+        long[] sums = new long[8];
+        List<TimeSpan.Item<U>> items;
+
+        if (Duration.isPacked(timespan)) { // keine Elementliste erforderlich
+            Duration<?> duration = Duration.class.cast(timespan);
+            items = Collections.emptyList();
+
+            for (int slot = 0, n = Duration.getStandardUnitCount(); slot < n; slot++) {
+                long amount = duration.getStandardAmount(slot);
+
+                if (amount != 0) {
+                    accumulate(amount, Duration.getStandardUnit(slot), sums);
                 }
-            } else if (unit instanceof ClockUnit) {
-                switch ((ClockUnit.class.cast(unit))) {
-                    case HOURS:
-                        hours = amount;
-                        break;
-                    case MINUTES:
-                        minutes = amount;
-                        break;
-                    case SECONDS:
-                        seconds = amount;
-                        break;
-                    case MILLIS:
-                        nanos =
-                            MathUtils.safeAdd(
-                                MathUtils.safeMultiply(amount, MIO),
-                                nanos
-                            );
-                        break;
-                    case MICROS:
-                        nanos =
-                            MathUtils.safeAdd(
-                                MathUtils.safeMultiply(amount, 1000L),
-                                nanos
-                            );
-                        break;
-                    case NANOS:
-                        nanos = MathUtils.safeAdd(amount, nanos);
-                        break;
-                    default:
-                        throw new UnsupportedOperationException(unit.toString());
+            }
+        } else {
+            int count = timespan.getTotalLength().size();
+            items = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                TimeSpan.Item<? extends U> item = timespan.getTotalLength().get(i);
+                long amount = item.getAmount();
+                U unit = item.getUnit();
+
+                if (!accumulate(amount, unit, sums)) {
+                    items.add(TimeSpan.Item.of(amount, unit));
                 }
-            } else {
-                items.add(TimeSpan.Item.of(amount, unit));
             }
         }
 
+        long years = sums[0], months = sums[1], weeks = sums[2], days = sums[3];
+        long hours = sums[4], minutes = sums[5], seconds = sums[6], nanos = sums[7];
         long f = 0, s = 0, n = 0, h = 0;
 
         if ((hours | minutes | seconds | nanos) != 0) {
@@ -210,32 +151,41 @@ class StdNormalizer<U extends IsoUnit>
             }
         }
 
-        U unit;
+        long y = 0, m = 0, w = 0, d = 0;
 
         if ((years | months | days) != 0) {
-            long y = MathUtils.safeAdd(years, months / 12);
-            long m = months % 12;
-            long d =
+            y = MathUtils.safeAdd(years, months / 12);
+            m = months % 12;
+            d =
                 MathUtils.safeAdd(
                     MathUtils.safeMultiply(weeks, 7),
                     days
                 );
+        } else {
+            w = weeks;
+        }
 
-            if (y != 0) {
-                unit = (U) YEARS;
-                items.add(TimeSpan.Item.of(y, unit));
-            }
-            if (m != 0) {
-                unit = (U) MONTHS;
-                items.add(TimeSpan.Item.of(m, unit));
-            }
-            if (d != 0) {
-                unit = (U) DAYS;
-                items.add(TimeSpan.Item.of(d, unit));
-            }
-        } else if (weeks != 0) {
+        if (items.isEmpty()) {
+            return Duration.ofNormalized(y, m, w, d, h, n, s, f, timespan.isNegative());
+        }
+
+        U unit;
+
+        if (y != 0) {
+            unit = (U) YEARS;
+            items.add(TimeSpan.Item.of(y, unit));
+        }
+        if (m != 0) {
+            unit = (U) MONTHS;
+            items.add(TimeSpan.Item.of(m, unit));
+        }
+        if (w != 0) {
             unit = (U) WEEKS;
-            items.add(TimeSpan.Item.of(weeks, unit));
+            items.add(TimeSpan.Item.of(w, unit));
+        }
+        if (d != 0) {
+            unit = (U) DAYS;
+            items.add(TimeSpan.Item.of(d, unit));
         }
 
         if (h != 0) {
@@ -281,4 +231,95 @@ class StdNormalizer<U extends IsoUnit>
 
     }
 
+    // sums: years, months, weeks, days, hours, minutes, seconds, nanos
+    private static boolean accumulate(
+        long amount,
+        Object unit,
+        long[] sums
+    ) {
+
+        if (unit instanceof CalendarUnit) {
+            switch ((CalendarUnit.class.cast(unit))) {
+                case MILLENNIA:
+                    sums[0] =
+                        MathUtils.safeAdd(
+                            MathUtils.safeMultiply(amount, 1000),
+                            sums[0]
+                        );
+                    break;
+                case CENTURIES:
+                    sums[0] =
+                        MathUtils.safeAdd(
+                            MathUtils.safeMultiply(amount, 100),
+                            sums[0]
+                        );
+                    break;
+                case DECADES:
+                    sums[0] =
+                        MathUtils.safeAdd(
+                            MathUtils.safeMultiply(amount, 10),
+                            sums[0]
+                        );
+                    break;
+                case YEARS:
+                    sums[0] = MathUtils.safeAdd(amount, sums[0]);
+                    break;
+                case QUARTERS:
+                    sums[1] =
+                        MathUtils.safeAdd(
+                            MathUtils.safeMultiply(amount, 3),
+                            sums[1]
+                        );
+                    break;
+                case MONTHS:
+                    sums[1] = MathUtils.safeAdd(amount, sums[1]);
+                    break;
+                case WEEKS:
+                    sums[2] = amount;
+                    break;
+                case DAYS:
+                    sums[3] = amount;
+                    break;
+                default:
+                    throw new UnsupportedOperationException(unit.toString());
+            }
+        } else if (unit instanceof ClockUnit) {
+            switch ((ClockUnit.class.cast(unit))) {
+                case HOURS:
+                    sums[4] = amount;
+                    break;
+                case MINUTES:
+                    sums[5] = amount;
+                    break;
+                case SECONDS:
+                    sums[6] = amount;
+                    break;
+                case MILLIS:
+                    sums[7] =
+                        MathUtils.safeAdd(
+                            MathUtils.safeMultiply(amount, MIO),
+                            sums[7]
+                        );
+                    break;
+                case MICROS:
+                    sums[7] =
+                        MathUtils.safeAdd(
+                            MathUtils.safeMultiply(amount, 1000L),
+                            sums[7]
+                        );
+                    break;
+                case NANOS:
+                    sums[7] = MathUtils.safeAdd(amount, sums[7]);
+                    break;
+                default:
+                    throw new UnsupportedOperationException(unit.toString());
+            }
+        } else {
+            return false;
+        }
+
+        return true;
+
+    }
+
 }
@@ -50,13 +50,13 @@ import java.security.CodeSource;
 import java.security.ProtectionDomain;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 
@@ -443,12 +443,8 @@ public abstract class ResourceLoader {
                 set.add(sl);
             }
 
-            List<?> predefined = InternalServices.MAP.get(serviceInterface);
-
-            if (predefined != null) {
-                for (Object obj : predefined) {
-                    set.add(serviceInterface.cast(obj));
-                }
+            for (Object obj : InternalServices.get(serviceInterface)) {
+                set.add(serviceInterface.cast(obj));
             }
 
             return set;
@@ -457,33 +453,49 @@ public abstract class ResourceLoader {
 
     }
 
+    // internal services are only instantiated on first request of their service interface
     private static class InternalServices {
 
         //~ Statische Felder/Initialisierungen ----------------------------
 
-        private static final Map<Class<?>, List<?>> MAP;
-
-        static {
-            Map<Class<?>, List<?>> map = new HashMap<>();
-            map.put(
-                CalendarProvider.class,
-                Arrays.asList(new IsoCalendarProviderSPI(), new GenericCalendarProviderSPI()));
-            map.put(
-                ChronoExtension.class,
-                Arrays.asList(new HistoricExtension(), new KoreanExtension()));
-            map.put(
-                NumberSymbolProvider.class,
-                Collections.singletonList(new SymbolProviderSPI()));
-            map.put(
-                TextProvider.class,
-                Arrays.asList(IsoTextProviderSPI.SINGLETON, new GenericTextProviderSPI()));
-            map.put(
-                ZoneModelProvider.class,
-                Arrays.asList(new JdkZoneProviderSPI(), new WinZoneProviderSPI(), new MilZoneProviderSPI()));
-            map.put(
-                ZoneNameProvider.class,
-                Collections.singletonList(new ZoneNameProviderSPI()));
-            MAP = Collections.unmodifiableMap(map);
+        private static final ConcurrentMap<Class<?>, List<?>> MAP = new ConcurrentHashMap<>();
+
+        //~ Methoden ------------------------------------------------------
+
+        static List<?> get(Class<?> serviceInterface) {
+
+            List<?> services = MAP.get(serviceInterface);
+
+            if (services == null) {
+                services = create(serviceInterface);
+                List<?> old = MAP.putIfAbsent(serviceInterface, services);
+                if (old != null) {
+                    services = old;
+                }
+            }
+
+            return services;
+
+        }
+
+        private static List<?> create(Class<?> serviceInterface) {
+
+            if (serviceInterface == CalendarProvider.class) {
+                return Arrays.asList(new IsoCalendarProviderSPI(), new GenericCalendarProviderSPI());
+            } else if (serviceInterface == ChronoExtension.class) {
+                return Arrays.asList(new HistoricExtension(), new KoreanExtension());
+            } else if (serviceInterface == NumberSymbolProvider.class) {
+                return Collections.singletonList(new SymbolProviderSPI());
+            } else if (serviceInterface == TextProvider.class) {
+                return Arrays.asList(IsoTextProviderSPI.SINGLETON, new GenericTextProviderSPI());
+            } else if (serviceInterface == ZoneModelProvider.class) {
+                return Arrays.asList(new JdkZoneProviderSPI(), new WinZoneProviderSPI(), new MilZoneProviderSPI());
+            } else if (serviceInterface == ZoneNameProvider.class) {
+                return Collections.singletonList(new ZoneNameProviderSPI());
+            } else {
+                return Collections.emptyList();
+            }
+
         }
 
     }
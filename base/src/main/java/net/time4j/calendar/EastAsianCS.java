@@ -34,6 +34,9 @@ import net.time4j.tz.ZonalOffset;
 /**
  * The heart of Chinese calendar.
  *
+ * <p>Conversions use precomputed lunisolar years if available (see {@code EastAsianData}),
+ * otherwise the underlying astronomical calculations. </p>
+ *
  * @author  Meno Hochschild
  * @since   3.40/4.35
  */
@@ -50,14 +53,81 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     static final double MEAN_SYNODIC_MONTH = 29.530588861;
     static final double MEAN_TROPICAL_YEAR = 365.242189;
 
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final EastAsianData data;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Loads the precomputed lunisolar years of given calendar type if available. </p>
+     *
+     * @param   calendarType    calendar type (cldr-spec)
+     */
+    EastAsianCS(String calendarType) {
+        super();
+
+        this.data = EastAsianData.load(calendarType);
+
+    }
+
     //~ Methoden ----------------------------------------------------------
 
     @Override
     public final D transform(long utcDays) {
 
+        EastAsianData table = this.data;
+
+        if ((table != null) && table.containsDay(utcDays)) {
+            int elapsedYears = table.findYear(utcDays);
+            int dayOfMonth = (int) (utcDays - table.getNewYear(elapsedYears)) + 1;
+            int index = 0;
+            int len;
+
+            while (dayOfMonth > (len = table.getLengthOfMonth(elapsedYears, index))) {
+                dayOfMonth -= len;
+                index++;
+            }
+
+            return this.create(
+                elapsedYears / 60 + 1,
+                elapsedYears % 60 + 1,
+                table.getMonth(elapsedYears, index),
+                dayOfMonth,
+                utcDays);
+        }
+
+        return this.calculateDate(utcDays);
+
+    }
+
+    @Override
+    public final long transform(D date) {
+
+        return this.transform(date.getCycle(), date.getYear().getNumber(), date.getMonth(), date.getDayOfMonth());
+
+    }
+
+    @Override
+    public long getMinimumSinceUTC() {
+
+        return CALENDAR_REFORM_1645;
+
+    }
+
+    @Override
+    public final long getMaximumSinceUTC() {
+
+        return MAX_LIMIT;
+
+    }
+
+    // astronomical calculation of calendar date without using any precomputed data
+    final D calculateDate(long utcDays) {
+
         long s1 = this.winterOnOrBefore(utcDays);
         long s2 = this.winterOnOrBefore(s1 + 370);
-        long m12 = this.newMoonOnOrAfter(s1 + 1);
+        long m12 = this.calculateNewMoonOnOrAfter(s1 + 1);
         long nextM11 = this.newMoonBefore(s2 + 1);
         long m = this.newMoonBefore(utcDays + 1);
         boolean leapYearInSui = (lunations(m12, nextM11) == 12);
@@ -95,27 +165,6 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
 
     }
 
-    @Override
-    public final long transform(D date) {
-
-        return this.transform(date.getCycle(), date.getYear().getNumber(), date.getMonth(), date.getDayOfMonth());
-
-    }
-
-    @Override
-    public long getMinimumSinceUTC() {
-
-        return CALENDAR_REFORM_1645;
-
-    }
-
-    @Override
-    public final long getMaximumSinceUTC() {
-
-        return MAX_LIMIT;
-
-    }
-
     abstract D create(
         int cycle,
         int yearOfCycle,
@@ -186,8 +235,13 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         ) {
             return false;
         } else if (dayOfMonth == 30) { // the only case when astronomical validation is required
+            EastAsianData table = this.data;
+            int elapsedYears = (cycle - 1) * 60 + yearOfCycle - 1;
+            if ((table != null) && table.containsYear(elapsedYears)) {
+                return (table.getLengthOfMonth(elapsedYears, table.getIndex(elapsedYears, month)) == 30);
+            }
             long monthStart = this.firstDayOfMonth(cycle, yearOfCycle, month);
-            long nextNewMoon = this.newMoonOnOrAfter(monthStart + 1);
+            long nextNewMoon = this.calculateNewMoonOnOrAfter(monthStart + 1);
             return (nextNewMoon - monthStart == 30);
         }
 
@@ -198,6 +252,19 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     final long newYear(
         int cycle,
         int yearOfCycle
+    ) {
+        EastAsianData table = this.data;
+        int elapsedYears = (cycle - 1) * 60 + yearOfCycle - 1;
+        if ((table != null) && table.containsYear(elapsedYears)) {
+            return table.getNewYear(elapsedYears);
+        }
+        return this.calculateNewYear(cycle, yearOfCycle);
+    }
+
+    // astronomical calculation of new year in utc-days without using any precomputed data
+    final long calculateNewYear(
+        int cycle,
+        int yearOfCycle
     ) {
         long midYear =
             (long) Math.floor(EPOCH_CHINESE + ((cycle - 1) * 60 + yearOfCycle - 0.5) * MEAN_TROPICAL_YEAR);
@@ -215,13 +282,29 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     final boolean hasNoMajorSolarTerm(long utcDays) {
         double jd0 = JulianDay.ofEphemerisTime(this.midnight(utcDays)).getValue();
         int index0 = (2 + (int) Math.floor(SolarTerm.solarLongitude(jd0) / 30)) % 12;
-        double jd1 = JulianDay.ofEphemerisTime(this.midnight(this.newMoonOnOrAfter(utcDays + 1))).getValue();
+        double jd1 = JulianDay.ofEphemerisTime(this.midnight(this.calculateNewMoonOnOrAfter(utcDays + 1))).getValue();
         int index1 = (2 + (int) Math.floor(SolarTerm.solarLongitude(jd1) / 30)) % 12;
         return (index0 == index1);
     }
 
     // result in utc-days
     final long newMoonOnOrAfter(long utcDays) {
+        EastAsianData table = this.data;
+        if ((table != null) && table.containsDay(utcDays)) {
+            int elapsedYears = table.findYear(utcDays);
+            long monthStart = table.getNewYear(elapsedYears);
+            int index = 0;
+            while (monthStart < utcDays) {
+                monthStart += table.getLengthOfMonth(elapsedYears, index);
+                index++;
+            }
+            return monthStart;
+        }
+        return this.calculateNewMoonOnOrAfter(utcDays);
+    }
+
+    // astronomical calculation of new moon in utc-days without using any precomputed data
+    final long calculateNewMoonOnOrAfter(long utcDays) {
         Moment m = MoonPhase.NEW_MOON.atOrAfter(this.midnight(utcDays));
         return m.toZonalTimestamp(this.getOffset(utcDays)).toDate().getDaysSinceEpochUTC();
     }
@@ -246,12 +329,12 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     private long newYearInSui(long utcDays) {
         long s1 = this.winterOnOrBefore(utcDays);
         long s2 = this.winterOnOrBefore(s1 + 370);
-        long m12 = this.newMoonOnOrAfter(s1 + 1);
-        long m13 = this.newMoonOnOrAfter(m12 + 1);
+        long m12 = this.calculateNewMoonOnOrAfter(s1 + 1);
+        long m13 = this.calculateNewMoonOnOrAfter(m12 + 1);
         long nextM11 = this.newMoonBefore(s2 + 1);
 
         if ((lunations(m12, nextM11) == 12) && (this.hasNoMajorSolarTerm(m12) || this.hasNoMajorSolarTerm(m13))) {
-            return this.newMoonOnOrAfter(m13 + 1);
+            return this.calculateNewMoonOnOrAfter(m13 + 1);
         } else {
             return m13;
         }
@@ -281,13 +364,25 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         int yearOfCycle,
         EastAsianMonth month
     ) {
-        long newYear = this.newYear(cycle, yearOfCycle);
-        long approxStartOfMonth = this.newMoonOnOrAfter(newYear + (month.getNumber() - 1) * 29);
+        EastAsianData table = this.data;
+        int elapsedYears = (cycle - 1) * 60 + yearOfCycle - 1;
+
+        if ((table != null) && table.containsYear(elapsedYears)) {
+            long monthStart = table.getNewYear(elapsedYears);
+            int index = table.getIndex(elapsedYears, month);
+            for (int i = 0; i < index; i++) {
+                monthStart += table.getLengthOfMonth(elapsedYears, i);
+            }
+            return monthStart;
+        }
+
+        long newYear = this.calculateNewYear(cycle, yearOfCycle);
+        long approxStartOfMonth = this.calculateNewMoonOnOrAfter(newYear + (month.getNumber() - 1) * 29);
 
-        if (month.equals(this.transform(approxStartOfMonth).getMonth())) {
+        if (month.equals(this.calculateDate(approxStartOfMonth).getMonth())) {
             return approxStartOfMonth;
         } else {
-            return this.newMoonOnOrAfter(approxStartOfMonth + 1);
+            return this.calculateNewMoonOnOrAfter(approxStartOfMonth + 1);
         }
     }
 
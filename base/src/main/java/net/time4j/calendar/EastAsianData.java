@@ -0,0 +1,305 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (EastAsianData.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar;
+
+import net.time4j.PlainDate;
+import net.time4j.base.ResourceLoader;
+import net.time4j.engine.EpochDays;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Properties;
+
+
+/**
+ * <p>Precomputed lunisolar years of an east asian calendar. </p>
+ *
+ * <p>The underlying data are generated by the astronomical calculations of {@code EastAsianCS}
+ * and stored in a file with the extension &quot;.data&quot; in the data-directory relative to
+ * the class path. Every lunisolar year is counted in elapsed years since the chinese epoch and
+ * described by the number of its leap month (or zero) and the lengths of its months in order
+ * of occurrence. </p>
+ *
+ * @since   5.0
+ */
+final class EastAsianData {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int LEAP_SHIFT = 16;
+    private static final int LENGTH_MASK = (1 << LEAP_SHIFT) - 1;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int minYear;
+    private final int maxYear;
+    private final long[] newYears;
+    private final int[] monthInfos;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private EastAsianData(
+        int minYear,
+        long[] newYears,
+        int[] monthInfos
+    ) {
+        super();
+
+        this.minYear = minYear;
+        this.maxYear = minYear + monthInfos.length - 1;
+        this.newYears = newYears;
+        this.monthInfos = monthInfos;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Loads the data of given calendar type. </p>
+     *
+     * @param   calendarType    calendar type (cldr-spec)
+     * @return  new instance or {@code null} if there is no data resource
+     * @throws  IllegalStateException in case of any data inconsistencies
+     */
+    static EastAsianData load(String calendarType) {
+
+        String name = "data/" + calendarType + ".data";
+        URI uri = ResourceLoader.getInstance().locate("base", EastAsianData.class, name);
+        InputStream is = ResourceLoader.getInstance().load(uri, true);
+
+        try {
+            if (is == null) {
+                is = ResourceLoader.getInstance().load(EastAsianData.class, name, true);
+            }
+
+            Properties properties = new Properties();
+            properties.load(is);
+            String type = properties.getProperty("type");
+            if (!calendarType.equals(type)) {
+                throw new IOException("Wrong calendar type: expected=" + calendarType + ", found=" + type);
+            }
+
+            // no use of Iso8601Format here because of cyclic dependencies during class initialization
+            String[] isoStart = properties.getProperty("iso-start", "").split("-");
+            PlainDate startDate =
+                PlainDate.of(
+                    Integer.parseInt(isoStart[0]),
+                    Integer.parseInt(isoStart[1]),
+                    Integer.parseInt(isoStart[2]));
+            int min = Integer.parseInt(properties.getProperty("min", "1"));
+            int max = Integer.parseInt(properties.getProperty("max", "0"));
+            int count = max - min + 1;
+
+            if (count <= 0) {
+                throw new IOException("Empty year range: " + name);
+            }
+
+            long[] newYears = new long[count + 1];
+            int[] monthInfos = new int[count];
+            long v = startDate.get(EpochDays.UTC);
+
+            for (int i = 0; i < count; i++) {
+                String row = properties.getProperty(String.valueOf(min + i));
+                if (row == null) {
+                    throw new IOException("Wrong file format: " + name + " (missing year=" + (min + i) + ")");
+                }
+                String[] cells = row.split(" ");
+                int leapMonth = Integer.parseInt(cells[0]);
+                String lengths = cells[1];
+                int n = lengths.length();
+                if (((leapMonth == 0) && (n != 12)) || ((leapMonth != 0) && (n != 13)) || (leapMonth > 12)) {
+                    throw new IOException("Wrong file format: " + name + " (invalid year=" + (min + i) + ")");
+                }
+                int info = (leapMonth << LEAP_SHIFT);
+                newYears[i] = v;
+                for (int m = 0; m < n; m++) {
+                    char c = lengths.charAt(m);
+                    if (c == '1') {
+                        info |= (1 << m);
+                        v += 30;
+                    } else if (c == '0') {
+                        v += 29;
+                    } else {
+                        throw new IOException("Wrong file format: " + name + " (invalid year=" + (min + i) + ")");
+                    }
+                }
+                monthInfos[i] = info;
+            }
+
+            newYears[count] = v;
+            return new EastAsianData(min, newYears, monthInfos);
+        } catch (FileNotFoundException fnfe) {
+            return null; // fallback to astronomical calculations
+        } catch (IOException | RuntimeException ex) {
+            throw new IllegalStateException("Cannot load east asian calendar data: " + name, ex);
+        } finally {
+            if (is != null) {
+                try {
+                    is.close();
+                } catch (IOException ioe) {
+                    ioe.printStackTrace(System.err);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * <p>Is given year (counted in elapsed years since epoch) covered by this table? </p>
+     *
+     * @param   elapsedYears    elapsed years since chinese epoch
+     * @return  boolean
+     */
+    boolean containsYear(int elapsedYears) {
+
+        return (elapsedYears >= this.minYear) && (elapsedYears <= this.maxYear);
+
+    }
+
+    /**
+     * <p>Is given day covered by this table? </p>
+     *
+     * @param   utcDays     count of days since UTC epoch
+     * @return  boolean
+     */
+    boolean containsDay(long utcDays) {
+
+        return (utcDays >= this.newYears[0]) && (utcDays < this.newYears[this.newYears.length - 1]);
+
+    }
+
+    /**
+     * <p>Determines the lunisolar year which contains given day. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch (must be covered by this table)
+     * @return  elapsed years since chinese epoch
+     */
+    int findYear(long utcDays) {
+
+        int low = 0;
+        int high = this.newYears.length - 2;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (this.newYears[middle] <= utcDays) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return this.minYear + low - 1;
+
+    }
+
+    /**
+     * <p>Yields the first day of given lunisolar year. </p>
+     *
+     * @param   elapsedYears    elapsed years since chinese epoch (must be covered by this table)
+     * @return  count of days since UTC epoch
+     */
+    long getNewYear(int elapsedYears) {
+
+        return this.newYears[elapsedYears - this.minYear];
+
+    }
+
+    /**
+     * <p>Yields the number of the leap month in given lunisolar year. </p>
+     *
+     * @param   elapsedYears    elapsed years since chinese epoch (must be covered by this table)
+     * @return  number of leap month or zero if there is no leap month
+     */
+    int getLeapMonth(int elapsedYears) {
+
+        return (this.monthInfos[elapsedYears - this.minYear] >>> LEAP_SHIFT);
+
+    }
+
+    /**
+     * <p>Yields the length of the month at given position in given lunisolar year. </p>
+     *
+     * @param   elapsedYears    elapsed years since chinese epoch (must be covered by this table)
+     * @param   index           zero-based position of month in order of occurrence
+     * @return  29 or 30
+     */
+    int getLengthOfMonth(
+        int elapsedYears,
+        int index
+    ) {
+
+        int lengths = this.monthInfos[elapsedYears - this.minYear] & LENGTH_MASK;
+        return 29 + ((lengths >>> index) & 1);
+
+    }
+
+    /**
+     * <p>Determines the zero-based position of given month in order of occurrence. </p>
+     *
+     * @param   elapsedYears    elapsed years since chinese epoch (must be covered by this table)
+     * @param   month           east asian month
+     * @return  zero-based index
+     */
+    int getIndex(
+        int elapsedYears,
+        EastAsianMonth month
+    ) {
+
+        int n = month.getNumber();
+        int leapMonth = this.getLeapMonth(elapsedYears);
+
+        if (month.isLeap() || ((leapMonth > 0) && (n > leapMonth))) {
+            return n;
+        } else {
+            return n - 1;
+        }
+
+    }
+
+    /**
+     * <p>Determines the month at given zero-based position in order of occurrence. </p>
+     *
+     * @param   elapsedYears    elapsed years since chinese epoch (must be covered by this table)
+     * @param   index           zero-based position of month in order of occurrence
+     * @return  east asian month
+     */
+    EastAsianMonth getMonth(
+        int elapsedYears,
+        int index
+    ) {
+
+        int leapMonth = this.getLeapMonth(elapsedYears);
+
+        if ((leapMonth == 0) || (index < leapMonth)) {
+            return EastAsianMonth.valueOf(index + 1);
+        } else if (index == leapMonth) {
+            return EastAsianMonth.valueOf(leapMonth).withLeap();
+        } else {
+            return EastAsianMonth.valueOf(index);
+        }
+
+    }
+
+}
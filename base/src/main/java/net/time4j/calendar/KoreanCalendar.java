@@ -836,6 +836,13 @@ public final class KoreanCalendar
         private static final long DATE_1954_03_21 = PlainDate.of(1954, 3, 21).getDaysSinceEpochUTC();
         private static final long DATE_1961_08_10 = PlainDate.of(1961, 8, 10).getDaysSinceEpochUTC();
 
+        //~ Konstruktoren -------------------------------------------------
+
+        Transformer() {
+            super("dangi");
+
+        }
+
         //~ Methoden ------------------------------------------------------
 
         @Override
@@ -394,12 +394,10 @@ public enum PersianAlgorithm {
             if (date.getMonth() < 3) {
                 pyear--; // optimization
             }
-            PlainDate equinox = vernalEquinox(pyear, offset);
-            long delta = CalendarUnit.DAYS.between(equinox, date);
+            long delta = utcDays - nowruz(pyear, offset);
             while (delta < 0) {
                 pyear--;
-                equinox = vernalEquinox(pyear, offset);
-                delta = CalendarUnit.DAYS.between(equinox, date);
+                delta = utcDays - nowruz(pyear, offset);
             }
             int pmonth = 1;
             while (pmonth < 12) {
@@ -421,10 +419,25 @@ public enum PersianAlgorithm {
         ) {
             int pyear = date.getYear();
             int pmonth = date.getMonth().getValue();
-            long utcDays = vernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+            long utcDays = nowruz(pyear, offset);
             utcDays += ((pmonth) - 1) * 31 - ((pmonth / 7) * (pmonth - 7)) + date.getDayOfMonth() - 1;
             return utcDays;
         }
+        // first day of persian year in utc-days, cached for the standard offset only
+        private long nowruz(
+            int pyear,
+            ZonalOffset offset
+        ) {
+            if ((pyear >= 1) && (pyear < NOWRUZ_STD.length) && offset.equals(STD_OFFSET)) {
+                int utcDays = NOWRUZ_STD[pyear];
+                if (utcDays == 0) { // not yet calculated (day zero is 1972-01-01 and never a new year)
+                    utcDays = (int) vernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+                    NOWRUZ_STD[pyear] = utcDays; // benign race because the result is always the same
+                }
+                return utcDays;
+            }
+            return vernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+        }
         private PlainDate vernalEquinox(
             int pyear,
             ZonalOffset offset
@@ -441,6 +454,9 @@ public enum PersianAlgorithm {
 
     static final ZonalOffset STD_OFFSET = ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 3, 30);
 
+    // lazy cache of astronomical new years (in utc-days) for the years 1-2379 and the standard offset
+    private static final int[] NOWRUZ_STD = new int[3000 - 622 + 2];
+
     private static final int LENGTH_OF_KHAYYAM_CYCLE = 365 * 33 + 8;
     private static final long REFERENCE_ZERO_KHAYYAM = 493363L;
     private static final long START_OF_BIRASHK_CYCLE = -319872L;
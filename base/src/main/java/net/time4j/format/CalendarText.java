@@ -208,6 +208,8 @@ public final class CalendarText {
     private static final TextProvider ROOT_PROVIDER = new FallbackProvider();
 
     private static final ConcurrentMap<String, CalendarText> CACHE = new ConcurrentHashMap<>();
+    // ISO-instances by locale, avoids building the string key on every print (zero allocation)
+    private static final ConcurrentMap<Locale, CalendarText> ISO_CACHE = new ConcurrentHashMap<>();
 
     //~ Instanzvariablen --------------------------------------------------
 
@@ -348,7 +350,17 @@ public final class CalendarText {
      */
     public static CalendarText getIsoInstance(Locale locale) {
 
-        return getInstance(CalendarText.ISO_CALENDAR_TYPE, locale);
+        CalendarText instance = ISO_CACHE.get(locale);
+
+        if (instance == null) {
+            instance = getInstance(CalendarText.ISO_CALENDAR_TYPE, locale);
+            CalendarText old = ISO_CACHE.putIfAbsent(locale, instance);
+            if (old != null) {
+                instance = old;
+            }
+        }
+
+        return instance;
 
     }
 
@@ -1157,6 +1169,7 @@ public final class CalendarText {
 
         PropertyBundle.clearCache();
         CACHE.clear();
+        ISO_CACHE.clear();
 
     }
 
@@ -52,6 +52,7 @@ public final class TextAccessor {
     //~ Instanzvariablen --------------------------------------------------
 
     private final List<String> textForms;
+    private volatile Trie trie;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -64,6 +65,7 @@ public final class TextAccessor {
         super();
 
         this.textForms = Collections.unmodifiableList(Arrays.asList(textForms));
+        this.trie = null;
 
     }
 
@@ -284,6 +286,92 @@ public final class TextAccessor {
     ) {
 
         V[] enums = valueType.getEnumConstants();
+        Trie t = this.trie;
+
+        if ((t == null) || (t.size != enums.length)) {
+            t = new Trie(this.textForms, enums);
+            this.trie = t; // benign race, the trie is immutable
+        }
+
+        if (caseInsensitive && t.caseAmbivalent) {
+            return this.parseLinear(parseable, status, enums, true, partialCompare);
+        }
+
+        int start = status.getIndex();
+        int end = parseable.length();
+        int node = 0;
+        int pos = start;
+        int best = t.terminalMin[0]; // empty text forms
+        int bestLen = 0;
+        int singles = 0;
+        int single = -1;
+
+        while (pos < end) {
+            char c = parseable.charAt(pos);
+            int child = t.firstChild[node];
+
+            while (child != -1) {
+                char label = t.labels[child];
+                if ((c == label) || (caseInsensitive && this.compareIgnoreCase(c, label))) {
+                    break;
+                }
+                child = t.nextSibling[child];
+            }
+
+            if (child == -1) {
+                break;
+            }
+
+            node = child;
+            pos++;
+            int index = t.terminalMin[node];
+
+            if (index != -1) {
+                if (pos - start == 1) {
+                    singles = t.terminalCount[node];
+                    single = index;
+                } else if ((best == -1) || (index < best)) {
+                    best = index;
+                    bestLen = pos - start;
+                }
+            }
+        }
+
+        int index = -1;
+        int len = 0;
+
+        if (partialCompare) {
+            if ((pos > start) && (t.subtreeCount[node] == 1)) {
+                index = t.subtreeUnique[node]; // unique longest common prefix
+                len = pos - start;
+            }
+        } else if (best != -1) {
+            index = best; // first full match in enum order
+            len = bestLen;
+        } else if (singles == 1) {
+            index = single; // unique one-letter match
+            len = 1;
+        }
+
+        if (index == -1) {
+            status.setErrorIndex(start);
+            return null;
+        }
+
+        status.setIndex(start + len);
+        return enums[index];
+
+    }
+
+    // original algorithm, only needed if the trie cannot decide unambivalently
+    private <V extends Enum<V>> V parseLinear(
+        CharSequence parseable,
+        ParsePosition status,
+        V[] enums,
+        boolean caseInsensitive,
+        boolean partialCompare
+    ) {
+
         int len = this.textForms.size();
         int start = status.getIndex();
         int end = parseable.length();
@@ -340,6 +428,12 @@ public final class TextAccessor {
 
     }
 
+    private static char fold(char c) {
+
+        return Character.toLowerCase(Character.toUpperCase(c));
+
+    }
+
     private boolean compareIgnoreCase(char c1, char c2) {
 
         if (c1 >= 'a' && c1 <= 'z') {
@@ -362,4 +456,117 @@ public final class TextAccessor {
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Compact prefix tree of all text forms, stored in parallel arrays in first-child and
+     * next-sibling representation. </p>
+     *
+     * <p>Node {@code 0} is the root. Every node knows the minimum enum index of the text forms
+     * ending there and the count of text forms passing through it. This is sufficient for
+     * reproducing the results of a linear scan in one walk along the input. </p>
+     */
+    private static final class Trie {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int size;
+        private final char[] labels;
+        private final int[] firstChild;
+        private final int[] nextSibling;
+        private final int[] terminalMin;
+        private final int[] terminalCount;
+        private final int[] subtreeCount;
+        private final int[] subtreeUnique;
+        private final boolean caseAmbivalent;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Trie(
+            List<String> textForms,
+            Enum<?>[] enums
+        ) {
+            super();
+
+            int n = enums.length;
+            int capacity = 1;
+            String[] texts = new String[n];
+
+            for (int i = 0; i < n; i++) {
+                texts[i] = ((i >= textForms.size()) ? enums[i].name() : textForms.get(i));
+                capacity += texts[i].length();
+            }
+
+            this.size = n;
+            this.labels = new char[capacity];
+            this.firstChild = new int[capacity];
+            this.nextSibling = new int[capacity];
+            this.terminalMin = new int[capacity];
+            this.terminalCount = new int[capacity];
+            this.subtreeCount = new int[capacity];
+            this.subtreeUnique = new int[capacity];
+            Arrays.fill(this.firstChild, -1);
+            Arrays.fill(this.nextSibling, -1);
+            Arrays.fill(this.terminalMin, -1);
+            Arrays.fill(this.subtreeUnique, -1);
+
+            int count = 1;
+            boolean ambivalent = false;
+
+            for (int i = 0; i < n; i++) {
+                String text = texts[i];
+                int node = 0;
+                this.register(node, i);
+
+                for (int j = 0; j < text.length(); j++) {
+                    char c = text.charAt(j);
+                    int child = this.firstChild[node];
+                    int last = -1;
+
+                    while ((child != -1) && (this.labels[child] != c)) {
+                        if (fold(this.labels[child]) == fold(c)) {
+                            ambivalent = true; // siblings differing only in case
+                        }
+                        last = child;
+                        child = this.nextSibling[child];
+                    }
+
+                    if (child == -1) {
+                        child = count++;
+                        this.labels[child] = c;
+                        if (last == -1) {
+                            this.firstChild[node] = child;
+                        } else {
+                            this.nextSibling[last] = child;
+                        }
+                    }
+
+                    node = child;
+                    this.register(node, i);
+                }
+
+                if (this.terminalMin[node] == -1) {
+                    this.terminalMin[node] = i;
+                }
+                this.terminalCount[node]++;
+            }
+
+            this.caseAmbivalent = ambivalent;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        private void register(
+            int node,
+            int index
+        ) {
+
+            this.subtreeCount[node]++;
+            this.subtreeUnique[node] = ((this.subtreeCount[node] == 1) ? index : -1);
+
+        }
+
+    }
+
 }
@@ -0,0 +1,159 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (AsciiSequence.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p>Read-only character view on ASCII-encoded bytes without any decoding. </p>
+ *
+ * <p>Every byte outside of the ASCII-range (for example parts of a multi-byte UTF-8-sequence)
+ * is mapped to the replacement character U+FFFD so it can never match any format literal or
+ * digit. The underlying bytes must not be changed while this view is in use. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class AsciiSequence
+    implements CharSequence {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final byte[] array;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private AsciiSequence(
+        byte[] array,
+        ByteBuffer buffer,
+        int offset,
+        int length
+    ) {
+        super();
+
+        this.array = array;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a view on given byte array region. </p>
+     *
+     * @param   ascii       ASCII-encoded bytes
+     * @param   offset      start index of region
+     * @param   length      count of bytes in region
+     * @return  new character view
+     * @throws  IndexOutOfBoundsException if the region is not within the array
+     */
+    static AsciiSequence of(
+        byte[] ascii,
+        int offset,
+        int length
+    ) {
+
+        if ((offset < 0) || (length < 0) || (offset > ascii.length - length)) {
+            throw new IndexOutOfBoundsException(
+                "Invalid region: offset=" + offset + ", length=" + length + ", array-length=" + ascii.length);
+        }
+
+        return new AsciiSequence(ascii, null, offset, length);
+
+    }
+
+    /**
+     * <p>Creates a view on the remaining bytes of given buffer. </p>
+     *
+     * <p>The position of the buffer will not be changed. </p>
+     *
+     * @param   ascii       ASCII-encoded bytes between position and limit
+     * @return  new character view
+     */
+    static AsciiSequence of(ByteBuffer ascii) {
+
+        if (ascii.hasArray()) {
+            return new AsciiSequence(ascii.array(), null, ascii.arrayOffset() + ascii.position(), ascii.remaining());
+        }
+
+        return new AsciiSequence(null, ascii, ascii.position(), ascii.remaining());
+
+    }
+
+    @Override
+    public int length() {
+
+        return this.length;
+
+    }
+
+    @Override
+    public char charAt(int index) {
+
+        if ((index < 0) || (index >= this.length)) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+
+        int pos = this.offset + index;
+        byte b = ((this.array == null) ? this.buffer.get(pos) : this.array[pos]);
+        return ((b < 0) ? REPLACEMENT : (char) b);
+
+    }
+
+    @Override
+    public CharSequence subSequence(
+        int start,
+        int end
+    ) {
+
+        if ((start < 0) || (end > this.length) || (start > end)) {
+            throw new StringIndexOutOfBoundsException("Invalid range: " + start + "/" + end);
+        }
+
+        return new AsciiSequence(this.array, this.buffer, this.offset + start, end - start);
+
+    }
+
+    @Override
+    public String toString() {
+
+        char[] chars = new char[this.length];
+
+        for (int i = 0; i < this.length; i++) {
+            chars[i] = this.charAt(i);
+        }
+
+        return new String(chars);
+
+    }
+
+}
@@ -289,6 +289,40 @@ final class AttributeSet
 
     }
 
+    // like equals() but ignores the format pattern which only serves for description
+    boolean isEquivalentForParsing(AttributeSet that) {
+
+        if (this == that) {
+            return true;
+        } else if (
+            !this.attributes.equals(that.attributes)
+            || !this.locale.equals(that.locale)
+            || (this.level != that.level)
+            || (this.section != that.section)
+            || !isEqual(this.printCondition, that.printCondition)
+        ) {
+            return false;
+        }
+
+        String ignored = Attributes.FORMAT_PATTERN.name();
+
+        for (Map.Entry<String, Object> entry : this.internals.entrySet()) {
+            String key = entry.getKey();
+            if (!key.equals(ignored) && !entry.getValue().equals(that.internals.get(key))) {
+                return false;
+            }
+        }
+
+        for (String key : that.internals.keySet()) {
+            if (!key.equals(ignored) && !this.internals.containsKey(key)) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
     static AttributeSet createDefaults(
         Chronology<?> chronology,
         Attributes attributes,
@@ -75,6 +75,7 @@ import net.time4j.tz.ZonalOffset;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.text.AttributedCharacterIterator;
 import java.text.AttributedString;
 import java.text.DateFormat;
@@ -87,6 +88,7 @@ import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
@@ -99,6 +101,8 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.function.IntPredicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import static net.time4j.format.CalendarText.ISO_CALENDAR_TYPE;
 
@@ -255,6 +259,7 @@ public final class ChronoFormatter<T>
     private final Chronology<?> deepestParser;
     private final int stepCount;
     private final boolean singleStepMode;
+    private final FixedNumericFormat fixedFormat;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -325,6 +330,7 @@ public final class ChronoFormatter<T>
         this.stepCount = steps.size();
         this.steps = this.freeze(steps);
         this.singleStepMode = this.getSingleStepMode();
+        this.fixedFormat = this.compileFixedFormat();
 
     }
 
@@ -443,6 +449,7 @@ public final class ChronoFormatter<T>
         this.stepCount = copy.size();
         this.steps = this.freeze(copy);
         this.singleStepMode = this.getSingleStepMode();
+        this.fixedFormat = this.compileFixedFormat();
 
     }
 
@@ -493,6 +500,7 @@ public final class ChronoFormatter<T>
         this.stepCount = formatter.stepCount;
         this.steps = this.freeze(formatter.steps);
         this.singleStepMode = this.getSingleStepMode();
+        this.fixedFormat = this.compileFixedFormat();
 
     }
 
@@ -738,6 +746,48 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Prints given chronological entity as formatted text and writes it to given buffer. </p>
+     *
+     * <p>In contrast to the {@code print}-methods, this method does not collect any element
+     * positions and writes directly into the caller-owned buffer which can be for example
+     * a reused {@code StringBuilder} or a {@code CharBuffer}. Optional sections and or-blocks
+     * are printed via internal per-thread scratch buffers. Recommended for high-volume output. </p>
+     *
+     * <p>Note: The formatter itself does not allocate any buffers here, but the preparation of the
+     * formatted object (for example the conversion of a moment to a local timestamp) and some
+     * elements (for example eras or flexible day periods) can still create short-lived objects.
+     * Patterns of plain ISO types consisting of numeric elements and the texts of month, weekday,
+     * quarter or AM/PM are printed without any allocation. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          format buffer
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IOException if writing to the buffer fails
+     * @see     #print(Object, Appendable, AttributeQuery)
+     */
+    /*[deutsch]
+     * <p>Formatiert das angegebene Objekt als Text und schreibt den Text in
+     * den angegebenen Puffer. </p>
+     *
+     * <p>Im Unterschied zu den {@code print}-Methoden sammelt diese Methode keine Elementpositionen
+     * und schreibt direkt in den Puffer des Aufrufers, der zum Beispiel ein wiederverwendeter
+     * {@code StringBuilder} oder ein {@code CharBuffer} sein kann. Optionale Sektionen und
+     * oder-Bl&ouml;cke werden &uuml;ber interne Hilfspuffer je Thread ausgegeben. Empfohlen
+     * f&uuml;r Massenausgaben. </p>
+     *
+     * <p>Hinweis: Der Formatierer selbst legt hier keine Puffer an, aber die Vorbereitung des zu
+     * formatierenden Objekts (zum Beispiel die Umwandlung eines Moments in einen lokalen Zeitstempel)
+     * und einige Elemente (zum Beispiel &Auml;ras oder flexible Tagesabschnitte) k&ouml;nnen trotzdem
+     * kurzlebige Objekte erzeugen. Muster einfacher ISO-Typen aus numerischen Elementen und den Texten
+     * von Monat, Wochentag, Quartal oder AM/PM werden ganz ohne Speicheranforderung ausgegeben. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          format buffer
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IOException if writing to the buffer fails
+     * @see     #print(Object, Appendable, AttributeQuery)
+     */
     @Override
     public void formatToBuffer(
         T formattable,
@@ -895,121 +945,131 @@ public final class ChronoFormatter<T>
 
         if (withPositions) {
             positions = new LinkedHashSet<>(len);
+        } else if (quickPath && (this.fixedFormat != null)) {
+            PrintScratch scratch = PrintScratch.acquire();
+            try {
+                char[] chars = scratch.chars(this.fixedFormat.getMaxLength());
+                int count = this.fixedFormat.print(formattable, chars);
+                if (count >= 0) {
+                    if (buffer instanceof StringBuilder) {
+                        StringBuilder.class.cast(buffer).append(chars, 0, count);
+                    } else {
+                        for (int i = 0; i < count; i++) {
+                            buffer.append(chars[i]);
+                        }
+                    }
+                    return null;
+                }
+            } finally {
+                scratch.release();
+            }
         }
 
         if (this.hasOrMarkers) {
-            Deque<StringBuilder> collectorStack = new LinkedList<>();
-            StringBuilder buf = new StringBuilder(len << 2);
-            collectorStack.push(buf);
-
-            Deque<Set<ElementPosition>> positionStack = null;
-            if (withPositions) {
-                positionStack = new LinkedList<>();
-                positionStack.push(positions);
-            }
+            PrintScratch collectorStack = PrintScratch.acquire();
+            try {
+                StringBuilder buf = collectorStack.init(len << 2);
 
-            int previous = 0;
-            int current = 0;
+                Deque<Set<ElementPosition>> positionStack = null;
+                if (withPositions) {
+                    positionStack = new LinkedList<>();
+                    positionStack.push(positions);
+                }
 
-            while (index < len) {
-                FormatStep step = this.steps.get(index);
-                current = step.getLevel();
-                int level = current;
+                int previous = 0;
+                int current = 0;
 
-                // Start einer optionalen Sektion: Stack erweitern
-                while (level > previous) {
-                    StringBuilder sb = new StringBuilder();
-                    sb.append(collectorStack.peek());
-                    collectorStack.push(sb);
-                    if (withPositions) {
-                        positions = new LinkedHashSet<>();
-                        positions.addAll(positionStack.peek());
-                        positionStack.push(positions);
-                    }
-                    level--;
-                }
+                while (index < len) {
+                    FormatStep step = this.steps.get(index);
+                    current = step.getLevel();
+                    int level = current;
 
-                // Ende einer optionalen Sektion: Werte im Stack sichern
-                while (level < previous) {
-                    buf = collectorStack.pop();
-                    collectorStack.pop();
-                    collectorStack.push(buf);
-                    if (withPositions) {
-                        positions = positionStack.pop();
-                        positionStack.pop();
-                        positionStack.push(positions);
+                    // Start einer optionalen Sektion: Stack erweitern
+                    while (level > previous) {
+                        collectorStack.push();
+                        if (withPositions) {
+                            positions = new LinkedHashSet<>();
+                            positions.addAll(positionStack.peek());
+                            positionStack.push(positions);
+                        }
+                        level--;
                     }
-                    level++;
-                }
 
-                buf = collectorStack.peek();
-                if (withPositions) {
-                    positions = positionStack.peek();
-                }
+                    // Ende einer optionalen Sektion: Werte im Stack sichern
+                    while (level < previous) {
+                        collectorStack.commit();
+                        if (withPositions) {
+                            positions = positionStack.pop();
+                            positionStack.pop();
+                            positionStack.push(positions);
+                        }
+                        level++;
+                    }
 
-                RuntimeException re = null;
-                int printed = -1;
+                    buf = collectorStack.peek();
+                    if (withPositions) {
+                        positions = positionStack.peek();
+                    }
 
-                try {
-                    printed = step.print(formattable, buf, attributes, positions, quickPath);
-                } catch (ChronoException | IllegalArgumentException ex) {
-                    re = ex;
-                }
+                    RuntimeException re = null;
+                    int printed = -1;
 
-                if (printed == -1) {
-                    // Fehlerfall: nächsten oder-Block suchen
-                    int section = step.getSection();
-                    int last = index;
+                    try {
+                        printed = step.print(formattable, buf, attributes, positions, quickPath);
+                    } catch (ChronoException | IllegalArgumentException ex) {
+                        re = ex;
+                    }
 
-                    if (!step.isNewOrBlockStarted()) {
-                        for (int j = index + 1; j < len; j++) {
-                            FormatStep test = this.steps.get(j);
-                            if (test.isNewOrBlockStarted() && (test.getSection() == section)) {
-                                last = j;
-                                break;
+                    if (printed == -1) {
+                        // Fehlerfall: nächsten oder-Block suchen
+                        int section = step.getSection();
+                        int last = index;
+
+                        if (!step.isNewOrBlockStarted()) {
+                            for (int j = index + 1; j < len; j++) {
+                                FormatStep test = this.steps.get(j);
+                                if (test.isNewOrBlockStarted() && (test.getSection() == section)) {
+                                    last = j;
+                                    break;
+                                }
                             }
                         }
-                    }
 
-                    if ((last > index) || step.isNewOrBlockStarted()) {
-                        // wenn gefunden, zum nächsten oder-Block springen
-                        collectorStack.pop();
-                        StringBuilder sb = new StringBuilder();
-                        if (!collectorStack.isEmpty()) {
-                            sb.append(collectorStack.peek());
-                        }
-                        collectorStack.push(sb);
-                        if (withPositions) {
-                            positionStack.pop();
-                            Set<ElementPosition> ep = new LinkedHashSet<>();
-                            if (!positionStack.isEmpty()) {
-                                ep.addAll(positionStack.peek());
+                        if ((last > index) || step.isNewOrBlockStarted()) {
+                            // wenn gefunden, zum nächsten oder-Block springen
+                            collectorStack.rollback();
+                            if (withPositions) {
+                                positionStack.pop();
+                                Set<ElementPosition> ep = new LinkedHashSet<>();
+                                if (!positionStack.isEmpty()) {
+                                    ep.addAll(positionStack.peek());
+                                }
+                                positionStack.push(ep);
                             }
-                            positionStack.push(ep);
+                            index = last;
+                        } else if (re == null) {
+                            throw new IllegalArgumentException("Not formattable: " + formattable);
+                        } else {
+                            throw new IllegalArgumentException("Not formattable: " + formattable, re);
                         }
-                        index = last;
-                    } else if (re == null) {
-                        throw new IllegalArgumentException("Not formattable: " + formattable);
-                    } else {
-                        throw new IllegalArgumentException("Not formattable: " + formattable, re);
+                    } else if (step.isNewOrBlockStarted()) {
+                        index = step.skipTrailingOrBlocks();
                     }
-                } else if (step.isNewOrBlockStarted()) {
-                    index = step.skipTrailingOrBlocks();
-                }
 
-                // Schleifenzähler inkrementieren
-                previous = current;
-                index++;
-            }
+                    // Schleifenzähler inkrementieren
+                    previous = current;
+                    index++;
+                }
 
-            // Verbleibende optionale Sektionen auflösen und Ergebnis schreiben
-            buf = collectorStack.peek();
-            collectorStack.clear();
-            buffer.append(buf);
+                // Verbleibende optionale Sektionen auflösen und Ergebnis schreiben
+                buffer.append(collectorStack.peek());
 
-            if (withPositions) {
-                positions = positionStack.peek();
-                positionStack.clear();
+                if (withPositions) {
+                    positions = positionStack.peek();
+                    positionStack.clear();
+                }
+            } finally {
+                collectorStack.release();
             }
         } else {
             try {
@@ -1062,6 +1122,84 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Interpretes given ASCII-encoded bytes as chronological entity. </p>
+     *
+     * <p>The bytes are read directly without any decoding or intermediate string. This method is
+     * designed for pure-ASCII formats like ISO-8601 where the input comes from raw network buffers
+     * or files. Bytes outside of the ASCII-range never match any literal or digit. The error index of
+     * any {@code ParseException} is relative to given offset. </p>
+     *
+     * @param   ascii       ASCII-encoded text to be parsed
+     * @param   offset      start index of text in byte array
+     * @param   length      count of bytes to be parsed
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the region is not within the byte array or empty
+     * @throws  ParseException if the text is not parseable
+     * @see     #parse(CharSequence)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert die angegebenen ASCII-kodierten Bytes als chronologische Entit&auml;t. </p>
+     *
+     * <p>Die Bytes werden direkt ohne Dekodierung oder Zwischentext gelesen. Diese Methode ist
+     * f&uuml;r reine ASCII-Formate wie ISO-8601 gedacht, deren Eingabe aus rohen Netzwerkpuffern
+     * oder Dateien kommt. Bytes au&szlig;erhalb des ASCII-Bereichs passen nie zu einem Literal oder
+     * einer Ziffer. Der Fehlerindex einer {@code ParseException} bezieht sich auf den angegebenen
+     * Versatz. </p>
+     *
+     * @param   ascii       ASCII-encoded text to be parsed
+     * @param   offset      start index of text in byte array
+     * @param   length      count of bytes to be parsed
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the region is not within the byte array or empty
+     * @throws  ParseException if the text is not parseable
+     * @see     #parse(CharSequence)
+     * @since   5.0
+     */
+    public T parseAscii(
+        byte[] ascii,
+        int offset,
+        int length
+    ) throws ParseException {
+
+        return this.parse(AsciiSequence.of(ascii, offset, length));
+
+    }
+
+    /**
+     * <p>Interpretes the remaining ASCII-encoded bytes of given buffer as chronological entity. </p>
+     *
+     * <p>The position of the buffer will not be changed. The error index of any
+     * {@code ParseException} is relative to the position of the buffer. Otherwise the same
+     * rules as in {@link #parseAscii(byte[], int, int)} apply. </p>
+     *
+     * @param   ascii       ASCII-encoded text to be parsed (between position and limit)
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if there are no remaining bytes
+     * @throws  ParseException if the text is not parseable
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert die verbleibenden ASCII-kodierten Bytes des angegebenen Puffers als
+     * chronologische Entit&auml;t. </p>
+     *
+     * <p>Die Position des Puffers wird nicht ge&auml;ndert. Der Fehlerindex einer
+     * {@code ParseException} bezieht sich auf die Position des Puffers. Ansonsten gelten
+     * die gleichen Regeln wie in {@link #parseAscii(byte[], int, int)}. </p>
+     *
+     * @param   ascii       ASCII-encoded text to be parsed (between position and limit)
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if there are no remaining bytes
+     * @throws  ParseException if the text is not parseable
+     * @since   5.0
+     */
+    public T parseAscii(ByteBuffer ascii) throws ParseException {
+
+        return this.parse(AsciiSequence.of(ascii));
+
+    }
+
     @Override
     public T parse(
         CharSequence    text,
@@ -1165,11 +1303,91 @@ public final class ChronoFormatter<T>
     ) {
 
         AttributeQuery attrs = attributes;
-        Leniency leniency = this.leniency;
-        boolean quickPath = true;
 
         if (attributes != this.globalAttributes) {
             attrs = new MergedAttributes(attributes, this.globalAttributes);
+        }
+
+        return this.parse(text, status, attributes, attrs);
+
+    }
+
+    /**
+     * <p>Interpretes given text as chronological entity starting at the specified position
+     * and reuses the parser infrastructure of given context. </p>
+     *
+     * <p>This method is designed for parsing many texts on one thread without any per-call
+     * allocation of logs or raw value containers. The context is reset at the start of every
+     * call. In case of success, the index of given parse position will be set to the position
+     * after the parsed text, else its error index will be set and the error message can be
+     * obtained by {@code context.getLog().getErrorMessage()}. Trailing characters are not
+     * checked. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   position    parse position which will be updated
+     * @param   context     reusable parse context (not to be shared between threads)
+     * @return  result or {@code null} if parsing does not work
+     * @throws  IndexOutOfBoundsException if the start position is at end of text or even behind
+     * @see     ParseContext
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Text ab der angegebenen Position und verwendet
+     * die Parser-Infrastruktur des angegebenen Kontexts wieder. </p>
+     *
+     * <p>Diese Methode ist f&uuml;r das Parsen vieler Texte in einem Thread gedacht, ohne
+     * je Aufruf Logs oder Beh&auml;lter f&uuml;r Rohdaten zu allokieren. Der Kontext wird zu
+     * Beginn jedes Aufrufs zur&uuml;ckgesetzt. Im Erfolgsfall wird der Index der angegebenen
+     * Parse-Position auf die Position nach dem interpretierten Text gesetzt, sonst wird ihr
+     * Fehlerindex gesetzt, und die Fehlermeldung ist mittels
+     * {@code context.getLog().getErrorMessage()} erh&auml;ltlich. Nachfolgende Zeichen werden
+     * nicht gepr&uuml;ft. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   position    parse position which will be updated
+     * @param   context     reusable parse context (not to be shared between threads)
+     * @return  result or {@code null} if parsing does not work
+     * @throws  IndexOutOfBoundsException if the start position is at end of text or even behind
+     * @see     ParseContext
+     * @since   5.0
+     */
+    public T parse(
+        CharSequence text,
+        ParsePosition position,
+        ParseContext context
+    ) {
+
+        ParseLog status = context.start(position.getIndex());
+        AttributeQuery attrs = context.getAttributes(this, this.globalAttributes);
+        T result;
+
+        if (attrs == this.globalAttributes) {
+            result = this.parse(text, status);
+        } else {
+            result = this.parse(text, status, attrs, attrs);
+        }
+
+        if ((result == null) || status.isError()) {
+            position.setErrorIndex(status.getErrorIndex());
+            return null;
+        }
+
+        position.setIndex(status.getPosition());
+        return result;
+
+    }
+
+    private T parse(
+        CharSequence text,
+        ParseLog status,
+        AttributeQuery attributes,
+        AttributeQuery attrs
+    ) {
+
+        Leniency leniency = this.leniency;
+        boolean quickPath = true;
+
+        if (attrs != this.globalAttributes) {
             leniency = attrs.get(Attributes.LENIENCY, Leniency.SMART);
             quickPath = false;
         }
@@ -1317,6 +1535,275 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Interpretes every text of given column and stores the converted results
+     * in given target array at the same index. </p>
+     *
+     * <p>This bulk method is designed for mass ingestion of formatted data (for example
+     * CSV-columns or log files) and reuses one internal parse state for all rows. The
+     * converter decides about the numerical representation, for example
+     * {@code Moment::getPosixTime} for epoch seconds or
+     * {@code date -> date.getDaysSinceEpochUTC()} for epoch days. Any text which
+     * cannot be parsed (including empty texts or texts with unparsed trailing
+     * characters) will mark the row in given error bitmap and leave the corresponding
+     * target element unchanged. The bits of all other rows are cleared so the same
+     * bitmap can be reused for the next column. </p>
+     *
+     * @param   texts       column of texts to be parsed
+     * @param   target      array of results (same length as column at least)
+     * @param   converter   translates a parsed entity to an int-primitive
+     * @param   errors      bitmap of erraneous rows (index of text)
+     * @return  count of successfully parsed rows
+     * @throws  IndexOutOfBoundsException if the target array is too short
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert jeden Text der angegebenen Spalte und speichert die konvertierten
+     * Ergebnisse im angegebenen Zielarray unter dem gleichen Index. </p>
+     *
+     * <p>Diese Massenmethode ist f&uuml;r das Einlesen gro&szlig;er Mengen von formatierten
+     * Daten (zum Beispiel CSV-Spalten oder Log-Dateien) gedacht und verwendet einen
+     * internen Interpretierungsstatus f&uuml;r alle Zeilen. Der Konverter bestimmt die
+     * numerische Darstellung, zum Beispiel {@code Moment::getPosixTime} f&uuml;r
+     * Epochensekunden oder {@code date -> date.getDaysSinceEpochUTC()} f&uuml;r
+     * Epochentage. Jeder nicht interpretierbare Text (einschlie&szlig;lich leerer
+     * Texte oder Texte mit nicht interpretierten Folgezeichen) markiert die Zeile
+     * in der angegebenen Fehler-Bitmap und l&auml;&szlig;t das zugeh&ouml;rige
+     * Zielelement unver&auml;ndert. Die Bits aller anderen Zeilen werden gel&ouml;scht,
+     * so da&szlig; die gleiche Bitmap f&uuml;r die n&auml;chste Spalte wiederverwendet
+     * werden kann. </p>
+     *
+     * @param   texts       column of texts to be parsed
+     * @param   target      array of results (same length as column at least)
+     * @param   converter   translates a parsed entity to an int-primitive
+     * @param   errors      bitmap of erraneous rows (index of text)
+     * @return  count of successfully parsed rows
+     * @throws  IndexOutOfBoundsException if the target array is too short
+     * @since   5.0
+     */
+    public int parseColumn(
+        CharSequence[] texts,
+        int[] target,
+        ToIntFunction<? super T> converter,
+        BitSet errors
+    ) {
+
+        if (target.length < texts.length) {
+            throw new IndexOutOfBoundsException("Target array is too short: " + target.length);
+        }
+
+        ParseLog status = new ParseContext().getLog(); // recycles raw values per row
+        int success = 0;
+        errors.clear(0, texts.length);
+
+        for (int i = 0; i < texts.length; i++) {
+            T result = this.parseRow(texts[i], status);
+            if (result == null) {
+                errors.set(i);
+            } else {
+                target[i] = converter.applyAsInt(result);
+                success++;
+            }
+        }
+
+        return success;
+
+    }
+
+    /**
+     * <p>Interpretes every text of given column and stores the converted results
+     * in given target array at the same index. </p>
+     *
+     * <p>Equivalent to {@link #parseColumn(CharSequence[], int[], ToIntFunction, BitSet)}
+     * but for long-primitives like epoch seconds or epoch nanoseconds. </p>
+     *
+     * @param   texts       column of texts to be parsed
+     * @param   target      array of results (same length as column at least)
+     * @param   converter   translates a parsed entity to a long-primitive
+     * @param   errors      bitmap of erraneous rows (index of text)
+     * @return  count of successfully parsed rows
+     * @throws  IndexOutOfBoundsException if the target array is too short
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert jeden Text der angegebenen Spalte und speichert die konvertierten
+     * Ergebnisse im angegebenen Zielarray unter dem gleichen Index. </p>
+     *
+     * <p>&Auml;quivalent zu {@link #parseColumn(CharSequence[], int[], ToIntFunction, BitSet)},
+     * aber f&uuml;r long-Primitive wie Epochensekunden oder Epochennanosekunden. </p>
+     *
+     * @param   texts       column of texts to be parsed
+     * @param   target      array of results (same length as column at least)
+     * @param   converter   translates a parsed entity to a long-primitive
+     * @param   errors      bitmap of erraneous rows (index of text)
+     * @return  count of successfully parsed rows
+     * @throws  IndexOutOfBoundsException if the target array is too short
+     * @since   5.0
+     */
+    public int parseColumn(
+        CharSequence[] texts,
+        long[] target,
+        ToLongFunction<? super T> converter,
+        BitSet errors
+    ) {
+
+        if (target.length < texts.length) {
+            throw new IndexOutOfBoundsException("Target array is too short: " + target.length);
+        }
+
+        ParseLog status = new ParseContext().getLog(); // recycles raw values per row
+        int success = 0;
+        errors.clear(0, texts.length);
+
+        for (int i = 0; i < texts.length; i++) {
+            T result = this.parseRow(texts[i], status);
+            if (result == null) {
+                errors.set(i);
+            } else {
+                target[i] = converter.applyAsLong(result);
+                success++;
+            }
+        }
+
+        return success;
+
+    }
+
+    /**
+     * <p>Interpretes every region of given source text and stores the converted
+     * results in given target array at the index of the region. </p>
+     *
+     * <p>The region {@code i} starts at {@code starts[i]} (inclusive) and ends at
+     * {@code ends[i]} (exclusive) so delimiters like commas or line breaks are simply
+     * skipped. No substrings will be created. Otherwise the same rules as described
+     * in {@link #parseColumn(CharSequence[], int[], ToIntFunction, BitSet)} apply. </p>
+     *
+     * @param   source      source text (for example a {@code CharBuffer} with a whole CSV-column)
+     * @param   starts      start indices of the regions to be parsed (inclusive)
+     * @param   ends        end indices of the regions to be parsed (exclusive)
+     * @param   target      array of results (same length as region arrays at least)
+     * @param   converter   translates a parsed entity to an int-primitive
+     * @param   errors      bitmap of erraneous rows (index of region)
+     * @return  count of successfully parsed rows
+     * @throws  IllegalArgumentException if the region arrays have different lengths
+     * @throws  IndexOutOfBoundsException if the target array is too short or any region is out of bounds
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert jede Region des angegebenen Quelltexts und speichert die
+     * konvertierten Ergebnisse im angegebenen Zielarray unter dem Index der Region. </p>
+     *
+     * <p>Die Region {@code i} beginnt bei {@code starts[i]} (inklusive) und endet bei
+     * {@code ends[i]} (exklusive), so da&szlig; Trennzeichen wie Kommas oder
+     * Zeilenumbr&uuml;che einfach &uuml;bersprungen werden. Es werden keine Teiltexte
+     * erzeugt. Ansonsten gelten die gleichen Regeln wie in
+     * {@link #parseColumn(CharSequence[], int[], ToIntFunction, BitSet)} beschrieben. </p>
+     *
+     * @param   source      source text (for example a {@code CharBuffer} with a whole CSV-column)
+     * @param   starts      start indices of the regions to be parsed (inclusive)
+     * @param   ends        end indices of the regions to be parsed (exclusive)
+     * @param   target      array of results (same length as region arrays at least)
+     * @param   converter   translates a parsed entity to an int-primitive
+     * @param   errors      bitmap of erraneous rows (index of region)
+     * @return  count of successfully parsed rows
+     * @throws  IllegalArgumentException if the region arrays have different lengths
+     * @throws  IndexOutOfBoundsException if the target array is too short or any region is out of bounds
+     * @since   5.0
+     */
+    public int parseColumn(
+        CharSequence source,
+        int[] starts,
+        int[] ends,
+        int[] target,
+        ToIntFunction<? super T> converter,
+        BitSet errors
+    ) {
+
+        checkRegions(source, starts, ends, target.length);
+        TextRegion region = new TextRegion(source);
+        ParseLog status = new ParseContext().getLog(); // recycles raw values per row
+        int success = 0;
+        errors.clear(0, starts.length);
+
+        for (int i = 0; i < starts.length; i++) {
+            T result = this.parseRow(region.select(starts[i], ends[i]), status);
+            if (result == null) {
+                errors.set(i);
+            } else {
+                target[i] = converter.applyAsInt(result);
+                success++;
+            }
+        }
+
+        return success;
+
+    }
+
+    /**
+     * <p>Interpretes every region of given source text and stores the converted
+     * results in given target array at the index of the region. </p>
+     *
+     * <p>Equivalent to {@link #parseColumn(CharSequence, int[], int[], int[], ToIntFunction, BitSet)}
+     * but for long-primitives like epoch seconds or epoch nanoseconds. </p>
+     *
+     * @param   source      source text (for example a {@code CharBuffer} with a whole CSV-column)
+     * @param   starts      start indices of the regions to be parsed (inclusive)
+     * @param   ends        end indices of the regions to be parsed (exclusive)
+     * @param   target      array of results (same length as region arrays at least)
+     * @param   converter   translates a parsed entity to a long-primitive
+     * @param   errors      bitmap of erraneous rows (index of region)
+     * @return  count of successfully parsed rows
+     * @throws  IllegalArgumentException if the region arrays have different lengths
+     * @throws  IndexOutOfBoundsException if the target array is too short or any region is out of bounds
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert jede Region des angegebenen Quelltexts und speichert die
+     * konvertierten Ergebnisse im angegebenen Zielarray unter dem Index der Region. </p>
+     *
+     * <p>&Auml;quivalent zu {@link #parseColumn(CharSequence, int[], int[], int[], ToIntFunction, BitSet)},
+     * aber f&uuml;r long-Primitive wie Epochensekunden oder Epochennanosekunden. </p>
+     *
+     * @param   source      source text (for example a {@code CharBuffer} with a whole CSV-column)
+     * @param   starts      start indices of the regions to be parsed (inclusive)
+     * @param   ends        end indices of the regions to be parsed (exclusive)
+     * @param   target      array of results (same length as region arrays at least)
+     * @param   converter   translates a parsed entity to a long-primitive
+     * @param   errors      bitmap of erraneous rows (index of region)
+     * @return  count of successfully parsed rows
+     * @throws  IllegalArgumentException if the region arrays have different lengths
+     * @throws  IndexOutOfBoundsException if the target array is too short or any region is out of bounds
+     * @since   5.0
+     */
+    public int parseColumn(
+        CharSequence source,
+        int[] starts,
+        int[] ends,
+        long[] target,
+        ToLongFunction<? super T> converter,
+        BitSet errors
+    ) {
+
+        checkRegions(source, starts, ends, target.length);
+        TextRegion region = new TextRegion(source);
+        ParseLog status = new ParseContext().getLog(); // recycles raw values per row
+        int success = 0;
+        errors.clear(0, starts.length);
+
+        for (int i = 0; i < starts.length; i++) {
+            T result = this.parseRow(region.select(starts[i], ends[i]), status);
+            if (result == null) {
+                errors.set(i);
+            } else {
+                target[i] = converter.applyAsLong(result);
+                success++;
+            }
+        }
+
+        return success;
+
+    }
+
     /**
      * <p>Creates a copy of this formatter with given locale. </p>
      *
@@ -3182,6 +3669,13 @@ public final class ChronoFormatter<T>
 
     }
 
+    // indicates if printing and parsing can use the compiled fast path (also used in tests)
+    boolean hasFixedFormat() {
+
+        return (this.fixedFormat != null);
+
+    }
+
     // used by MultiFormatParser
     boolean isToleratingTrailingChars() {
 
@@ -3189,6 +3683,75 @@ public final class ChronoFormatter<T>
 
     }
 
+    // used by MultiFormatParser: linear steps without preparser which can be shared with other formatters
+    boolean isPrefixShareable() {
+
+        return (this.noPreparser && !this.hasOptionals && !this.hasOrMarkers && !this.singleStepMode);
+
+    }
+
+    // used by MultiFormatParser: equal steps of both formatters will yield the same parsed values
+    boolean canShareStepsWith(ChronoFormatter<?> other) {
+
+        return (
+            (this.chronology == other.chronology)
+            && (this.leniency == other.leniency)
+            && (this.indexable == other.indexable)
+            && this.globalAttributes.isEquivalentForParsing(other.globalAttributes)
+            && this.defaults.equals(other.defaults)
+        );
+
+    }
+
+    // used by MultiFormatParser
+    List<FormatStep> getSteps() {
+
+        return this.steps;
+
+    }
+
+    // used by MultiFormatParser
+    ParsedValues newValues() {
+
+        return new ParsedValues(this.countOfElements, this.indexable);
+
+    }
+
+    // used by MultiFormatParser: parses a single shared step (first phase of parsing)
+    void parseStep(
+        FormatStep step,
+        CharSequence text,
+        ParseLog status,
+        ParsedValues values
+    ) {
+
+        this.parseStep(step, text, status, this.globalAttributes, values, true);
+
+    }
+
+    // used by MultiFormatParser: remaining phases of parsing after all steps have been parsed
+    T resolve(
+        ParsedValues parsed,
+        CharSequence text,
+        ParseLog status
+    ) {
+
+        parsed.setNoAmbivalentCheck();
+        status.setRawValues(parsed);
+
+        return resolve(
+            this,
+            this.chronology,
+            this.chronology.getExtensions(),
+            parsed,
+            text,
+            status,
+            this.globalAttributes,
+            this.leniency,
+            false);
+
+    }
+
     // used by CustomizedProcessor
     boolean isSingleStepOptimizationPossible() {
 
@@ -3228,8 +3791,26 @@ public final class ChronoFormatter<T>
 
     }
 
+    private FixedNumericFormat compileFixedFormat() {
+
+        if ((this.overrideHandler != null) || this.hasOrMarkers || this.hasOptionals) {
+            return null;
+        }
+
+        return FixedNumericFormat.compile(this.steps);
+
+    }
+
     private String format0(ChronoDisplay display) {
 
+        if (this.fixedFormat != null) {
+            char[] chars = new char[this.fixedFormat.getMaxLength()];
+            int count = this.fixedFormat.print(display, chars);
+            if (count >= 0) {
+                return new String(chars, 0, count);
+            }
+        }
+
         StringBuilder buffer = new StringBuilder(this.steps.size() * 8);
 
         try {
@@ -3485,6 +4066,24 @@ public final class ChronoFormatter<T>
             return null;
         }
 
+        return resolve(cf, merger, extensions, parsed, text, status, attributes, leniency, preparsing);
+
+    }
+
+    private static <T> T resolve(
+        ChronoFormatter<?> cf,
+        ChronoMerger<T> merger,
+        List<ChronoExtension> extensions,
+        ChronoEntity<?> parsed,
+        CharSequence text,
+        ParseLog status,
+        AttributeQuery attributes,
+        Leniency leniency,
+        boolean preparsing
+    ) {
+
+        int len = text.length();
+
         // Phase 2: Anreicherung mit Default-Werten
         if (!cf.defaults.isEmpty()) {
             Set<ChronoElement<?>> parsedElements = null;
@@ -3802,7 +4401,16 @@ public final class ChronoFormatter<T>
         int countOfElements
     ) {
 
-        ParsedValues values = new ParsedValues(countOfElements, this.indexable);
+        ParsedValues values = this.newValues(status, countOfElements);
+
+        if (quickPath && (this.fixedFormat != null)) {
+            if (this.fixedFormat.parse(text, status, values)) {
+                values.setNoAmbivalentCheck();
+                return values;
+            }
+            values = this.newValues(status, countOfElements); // discard partial results
+        }
+
         values.setPosition(status.getPosition());
         Deque<ParsedValues> data = null;
 
@@ -3845,19 +4453,7 @@ public final class ChronoFormatter<T>
             }
 
             // Delegation der Element-Verarbeitung
-            status.clearWarning();
-            step.parse(text, status, attributes, parsedResult, quickPath);
-
-            // Im Warnzustand default-value verwenden?
-            if (status.isWarning()) {
-                ChronoElement<?> element = step.getProcessor().getElement();
-                if ((element != null) && this.defaults.containsKey(element)) {
-                    parsedResult.put(element, this.getDefaultValue(element, parsedResult));
-                    parsedResult.with(ValidationElement.ERROR_MESSAGE, null);
-                    status.clearError();
-                    status.clearWarning();
-                }
-            }
+            this.parseStep(step, text, status, attributes, parsedResult, quickPath);
 
             // Fehler-Auflösung
             if (status.isError()) {
@@ -4116,12 +4712,112 @@ public final class ChronoFormatter<T>
 
     }
 
+    private void parseStep(
+        FormatStep step,
+        CharSequence text,
+        ParseLog status,
+        AttributeQuery attributes,
+        ParsedValues parsedResult,
+        boolean quickPath
+    ) {
+
+        status.clearWarning();
+        ParseContext context = status.getContext();
+
+        if (context == null) {
+            step.parse(text, status, attributes, parsedResult, quickPath);
+        } else {
+            context.enterStep(); // nested formatters must not recycle the values of this formatter
+            try {
+                step.parse(text, status, attributes, parsedResult, quickPath);
+            } finally {
+                context.leaveStep();
+            }
+        }
+
+        // Im Warnzustand default-value verwenden?
+        if (status.isWarning()) {
+            ChronoElement<?> element = step.getProcessor().getElement();
+            if ((element != null) && this.defaults.containsKey(element)) {
+                parsedResult.put(element, this.getDefaultValue(element, parsedResult));
+                parsedResult.with(ValidationElement.ERROR_MESSAGE, null);
+                status.clearError();
+                status.clearWarning();
+            }
+        }
+
+    }
+
+    // recycles the raw value container if the parse log belongs to a ParseContext
+    private ParsedValues newValues(
+        ParseLog status,
+        int countOfElements
+    ) {
+
+        ParseContext context = status.getContext();
+
+        if (context == null) {
+            return new ParsedValues(countOfElements, this.indexable);
+        } else {
+            return context.newValues(countOfElements, this.indexable);
+        }
+
+    }
+
     private boolean hasNoPreparser() {
 
         return ((this.chronology.preparser() == null) && (this.overrideHandler == null));
 
     }
 
+    // one row of a bulk parse process, the status will be reused
+    private T parseRow(
+        CharSequence text,
+        ParseLog status
+    ) {
+
+        if ((text == null) || (text.length() == 0)) {
+            return null;
+        }
+
+        status.reset();
+        T result = this.parse(text, status);
+
+        if ((result == null) || status.isError()) {
+            return null;
+        } else if (!this.trailing && (status.getPosition() < text.length())) {
+            return null;
+        }
+
+        return result;
+
+    }
+
+    private static void checkRegions(
+        CharSequence source,
+        int[] starts,
+        int[] ends,
+        int targetLength
+    ) {
+
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException(
+                "Count of start and end indices must be equal: " + starts.length + " != " + ends.length);
+        } else if (targetLength < starts.length) {
+            throw new IndexOutOfBoundsException("Target array is too short: " + targetLength);
+        }
+
+        int len = source.length();
+
+        for (int i = 0; i < starts.length; i++) {
+            if ((starts[i] < 0) || (ends[i] > len) || (starts[i] > ends[i])) {
+                throw new IndexOutOfBoundsException(
+                    "Invalid region [" + i + "]: " + starts[i] + "/" + ends[i]);
+            }
+        }
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     /**
@@ -7853,6 +8549,205 @@ public final class ChronoFormatter<T>
 
     }
 
+    // mutable view on a region of a larger text, avoids substrings in bulk parsing
+    private static final class TextRegion
+        implements CharSequence {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final CharSequence source;
+        private int start;
+        private int end;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TextRegion(CharSequence source) {
+            super();
+
+            this.source = source;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int length() {
+
+            return this.end - this.start;
+
+        }
+
+        @Override
+        public char charAt(int index) {
+
+            if ((index < 0) || (index >= this.end - this.start)) {
+                throw new StringIndexOutOfBoundsException(index);
+            }
+
+            return this.source.charAt(this.start + index);
+
+        }
+
+        @Override
+        public CharSequence subSequence(
+            int start,
+            int end
+        ) {
+
+            if ((start < 0) || (end > this.end - this.start) || (start > end)) {
+                throw new StringIndexOutOfBoundsException("Invalid range: " + start + "/" + end);
+            }
+
+            return this.source.subSequence(this.start + start, this.start + end);
+
+        }
+
+        @Override
+        public String toString() {
+
+            return this.source.subSequence(this.start, this.end).toString();
+
+        }
+
+        TextRegion select(
+            int start,
+            int end
+        ) {
+
+            this.start = start;
+            this.end = end;
+            return this;
+
+        }
+
+    }
+
+    // reusable print buffers for or-blocks and compiled formats, one instance per thread
+    private static final class PrintScratch {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int MAX_RETAINED_CAPACITY = 1024;
+
+        private static final ThreadLocal<PrintScratch> CACHE = ThreadLocal.withInitial(PrintScratch::new);
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private StringBuilder[] collectors = new StringBuilder[4];
+        private char[] chars = null;
+        private int top = -1;
+        private boolean inUse = false;
+
+        //~ Methoden ------------------------------------------------------
+
+        // nested printing (for example via StyleProcessor) falls back to a fresh instance
+        static PrintScratch acquire() {
+
+            PrintScratch scratch = CACHE.get();
+
+            if (scratch.inUse) {
+                scratch = new PrintScratch();
+            }
+
+            scratch.inUse = true;
+            return scratch;
+
+        }
+
+        StringBuilder init(int capacity) {
+
+            this.top = 0;
+            StringBuilder sb = this.collectors[0];
+
+            if (sb == null) {
+                sb = new StringBuilder(Math.max(capacity, 16));
+                this.collectors[0] = sb;
+            } else {
+                sb.setLength(0);
+            }
+
+            return sb;
+
+        }
+
+        StringBuilder peek() {
+
+            return this.collectors[this.top];
+
+        }
+
+        // char buffer for compiled fixed-width formats
+        char[] chars(int capacity) {
+
+            if ((this.chars == null) || (this.chars.length < capacity)) {
+                this.chars = new char[capacity];
+            }
+
+            return this.chars;
+
+        }
+
+        // start of optional section: copy current state into a new level
+        void push() {
+
+            int next = this.top + 1;
+
+            if (next == this.collectors.length) {
+                this.collectors = Arrays.copyOf(this.collectors, next * 2);
+            }
+
+            StringBuilder sb = this.collectors[next];
+
+            if (sb == null) {
+                sb = new StringBuilder(this.collectors[this.top].length() + 16);
+                this.collectors[next] = sb;
+            } else {
+                sb.setLength(0);
+            }
+
+            sb.append(this.collectors[this.top]);
+            this.top = next;
+
+        }
+
+        // end of optional section: the top level replaces its parent level
+        void commit() {
+
+            StringBuilder sb = this.collectors[this.top];
+            this.collectors[this.top] = this.collectors[this.top - 1];
+            this.collectors[this.top - 1] = sb;
+            this.top--;
+
+        }
+
+        // failed or-block: reset the top level to the state of its parent level
+        void rollback() {
+
+            StringBuilder sb = this.collectors[this.top];
+            sb.setLength(0);
+
+            if (this.top > 0) {
+                sb.append(this.collectors[this.top - 1]);
+            }
+
+        }
+
+        void release() {
+
+            for (int i = 0; i < this.collectors.length; i++) {
+                StringBuilder sb = this.collectors[i];
+                if ((sb != null) && (sb.capacity() > MAX_RETAINED_CAPACITY)) {
+                    this.collectors[i] = null; // avoid retaining large buffers per thread
+                }
+            }
+
+            this.top = -1;
+            this.inUse = false;
+
+        }
+
+    }
+
     private static class ZonalDisplay
         implements ChronoDisplay, UnixTime {
 
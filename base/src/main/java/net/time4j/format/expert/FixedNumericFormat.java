@@ -0,0 +1,581 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FixedNumericFormat.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.ZonalDateTime;
+import net.time4j.engine.ChronoDisplay;
+import net.time4j.engine.ChronoElement;
+import net.time4j.format.DisplayMode;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.List;
+
+
+/**
+ * <p>Compiled form of a step list which only consists of plain arabic integers of the
+ * ISO-calendar, fixed-width nano fractions, fixed literals and timezone offsets. </p>
+ *
+ * <p>Printing reads the int fields of {@code PlainDate}, {@code PlainTime}, {@code PlainTimestamp}
+ * or {@code ZonalDateTime} directly and writes digits into a char array. Parsing fills the
+ * int index of {@code ParsedValues} directly. Both directions only handle the canonical form
+ * and signal any other case so that the formatter can fall back to the generic step list. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class FixedNumericFormat {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int LITERAL = 0;
+    private static final int NUMBER = 1;
+    private static final int FRACTION = 2;
+    private static final int OFFSET = 3;
+
+    private static final int YEAR = 0;
+    private static final int MONTH = 1;
+    private static final int DAY = 2;
+    private static final int HOUR = 3;
+    private static final int MINUTE = 4;
+    private static final int SECOND = 5;
+
+    private static final ChronoElement<?>[] ELEMENTS = {
+        PlainDate.YEAR,
+        PlainDate.MONTH_AS_NUMBER,
+        PlainDate.DAY_OF_MONTH,
+        PlainTime.DIGITAL_HOUR_OF_DAY,
+        PlainTime.MINUTE_OF_HOUR,
+        PlainTime.SECOND_OF_MINUTE
+    };
+
+    private static final int[] POWERS_OF_TEN =
+        { 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000 };
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int[] kinds;
+    private final int[] fields; // element index or offset precision
+    private final int[] minDigits;
+    private final int[] maxDigits; // or extended flag for offsets
+    private final boolean[] fixedWidths;
+    private final String[] literals; // literal text or zero offset text
+    private final int maxLength;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private FixedNumericFormat(
+        int[] kinds,
+        int[] fields,
+        int[] minDigits,
+        int[] maxDigits,
+        boolean[] fixedWidths,
+        String[] literals,
+        int maxLength
+    ) {
+        super();
+
+        this.kinds = kinds;
+        this.fields = fields;
+        this.minDigits = minDigits;
+        this.maxDigits = maxDigits;
+        this.fixedWidths = fixedWidths;
+        this.literals = literals;
+        this.maxLength = maxLength;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Tries to compile given frozen format steps. </p>
+     *
+     * @param   steps   format steps after quick path optimization
+     * @return  compiled format or {@code null} if the steps contain any unsupported feature
+     */
+    static FixedNumericFormat compile(List<FormatStep> steps) {
+
+        int n = steps.size();
+        int[] kinds = new int[n];
+        int[] fields = new int[n];
+        int[] minDigits = new int[n];
+        int[] maxDigits = new int[n];
+        boolean[] fixedWidths = new boolean[n];
+        String[] literals = new String[n];
+        int maxLength = 0;
+        boolean numeric = false;
+
+        for (int i = 0; i < n; i++) {
+            FormatStep step = steps.get(i);
+
+            if (!step.isSimple()) {
+                return null;
+            }
+
+            FormatProcessor<?> processor = step.getProcessor();
+
+            if (processor instanceof LiteralProcessor) {
+                String literal = LiteralProcessor.class.cast(processor).getLiteral();
+                if (literal == null) {
+                    return null;
+                }
+                kinds[i] = LITERAL;
+                literals[i] = literal;
+                maxLength += literal.length();
+            } else if (processor instanceof NumberProcessor) {
+                NumberProcessor<?> np = NumberProcessor.class.cast(processor);
+                int field = indexOf(np.getElement());
+                if ((field == -1) || !np.isPlainArabicInteger()) {
+                    return null;
+                }
+                kinds[i] = NUMBER;
+                fields[i] = field;
+                minDigits[i] = np.getMinDigits();
+                maxDigits[i] = np.getMaxDigits();
+                fixedWidths[i] = np.isFixedWidth();
+                maxLength += maxDigits[i];
+                numeric = true;
+            } else if (processor instanceof FractionProcessor) {
+                FractionProcessor fp = FractionProcessor.class.cast(processor);
+                if (!fp.isFixedNanoFraction()) {
+                    return null;
+                }
+                kinds[i] = FRACTION;
+                minDigits[i] = fp.getMaxDigits();
+                maxDigits[i] = fp.getMaxDigits();
+                maxLength += maxDigits[i];
+                numeric = true;
+            } else if (processor instanceof TimezoneOffsetProcessor) {
+                TimezoneOffsetProcessor tp = TimezoneOffsetProcessor.class.cast(processor);
+                DisplayMode precision = tp.getPrecision();
+                String zeroOffset = tp.getZeroOffset();
+                if ((precision == DisplayMode.FULL) || (zeroOffset == null)) {
+                    return null;
+                }
+                kinds[i] = OFFSET;
+                fields[i] = precision.ordinal();
+                maxDigits[i] = (tp.isExtended() ? 1 : 0);
+                literals[i] = zeroOffset;
+                maxLength += Math.max(zeroOffset.length(), 9); // +HH:MM:SS
+            } else {
+                return null;
+            }
+        }
+
+        if (!numeric) {
+            return null;
+        }
+
+        return new FixedNumericFormat(kinds, fields, minDigits, maxDigits, fixedWidths, literals, maxLength);
+
+    }
+
+    /**
+     * <p>Yields the maximum count of chars to be printed. </p>
+     *
+     * @return  size of char buffer required for printing
+     */
+    int getMaxLength() {
+
+        return this.maxLength;
+
+    }
+
+    /**
+     * <p>Prints given display into given char buffer. </p>
+     *
+     * @param   display     chronological display (as result of preformatting)
+     * @param   buffer      char buffer with at least the size of {@link #getMaxLength()}
+     * @return  count of printed chars or {@code -1} if the generic path must be used instead
+     */
+    int print(
+        ChronoDisplay display,
+        char[] buffer
+    ) {
+
+        PlainDate date;
+        PlainTime time;
+        ZonalOffset offset = null;
+
+        if (display instanceof PlainTimestamp) {
+            PlainTimestamp tsp = (PlainTimestamp) display;
+            date = tsp.getCalendarDate();
+            time = tsp.getWallTime();
+        } else if (display instanceof ZonalDateTime) {
+            ZonalDateTime zdt = (ZonalDateTime) display;
+            if (zdt.toMoment().isLeapSecond()) {
+                return -1;
+            }
+            PlainTimestamp tsp = zdt.toTimestamp();
+            date = tsp.getCalendarDate();
+            time = tsp.getWallTime();
+            offset = zdt.getOffset();
+        } else if (display instanceof PlainDate) {
+            date = (PlainDate) display;
+            time = null;
+        } else if (display instanceof PlainTime) {
+            date = null;
+            time = (PlainTime) display;
+            if (time.getHour() == 24) {
+                return -1;
+            }
+        } else {
+            return -1;
+        }
+
+        int pos = 0;
+
+        for (int i = 0, n = this.kinds.length; i < n; i++) {
+            switch (this.kinds[i]) {
+                case LITERAL:
+                    String literal = this.literals[i];
+                    literal.getChars(0, literal.length(), buffer, pos);
+                    pos += literal.length();
+                    break;
+                case NUMBER:
+                    int value;
+                    switch (this.fields[i]) {
+                        case YEAR:
+                            if (date == null) {
+                                return -1;
+                            }
+                            value = date.getYear();
+                            break;
+                        case MONTH:
+                            if (date == null) {
+                                return -1;
+                            }
+                            value = date.getMonth();
+                            break;
+                        case DAY:
+                            if (date == null) {
+                                return -1;
+                            }
+                            value = date.getDayOfMonth();
+                            break;
+                        case HOUR:
+                            if (time == null) {
+                                return -1;
+                            }
+                            value = time.getHour();
+                            break;
+                        case MINUTE:
+                            if (time == null) {
+                                return -1;
+                            }
+                            value = time.getMinute();
+                            break;
+                        default:
+                            if (time == null) {
+                                return -1;
+                            }
+                            value = time.getSecond();
+                    }
+                    if (value < 0) {
+                        return -1; // sign handling only in generic path
+                    }
+                    int count = Math.max(length(value), this.minDigits[i]);
+                    if (count > this.maxDigits[i]) {
+                        return -1; // error handling only in generic path
+                    }
+                    pos = writeDigits(value, count, buffer, pos);
+                    break;
+                case FRACTION:
+                    if (time == null) {
+                        return -1;
+                    }
+                    int digits = this.maxDigits[i];
+                    pos = writeDigits(time.getNanosecond() / POWERS_OF_TEN[9 - digits], digits, buffer, pos);
+                    break;
+                case OFFSET:
+                    if (offset == null) {
+                        return -1;
+                    }
+                    pos = this.writeOffset(i, offset, buffer, pos);
+                    if (pos == -1) {
+                        return -1;
+                    }
+                    break;
+                default:
+                    throw new AssertionError("Unknown kind: " + this.kinds[i]);
+            }
+        }
+
+        return pos;
+
+    }
+
+    /**
+     * <p>Parses given text and stores the values directly in given parsed values. </p>
+     *
+     * <p>If the text is not in canonical form then this method will return {@code false}
+     * and leave the parse log unchanged. The parsed values might have been partially filled
+     * in this case and should be discarded. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   status      parse log whose position will be updated in case of success
+     * @param   values      parsed values to be filled
+     * @return  {@code true} if successful else {@code false}
+     */
+    boolean parse(
+        CharSequence text,
+        ParseLog status,
+        ParsedValues values
+    ) {
+
+        int len = text.length();
+        int pos = status.getPosition();
+
+        try {
+            for (int i = 0, n = this.kinds.length; i < n; i++) {
+                switch (this.kinds[i]) {
+                    case LITERAL:
+                        String literal = this.literals[i];
+                        int ll = literal.length();
+                        if (pos + ll > len) {
+                            return false;
+                        }
+                        for (int j = 0; j < ll; j++) {
+                            if (text.charAt(pos + j) != literal.charAt(j)) {
+                                return false;
+                            }
+                        }
+                        pos += ll;
+                        break;
+                    case NUMBER:
+                    case FRACTION:
+                        int max = Math.min(len, pos + this.maxDigits[i]);
+                        int start = pos;
+                        int total = 0;
+                        while (pos < max) {
+                            int digit = text.charAt(pos) - '0';
+                            if ((digit >= 0) && (digit <= 9)) {
+                                total = total * 10 + digit;
+                                pos++;
+                            } else {
+                                break;
+                            }
+                        }
+                        int count = pos - start;
+                        if (count < this.minDigits[i]) {
+                            return false;
+                        }
+                        if (this.kinds[i] == FRACTION) {
+                            values.put(PlainTime.NANO_OF_SECOND, total * POWERS_OF_TEN[9 - count]);
+                        } else if (!this.fixedWidths[i] && (pos < len) && isDigit(text.charAt(pos))) {
+                            return false; // lax parsing of more digits only in generic path
+                        } else {
+                            values.put(ELEMENTS[this.fields[i]], total);
+                        }
+                        break;
+                    case OFFSET:
+                        pos = this.parseOffset(i, text, pos, values);
+                        if (pos == -1) {
+                            return false;
+                        }
+                        break;
+                    default:
+                        throw new AssertionError("Unknown kind: " + this.kinds[i]);
+                }
+            }
+        } catch (AmbivalentValueException | IllegalArgumentException ex) {
+            return false; // let the generic path report the error
+        }
+
+        status.setPosition(pos);
+        return true;
+
+    }
+
+    private int writeOffset(
+        int index,
+        ZonalOffset offset,
+        char[] buffer,
+        int pos
+    ) {
+
+        int total = offset.getIntegralAmount();
+
+        if (offset.getFractionalAmount() != 0) {
+            return -1;
+        } else if (total == 0) {
+            String zero = this.literals[index];
+            zero.getChars(0, zero.length(), buffer, pos);
+            return pos + zero.length();
+        }
+
+        DisplayMode precision = DisplayMode.values()[this.fields[index]];
+        boolean extended = (this.maxDigits[index] == 1);
+        int absValue = Math.abs(total);
+        int h = absValue / 3600;
+        int m = (absValue / 60) % 60;
+        int s = absValue % 60;
+
+        buffer[pos++] = ((total < 0) ? '-' : '+');
+        pos = writeDigits(h, 2, buffer, pos);
+
+        if ((precision != DisplayMode.SHORT) || (m != 0)) {
+            if (extended) {
+                buffer[pos++] = ':';
+            }
+            pos = writeDigits(m, 2, buffer, pos);
+            if ((precision == DisplayMode.LONG) && (s != 0)) {
+                if (extended) {
+                    buffer[pos++] = ':';
+                }
+                pos = writeDigits(s, 2, buffer, pos);
+            }
+        }
+
+        return pos;
+
+    }
+
+    private int parseOffset(
+        int index,
+        CharSequence text,
+        int pos,
+        ParsedValues values
+    ) {
+
+        int len = text.length();
+        String zero = this.literals[index];
+        int zl = zero.length();
+
+        if ((pos + zl <= len) && zero.contentEquals(text.subSequence(pos, pos + zl))) {
+            values.put(TimezoneElement.TIMEZONE_OFFSET, ZonalOffset.UTC);
+            return pos + zl;
+        }
+
+        DisplayMode precision = DisplayMode.values()[this.fields[index]];
+        boolean extended = (this.maxDigits[index] == 1);
+        int colon = (extended ? 1 : 0);
+
+        if (pos + 3 > len) {
+            return -1;
+        }
+
+        char c = text.charAt(pos);
+        OffsetSign sign;
+
+        if (c == '+') {
+            sign = OffsetSign.AHEAD_OF_UTC;
+        } else if (c == '-') {
+            sign = OffsetSign.BEHIND_UTC;
+        } else {
+            return -1;
+        }
+
+        int hours = parseTwoDigits(text, pos + 1);
+        int minutes = 0;
+        pos += 3;
+
+        if ((pos + colon + 2 <= len) && (!extended || (text.charAt(pos) == ':'))) {
+            minutes = parseTwoDigits(text, pos + colon);
+            if (minutes == -1) {
+                return -1;
+            }
+            pos += (colon + 2);
+        } else if (precision != DisplayMode.SHORT) {
+            return -1;
+        }
+
+        if ((hours == -1) || (hours > 18) || (minutes > 59)) {
+            return -1;
+        } else if ((pos < len) && ((text.charAt(pos) == ':') || isDigit(text.charAt(pos)))) {
+            return -1; // seconds part or further digits only in generic path
+        }
+
+        values.put(TimezoneElement.TIMEZONE_OFFSET, ZonalOffset.ofHoursMinutes(sign, hours, minutes));
+        return pos;
+
+    }
+
+    private static int indexOf(ChronoElement<?> element) {
+
+        for (int i = 0; i < ELEMENTS.length; i++) {
+            if (ELEMENTS[i] == element) {
+                return i;
+            }
+        }
+
+        return -1;
+
+    }
+
+    private static int writeDigits(
+        int value,
+        int count,
+        char[] buffer,
+        int pos
+    ) {
+
+        int v = value;
+
+        for (int i = pos + count - 1; i >= pos; i--) {
+            int q = v / 10;
+            buffer[i] = (char) ('0' + (v - q * 10));
+            v = q;
+        }
+
+        return pos + count;
+
+    }
+
+    private static int parseTwoDigits(
+        CharSequence text,
+        int pos
+    ) {
+
+        char c1 = text.charAt(pos);
+        char c2 = text.charAt(pos + 1);
+
+        if (isDigit(c1) && isDigit(c2)) {
+            return (c1 - '0') * 10 + (c2 - '0');
+        }
+
+        return -1;
+
+    }
+
+    private static boolean isDigit(char c) {
+
+        return ((c >= '0') && (c <= '9'));
+
+    }
+
+    private static int length(int v) {
+
+        int count = 1;
+
+        while ((count < 10) && (v >= POWERS_OF_TEN[count])) {
+            count++;
+        }
+
+        return count;
+
+    }
+
+}
@@ -408,6 +408,26 @@ final class FormatStep {
 
     }
 
+    /**
+     * <p>Liegt ein einfacher Schritt ohne Optionalit&auml;t, oder-Block, F&uuml;llzeichen,
+     * reservierte Zeichen und Ausgabebedingung vor? </p>
+     *
+     * @return  boolean
+     * @since   5.0
+     */
+    boolean isSimple() {
+
+        return (
+            (this.level == 0)
+            && !this.orMarker
+            && (this.lastOrBlockIndex == -1)
+            && (this.padLeft == 0)
+            && (this.padRight == 0)
+            && ((this.sectionalAttrs == null) || (this.sectionalAttrs.getCondition() == null))
+        );
+
+    }
+
     /**
      * <p>Ermittelt die Delegationsinstanz. </p>
      *
@@ -722,6 +742,30 @@ final class FormatStep {
 
     }
 
+    // used by MultiFormatParser: like equals() but ignoring the descriptive format pattern
+    boolean isEquivalentForParsing(FormatStep that) {
+
+        if (this == that) {
+            return true;
+        } else if (!(this.fullAttrs instanceof AttributeSet) || !(that.fullAttrs instanceof AttributeSet)) {
+            return this.equals(that);
+        }
+
+        return (
+            this.processor.equals(that.processor)
+            && (this.level == that.level)
+            && (this.section == that.section)
+            && isEqual(this.sectionalAttrs, that.sectionalAttrs)
+            && AttributeSet.class.cast(this.fullAttrs).isEquivalentForParsing(AttributeSet.class.cast(that.fullAttrs))
+            && (this.reserved == that.reserved)
+            && (this.padLeft == that.padLeft)
+            && (this.padRight == that.padRight)
+            && (this.orMarker == that.orMarker)
+            && (this.lastOrBlockIndex == that.lastOrBlockIndex)
+        );
+
+    }
+
     private static boolean isEqual(
         Object o1, // optional
         Object o2 // optional
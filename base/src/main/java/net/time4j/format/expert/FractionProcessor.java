@@ -21,6 +21,7 @@
 
 package net.time4j.format.expert;
 
+import net.time4j.PlainTime;
 import net.time4j.engine.AttributeQuery;
 import net.time4j.engine.ChronoDisplay;
 import net.time4j.engine.ChronoElement;
@@ -488,6 +489,25 @@ final class FractionProcessor
 
     }
 
+    // used by FixedNumericFormat, only relevant for the quick path
+    boolean isFixedNanoFraction() {
+
+        return (
+            this.fixedWidth
+            && (this.zeroDigit == '0')
+            && (this.maxDigits > 0)
+            && (this.element == PlainTime.NANO_OF_SECOND)
+        );
+
+    }
+
+    // used by FixedNumericFormat
+    int getMaxDigits() {
+
+        return this.maxDigits;
+
+    }
+
     private boolean hasDecimalSeparator() {
 
         return (this.decimalSeparator != null);
@@ -584,6 +584,45 @@ public class Iso8601Format {
 
     }
 
+    /**
+     * <p>Parses given ISO-8601-compatible date in basic or extended format from ASCII-encoded bytes. </p>
+     *
+     * <p>The bytes are read directly without decoding them to a string first. </p>
+     *
+     * @param   ascii   ASCII-encoded text like &quot;2016-01-01&quot;
+     * @param   offset  start index of text in byte array
+     * @param   length  count of bytes to be parsed
+     * @return  PlainDate
+     * @throws  IndexOutOfBoundsException if the region is not within the byte array
+     * @throws  ParseException if parsing fails for any reason (error index relative to offset)
+     * @see     #parseDate(CharSequence)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen ISO-8601-kompatiblen Datumstext im <i>basic</i>-Format
+     * oder im <i>extended</i>-Format aus ASCII-kodierten Bytes. </p>
+     *
+     * <p>Die Bytes werden direkt gelesen, ohne sie vorher zu einem Text zu dekodieren. </p>
+     *
+     * @param   ascii   ASCII-encoded text like &quot;2016-01-01&quot;
+     * @param   offset  start index of text in byte array
+     * @param   length  count of bytes to be parsed
+     * @return  PlainDate
+     * @throws  IndexOutOfBoundsException if the region is not within the byte array
+     * @throws  ParseException if parsing fails for any reason (error index relative to offset)
+     * @see     #parseDate(CharSequence)
+     * @since   5.0
+     */
+    public static PlainDate parseDate(
+        byte[] ascii,
+        int offset,
+        int length
+    ) throws ParseException {
+
+        return parseDate(AsciiSequence.of(ascii, offset, length));
+
+    }
+
     /**
      * <p>Parses given ISO-8601-compatible date string in basic or extended format. </p>
      *
@@ -410,6 +410,25 @@ final class LiteralProcessor
 
     }
 
+    // used by FixedNumericFormat: fixed literal text or null if dependent on attributes or bidi-handling
+    String getLiteral() {
+
+        if (this.attribute != null) {
+            return null;
+        } else if (this.multi == null) {
+            return String.valueOf(this.single);
+        }
+
+        for (int i = 0, n = this.multi.length(); i < n; i++) {
+            if (isBidi(this.multi.charAt(i))) {
+                return null;
+            }
+        }
+
+        return this.multi;
+
+    }
+
     // count of leading digits
     int getPrefixedDigitArea() {
 
@@ -26,6 +26,7 @@ import net.time4j.engine.ChronoEntity;
 
 import java.lang.reflect.Array;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -84,6 +85,7 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
     //~ Instanzvariablen --------------------------------------------------
 
     private final ChronoFormatter<T>[] parsers;
+    private final PrefixTree<T> tree;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -91,6 +93,7 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
         super();
 
         this.parsers = parsers;
+        this.tree = null;
 
         for (ChronoFormatter<T> parser : this.parsers) {
             if (parser == null) {
@@ -100,6 +103,14 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    private MultiFormatParser(MultiFormatParser<T> uncompiled) {
+        super();
+
+        this.parsers = uncompiled.parsers;
+        this.tree = new PrefixTree<>(uncompiled.parsers);
+
+    }
+
     //~ Methoden ----------------------------------------------------------
 
     /**
@@ -151,6 +162,45 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    /**
+     * <p>Compiles this parser into a decision tree which shares the work of common leading
+     * format steps between the underlying formatters. </p>
+     *
+     * <p>The format steps of all formatters are merged into a prefix tree. Equal leading steps
+     * like a four-digit year followed by a literal are parsed only once per input, and a failed
+     * common prefix rules out all formatters sharing it at once. The formatters are still tried
+     * in their original order, so the result is the same as before. Formatters with optional
+     * sections, or-blocks or preparsers (for example moment formatters) cannot share steps and
+     * will be tried in full at their original position. The parsing methods with user-defined
+     * attributes always work sequentially. </p>
+     *
+     * @return  new immutable instance of MultiFormatParser in compiled mode
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>&Uuml;bersetzt diesen Interpretierer in einen Entscheidungsbaum, der die Arbeit an
+     * gemeinsamen f&uuml;hrenden Formatschritten zwischen den zugrundeliegenden Formatierern
+     * teilt. </p>
+     *
+     * <p>Die Formatschritte aller Formatierer werden in einem Pr&auml;fixbaum zusammengef&uuml;hrt.
+     * Gleiche f&uuml;hrende Schritte wie eine vierstellige Jahreszahl gefolgt von einem Literal
+     * werden pro Eingabe nur einmal interpretiert, und ein fehlgeschlagenes gemeinsames Pr&auml;fix
+     * schlie&szlig;t alle Formatierer, die es teilen, auf einmal aus. Die Formatierer werden
+     * weiterhin in ihrer urspr&uuml;nglichen Reihenfolge probiert, so da&szlig; das Ergebnis
+     * gleich bleibt. Formatierer mit optionalen Sektionen, Oder-Bl&ouml;cken oder Vorinterpretierern
+     * (zum Beispiel Formatierer f&uuml;r {@code Moment}) k&ouml;nnen keine Schritte teilen und werden
+     * an ihrer urspr&uuml;nglichen Position vollst&auml;ndig probiert. Die Interpretationsmethoden
+     * mit benutzerdefinierten Attributen arbeiten immer sequentiell. </p>
+     *
+     * @return  new immutable instance of MultiFormatParser in compiled mode
+     * @since   5.0
+     */
+    public MultiFormatParser<T> compile() {
+
+        return ((this.tree == null) ? new MultiFormatParser<>(this) : this);
+
+    }
+
     /**
      * <p>Interpretes given text as chronological entity starting at the begin of text. </p>
      *
@@ -176,6 +226,14 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
         ParseLog status = new ParseLog();
 
+        if (this.tree != null) {
+            T parsed = this.tree.parse(text, status, true);
+            if (parsed != null) {
+                return parsed;
+            }
+            throw new ParseException("Not matched by any format: " + text, text.length());
+        }
+
         for (int i = 0; i < this.parsers.length; i++) {
             status.reset(); // initialization
             status.setPosition(0);
@@ -296,6 +354,14 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
         ParseLog status
     ) {
 
+        if (this.tree != null) {
+            T parsed = this.tree.parse(text, status, false);
+            if (parsed == null) {
+                status.setError(status.getErrorIndex(), "Not matched by any format: " + text);
+            }
+            return parsed;
+        }
+
         int start = status.getPosition();
 
         for (int i = 0; i < this.parsers.length; i++) {
@@ -344,4 +410,224 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    // number of distinct format steps in compiled mode (also used in tests)
+    int getCountOfNodes() {
+
+        return ((this.tree == null) ? 0 : this.tree.steps.length);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Merges the linear format steps of all suitable formatters into a tree of shared prefixes. </p>
+     *
+     * <p>Every node stands for one format step and the formatter which parses it. During parsing, the
+     * state of every visited node (parsed values and position, or the error) is memorized so that
+     * later formatters with the same prefix can continue behind it. </p>
+     */
+    private static class PrefixTree<T> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final byte UNKNOWN = 0;
+        private static final byte PARSED = 1;
+        private static final byte FAILED = 2;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ChronoFormatter<T>[] parsers;
+        private final int[][] paths; // null if a formatter cannot share steps
+        private final FormatStep[] steps;
+        private final ChronoFormatter<T>[] owners;
+        private final int[] consumers; // count of child nodes and formatters ending at a node
+
+        //~ Konstruktoren -------------------------------------------------
+
+        @SuppressWarnings("unchecked")
+        PrefixTree(ChronoFormatter<T>[] parsers) {
+            super();
+
+            List<FormatStep> stepList = new ArrayList<>();
+            List<ChronoFormatter<T>> ownerList = new ArrayList<>();
+            List<Integer> parentList = new ArrayList<>();
+            List<Integer> consumerList = new ArrayList<>();
+            int[][] paths = new int[parsers.length][];
+
+            for (int i = 0; i < parsers.length; i++) {
+                ChronoFormatter<T> parser = parsers[i];
+                List<FormatStep> formatSteps = parser.getSteps();
+
+                if (!parser.isPrefixShareable() || formatSteps.isEmpty()) {
+                    continue;
+                }
+
+                int[] path = new int[formatSteps.size()];
+                int parent = -1;
+
+                for (int j = 0; j < path.length; j++) {
+                    FormatStep step = formatSteps.get(j);
+                    int node = -1;
+
+                    for (int k = 0, n = stepList.size(); k < n; k++) {
+                        if (
+                            (parentList.get(k).intValue() == parent)
+                            && stepList.get(k).isEquivalentForParsing(step)
+                            && ownerList.get(k).canShareStepsWith(parser)
+                        ) {
+                            node = k;
+                            break;
+                        }
+                    }
+
+                    if (node == -1) {
+                        node = stepList.size();
+                        stepList.add(step);
+                        ownerList.add(parser);
+                        parentList.add(Integer.valueOf(parent));
+                        consumerList.add(Integer.valueOf(0));
+                        if (parent >= 0) {
+                            consumerList.set(parent, Integer.valueOf(consumerList.get(parent).intValue() + 1));
+                        }
+                    }
+
+                    path[j] = node;
+                    parent = node;
+                }
+
+                consumerList.set(parent, Integer.valueOf(consumerList.get(parent).intValue() + 1));
+                paths[i] = path;
+            }
+
+            int n = stepList.size();
+            this.parsers = parsers;
+            this.paths = paths;
+            this.steps = stepList.toArray(new FormatStep[n]);
+            this.owners = ownerList.toArray((ChronoFormatter<T>[]) Array.newInstance(ChronoFormatter.class, n));
+            this.consumers = new int[n];
+
+            for (int k = 0; k < n; k++) {
+                this.consumers[k] = consumerList.get(k).intValue();
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        T parse(
+            CharSequence text,
+            ParseLog status,
+            boolean complete
+        ) {
+
+            int start = status.getPosition();
+            int n = this.steps.length;
+            byte[] states = new byte[n];
+            int[] positions = new int[n];
+            int[] errorIndices = new int[n];
+            String[] messages = new String[n];
+            ParsedValues[] snapshots = new ParsedValues[n];
+            int[] remaining = this.consumers.clone();
+
+            for (int i = 0; i < this.parsers.length; i++) {
+                ChronoFormatter<T> parser = this.parsers[i];
+                int[] path = this.paths[i];
+                status.reset(); // initialization
+                status.setPosition(start);
+                T parsed = null;
+
+                if (path == null) {
+                    parsed = parser.parse(text, status);
+                } else if (start >= text.length()) {
+                    throw new IndexOutOfBoundsException("[" + start + "]: " + text.toString());
+                } else {
+                    int pos = start;
+                    int previous = -1;
+                    boolean failed = false;
+
+                    for (int node : path) {
+                        if (states[node] == UNKNOWN) {
+                            ParsedValues values;
+                            if (previous == -1) {
+                                values = this.owners[node].newValues();
+                                values.setPosition(start);
+                            } else {
+                                values = this.take(previous, snapshots, remaining);
+                            }
+                            status.setPosition(pos);
+                            try {
+                                this.owners[node].parseStep(this.steps[node], text, status, values);
+                            } catch (AmbivalentValueException ex) {
+                                if (!status.isError()) {
+                                    status.setError(status.getPosition(), ex.getMessage());
+                                }
+                            }
+                            positions[node] = status.getPosition();
+                            if (status.isError()) {
+                                states[node] = FAILED;
+                                errorIndices[node] = status.getErrorIndex();
+                                messages[node] = status.getErrorMessage();
+                            } else {
+                                states[node] = PARSED;
+                                snapshots[node] = values;
+                            }
+                        }
+
+                        if (states[node] == FAILED) {
+                            status.reset();
+                            status.setPosition(positions[node]);
+                            status.setError(errorIndices[node], messages[node]);
+                            failed = true;
+                            break;
+                        }
+
+                        pos = positions[node];
+                        previous = node;
+                    }
+
+                    if (!failed) {
+                        ParsedValues values = this.take(previous, snapshots, remaining);
+                        status.setPosition(pos);
+                        parsed = parser.resolve(values, text, status);
+                    }
+                }
+
+                if ((parsed != null) && !status.isError()) {
+                    if (
+                        !complete
+                        || parser.isToleratingTrailingChars()
+                        || (status.getPosition() == text.length())
+                    ) {
+                        return parsed;
+                    }
+                }
+            }
+
+            return null;
+
+        }
+
+        // the last consumer of a node can continue with the memorized values, all others need a copy
+        private ParsedValues take(
+            int node,
+            ParsedValues[] snapshots,
+            int[] remaining
+        ) {
+
+            ParsedValues values = snapshots[node];
+
+            if (--remaining[node] == 0) {
+                snapshots[node] = null;
+                return values;
+            }
+
+            ParsedValues copy = this.owners[node].newValues();
+            copy.putAll(values);
+            copy.setPosition(values.getPosition());
+            return copy;
+
+        }
+
+    }
+
 }
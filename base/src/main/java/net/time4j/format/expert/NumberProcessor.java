@@ -785,6 +785,43 @@ class NumberProcessor<V>
 
     }
 
+    // used by FixedNumericFormat, only relevant for the quick path
+    boolean isPlainArabicInteger() {
+
+        return (
+            (this.numberSystem == NumberSystem.ARABIC)
+            && (this.zeroDigit == '0')
+            && (this.protectedLength == 0)
+            && (this.element.getType() == Integer.class)
+            && !this.yearOfEra
+            && (this.maxDigits <= 9)
+            && ((this.signPolicy == SignPolicy.SHOW_NEVER) || (this.signPolicy == SignPolicy.SHOW_WHEN_NEGATIVE))
+            && (this.fixedWidth || (this.reserved == 0))
+        );
+
+    }
+
+    // used by FixedNumericFormat
+    boolean isFixedWidth() {
+
+        return this.fixedWidth;
+
+    }
+
+    // used by FixedNumericFormat
+    int getMinDigits() {
+
+        return this.minDigits;
+
+    }
+
+    // used by FixedNumericFormat
+    int getMaxDigits() {
+
+        return this.maxDigits;
+
+    }
+
     private int getScale(NumberSystem numsys) {
 
         if (numsys.isDecimal()) {
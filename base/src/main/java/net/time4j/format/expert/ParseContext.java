@@ -0,0 +1,318 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ParseContext.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.engine.AttributeQuery;
+import net.time4j.engine.ChronoEntity;
+
+
+/**
+ * <p>Reusable state of parsing processes which enables high-throughput parsing without any
+ * per-call allocation of parser infrastructure. </p>
+ *
+ * <p>A context holds the {@link ParseLog}, the container of parsed raw values and optionally
+ * an attribute view which overrides the attributes of the formatter. It is passed to
+ * {@link ChronoFormatter#parse(CharSequence, java.text.ParsePosition, ParseContext)} and
+ * reset automatically at the start of every parse. The raw values of the last parse are
+ * only valid until the next parse with the same context. </p>
+ *
+ * <p>Example for parsing a column of dates on one thread: </p>
+ *
+ * <pre>
+ *  ChronoFormatter&lt;PlainDate&gt; f =
+ *      ChronoFormatter.ofDatePattern(&quot;uuuu-MM-dd&quot;, PatternType.CLDR, Locale.ROOT);
+ *  ParseContext context = new ParseContext();
+ *  ParsePosition position = new ParsePosition(0);
+ *
+ *  for (String line : lines) {
+ *      position.setIndex(0);
+ *      PlainDate date = f.parse(line, position, context);
+ *      if (date == null) {
+ *          System.out.println(context.getLog().getErrorMessage());
+ *      }
+ *  }
+ * </pre>
+ *
+ * <p>Only the parser infrastructure is reused. The parsed result itself and the intermediate
+ * values needed by optional sections or by calendar-specific preprocessing are still
+ * created as usual. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {mutable}
+ */
+/*[deutsch]
+ * <p>Wiederverwendbarer Zustand von Interpretationsvorg&auml;ngen, der das Parsen mit hohem
+ * Durchsatz ohne Allokation von Parser-Infrastruktur je Aufruf erm&ouml;glicht. </p>
+ *
+ * <p>Ein Kontext enth&auml;lt das {@link ParseLog}, den Beh&auml;lter der interpretierten
+ * Rohdaten und optional eine Attributsicht, die die Attribute des Formatierers
+ * &uuml;berschreibt. Er wird an {@link ChronoFormatter#parse(CharSequence, java.text.ParsePosition,
+ * ParseContext)} &uuml;bergeben und zu Beginn jeder Interpretation automatisch
+ * zur&uuml;ckgesetzt. Die Rohdaten der letzten Interpretation sind nur bis zur n&auml;chsten
+ * Interpretation mit demselben Kontext g&uuml;ltig. </p>
+ *
+ * <p>Beispiel zum Parsen einer Spalte von Datumsangaben in einem Thread: </p>
+ *
+ * <pre>
+ *  ChronoFormatter&lt;PlainDate&gt; f =
+ *      ChronoFormatter.ofDatePattern(&quot;uuuu-MM-dd&quot;, PatternType.CLDR, Locale.ROOT);
+ *  ParseContext context = new ParseContext();
+ *  ParsePosition position = new ParsePosition(0);
+ *
+ *  for (String line : lines) {
+ *      position.setIndex(0);
+ *      PlainDate date = f.parse(line, position, context);
+ *      if (date == null) {
+ *          System.out.println(context.getLog().getErrorMessage());
+ *      }
+ *  }
+ * </pre>
+ *
+ * <p>Nur die Parser-Infrastruktur wird wiederverwendet. Das Ergebnis selbst und die
+ * Zwischenwerte, die f&uuml;r optionale Abschnitte oder eine kalenderspezifische
+ * Vorverarbeitung gebraucht werden, werden weiterhin wie gewohnt erzeugt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {mutable}
+ */
+public final class ParseContext {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ParseLog log;
+    private final AttributeQuery attributes;
+
+    private ChronoFormatter<?> lastFormatter;
+    private AttributeQuery mergedAttributes;
+    private ParsedValues values;
+    private int depth;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new context which uses the attributes of the formatter. </p>
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Kontext, der die Attribute des Formatierers verwendet. </p>
+     */
+    public ParseContext() {
+        this(null);
+
+    }
+
+    /**
+     * <p>Creates a new context with given attribute view. </p>
+     *
+     * <p>The attributes cannot change the inner format structure but can override some
+     * format properties for all parsing processes with this context, see also
+     * {@link ChronoFormatter#parse(CharSequence, ParseLog, AttributeQuery)}. The combination
+     * with the attributes of the formatter is computed only once per formatter. </p>
+     *
+     * @param   attributes  attributes for limited parsing control ({@code null} means
+     *                      the attributes of the formatter)
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Kontext mit der angegebenen Attributsicht. </p>
+     *
+     * <p>Die Attribute k&ouml;nnen nicht die innere Formatstruktur &auml;ndern, aber bestimmte
+     * Formateigenschaften f&uuml;r alle Interpretationen mit diesem Kontext &uuml;berschreiben,
+     * siehe auch {@link ChronoFormatter#parse(CharSequence, ParseLog, AttributeQuery)}. Die
+     * Kombination mit den Attributen des Formatierers wird nur einmal je Formatierer
+     * berechnet. </p>
+     *
+     * @param   attributes  attributes for limited parsing control ({@code null} means
+     *                      the attributes of the formatter)
+     */
+    public ParseContext(AttributeQuery attributes) {
+        super();
+
+        this.log = new ParseLog();
+        this.log.setContext(this);
+        this.attributes = attributes;
+        this.lastFormatter = null;
+        this.mergedAttributes = null;
+        this.values = null;
+        this.depth = 0;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the parse log of the last parsing process. </p>
+     *
+     * <p>The log is overwritten by the next parsing process with this context. </p>
+     *
+     * @return  ParseLog
+     */
+    /*[deutsch]
+     * <p>Liefert das Log der letzten Interpretation. </p>
+     *
+     * <p>Das Log wird durch die n&auml;chste Interpretation mit diesem Kontext
+     * &uuml;berschrieben. </p>
+     *
+     * @return  ParseLog
+     */
+    public ParseLog getLog() {
+
+        return this.log;
+
+    }
+
+    /**
+     * <p>Yields the parsed raw values of the last parsing process. </p>
+     *
+     * @return  mutable entity which will be overwritten by the next parsing process
+     */
+    /*[deutsch]
+     * <p>Liefert die interpretierten Rohdaten der letzten Interpretation. </p>
+     *
+     * @return  mutable entity which will be overwritten by the next parsing process
+     */
+    public ChronoEntity<?> getRawValues() {
+
+        return this.log.getRawValues();
+
+    }
+
+    /**
+     * <p>Resets this context such that no state of the last parsing process is retained. </p>
+     *
+     * <p>Calling this method is not necessary between parsing processes but can be used to
+     * release the references to the last parsed values. </p>
+     */
+    /*[deutsch]
+     * <p>Setzt diesen Kontext so zur&uuml;ck, da&szlig; kein Zustand der letzten Interpretation
+     * erhalten bleibt. </p>
+     *
+     * <p>Ein Aufruf dieser Methode ist zwischen Interpretationen nicht notwendig, kann aber
+     * dazu dienen, die Referenzen auf die zuletzt interpretierten Werte freizugeben. </p>
+     */
+    public void reset() {
+
+        this.log.reset();
+        this.values = null;
+        this.lastFormatter = null;
+        this.mergedAttributes = null;
+        this.depth = 0;
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "ParseContext[attributes=" + this.attributes + ", log=" + this.log + "]";
+
+    }
+
+    /**
+     * <p>Prepares the log for a new parsing process. </p>
+     *
+     * @param   offset      start position
+     * @return  reset log
+     */
+    ParseLog start(int offset) {
+
+        ParseLog status = this.log;
+        status.reset();
+        status.setPosition(offset);
+        return status;
+
+    }
+
+    /**
+     * <p>Yields the attributes to be used by given formatter. </p>
+     *
+     * @param   cf          formatter
+     * @param   global      global attributes of formatter
+     * @return  attribute view, identical to given global attributes if not overridden
+     */
+    AttributeQuery getAttributes(
+        ChronoFormatter<?> cf,
+        AttributeQuery global
+    ) {
+
+        if (this.attributes == null) {
+            return global;
+        } else if (cf != this.lastFormatter) {
+            this.mergedAttributes = new MergedAttributes(this.attributes, global);
+            this.lastFormatter = cf;
+        }
+
+        return this.mergedAttributes;
+
+    }
+
+    /**
+     * <p>Marks the begin of a single format step which might parse nested formatters. </p>
+     */
+    void enterStep() {
+
+        this.depth++;
+
+    }
+
+    /**
+     * <p>Marks the end of a single format step. </p>
+     */
+    void leaveStep() {
+
+        this.depth--;
+
+    }
+
+    /**
+     * <p>Yields a recycled container for parsed values. </p>
+     *
+     * <p>Only the outermost formatter gets the recycled container. Nested formatters (for example
+     * in customized or style-based steps) get a new container because the values of the outer
+     * formatter are still in use. </p>
+     *
+     * @param   expectedCountOfElements     How many elements to be expected?
+     * @param   indexable                   Are only indexable elements used?
+     * @return  empty container
+     */
+    ParsedValues newValues(
+        int expectedCountOfElements,
+        boolean indexable
+    ) {
+
+        if (this.depth > 0) {
+            return new ParsedValues(expectedCountOfElements, indexable);
+        }
+
+        ParsedValues pv = this.values;
+
+        if ((pv != null) && pv.isCompatible(expectedCountOfElements, indexable)) {
+            pv.recycle();
+        } else {
+            pv = new ParsedValues(expectedCountOfElements, indexable);
+            this.values = pv;
+        }
+
+        return pv;
+
+    }
+
+}
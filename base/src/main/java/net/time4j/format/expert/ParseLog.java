@@ -56,6 +56,7 @@ public class ParseLog {
     private String errorMessage;
     private ChronoEntity<?> rawValues;
     private boolean warning;
+    private ParseContext context;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -414,6 +415,30 @@ public class ParseLog {
 
     }
 
+    /**
+     * <p>Liefert den besitzenden Kontext. </p>
+     *
+     * @return  owning context or {@code null} if this log is not reused
+     * @see     ParseContext
+     */
+    ParseContext getContext() {
+
+        return this.context;
+
+    }
+
+    /**
+     * <p>Registriert den besitzenden Kontext. </p>
+     *
+     * @param   context     owning context
+     * @see     ParseContext
+     */
+    void setContext(ParseContext context) {
+
+        this.context = context;
+
+    }
+
     /**
      * Liefert das JDK-&Auml;quivalent. </p>
      *
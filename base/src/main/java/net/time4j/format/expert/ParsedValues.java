@@ -27,6 +27,7 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoException;
 
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -554,10 +555,32 @@ class ParsedValues
             }
             this.map = null;
         } else {
-            this.keys = new Object[this.keys.length];
+            Arrays.fill(this.keys, null);
+            this.count = 0;
         }
 
-        this.count = 0;
+    }
+
+    // used by ParseContext, prepares this instance for a completely new parse process
+    void recycle() {
+
+        this.reset();
+        this.duplicateKeysAllowed = false;
+        this.position = -1;
+
+    }
+
+    // can this instance be recycled for given parameters of a formatter?
+    boolean isCompatible(
+        int expectedCountOfElements,
+        boolean indexable
+    ) {
+
+        if (indexable) {
+            return (this.keys == null);
+        } else {
+            return ((this.keys != null) && (this.keys.length >= arraySize(expectedCountOfElements)));
+        }
 
     }
 
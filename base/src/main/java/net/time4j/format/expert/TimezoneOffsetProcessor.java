@@ -566,6 +566,27 @@ final class TimezoneOffsetProcessor
 
     }
 
+    // used by FixedNumericFormat
+    DisplayMode getPrecision() {
+
+        return this.precision;
+
+    }
+
+    // used by FixedNumericFormat
+    boolean isExtended() {
+
+        return this.extended;
+
+    }
+
+    // used by FixedNumericFormat: preferred replacement text for zero offset or null
+    String getZeroOffset() {
+
+        return (this.zeroOffsets.isEmpty() ? null : this.zeroOffsets.get(0));
+
+    }
+
     private static ZonalOffset getOffset(
         ChronoDisplay formattable,
         AttributeQuery attributes
@@ -0,0 +1,465 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PropertyArchive.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.internal;
+
+import net.time4j.base.ResourceLoader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * <p>Indexed binary archive of all property resources of this module. </p>
+ *
+ * <p>The archive is compiled during the build by help of the {@link #main(String[]) main method}
+ * and contains one table of distinct UTF-8-encoded strings, a sorted index of resource names
+ * and for every resource the indices of its keys and values. At runtime, the archive is memory-mapped
+ * if possible, and only the properties of requested resources will be decoded. Strings shared
+ * by different resources (most keys) are decoded only once. </p>
+ *
+ * <p>Layout (big endian): </p>
+ *
+ * <pre>
+ *  int         magic number and version
+ *  int         count of strings (n)
+ *  int         count of resources (r)
+ *  int         count of properties (p)
+ *  int[n + 1]  offsets of strings in UTF-8-data
+ *  int[3 * r]  per resource: name index, count of properties, first property
+ *  int[2 * p]  per property: key index, value index
+ *  byte[]      UTF-8-data of strings
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+/*[deutsch]
+ * <p>Indiziertes bin&auml;res Archiv aller <i>property</i>-Ressourcen dieses Moduls. </p>
+ *
+ * <p>Das Archiv wird w&auml;hrend des Bauprozesses mit Hilfe der {@link #main(String[]) main-Methode}
+ * &uuml;bersetzt und enth&auml;lt eine Tabelle verschiedener UTF-8-kodierter Zeichenketten, einen sortierten
+ * Index der Ressourcennamen und f&uuml;r jede Ressource die Indizes ihrer Schl&uuml;ssel und Werte. Zur
+ * Laufzeit wird das Archiv wenn m&ouml;glich in den Speicher abgebildet, und nur die Eigenschaften von
+ * angeforderten Ressourcen werden dekodiert. Von verschiedenen Ressourcen gemeinsam genutzte Zeichenketten
+ * (die meisten Schl&uuml;ssel) werden nur einmal dekodiert. </p>
+ *
+ * <p>Aufbau (big endian): </p>
+ *
+ * <pre>
+ *  int         magic number and version
+ *  int         count of strings (n)
+ *  int         count of resources (r)
+ *  int         count of properties (p)
+ *  int[n + 1]  offsets of strings in UTF-8-data
+ *  int[3 * r]  per resource: name index, count of properties, first property
+ *  int[2 * p]  per property: key index, value index
+ *  byte[]      UTF-8-data of strings
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+public final class PropertyArchive {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Path of the archive relative to the root of resources.
+     */
+    static final String PATH = "data/properties.archive";
+
+    private static final int MAGIC = 0x54344A01; // T4J + version 1
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ByteBuffer buffer;
+    private final int stringTable;
+    private final int resourceTable;
+    private final int propertyTable;
+    private final int data;
+    private final String[] names;
+    private final String[] strings; // lazily decoded, benign data race because strings are immutable
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PropertyArchive(ByteBuffer buffer) {
+        super();
+
+        if ((buffer.capacity() < 16) || (buffer.getInt(0) != MAGIC)) {
+            throw new IllegalArgumentException("Not a property archive.");
+        }
+
+        int n = buffer.getInt(4);
+        int r = buffer.getInt(8);
+        int p = buffer.getInt(12);
+
+        this.buffer = buffer;
+        this.stringTable = 16;
+        this.resourceTable = this.stringTable + 4 * (n + 1);
+        this.propertyTable = this.resourceTable + 12 * r;
+        this.data = this.propertyTable + 8 * p;
+        this.strings = new String[n];
+
+        if ((this.data + buffer.getInt(this.resourceTable - 4)) != buffer.capacity()) {
+            throw new IllegalArgumentException("Corrupt property archive.");
+        }
+
+        this.names = new String[r];
+
+        for (int i = 0; i < r; i++) {
+            this.names[i] = this.getString(buffer.getInt(this.resourceTable + 12 * i));
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Obtains the archive of this module if it was compiled during the build. </p>
+     *
+     * @return  property archive or {@code null} if not available
+     */
+    /*[deutsch]
+     * <p>Liefert das Archiv dieses Moduls, wenn es w&auml;hrend des Bauprozesses &uuml;bersetzt wurde. </p>
+     *
+     * @return  property archive or {@code null} if not available
+     */
+    public static PropertyArchive getDefault() {
+
+        return Holder.ARCHIVE;
+
+    }
+
+    /**
+     * <p>Interpretes given bytes as property archive. </p>
+     *
+     * @param   buffer  binary content of archive (will not be modified)
+     * @return  new property archive
+     * @throws  IllegalArgumentException if the buffer does not contain a valid archive
+     */
+    /*[deutsch]
+     * <p>Interpretiert die angegebenen Bytes als Archiv. </p>
+     *
+     * @param   buffer  binary content of archive (will not be modified)
+     * @return  new property archive
+     * @throws  IllegalArgumentException if the buffer does not contain a valid archive
+     */
+    public static PropertyArchive of(ByteBuffer buffer) {
+
+        return new PropertyArchive(buffer.slice());
+
+    }
+
+    /**
+     * <p>Decodes the properties of given resource. </p>
+     *
+     * @param   resourceName    path of property resource like &quot;names/iso8601_de.properties&quot;
+     * @return  unmodifiable map of properties or {@code null} if the resource is not contained in this archive
+     */
+    /*[deutsch]
+     * <p>Dekodiert die Eigenschaften der angegebenen Ressource. </p>
+     *
+     * @param   resourceName    path of property resource like &quot;names/iso8601_de.properties&quot;
+     * @return  unmodifiable map of properties or {@code null} if the resource is not contained in this archive
+     */
+    public Map<String, String> getProperties(String resourceName) {
+
+        int index = Arrays.binarySearch(this.names, resourceName);
+
+        if (index < 0) {
+            return null;
+        }
+
+        int pos = this.resourceTable + 12 * index;
+        int count = this.buffer.getInt(pos + 4);
+        int first = this.buffer.getInt(pos + 8);
+        Map<String, String> map = new HashMap<>(count * 4 / 3 + 1);
+
+        for (int i = 0; i < count; i++) {
+            int entry = this.propertyTable + 8 * (first + i);
+            map.put(this.getString(this.buffer.getInt(entry)), this.getString(this.buffer.getInt(entry + 4)));
+        }
+
+        return Collections.unmodifiableMap(map);
+
+    }
+
+    /**
+     * <p>Yields the names of all contained resources. </p>
+     *
+     * @return  unmodifiable sorted list of resource names
+     */
+    /*[deutsch]
+     * <p>Liefert die Namen aller enthaltenen Ressourcen. </p>
+     *
+     * @return  unmodifiable sorted list of resource names
+     */
+    public List<String> getResourceNames() {
+
+        return Collections.unmodifiableList(Arrays.asList(this.names));
+
+    }
+
+    /**
+     * <p>Compiles all property resources in given directory and its subdirectories to a binary archive. </p>
+     *
+     * @param   root    root directory of resources
+     * @param   out     output stream the archive will be written to
+     * @throws  IOException in case of any I/O-error
+     */
+    /*[deutsch]
+     * <p>&Uuml;bersetzt alle <i>property</i>-Ressourcen im angegebenen Verzeichnis und dessen
+     * Unterverzeichnissen zu einem bin&auml;ren Archiv. </p>
+     *
+     * @param   root    root directory of resources
+     * @param   out     output stream the archive will be written to
+     * @throws  IOException in case of any I/O-error
+     */
+    public static void compile(
+        File root,
+        OutputStream out
+    ) throws IOException {
+
+        Map<String, Map<String, String>> resources = new TreeMap<>();
+        collect(root, "", resources);
+
+        Map<String, Integer> indices = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        ByteArrayOutputStream utf8 = new ByteArrayOutputStream(1 << 20);
+        List<Integer> offsets = new ArrayList<>();
+        int[] resourceTable = new int[3 * resources.size()];
+        List<Integer> propertyTable = new ArrayList<>();
+        int r = 0;
+
+        for (Map.Entry<String, Map<String, String>> resource : resources.entrySet()) {
+            resourceTable[r++] = intern(resource.getKey(), indices, strings, offsets, utf8);
+            resourceTable[r++] = resource.getValue().size();
+            resourceTable[r++] = propertyTable.size() / 2;
+            for (Map.Entry<String, String> property : new TreeMap<>(resource.getValue()).entrySet()) {
+                propertyTable.add(intern(property.getKey(), indices, strings, offsets, utf8));
+                propertyTable.add(intern(property.getValue(), indices, strings, offsets, utf8));
+            }
+        }
+
+        offsets.add(utf8.size());
+
+        DataOutputStream dos = new DataOutputStream(out);
+        dos.writeInt(MAGIC);
+        dos.writeInt(strings.size());
+        dos.writeInt(resources.size());
+        dos.writeInt(propertyTable.size() / 2);
+
+        for (Integer offset : offsets) {
+            dos.writeInt(offset.intValue());
+        }
+
+        for (int value : resourceTable) {
+            dos.writeInt(value);
+        }
+
+        for (Integer value : propertyTable) {
+            dos.writeInt(value.intValue());
+        }
+
+        utf8.writeTo(dos);
+        dos.flush();
+
+    }
+
+    /**
+     * <p>Build step which compiles all property resources of this module to a binary archive. </p>
+     *
+     * @param   args    root directory of resources and path of archive file
+     * @throws  IOException in case of any I/O-error
+     */
+    /*[deutsch]
+     * <p>Bauschritt, der alle <i>property</i>-Ressourcen dieses Moduls zu einem bin&auml;ren
+     * Archiv &uuml;bersetzt. </p>
+     *
+     * @param   args    root directory of resources and path of archive file
+     * @throws  IOException in case of any I/O-error
+     */
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: PropertyArchive <resource-directory> <archive-file>");
+        }
+
+        File target = new File(args[1]);
+        File dir = target.getParentFile();
+
+        if ((dir != null) && !dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create directory: " + dir);
+        }
+
+        try (OutputStream out = new FileOutputStream(target)) {
+            compile(new File(args[0]), out);
+        }
+
+    }
+
+    private String getString(int index) {
+
+        String s = this.strings[index];
+
+        if (s == null) {
+            int start = this.buffer.getInt(this.stringTable + 4 * index);
+            int end = this.buffer.getInt(this.stringTable + 4 * index + 4);
+            byte[] bytes = new byte[end - start];
+            ByteBuffer bb = this.buffer.duplicate();
+            bb.position(this.data + start);
+            bb.get(bytes);
+            s = new String(bytes, StandardCharsets.UTF_8);
+            this.strings[index] = s;
+        }
+
+        return s;
+
+    }
+
+    private static int intern(
+        String s,
+        Map<String, Integer> indices,
+        List<String> strings,
+        List<Integer> offsets,
+        ByteArrayOutputStream utf8
+    ) {
+
+        Integer index = indices.get(s);
+
+        if (index == null) {
+            index = Integer.valueOf(strings.size());
+            indices.put(s, index);
+            strings.add(s);
+            offsets.add(utf8.size());
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            utf8.write(bytes, 0, bytes.length);
+        }
+
+        return index.intValue();
+
+    }
+
+    private static void collect(
+        File dir,
+        String prefix,
+        Map<String, Map<String, String>> resources
+    ) throws IOException {
+
+        File[] files = dir.listFiles();
+
+        if (files == null) {
+            throw new IOException("Not a directory: " + dir);
+        }
+
+        for (File file : files) {
+            String name = prefix + file.getName();
+            if (file.isDirectory()) {
+                collect(file, name + "/", resources);
+            } else if (name.endsWith(".properties")) {
+                try (UTF8ResourceReader reader = new UTF8ResourceReader(new FileInputStream(file))) {
+                    resources.put(name, PropertyBundle.read(reader));
+                }
+            }
+        }
+
+    }
+
+    private static PropertyArchive load() {
+
+        URI uri = ResourceLoader.getInstance().locate("base", PropertyArchive.class, PATH);
+
+        try {
+            if ((uri != null) && "file".equals(uri.getScheme())) {
+                try (FileChannel channel = FileChannel.open(Paths.get(uri), StandardOpenOption.READ)) {
+                    return new PropertyArchive(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            // not available as file, let us try to read it as stream
+        }
+
+        try (InputStream stream = open(uri)) {
+            if (stream != null) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+                byte[] chunk = new byte[8192];
+                int n;
+                while ((n = stream.read(chunk)) != -1) {
+                    bytes.write(chunk, 0, n);
+                }
+                return new PropertyArchive(ByteBuffer.wrap(bytes.toByteArray()));
+            }
+        } catch (IOException | RuntimeException ex) {
+            // archive not available, fall back to single property resources
+        }
+
+        return null;
+
+    }
+
+    private static InputStream open(URI uri) {
+
+        InputStream stream = ResourceLoader.getInstance().load(uri, true);
+
+        if (stream == null) {
+            try {
+                stream = ResourceLoader.getInstance().load(PropertyArchive.class, PATH, true);
+            } catch (IOException ioe) {
+                // okay, maybe the archive was not compiled
+                return null;
+            }
+        }
+
+        return stream;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Holder {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final PropertyArchive ARCHIVE = load();
+
+    }
+
+}
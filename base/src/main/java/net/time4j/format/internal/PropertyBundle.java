@@ -78,34 +78,16 @@ public final class PropertyBundle {
     //~ Konstruktoren -----------------------------------------------------
 
     private PropertyBundle(
-        UTF8ResourceReader reader,
+        Map<String, String> key2values,
         String baseName,
         Locale bundleLocale
-    ) throws IOException {
+    ) {
         super();
 
         this.parent = null;
         this.baseName = baseName;
         this.bundleLocale = bundleLocale;
-
-        Map<String, String> map = new HashMap<>();
-        String line;
-
-        while ((line = reader.readLine()) != null) {
-            line = line.trim();
-            if (line.isEmpty() || (line.charAt(0) == '#')) {
-                continue; // ignore white space or comment
-            }
-            for (int i = 0, n = line.length(); i < n; i++) {
-                char c = line.charAt(i);
-                if ((c == '=') && (i + 1 < n)) {
-                    map.put(line.substring(0, i), line.substring(i + 1));
-                    break;
-                }
-            }
-        }
-
-        this.key2values = Collections.unmodifiableMap(map);
+        this.key2values = key2values;
 
     }
 
@@ -397,6 +379,12 @@ public final class PropertyBundle {
 
         PropertyBundle bundle = null;
         String resourceName = toResourceName(baseName, locale);
+        PropertyArchive archive = PropertyArchive.getDefault();
+
+        if (archive != null) { // compiled during build, contains all resources of this module
+            Map<String, String> map = archive.getProperties(resourceName);
+            return ((map == null) ? null : new PropertyBundle(map, baseName, locale));
+        }
 
         URI uri = ResourceLoader.getInstance().locate("base", PropertyBundle.class, resourceName);
         InputStream stream = ResourceLoader.getInstance().load(uri, true);
@@ -415,7 +403,7 @@ public final class PropertyBundle {
 
             try {
                 reader = new UTF8ResourceReader(stream);
-                bundle = new PropertyBundle(reader, baseName, locale);
+                bundle = new PropertyBundle(Collections.unmodifiableMap(read(reader)), baseName, locale);
             } finally {
                 if (reader != null) {
                     reader.close();
@@ -427,6 +415,30 @@ public final class PropertyBundle {
 
     }
 
+    // also used by PropertyArchive
+    static Map<String, String> read(UTF8ResourceReader reader) throws IOException {
+
+        Map<String, String> map = new HashMap<>();
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || (line.charAt(0) == '#')) {
+                continue; // ignore white space or comment
+            }
+            for (int i = 0, n = line.length(); i < n; i++) {
+                char c = line.charAt(i);
+                if ((c == '=') && (i + 1 < n)) {
+                    map.put(line.substring(0, i), line.substring(i + 1));
+                    break;
+                }
+            }
+        }
+
+        return map;
+
+    }
+
     private static String toResourceName(
         String baseName,
         Locale locale
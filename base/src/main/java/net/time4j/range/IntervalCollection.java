@@ -49,6 +49,9 @@ import java.util.NoSuchElementException;
  * stored with closed start if they have finite start. Empty intervals
  * are never stored. </p>
  *
+ * <p>Many intervals which are added one by one should rather be collected
+ * by a {@link Builder} in order to avoid an immutable copy per interval. </p>
+ *
  * @param   <T> generic type characterizing the associated time axis
  * @author  Meno Hochschild
  * @serial  exclude
@@ -71,6 +74,10 @@ import java.util.NoSuchElementException;
  * Start inklusive haben, wenn dieser endlich ist. Leere Intervalle werden
  * nie gespeichert. </p>
  *
+ * <p>Viele einzeln hinzuzuf&uuml;gende Intervalle sollten besser mit Hilfe
+ * eines {@link Builder} gesammelt werden, um eine unver&auml;nderliche Kopie
+ * pro Intervall zu vermeiden. </p>
+ *
  * @param   <T> generic type characterizing the associated time axis
  * @author  Meno Hochschild
  * @serial  exclude
@@ -649,9 +656,26 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        List<ChronoInterval<T>> windows = new ArrayList<>(this.intervals);
-        windows.add(this.adjust(interval));
-        Collections.sort(windows, this.getComparator());
+        ChronoInterval<T> adjusted = this.adjust(interval);
+        Comparator<ChronoInterval<T>> comparator = this.getComparator();
+        int n = this.intervals.size();
+        int low = 0;
+        int high = n;
+
+        // insert behind all equal intervals (like a stable sort)
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(this.intervals.get(mid), adjusted) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        List<ChronoInterval<T>> windows = new ArrayList<>(n + 1);
+        windows.addAll(this.intervals.subList(0, low));
+        windows.add(adjusted);
+        windows.addAll(this.intervals.subList(low, n));
         return this.create(windows);
 
     }
@@ -722,16 +746,21 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        List<ChronoInterval<T>> windows = new ArrayList<>(this.intervals);
+        List<ChronoInterval<T>> added = new ArrayList<>(intervals.size());
 
         for (ChronoInterval<T> i : intervals) {
             if (!i.isEmpty()) {
-                windows.add(this.adjust(i));
+                added.add(this.adjust(i));
             }
         }
 
-        Collections.sort(windows, this.getComparator());
-        return this.create(windows);
+        if (added.isEmpty()) {
+            return this;
+        }
+
+        // only the new intervals need to be sorted
+        added.sort(this.getComparator());
+        return this.create(this.merge(this.intervals, added));
 
     }
 
@@ -1431,22 +1460,38 @@ public abstract class IntervalCollection<T>
             return this.create(zero);
         }
 
+        // sweep line over the sorted disjunct blocks of both collections
+        List<ChronoInterval<T>> blocks1 = this.withBlocks().intervals;
+        List<ChronoInterval<T>> blocks2 = other.withBlocks().intervals;
+        IntervalComparator<T> endComparator = new IntervalComparator<>(this.getTimeLine());
+        Comparator<ChronoInterval<T>> comparator = this.getComparator();
         List<ChronoInterval<T>> list = new ArrayList<>();
+        int i = 0;
+        int j = 0;
 
-        for (ChronoInterval<T> a : this.intervals) {
-            for (ChronoInterval<T> b : other.intervals) {
-                List<ChronoInterval<T>> candidates = new ArrayList<>(2);
+        while ((i < blocks1.size()) && (j < blocks2.size())) {
+            ChronoInterval<T> a = blocks1.get(i);
+            ChronoInterval<T> b = blocks2.get(j);
+            List<ChronoInterval<T>> candidates = new ArrayList<>(2);
+
+            if (comparator.compare(a, b) <= 0) {
                 candidates.add(a);
                 candidates.add(b);
-                Collections.sort(candidates, this.getComparator());
-                candidates = this.intersect(candidates);
-                if (!candidates.isEmpty()) {
-                    list.addAll(candidates);
-                }
+            } else {
+                candidates.add(b);
+                candidates.add(a);
+            }
+
+            list.addAll(this.intersect(candidates));
+
+            // the block which ends first cannot intersect any further block of the other collection
+            if (endComparator.compareEnd(a, b) <= 0) {
+                i++;
+            } else {
+                j++;
             }
         }
 
-        Collections.sort(list, this.getComparator());
         return this.create(list).withBlocks();
 
     }
@@ -1512,13 +1557,9 @@ public abstract class IntervalCollection<T>
         }
 
         ChronoInterval<T> window = this.newInterval(start, end);
-        List<ChronoInterval<T>> list = new ArrayList<>();
         IntervalCollection<T> ic1 = this.withComplement(window).intersect(other);
         IntervalCollection<T> ic2 = other.withComplement(window).intersect(this);
-        list.addAll(ic1.getIntervals());
-        list.addAll(ic2.getIntervals());
-        Collections.sort(list, this.getComparator());
-        return this.create(list).withBlocks();
+        return this.create(this.merge(ic1.intervals, ic2.intervals)).withBlocks();
 
     }
 
@@ -1705,6 +1746,39 @@ public abstract class IntervalCollection<T>
 
     }
 
+    // merges two sorted lists, on equality the intervals of first list come first (like a stable sort)
+    private List<ChronoInterval<T>> merge(
+        List<ChronoInterval<T>> first,
+        List<ChronoInterval<T>> second
+    ) {
+
+        Comparator<ChronoInterval<T>> comparator = this.getComparator();
+        int n1 = first.size();
+        int n2 = second.size();
+        List<ChronoInterval<T>> merged = new ArrayList<>(n1 + n2);
+        int i = 0;
+        int j = 0;
+
+        while ((i < n1) && (j < n2)) {
+            if (comparator.compare(first.get(i), second.get(j)) <= 0) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+
+        while (i < n1) {
+            merged.add(first.get(i++));
+        }
+
+        while (j < n2) {
+            merged.add(second.get(j++));
+        }
+
+        return merged;
+
+    }
+
     private Boundary<T> createStartBoundary(T start) {
 
         if (start == null) {
@@ -1844,4 +1918,182 @@ public abstract class IntervalCollection<T>
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Mutable builder for collecting many intervals without creating an immutable copy per
+     * added interval. </p>
+     *
+     * <p>The intervals are only sorted once when {@link #build()} is called. Example: </p>
+     *
+     * <pre>
+     *     IntervalCollection.Builder&lt;PlainDate&gt; builder =
+     *         IntervalCollection.Builder.setUp(IntervalCollection.onDateAxis());
+     *
+     *     for (DateInterval window : windows) {
+     *         builder.add(window);
+     *     }
+     *
+     *     IntervalCollection&lt;PlainDate&gt; availability = builder.build().withBlocks();
+     * </pre>
+     *
+     * @param   <T> generic type characterizing the associated time axis
+     * @since   5.0
+     * @doctags.concurrency {mutable}
+     */
+    /*[deutsch]
+     * <p>Ver&auml;nderlicher Hilfsgegenstand zum Sammeln vieler Intervalle, ohne pro hinzugef&uuml;gtem
+     * Intervall eine unver&auml;nderliche Kopie zu erzeugen. </p>
+     *
+     * <p>Die Intervalle werden nur einmal sortiert, wenn {@link #build()} aufgerufen wird. Beispiel: </p>
+     *
+     * <pre>
+     *     IntervalCollection.Builder&lt;PlainDate&gt; builder =
+     *         IntervalCollection.Builder.setUp(IntervalCollection.onDateAxis());
+     *
+     *     for (DateInterval window : windows) {
+     *         builder.add(window);
+     *     }
+     *
+     *     IntervalCollection&lt;PlainDate&gt; availability = builder.build().withBlocks();
+     * </pre>
+     *
+     * @param   <T> generic type characterizing the associated time axis
+     * @since   5.0
+     * @doctags.concurrency {mutable}
+     */
+    public static final class Builder<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final IntervalCollection<T> base;
+        private final List<ChronoInterval<T>> added;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Builder(IntervalCollection<T> base) {
+            super();
+
+            this.base = base;
+            this.added = new ArrayList<>();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Creates a new builder which starts with the intervals of given collection. </p>
+         *
+         * @param   <T> generic type characterizing the associated time axis
+         * @param   base    initial interval collection (usually empty, for example {@code onMomentAxis()})
+         * @return  new builder
+         */
+        /*[deutsch]
+         * <p>Erzeugt einen neuen {@code Builder}, der mit den Intervallen der angegebenen Menge beginnt. </p>
+         *
+         * @param   <T> generic type characterizing the associated time axis
+         * @param   base    initial interval collection (usually empty, for example {@code onMomentAxis()})
+         * @return  new builder
+         */
+        public static <T> Builder<T> setUp(IntervalCollection<T> base) {
+
+            if (base == null) {
+                throw new NullPointerException("Missing interval collection.");
+            }
+
+            return new Builder<>(base);
+
+        }
+
+        /**
+         * <p>Adds given interval. </p>
+         *
+         * <p>An empty interval will be ignored. </p>
+         *
+         * @param   interval    the new interval to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given interval is finite and has
+         *          open start which cannot be adjusted to one with closed start
+         */
+        /*[deutsch]
+         * <p>F&uuml;gt das angegebene Intervall hinzu. </p>
+         *
+         * <p>Ein leeres Intervall wird ignoriert. </p>
+         *
+         * @param   interval    the new interval to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given interval is finite and has
+         *          open start which cannot be adjusted to one with closed start
+         */
+        public Builder<T> add(ChronoInterval<T> interval) {
+
+            if (!interval.isEmpty()) {
+                this.added.add(this.base.adjust(interval));
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Adds all given intervals. </p>
+         *
+         * <p>Empty intervals will be ignored. </p>
+         *
+         * @param   intervals   the new intervals to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given collection contains a finite
+         *          interval with open start which cannot be adjusted to one with closed start
+         */
+        /*[deutsch]
+         * <p>F&uuml;gt alle angegebenen Intervalle hinzu. </p>
+         *
+         * <p>Leere Intervalle werden ignoriert. </p>
+         *
+         * @param   intervals   the new intervals to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given collection contains a finite
+         *          interval with open start which cannot be adjusted to one with closed start
+         */
+        public Builder<T> addAll(Collection<? extends ChronoInterval<T>> intervals) {
+
+            for (ChronoInterval<T> interval : intervals) {
+                this.add(interval);
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Creates a new interval collection containing the initial and all added intervals. </p>
+         *
+         * <p>The result is the same as calling {@code plus(Collection)} on the initial collection.
+         * This builder can be further used after building. </p>
+         *
+         * @return  new interval collection
+         */
+        /*[deutsch]
+         * <p>Erzeugt eine neue Intervallmenge mit den anf&auml;nglichen und allen hinzugef&uuml;gten
+         * Intervallen. </p>
+         *
+         * <p>Das Ergebnis ist das gleiche wie beim Aufruf von {@code plus(Collection)} auf der anf&auml;nglichen
+         * Intervallmenge. Dieser {@code Builder} kann danach weiterverwendet werden. </p>
+         *
+         * @return  new interval collection
+         */
+        public IntervalCollection<T> build() {
+
+            if (this.added.isEmpty()) {
+                return this.base;
+            }
+
+            List<ChronoInterval<T>> sorted = new ArrayList<>(this.added);
+            sorted.sort(this.base.getComparator());
+            return this.base.create(this.base.merge(this.base.intervals, sorted));
+
+        }
+
+    }
+
 }
@@ -102,7 +102,8 @@ final class IntervalComparator<T>
 
     }
 
-    private int compareEnd(
+    // also used by sweep algorithms in IntervalCollection
+    int compareEnd(
         ChronoInterval<T> o1,
         ChronoInterval<T> o2
     ) {
@@ -0,0 +1,510 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalIndex.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.scale.TimeScale;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+
+/**
+ * <p>Represents a static index of date or moment intervals which are normalized once to half-open
+ * ranges of primitive {@code long}-values. </p>
+ *
+ * <p>Date intervals are mapped to epoch days, moment intervals to nanoseconds elapsed on the UTC-scale
+ * (including leap seconds). The ranges are sorted by start in primitive arrays which also serve as
+ * implicit augmented binary tree (every node knows the maximum end of its subtree). Hence searching
+ * for intersections does not compare any boundary objects, does not call any timeline and does not
+ * allocate memory if a {@link IntervalTree.Visitor visitor} is used. Compared with an
+ * {@link IntervalTree}, this index is better suited for large and rarely changed sets of intervals.
+ * Empty intervals are never stored. </p>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the index
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert einen statischen Index von Datums- oder Momentintervallen, die einmalig zu
+ * halb-offenen Bereichen von primitiven {@code long}-Werten normalisiert werden. </p>
+ *
+ * <p>Datumsintervalle werden auf Epochentage abgebildet, Momentintervalle auf die auf der UTC-Skala
+ * verstrichenen Nanosekunden (einschlie&szlig;lich Schaltsekunden). Die Bereiche werden nach dem Start
+ * sortiert in primitiven Arrays gehalten, die auch als impliziter angereicherter Bin&auml;rbaum dienen
+ * (jeder Knoten kennt das maximale Ende seines Teilbaums). Die Suche nach &Uuml;berschneidungen vergleicht
+ * deshalb keine Intervallgrenzen, ruft keinen Zeitstrahl auf und reserviert keinen Speicher, wenn ein
+ * {@link IntervalTree.Visitor Besucher} verwendet wird. Im Vergleich zu einem {@link IntervalTree} ist
+ * dieser Index besser f&uuml;r gro&szlig;e und selten ge&auml;nderte Mengen von Intervallen geeignet.
+ * Leere Intervalle werden nie gespeichert. </p>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the index
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {immutable}
+ */
+public final class IntervalIndex<T, I extends ChronoInterval<T>>
+    extends AbstractCollection<I> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long MRD = 1_000_000_000L;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ToLongFunction<T> keys;
+    private final List<I> intervals;
+    private final long[] starts; // inclusive
+    private final long[] ends; // exclusive
+    private final long[] max; // maximum end per subtree
+    private final int root;
+    private final int level;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IntervalIndex(
+        Collection<I> intervals,
+        ToLongFunction<T> keys
+    ) {
+        super();
+
+        int n = 0;
+        List<I> tmpIntervals = new ArrayList<>(intervals.size());
+        long[] tmpStarts = new long[intervals.size()];
+        long[] tmpEnds = new long[intervals.size()];
+
+        for (I interval : intervals) {
+            long start = toStart(interval, keys);
+            long end = toEnd(interval, keys);
+
+            if (start < end) {
+                tmpIntervals.add(interval);
+                tmpStarts[n] = start;
+                tmpEnds[n] = end;
+                n++;
+            }
+        }
+
+        // stable sort by start, applied to all arrays
+        int[] order = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+
+        sort(order, new int[n], 0, n, tmpStarts);
+
+        this.keys = keys;
+        List<I> sorted = new ArrayList<>(n);
+        this.starts = new long[n];
+        this.ends = new long[n];
+        this.max = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            sorted.add(tmpIntervals.get(order[i]));
+            this.starts[i] = tmpStarts[order[i]];
+            this.ends[i] = tmpEnds[order[i]];
+        }
+
+        int k = 0;
+
+        while (((1L << (k + 1)) - 1) < n) {
+            k++;
+        }
+
+        this.intervals = Collections.unmodifiableList(sorted);
+        this.level = k;
+        this.root = (1 << k) - 1;
+
+        if (n > 0) {
+            this.buildMax(this.root, this.level);
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates an index of given date intervals. </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @param   intervals   collection of date intervals
+     * @return  new interval index
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen Index der angegebenen Datumsintervalle. </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @param   intervals   collection of date intervals
+     * @return  new interval index
+     */
+    public static <I extends ChronoInterval<PlainDate>> IntervalIndex<PlainDate, I> onDateAxis(
+        Collection<I> intervals
+    ) {
+
+        return new IntervalIndex<>(intervals, PlainDate::getDaysSinceEpochUTC);
+
+    }
+
+    /**
+     * <p>Creates an index of given moment intervals. </p>
+     *
+     * <p>Finite boundaries must be in the range of a {@code long} counting nanoseconds since 1972
+     * (roughly the years 1680 until 2260). </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @param   intervals   collection of moment intervals
+     * @return  new interval index
+     * @throws  ArithmeticException if any finite boundary is out of the nanosecond range
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen Index der angegebenen Momentintervalle. </p>
+     *
+     * <p>Endliche Intervallgrenzen m&uuml;ssen im Bereich eines {@code long} liegen, das
+     * Nanosekunden seit 1972 z&auml;hlt (ungef&auml;hr die Jahre 1680 bis 2260). </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @param   intervals   collection of moment intervals
+     * @return  new interval index
+     * @throws  ArithmeticException if any finite boundary is out of the nanosecond range
+     */
+    public static <I extends ChronoInterval<Moment>> IntervalIndex<Moment, I> onMomentAxis(
+        Collection<I> intervals
+    ) {
+
+        return new IntervalIndex<>(intervals, IntervalIndex::toNanos);
+
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return this.intervals.isEmpty();
+
+    }
+
+    /**
+     * <p>Obtains a read-only iterator over all stored intervals in ascending order of start. </p>
+     *
+     * @return  an {@code Iterator} which is read-only
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Iterator} &uuml;ber alle gespeicherten Intervalle in aufsteigender
+     * Reihenfolge des Starts. </p>
+     *
+     * @return  an {@code Iterator} which is read-only
+     */
+    @Override
+    public Iterator<I> iterator() {
+
+        return this.intervals.iterator();
+
+    }
+
+    @Override
+    public int size() {
+
+        return this.intervals.size();
+
+    }
+
+    /**
+     * <p>Obtains a list of all stored intervals which contain given point in time. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  unmodifiable list of all stored intervals which contain given point in time, maybe empty
+     * @throws  ArithmeticException if given moment is out of the nanosecond range
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller gespeicherten Intervalle, die den angegebenen Suchzeitpunkt enthalten. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  unmodifiable list of all stored intervals which contain given point in time, maybe empty
+     * @throws  ArithmeticException if given moment is out of the nanosecond range
+     */
+    public List<I> findIntersections(T timepoint) {
+
+        Collector<I> collector = new Collector<>();
+        this.findIntersections(timepoint, collector);
+        return Collections.unmodifiableList(collector.visited);
+
+    }
+
+    /**
+     * <p>Obtains a list of all stored intervals which intersect given search interval. </p>
+     *
+     * @param   interval    the search interval
+     * @return  unmodifiable list of all stored intervals which intersect the search interval, maybe empty
+     * @throws  ArithmeticException if a finite boundary of given moment interval is out of the nanosecond range
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller gespeicherten Intervalle, die sich mit dem angegebenen Suchintervall
+     * &uuml;berschneiden. </p>
+     *
+     * @param   interval    the search interval
+     * @return  unmodifiable list of all stored intervals which intersect the search interval, maybe empty
+     * @throws  ArithmeticException if a finite boundary of given moment interval is out of the nanosecond range
+     */
+    public List<I> findIntersections(ChronoInterval<T> interval) {
+
+        Collector<I> collector = new Collector<>();
+        this.findIntersections(interval, collector);
+        return Collections.unmodifiableList(collector.visited);
+
+    }
+
+    /**
+     * <p>Visits all stored intervals which contain given point in time in ascending order of start. </p>
+     *
+     * <p>The traversal stops as soon as the visitor returns {@code true}. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @param   visitor     callback for every stored interval which contains given point in time
+     * @throws  ArithmeticException if given moment is out of the nanosecond range
+     */
+    /*[deutsch]
+     * <p>Besucht alle gespeicherten Intervalle, die den angegebenen Suchzeitpunkt enthalten, in
+     * aufsteigender Reihenfolge des Starts. </p>
+     *
+     * <p>Das Abwandern endet, sobald der Besucher {@code true} zur&uuml;ckgibt. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @param   visitor     callback for every stored interval which contains given point in time
+     * @throws  ArithmeticException if given moment is out of the nanosecond range
+     */
+    public void findIntersections(
+        T timepoint,
+        IntervalTree.Visitor<I> visitor
+    ) {
+
+        long key = this.keys.applyAsLong(timepoint);
+
+        if (!this.isEmpty()) {
+            this.visit(this.root, this.level, key, Math.addExact(key, 1), visitor);
+        }
+
+    }
+
+    /**
+     * <p>Visits all stored intervals which intersect given search interval in ascending order of start. </p>
+     *
+     * <p>The traversal stops as soon as the visitor returns {@code true}. </p>
+     *
+     * @param   interval    the search interval
+     * @param   visitor     callback for every stored interval which intersects the search interval
+     * @throws  ArithmeticException if a finite boundary of given moment interval is out of the nanosecond range
+     */
+    /*[deutsch]
+     * <p>Besucht alle gespeicherten Intervalle, die sich mit dem angegebenen Suchintervall
+     * &uuml;berschneiden, in aufsteigender Reihenfolge des Starts. </p>
+     *
+     * <p>Das Abwandern endet, sobald der Besucher {@code true} zur&uuml;ckgibt. </p>
+     *
+     * @param   interval    the search interval
+     * @param   visitor     callback for every stored interval which intersects the search interval
+     * @throws  ArithmeticException if a finite boundary of given moment interval is out of the nanosecond range
+     */
+    public void findIntersections(
+        ChronoInterval<T> interval,
+        IntervalTree.Visitor<I> visitor
+    ) {
+
+        long start = toStart(interval, this.keys);
+        long end = toEnd(interval, this.keys);
+
+        if ((start < end) && !this.isEmpty()) {
+            this.visit(this.root, this.level, start, end, visitor);
+        }
+
+    }
+
+    // inclusive
+    private static <T> long toStart(
+        ChronoInterval<T> interval,
+        ToLongFunction<T> keys
+    ) {
+
+        Boundary<T> start = interval.getStart();
+
+        if (start.isInfinite()) {
+            return Long.MIN_VALUE;
+        }
+
+        long key = keys.applyAsLong(start.getTemporal());
+        return (start.isOpen() ? Math.addExact(key, 1) : key);
+
+    }
+
+    // exclusive
+    private static <T> long toEnd(
+        ChronoInterval<T> interval,
+        ToLongFunction<T> keys
+    ) {
+
+        Boundary<T> end = interval.getEnd();
+
+        if (end.isInfinite()) {
+            return Long.MAX_VALUE;
+        }
+
+        long key = keys.applyAsLong(end.getTemporal());
+        return (end.isClosed() ? Math.addExact(key, 1) : key);
+
+    }
+
+    private static long toNanos(Moment moment) {
+
+        return Math.addExact(
+            Math.multiplyExact(moment.getElapsedTime(TimeScale.UTC), MRD),
+            moment.getNanosecond(TimeScale.UTC));
+
+    }
+
+    // stable merge sort of indices by given keys
+    private static void sort(
+        int[] order,
+        int[] buffer,
+        int from,
+        int to,
+        long[] keys
+    ) {
+
+        if (to - from < 2) {
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        sort(order, buffer, from, mid, keys);
+        sort(order, buffer, mid, to, keys);
+
+        if (keys[order[mid - 1]] <= keys[order[mid]]) {
+            return; // already sorted
+        }
+
+        System.arraycopy(order, from, buffer, from, to - from);
+        int i = from;
+        int j = mid;
+
+        for (int k = from; k < to; k++) {
+            if ((j >= to) || ((i < mid) && (keys[buffer[i]] <= keys[buffer[j]]))) {
+                order[k] = buffer[i++];
+            } else {
+                order[k] = buffer[j++];
+            }
+        }
+
+    }
+
+    // node i on level k, children are i -/+ 2^(k-1), indices beyond size are virtual nodes
+    private long buildMax(
+        int i,
+        int k
+    ) {
+
+        int n = this.ends.length;
+
+        if (k == 0) {
+            if (i < n) {
+                this.max[i] = this.ends[i];
+                return this.ends[i];
+            }
+            return Long.MIN_VALUE;
+        }
+
+        int half = 1 << (k - 1);
+        long m = this.buildMax(i - half, k - 1);
+
+        if (i < n) { // else all nodes in right subtree are virtual
+            m = Math.max(m, this.ends[i]);
+            m = Math.max(m, this.buildMax(i + half, k - 1));
+            this.max[i] = m;
+        }
+
+        return m;
+
+    }
+
+    private boolean visit(
+        int i,
+        int k,
+        long low, // inclusive
+        long high, // exclusive
+        IntervalTree.Visitor<I> visitor
+    ) {
+
+        if (i >= this.ends.length) {
+            return (k > 0) && this.visit(i - (1 << (k - 1)), k - 1, low, high, visitor);
+        }
+
+        // short-cut: no interval in subtree ends after low
+        if (this.max[i] <= low) {
+            return false;
+        }
+
+        if ((k > 0) && this.visit(i - (1 << (k - 1)), k - 1, low, high, visitor)) {
+            return true;
+        }
+
+        // short-cut: this node and all nodes of right subtree start at or after high
+        if (this.starts[i] >= high) {
+            return false;
+        }
+
+        if ((this.ends[i] > low) && visitor.visited(this.intervals.get(i))) {
+            return true;
+        }
+
+        return (k > 0) && this.visit(i + (1 << (k - 1)), k - 1, low, high, visitor);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Collector<I>
+        implements IntervalTree.Visitor<I> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final List<I> visited = new ArrayList<>();
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean visited(I interval) {
+
+            this.visited.add(interval);
+            return false;
+
+        }
+
+    }
+
+}
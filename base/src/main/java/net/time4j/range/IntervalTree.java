@@ -44,6 +44,12 @@ import java.util.List;
  * in <a href="https://en.wikipedia.org/wiki/Interval_tree">Wikipedia</a>. Empty intervals
  * are never stored. An interval tree is also like a read-only collection of intervals. </p>
  *
+ * <p>Since version 5.0, the tree is persistent. The methods {@link #plus(ChronoInterval)} and
+ * {@link #minus(ChronoInterval)} yield modified copies in logarithmic time by copying only the
+ * path from the root to the changed node and sharing all other nodes with the original tree.
+ * Applications with frequent changes can hold the current tree in an atomic reference so that
+ * readers are never blocked by writers and always see a consistent snapshot. </p>
+ *
  * @param   <T> the temporal type of time points in intervals
  * @param   <I> the type of intervals stored in the tree
  * @author  Meno Hochschild
@@ -58,6 +64,13 @@ import java.util.List;
  * Leere Intervalle werden nie gespeichert. Ein Intervallbaum verh&auml;lt sich auch
  * wie eine Nur-Lese-Collection von Intervallen. </p>
  *
+ * <p>Seit Version 5.0 ist der Baum persistent. Die Methoden {@link #plus(ChronoInterval)} und
+ * {@link #minus(ChronoInterval)} liefern ge&auml;nderte Kopien in logarithmischer Zeit, indem nur
+ * der Pfad von der Wurzel zum ge&auml;nderten Knoten kopiert wird und alle anderen Knoten mit dem
+ * urspr&uuml;nglichen Baum geteilt werden. Anwendungen mit h&auml;ufigen &Auml;nderungen k&ouml;nnen
+ * den aktuellen Baum in einer atomaren Referenz halten, so da&szlig; Leser nie von Schreibern
+ * blockiert werden und immer einen konsistenten Schnappschu&szlig; sehen. </p>
+ *
  * @param   <T> the temporal type of time points in intervals
  * @param   <I> the type of intervals stored in the tree
  * @author  Meno Hochschild
@@ -87,22 +100,38 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
             throw new NullPointerException("Missing timeline.");
         }
 
-        Node<T, I> r = null;
+        List<I> sorted = new ArrayList<>(intervals.size());
         int count = 0;
 
         for (I interval : intervals) {
             if (!interval.isEmpty()) {
-                r = insert(r, interval, timeLine);
+                sorted.add(interval);
                 count = Math.incrementExact(count);
             }
         }
 
-        this.root = r;
+        // stable sort: intervals with same start keep their order of insertion
+        sorted.sort((i1, i2) -> compareAtStart(i1.getStart(), i2.getStart(), timeLine));
+
+        this.root = build(sorted, 0, count, timeLine);
         this.size = count;
         this.timeLine = timeLine;
 
     }
 
+    private IntervalTree(
+        Node<T, I> root,
+        int size,
+        TimeLine<T> timeLine
+    ) {
+        super();
+
+        this.root = root;
+        this.size = size;
+        this.timeLine = timeLine;
+
+    }
+
     //~ Methoden ----------------------------------------------------------
 
     /**
@@ -319,7 +348,7 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
         List<I> i = this.intervals;
 
         if (i == null) {
-            Collector collector = new Collector();
+            Collector collector = new Collector(this.size);
             this.accept(collector);
             i = Collections.unmodifiableList(collector.visited);
             this.intervals = i;
@@ -360,9 +389,9 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
      */
     public List<I> findIntersections(T timepoint) {
 
-        List<I> found = new ArrayList<>();
-        findIntersections(timepoint, this.timeLine.stepForward(timepoint), this.root, found);
-        return Collections.unmodifiableList(found);
+        Collector collector = new Collector(0);
+        this.findIntersections(timepoint, this.timeLine.stepForward(timepoint), this.root, collector);
+        return Collections.unmodifiableList(collector.visited);
 
     }
 
@@ -399,9 +428,159 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
         }
 
         // collect recursively
-        List<I> found = new ArrayList<>();
-        findIntersections(low, high, this.root, found);
-        return Collections.unmodifiableList(found);
+        Collector collector = new Collector(0);
+        this.findIntersections(low, high, this.root, collector);
+        return Collections.unmodifiableList(collector.visited);
+
+    }
+
+    /**
+     * <p>Visits all stored intervals which intersect given point in time without collecting them. </p>
+     *
+     * <p>The intervals are visited in ascending order, first sorted by start. The traversal stops
+     * as soon as the visitor returns {@code true}. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @param   visitor     callback for every stored interval which contains given point in time
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Besucht alle gespeicherten Intervalle, die den angegebenen Suchzeitpunkt enthalten, ohne sie
+     * zu sammeln. </p>
+     *
+     * <p>Die Intervalle werden in aufsteigender Reihenfolge besucht, zuerst sortiert nach dem Start.
+     * Das Abwandern endet, sobald der Besucher {@code true} zur&uuml;ckgibt. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @param   visitor     callback for every stored interval which contains given point in time
+     * @since   5.0
+     */
+    public void findIntersections(
+        T timepoint,
+        Visitor<I> visitor
+    ) {
+
+        this.findIntersections(timepoint, this.timeLine.stepForward(timepoint), this.root, visitor);
+
+    }
+
+    /**
+     * <p>Visits all stored intervals which intersect given search interval without collecting them. </p>
+     *
+     * <p>The intervals are visited in ascending order, first sorted by start. The traversal stops
+     * as soon as the visitor returns {@code true}. </p>
+     *
+     * @param   interval    the search interval
+     * @param   visitor     callback for every stored interval which intersects the search interval
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Besucht alle gespeicherten Intervalle, die sich mit dem angegebenen Suchintervall
+     * &uuml;berschneiden, ohne sie zu sammeln. </p>
+     *
+     * <p>Die Intervalle werden in aufsteigender Reihenfolge besucht, zuerst sortiert nach dem Start.
+     * Das Abwandern endet, sobald der Besucher {@code true} zur&uuml;ckgibt. </p>
+     *
+     * @param   interval    the search interval
+     * @param   visitor     callback for every stored interval which intersects the search interval
+     * @since   5.0
+     */
+    public void findIntersections(
+        ChronoInterval<T> interval,
+        Visitor<I> visitor
+    ) {
+
+        // trivial case
+        if (interval.isEmpty()) {
+            return;
+        }
+
+        // make search interval half-open
+        T low = interval.getStart().getTemporal();
+        T high = interval.getEnd().getTemporal();
+
+        if ((low != null) && interval.getStart().isOpen()) {
+            low = this.timeLine.stepForward(low);
+        }
+
+        if ((high != null) && interval.getEnd().isClosed()) {
+            high = this.timeLine.stepForward(high);
+        }
+
+        this.findIntersections(low, high, this.root, visitor);
+
+    }
+
+    /**
+     * <p>Yields a copy of this tree with given additional interval. </p>
+     *
+     * <p>This tree remains unaffected. The copy shares all nodes with this tree except those on the
+     * path from the root to the new node so the costs are logarithmic. An interval which is equal
+     * to an already stored interval will be added as duplicate. </p>
+     *
+     * @param   interval    the interval to be added (empty intervals are ignored)
+     * @return  new interval tree or this instance if given interval is empty
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie dieses Baums mit dem angegebenen zus&auml;tzlichen Intervall. </p>
+     *
+     * <p>Dieser Baum bleibt unver&auml;ndert. Die Kopie teilt sich alle Knoten mit diesem Baum au&szlig;er
+     * denen auf dem Pfad von der Wurzel zum neuen Knoten, so da&szlig; die Kosten logarithmisch sind. Ein
+     * Intervall, das gleich einem schon gespeicherten Intervall ist, wird als Duplikat hinzugef&uuml;gt. </p>
+     *
+     * @param   interval    the interval to be added (empty intervals are ignored)
+     * @return  new interval tree or this instance if given interval is empty
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     * @since   5.0
+     */
+    public IntervalTree<T, I> plus(I interval) {
+
+        if (interval.isEmpty()) {
+            return this;
+        }
+
+        int count = Math.incrementExact(this.size);
+        return new IntervalTree<>(insert(this.root, interval, this.timeLine), count, this.timeLine);
+
+    }
+
+    /**
+     * <p>Yields a copy of this tree without given interval. </p>
+     *
+     * <p>This tree remains unaffected. If the interval is stored more than once then only one
+     * occurrence will be removed. Like {@link #plus(ChronoInterval)}, the costs are logarithmic
+     * (unless many stored intervals have the same start). </p>
+     *
+     * @param   interval    the interval to be removed
+     * @return  new interval tree or this instance if given interval is not stored
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie dieses Baums ohne das angegebene Intervall. </p>
+     *
+     * <p>Dieser Baum bleibt unver&auml;ndert. Wenn das Intervall mehrfach gespeichert ist, wird nur
+     * ein Vorkommen entfernt. Wie bei {@link #plus(ChronoInterval)} sind die Kosten logarithmisch
+     * (es sei denn, viele gespeicherte Intervalle haben den gleichen Start). </p>
+     *
+     * @param   interval    the interval to be removed
+     * @return  new interval tree or this instance if given interval is not stored
+     * @since   5.0
+     */
+    public IntervalTree<T, I> minus(ChronoInterval<T> interval) {
+
+        if (interval.isEmpty()) {
+            return this;
+        }
+
+        Node<T, I> r = remove(this.root, interval, this.timeLine);
+
+        if (r == this.root) {
+            return this; // not found
+        }
+
+        return new IntervalTree<>(r, this.size - 1, this.timeLine);
 
     }
 
@@ -499,6 +678,27 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
+    private static <T, I extends ChronoInterval<T>> Node<T, I> build(
+        List<I> sorted,
+        int from,
+        int to, // exclusive
+        TimeLine<T> timeLine
+    ) {
+
+        if (from >= to) {
+            return null;
+        }
+
+        int mid = (from + to) >>> 1;
+
+        return new Node<>(
+            sorted.get(mid),
+            build(sorted, from, mid, timeLine),
+            build(sorted, mid + 1, to, timeLine),
+            timeLine);
+
+    }
+
     private static <T, I extends ChronoInterval<T>> Node<T, I> insert(
         Node<T, I> node,
         I interval,
@@ -506,64 +706,121 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
     ) {
 
         if (node == null) {
-            return new Node<>(interval);
+            return new Node<>(interval, null, null, timeLine);
         }
 
         if (compareAtStart(node.interval.getStart(), interval.getStart(), timeLine) > 0) {
-            node.left = insert(node.left, interval, timeLine);
+            return balance(node.interval, insert(node.left, interval, timeLine), node.right, timeLine);
         } else {
-            node.right = insert(node.right, interval, timeLine);
+            return balance(node.interval, node.left, insert(node.right, interval, timeLine), timeLine);
         }
 
-        node.height = Math.max(getHeight(node.left), getHeight(node.right)) + 1;
-        node.max = findMax(node, timeLine);
-        int balance = getBalance(node);
+    }
 
-        if (balance < -1) {
-            if (getBalance(node.right) > 0) {
-                node.right = rightRotate(node.right, timeLine);
+    // yields the same node if given interval is not found
+    private static <T, I extends ChronoInterval<T>> Node<T, I> remove(
+        Node<T, I> node,
+        ChronoInterval<T> interval,
+        TimeLine<T> timeLine
+    ) {
+
+        if (node == null) {
+            return null;
+        }
+
+        int cmp = compareAtStart(node.interval.getStart(), interval.getStart(), timeLine);
+
+        if (cmp == 0 && node.interval.equals(interval)) {
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
             }
-            return leftRotate(node, timeLine);
-        } else if (balance > 1) {
-            if (getBalance(node.left) < 0) {
-                node.left = leftRotate(node.left, timeLine);
+
+            Node<T, I> successor = node.right;
+
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+
+            return balance(successor.interval, node.left, removeFirst(node.right, timeLine), timeLine);
+        }
+
+        if (cmp >= 0) { // intervals with same start can be found on both sides after rotations
+            Node<T, I> left = remove(node.left, interval, timeLine);
+
+            if (left != node.left) {
+                return balance(node.interval, left, node.right, timeLine);
+            }
+        }
+
+        if (cmp <= 0) {
+            Node<T, I> right = remove(node.right, interval, timeLine);
+
+            if (right != node.right) {
+                return balance(node.interval, node.left, right, timeLine);
             }
-            return rightRotate(node, timeLine);
         }
 
         return node;
 
     }
 
-    private static <T, I extends ChronoInterval<T>> Node<T, I> leftRotate(
-        Node<T, I> n,
+    private static <T, I extends ChronoInterval<T>> Node<T, I> removeFirst(
+        Node<T, I> node,
         TimeLine<T> timeLine
     ) {
 
-        Node<T, I> r = n.right;
-        n.right = r.left;
-        r.left = n;
-        n.height = Math.max(getHeight(n.left), getHeight(n.right)) + 1;
-        r.height = Math.max(getHeight(r.left), getHeight(r.right)) + 1;
-        n.max = findMax(n, timeLine);
-        r.max = findMax(r, timeLine);
-        return r;
+        if (node.left == null) {
+            return node.right;
+        }
+
+        return balance(node.interval, removeFirst(node.left, timeLine), node.right, timeLine);
 
     }
 
-    private static <T, I extends ChronoInterval<T>> Node<T, I> rightRotate(
-        Node<T, I> n,
+    private static <T, I extends ChronoInterval<T>> Node<T, I> balance(
+        I interval,
+        Node<T, I> left,
+        Node<T, I> right,
         TimeLine<T> timeLine
     ) {
 
-        Node<T, I> r = n.left;
-        n.left = r.right;
-        r.right = n;
-        n.height = Math.max(getHeight(n.left), getHeight(n.right)) + 1;
-        r.height = Math.max(getHeight(r.left), getHeight(r.right)) + 1;
-        n.max = findMax(n, timeLine);
-        r.max = findMax(r, timeLine);
-        return r;
+        int balance = getHeight(left) - getHeight(right);
+
+        if (balance < -1) {
+            if (getHeight(right.left) > getHeight(right.right)) {
+                // right-left-case
+                Node<T, I> rl = right.left;
+                return new Node<>(
+                    rl.interval,
+                    new Node<>(interval, left, rl.left, timeLine),
+                    new Node<>(right.interval, rl.right, right.right, timeLine),
+                    timeLine);
+            }
+            return new Node<>( // left rotation
+                right.interval,
+                new Node<>(interval, left, right.left, timeLine),
+                right.right,
+                timeLine);
+        } else if (balance > 1) {
+            if (getHeight(left.left) < getHeight(left.right)) {
+                // left-right-case
+                Node<T, I> lr = left.right;
+                return new Node<>(
+                    lr.interval,
+                    new Node<>(left.interval, left.left, lr.left, timeLine),
+                    new Node<>(interval, lr.right, right, timeLine),
+                    timeLine);
+            }
+            return new Node<>( // right rotation
+                left.interval,
+                left.left,
+                new Node<>(interval, left.right, right, timeLine),
+                timeLine);
+        }
+
+        return new Node<>(interval, left, right, timeLine);
 
     }
 
@@ -574,36 +831,20 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
     }
 
     private static <T, I extends ChronoInterval<T>> Boundary<T> findMax(
-        Node<T, I> n,
+        Boundary<T> end,
+        Node<T, I> left,
+        Node<T, I> right,
         TimeLine<T> timeLine
     ) {
 
-        if ((n.left == null) && (n.right == null)) {
-            return n.max;
-        } else if (n.left == null) {
-            if (compareAtEnd(n.right.max, n.max, timeLine) > 0) {
-                return n.right.max;
-            } else {
-                return n.max;
-            }
-        } else if (n.right == null) {
-            if (compareAtEnd(n.left.max, n.max, timeLine) > 0) {
-                return n.left.max;
-            } else {
-                return n.max;
-            }
-        }
-
-        Boundary<T> maximized;
+        Boundary<T> maximized = end;
 
-        if (compareAtEnd(n.left.max, n.right.max, timeLine) < 0) {
-            maximized = n.right.max;
-        } else {
-            maximized = n.left.max;
+        if ((left != null) && (compareAtEnd(left.max, maximized, timeLine) > 0)) {
+            maximized = left.max;
         }
 
-        if (compareAtEnd(n.max, maximized, timeLine) > 0) {
-            maximized = n.max;
+        if ((right != null) && (compareAtEnd(right.max, maximized, timeLine) > 0)) {
+            maximized = right.max;
         }
 
         return maximized;
@@ -676,40 +917,32 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
-    private static int getBalance(Node<?, ?> node) {
-
-        if (node == null) {
-            return 0;
-        }
-
-        return getHeight(node.left) - getHeight(node.right);
-
-    }
-
-    private void findIntersections(
+    private boolean findIntersections(
         T low, // inclusive if not null
         T high, // exclusive if not null
         Node<T, I> node,
-        List<I> found
+        Visitor<I> visitor
     ) {
 
         if (node == null) {
-            return;
+            return false;
         }
 
         // If the node's max interval is before the search interval, no children will match (short-cut)
         if ((low != null) && !node.max.isInfinite()) {
             if (node.max.isOpen()) {
                 if (this.timeLine.compare(node.max.getTemporal(), low) <= 0) {
-                    return;
+                    return false;
                 }
             } else if (this.timeLine.compare(node.max.getTemporal(), low) < 0) {
-                return;
+                return false;
             }
         }
 
         // left children
-        findIntersections(low, high, node.left, found);
+        if (this.findIntersections(low, high, node.left, visitor)) {
+            return true;
+        }
 
         // check: (start < high)
         T start = node.interval.getStart().getTemporal();
@@ -737,15 +970,15 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
                 }
             }
 
-            if (c2) {
-                found.add(node.interval);
+            if (c2 && visitor.visited(node.interval)) {
+                return true;
             }
         } else {
-            return; // short-cut: start >= high (interval nodes are primarily sorted by start)
+            return false; // short-cut: start >= high (interval nodes are primarily sorted by start)
         }
 
         // right children
-        findIntersections(low, high, node.right, found);
+        return this.findIntersections(low, high, node.right, visitor);
 
     }
 
@@ -841,20 +1074,27 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
         private final I interval;
 
-        // tree organization
-        Node<T, I> left = null;
-        Node<T, I> right = null;
-        int height;
-        Boundary<T> max;
+        // tree organization (immutable for sharing nodes between trees)
+        private final Node<T, I> left;
+        private final Node<T, I> right;
+        private final int height;
+        private final Boundary<T> max;
 
         //~ Konstruktoren -------------------------------------------------
 
-        Node(I interval) {
+        Node(
+            I interval,
+            Node<T, I> left,
+            Node<T, I> right,
+            TimeLine<T> timeLine
+        ) {
             super();
 
             this.interval = interval;
-            this.height = 1;
-            this.max = interval.getEnd();
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(getHeight(left), getHeight(right)) + 1;
+            this.max = findMax(interval.getEnd(), left, right, timeLine);
 
         }
 
@@ -865,7 +1105,16 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
         //~ Instanzvariablen ----------------------------------------------
 
-        private List<I> visited = new ArrayList<>(IntervalTree.this.size());
+        private final List<I> visited;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Collector(int capacity) {
+            super();
+
+            this.visited = new ArrayList<>(capacity);
+
+        }
 
         //~ Methoden ------------------------------------------------------
 
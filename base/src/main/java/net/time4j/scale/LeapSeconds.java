@@ -186,6 +186,8 @@ public final class LeapSeconds
     private final List<ExtendedLSE> list;
     private final ExtendedLSE[] reverseFinal;
     private volatile ExtendedLSE[] reverseVolatile;
+    private final EventIndex indexFinal;
+    private volatile EventIndex indexVolatile;
     private final boolean supportsNegativeLS;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -219,6 +221,8 @@ public final class LeapSeconds
             this.reverseFinal = EMPTY_ARRAY;
             this.reverseVolatile = EMPTY_ARRAY;
             this.supportsNegativeLS = false;
+            this.indexFinal = new EventIndex(EMPTY_ARRAY, false);
+            this.indexVolatile = this.indexFinal;
         } else {
             SortedSet<ExtendedLSE> sortedLS = new TreeSet<>(this);
 
@@ -264,6 +268,9 @@ public final class LeapSeconds
             } else {
                 this.supportsNegativeLS = true;
             }
+
+            this.indexFinal = new EventIndex(this.reverseFinal, this.supportsNegativeLS);
+            this.indexVolatile = this.indexFinal;
         }
 
     }
@@ -606,19 +613,20 @@ public final class LeapSeconds
             return 0;
         }
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
+        EventIndex index = this.getIndex();
+        long[] utcs = index.utcs;
+        int n = utcs.length;
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        if ((n == 0) || (utc > utcs[n - 1])) {
+            return 0; // nach dem letzten Ereignis (häufigster Fall)
+        }
 
-            if (utc > lse.utc()) {
-                return 0;
-            } else {
-                long start = lse.utc() - lse.getShift();
-                if (utc > start) { // Schaltbereich
-                    return (int) (utc - start);
-                }
-            }
+        // nur das erste Ereignis mit utc() >= utc kommt in Frage
+        int i = rank(utcs, utc);
+        long start = utcs[i] - index.shifts[i];
+
+        if (utc > start) { // Schaltbereich
+            return (int) (utc - start);
         }
 
         return 0;
@@ -644,20 +652,16 @@ public final class LeapSeconds
      */
     public LeapSecondEvent getNextEvent(long utc) {
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        LeapSecondEvent result = null;
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        EventIndex index = this.getIndex();
+        long[] utcs = index.utcs;
+        int n = utcs.length;
 
-            if (utc >= lse.utc()) {
-                break;
-            } else {
-                result = lse;
-            }
+        if ((n == 0) || (utc >= utcs[n - 1])) {
+            return null;
         }
 
-        return result;
+        // utc + 1 kann hier nicht überlaufen, weil utc < utcs[n - 1]
+        return index.events[rank(utcs, utc + 1)];
 
     }
 
@@ -697,19 +701,22 @@ public final class LeapSeconds
             return epochTime;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
+        EventIndex index = this.getIndex();
+        long[] raws = index.raws;
+        int n = raws.length;
+
+        if (n == 0) {
+            return epochTime;
+        }
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        // Schnellzugriff: in der Praxis wird meistens mit aktuellen Datumswerten gesucht
+        int i = ((raws[n - 1] < epochTime) ? n : rank(raws, epochTime)) - 1;
 
-            if (lse.raw() < epochTime) {
-                return Math.addExact(epochTime, lse.utc() - lse.raw());
-            }
+        if (i < 0) {
+            return epochTime;
         }
 
-        return epochTime;
+        return Math.addExact(epochTime, index.utcs[i] - raws[i]);
 
     }
 
@@ -746,20 +753,16 @@ public final class LeapSeconds
             return utc + UNIX_OFFSET;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        boolean snls = this.supportsNegativeLS;
+        EventIndex index = this.getIndex();
+        long[] thresholds = index.thresholds;
+        int n = thresholds.length;
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        if (n > 0) {
+            // Schnellzugriff: in der Praxis wird meistens mit aktuellen Datumswerten gesucht
+            int i = ((thresholds[n - 1] < utc) ? n : rank(thresholds, utc)) - 1;
 
-            if (
-                (lse.utc() - lse.getShift() < utc)
-                || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
-            ) {
-                utc = Math.addExact(utc, lse.raw() - lse.utc());
-                break;
+            if (i >= 0) {
+                utc = Math.addExact(utc, index.raws[i] - index.utcs[i]);
             }
         }
 
@@ -791,19 +794,16 @@ public final class LeapSeconds
             return false;
         }
 
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            long comp = events[i].utc();
+        EventIndex index = this.getIndex();
+        long[] utcs = index.utcs;
+        int n = utcs.length;
 
-            if (comp == utc) {
-                return (events[i].getShift() == 1);
-            } else if (comp < utc) {
-                break;
-            }
+        if ((n == 0) || (utc > utcs[n - 1])) {
+            return false;
         }
 
-        return false;
+        int i = rank(utcs, utc);
+        return ((utcs[i] == utc) && (index.shifts[i] == 1));
 
     }
 
@@ -978,6 +978,7 @@ public final class LeapSeconds
                 this.provider.getDateOfEvent(year, month, dayOfMonth);
             this.list.add(createLSE(newDate, shift, last));
             this.reverseVolatile = this.initReverse();
+            this.indexVolatile = new EventIndex(this.reverseVolatile, this.supportsNegativeLS);
         }
 
     }
@@ -993,6 +994,41 @@ public final class LeapSeconds
 
     }
 
+    private EventIndex getIndex() {
+
+        if (SUPPRESS_UTC_LEAPSECONDS || FINAL_UTC_LEAPSECONDS) {
+            return this.indexFinal;
+        } else {
+            return this.indexVolatile;
+        }
+
+    }
+
+    // Anzahl der Elemente kleiner als key in einem aufsteigend sortierten Array,
+    // binäre Suche ohne datenabhängige Sprünge (Vergleich wird zu bedingter Zuweisung)
+    private static int rank(
+        long[] sorted,
+        long key
+    ) {
+
+        int len = sorted.length;
+
+        if (len == 0) {
+            return 0;
+        }
+
+        int base = 0;
+
+        while (len > 1) {
+            int half = len >>> 1;
+            base = ((sorted[base + half] < key) ? base + half : base);
+            len -= half;
+        }
+
+        return base + ((sorted[base] < key) ? 1 : 0);
+
+    }
+
     private static void extend(SortedSet<ExtendedLSE> sortedColl) {
 
         List<ExtendedLSE> tmp = new ArrayList<>(sortedColl.size());
@@ -1062,6 +1098,46 @@ public final class LeapSeconds
 
     //~ Innere Klassen ----------------------------------------------------
 
+    // unveränderlicher Suchindex mit primitiven Arrays in zeitlich aufsteigender Reihenfolge
+    private static final class EventIndex {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ExtendedLSE[] events;
+        private final long[] utcs;
+        private final long[] raws;
+        private final int[] shifts;
+        private final long[] thresholds; // für strip()
+
+        //~ Konstruktoren -------------------------------------------------
+
+        EventIndex(
+            ExtendedLSE[] reverse,
+            boolean snls
+        ) {
+            super();
+
+            int n = reverse.length;
+            this.events = new ExtendedLSE[n];
+            this.utcs = new long[n];
+            this.raws = new long[n];
+            this.shifts = new int[n];
+            this.thresholds = new long[n];
+
+            for (int i = 0; i < n; i++) {
+                ExtendedLSE lse = reverse[n - 1 - i];
+                int shift = lse.getShift();
+                this.events[i] = lse;
+                this.utcs[i] = lse.utc();
+                this.raws[i] = lse.raw();
+                this.shifts[i] = shift;
+                this.thresholds[i] = ((snls && (shift < 0)) ? lse.utc() : lse.utc() - shift);
+            }
+
+        }
+
+    }
+
     private static class SimpleLeapSecondEvent
         implements ExtendedLSE, Serializable {
 
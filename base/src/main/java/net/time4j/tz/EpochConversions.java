@@ -0,0 +1,398 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (EpochConversions.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.base.UnixTime;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Converts whole columns of global epoch values to local values in a given timezone
+ * without creating any intermediate objects per element. </p>
+ *
+ * <p>All input values count the elapsed time since the UNIX epoch [1970-01-01T00:00:00Z]
+ * in the unit given as method parameter, ignoring leap seconds. The conversion keeps the
+ * current offset window of the timezone and only searches the transition history again
+ * if an input value leaves this window. Sorted input hence walks the transition history
+ * at most once. Unsorted input is allowed but will cause more searches. Platform timezones
+ * without accessible history fall back to one offset query per distinct second. </p>
+ *
+ * <p>The array parameters follow the conventions of {@code System.arraycopy()} so that
+ * big columns can be processed in chunks. Source and destination must not be the same
+ * array with overlapping ranges. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+/*[deutsch]
+ * <p>Konvertiert ganze Spalten von globalen Epochenwerten zu lokalen Werten in einer
+ * angegebenen Zeitzone, ohne je Element Zwischenobjekte zu erzeugen. </p>
+ *
+ * <p>Alle Eingabewerte z&auml;hlen die seit der UNIX-Epoche [1970-01-01T00:00:00Z]
+ * vergangene Zeit in der als Methodenparameter angegebenen Einheit, ohne Schaltsekunden.
+ * Die Konvertierung merkt sich das aktuelle Verschiebungsfenster der Zeitzone und sucht
+ * nur dann erneut in der &Uuml;bergangshistorie, wenn ein Eingabewert dieses Fenster
+ * verl&auml;sst. Sortierte Eingaben durchlaufen die &Uuml;bergangshistorie deshalb
+ * h&ouml;chstens einmal. Unsortierte Eingaben sind erlaubt, verursachen aber mehr
+ * Suchvorg&auml;nge. Plattform-Zeitzonen ohne zug&auml;ngliche Historie weichen auf eine
+ * Verschiebungsabfrage je verschiedener Sekunde aus. </p>
+ *
+ * <p>Die Array-Parameter folgen den Konventionen von {@code System.arraycopy()}, so
+ * da&szlig; gro&szlig;e Spalten in Teilst&uuml;cken verarbeitet werden k&ouml;nnen.
+ * Quelle und Ziel d&uuml;rfen nicht dasselbe Array mit &uuml;berlappenden Bereichen
+ * sein. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+public final class EpochConversions {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int UNIX_OFFSET_MJD = 40587;
+    private static final int MRD = 1_000_000_000;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private EpochConversions() {
+        // keine Instanzierung
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Converts global epoch values to local epoch values in the same unit. </p>
+     *
+     * <p>A local epoch value counts the elapsed local time since [1970-01-01T00:00:00]
+     * on the local timeline, that is the sum of the global value and the zonal offset. </p>
+     *
+     * @param   tz          timezone
+     * @param   unit        time unit of input and output, at least seconds and at most nanoseconds
+     * @param   src         global epoch values
+     * @param   srcPos      start index in source array
+     * @param   dest        destination array for local epoch values
+     * @param   destPos     start index in destination array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if the time unit is not supported
+     * @throws  IndexOutOfBoundsException if any of the array ranges is invalid
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    /*[deutsch]
+     * <p>Konvertiert globale Epochenwerte zu lokalen Epochenwerten in derselben Einheit. </p>
+     *
+     * <p>Ein lokaler Epochenwert z&auml;hlt die vergangene lokale Zeit seit [1970-01-01T00:00:00]
+     * auf dem lokalen Zeitstrahl, also die Summe aus dem globalen Wert und der zonalen
+     * Verschiebung. </p>
+     *
+     * @param   tz          timezone
+     * @param   unit        time unit of input and output, at least seconds and at most nanoseconds
+     * @param   src         global epoch values
+     * @param   srcPos      start index in source array
+     * @param   dest        destination array for local epoch values
+     * @param   destPos     start index in destination array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if the time unit is not supported
+     * @throws  IndexOutOfBoundsException if any of the array ranges is invalid
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    public static void toLocalTimes(
+        Timezone tz,
+        TimeUnit unit,
+        long[] src,
+        int srcPos,
+        long[] dest,
+        int destPos,
+        int length
+    ) {
+
+        Walker walker = new Walker(tz, unit);
+        checkRange(src.length, srcPos, dest.length, destPos, length);
+        long factor = walker.factor;
+
+        for (int i = 0; i < length; i++) {
+            long value = src[srcPos + i];
+            walker.move((factor == 1) ? value : Math.floorDiv(value, factor));
+            dest[destPos + i] = Math.addExact(value, walker.shift);
+        }
+
+    }
+
+    /**
+     * <p>Converts global epoch values to local calendar dates counted in days since
+     * [1970-01-01]. </p>
+     *
+     * @param   tz          timezone
+     * @param   unit        time unit of input, at least seconds and at most nanoseconds
+     * @param   src         global epoch values
+     * @param   srcPos      start index in source array
+     * @param   dest        destination array for local epoch days
+     * @param   destPos     start index in destination array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if the time unit is not supported
+     * @throws  IndexOutOfBoundsException if any of the array ranges is invalid
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    /*[deutsch]
+     * <p>Konvertiert globale Epochenwerte zu lokalen Kalenderdaten, gez&auml;hlt in Tagen
+     * seit [1970-01-01]. </p>
+     *
+     * @param   tz          timezone
+     * @param   unit        time unit of input, at least seconds and at most nanoseconds
+     * @param   src         global epoch values
+     * @param   srcPos      start index in source array
+     * @param   dest        destination array for local epoch days
+     * @param   destPos     start index in destination array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if the time unit is not supported
+     * @throws  IndexOutOfBoundsException if any of the array ranges is invalid
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    public static void toLocalEpochDays(
+        Timezone tz,
+        TimeUnit unit,
+        long[] src,
+        int srcPos,
+        int[] dest,
+        int destPos,
+        int length
+    ) {
+
+        Walker walker = new Walker(tz, unit);
+        checkRange(src.length, srcPos, dest.length, destPos, length);
+
+        for (int i = 0; i < length; i++) {
+            long localSecs = walker.toLocalSeconds(src[srcPos + i]);
+            dest[destPos + i] = Math.toIntExact(Math.floorDiv(localSecs, 86400));
+        }
+
+    }
+
+    /**
+     * <p>Converts global epoch values to local calendar dates in the packed decimal
+     * format {@code yyyyMMdd}. </p>
+     *
+     * <p>Example: The local date 2018-03-25 is stored as the integer {@code 20180325}.
+     * Consecutive elements on the same local date are computed only once. </p>
+     *
+     * @param   tz          timezone
+     * @param   unit        time unit of input, at least seconds and at most nanoseconds
+     * @param   src         global epoch values
+     * @param   srcPos      start index in source array
+     * @param   dest        destination array for packed local dates
+     * @param   destPos     start index in destination array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if the time unit is not supported or if any
+     *          local year is not in range {@code 0-9999}
+     * @throws  IndexOutOfBoundsException if any of the array ranges is invalid
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    /*[deutsch]
+     * <p>Konvertiert globale Epochenwerte zu lokalen Kalenderdaten im gepackten
+     * Dezimalformat {@code yyyyMMdd}. </p>
+     *
+     * <p>Beispiel: Das lokale Datum 2018-03-25 wird als die Ganzzahl {@code 20180325}
+     * gespeichert. Aufeinanderfolgende Elemente mit demselben lokalen Datum werden nur
+     * einmal berechnet. </p>
+     *
+     * @param   tz          timezone
+     * @param   unit        time unit of input, at least seconds and at most nanoseconds
+     * @param   src         global epoch values
+     * @param   srcPos      start index in source array
+     * @param   dest        destination array for packed local dates
+     * @param   destPos     start index in destination array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if the time unit is not supported or if any
+     *          local year is not in range {@code 0-9999}
+     * @throws  IndexOutOfBoundsException if any of the array ranges is invalid
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    public static void toPackedDates(
+        Timezone tz,
+        TimeUnit unit,
+        long[] src,
+        int srcPos,
+        int[] dest,
+        int destPos,
+        int length
+    ) {
+
+        Walker walker = new Walker(tz, unit);
+        checkRange(src.length, srcPos, dest.length, destPos, length);
+        long lastDays = Long.MIN_VALUE;
+        int lastPacked = 0;
+
+        for (int i = 0; i < length; i++) {
+            long days = Math.floorDiv(walker.toLocalSeconds(src[srcPos + i]), 86400);
+
+            if (days != lastDays) {
+                long packed = GregorianMath.toPackedDate(Math.addExact(days, UNIX_OFFSET_MJD));
+                int year = GregorianMath.readYear(packed);
+
+                if ((year < 0) || (year > 9999)) {
+                    throw new IllegalArgumentException("Year out of range for format yyyyMMdd: " + year);
+                }
+
+                lastDays = days;
+                lastPacked =
+                    year * 10000 + GregorianMath.readMonth(packed) * 100 + GregorianMath.readDayOfMonth(packed);
+            }
+
+            dest[destPos + i] = lastPacked;
+        }
+
+    }
+
+    private static void checkRange(
+        int srcLength,
+        int srcPos,
+        int destLength,
+        int destPos,
+        int length
+    ) {
+
+        if (
+            (srcPos < 0)
+            || (destPos < 0)
+            || (length < 0)
+            || (srcPos > srcLength - length)
+            || (destPos > destLength - length)
+        ) {
+            throw new IndexOutOfBoundsException(
+                "Invalid array range: srcPos=" + srcPos + ", destPos=" + destPos + ", length=" + length);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Keeps the offset window valid for the last processed element. </p>
+     *
+     * <p>Implements {@code UnixTime} itself in order to avoid any allocation when
+     * querying the transition history. </p>
+     */
+    private static final class Walker
+        implements UnixTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Timezone tz;
+        private final TransitionHistory history;
+        private final long factor;
+
+        private long posix;
+        private long start = Long.MAX_VALUE; // empty window before first lookup
+        private long end = Long.MIN_VALUE;
+        private int offset;
+        private long shift;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Walker(
+            Timezone tz,
+            TimeUnit unit
+        ) {
+            if (tz == null) {
+                throw new NullPointerException("Missing timezone.");
+            }
+
+            switch (unit) {
+                case SECONDS:
+                    this.factor = 1;
+                    break;
+                case MILLISECONDS:
+                    this.factor = 1_000;
+                    break;
+                case MICROSECONDS:
+                    this.factor = 1_000_000;
+                    break;
+                case NANOSECONDS:
+                    this.factor = MRD;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported time unit: " + unit);
+            }
+
+            this.tz = tz;
+            this.history = tz.getHistory();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public long getPosixTime() {
+
+            return this.posix;
+
+        }
+
+        @Override
+        public int getNanosecond() {
+
+            return 0;
+
+        }
+
+        void move(long posixTime) {
+
+            if ((posixTime >= this.start) && (posixTime < this.end)) {
+                return;
+            }
+
+            ZonalOffset zo;
+            this.posix = posixTime;
+
+            if (this.history != null) {
+                OffsetWindow window = this.history.getOffsetWindow(this);
+                this.start = window.getStartInclusive();
+                this.end = window.getEndExclusive();
+                zo = window.getOffset();
+            } else if (this.tz.isFixed()) {
+                zo = this.tz.getOffset(this);
+                this.start = Long.MIN_VALUE;
+                this.end = Long.MAX_VALUE;
+            } else { // platform timezone without any accessible history
+                zo = this.tz.getOffset(this);
+                this.start = posixTime;
+                this.end = posixTime + 1;
+            }
+
+            // fractional offsets are not supported by timezones
+            this.offset = zo.getIntegralAmount();
+            this.shift = this.offset * this.factor;
+
+        }
+
+        long toLocalSeconds(long value) {
+
+            long secs = ((this.factor == 1) ? value : Math.floorDiv(value, this.factor));
+            this.move(secs);
+            return Math.addExact(secs, this.offset);
+
+        }
+
+    }
+
+}
@@ -28,7 +28,6 @@ import net.time4j.base.WallTime;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
-import java.util.List;
 
 
 /**
@@ -51,6 +50,9 @@ final class HistorizedTimezone
     private transient final TransitionHistory history;
     private transient final TransitionStrategy strategy;
 
+    // last-hit cache for increasing timestamps, races are benign because windows are immutable
+    private transient volatile OffsetWindow lastWindow = null;
+
     //~ Konstruktoren -----------------------------------------------------
 
     /**
@@ -118,13 +120,14 @@ final class HistorizedTimezone
     @Override
     public ZonalOffset getOffset(UnixTime ut) {
 
-        ZonalTransition t = this.history.getStartTransition(ut);
+        OffsetWindow window = this.lastWindow;
 
-        return (
-            (t == null)
-            ? this.history.getInitialOffset()
-            : ZonalOffset.ofTotalSeconds(t.getTotalOffset())
-        );
+        if ((window == null) || !window.contains(ut.getPosixTime())) {
+            window = this.history.getOffsetWindow(ut);
+            this.lastWindow = window;
+        }
+
+        return window.getOffset();
 
     }
 
@@ -160,15 +163,9 @@ final class HistorizedTimezone
         WallTime localTime
     ) {
 
-        List<ZonalOffset> offsets =
-            this.history.getValidOffsets(localDate, localTime);
-
-        if (offsets.size() == 1) {
-            return offsets.get(0);
-        } else {
-            ZonalTransition conflict = this.history.getConflictTransition(localDate, localTime);
-            return ZonalOffset.ofTotalSeconds(conflict.getTotalOffset());
-        }
+        // in case of gaps or overlaps the offset after the conflict transition
+        long pair = this.history.getOffsetPair(localDate, localTime);
+        return ZonalOffset.ofTotalSeconds((int) pair);
 
     }
 
@@ -178,8 +175,8 @@ final class HistorizedTimezone
         WallTime localTime
     ) {
 
-        ZonalTransition t = this.history.getConflictTransition(localDate, localTime);
-        return ((t != null) && t.isGap());
+        long pair = this.history.getOffsetPair(localDate, localTime);
+        return ((int) pair > (int) (pair >> 32));
 
     }
 
@@ -0,0 +1,227 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (OffsetWindow.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import net.time4j.base.UnixTime;
+
+
+/**
+ * <p>Describes a zonal offset together with the interval on the POSIX time scale
+ * where this offset is valid without any transition. </p>
+ *
+ * <p>Applications converting a stream of increasing timestamps can keep the last window
+ * and reuse its offset as long as the next timestamp is still inside the window. This
+ * avoids any new search in the transition history. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       5.0
+ * @see         TransitionHistory#getOffsetWindow(UnixTime)
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Beschreibt eine zonale Verschiebung zusammen mit dem Intervall auf der POSIX-Zeitskala,
+ * in dem diese Verschiebung ohne &Uuml;bergang g&uuml;ltig ist. </p>
+ *
+ * <p>Anwendungen, die einen Strom von aufsteigenden Zeitstempeln umrechnen, k&ouml;nnen
+ * das letzte Fenster behalten und dessen Verschiebung wiederverwenden, solange der
+ * n&auml;chste Zeitstempel noch innerhalb des Fensters liegt. Damit entf&auml;llt jede
+ * neue Suche in der &Uuml;bergangshistorie. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       5.0
+ * @see         TransitionHistory#getOffsetWindow(UnixTime)
+ * @doctags.concurrency {immutable}
+ */
+public final class OffsetWindow {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long start;
+    private final long end;
+    private final ZonalOffset offset;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new offset window. </p>
+     *
+     * @param   start       POSIX time of start (inclusive), {@code Long.MIN_VALUE} if unbounded
+     * @param   end         POSIX time of end (exclusive), {@code Long.MAX_VALUE} if unbounded
+     * @param   offset      zonal offset valid within the window
+     * @throws  IllegalArgumentException if start is not before end
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Verschiebungsfenster. </p>
+     *
+     * @param   start       POSIX time of start (inclusive), {@code Long.MIN_VALUE} if unbounded
+     * @param   end         POSIX time of end (exclusive), {@code Long.MAX_VALUE} if unbounded
+     * @param   offset      zonal offset valid within the window
+     * @throws  IllegalArgumentException if start is not before end
+     */
+    public OffsetWindow(
+        long start,
+        long end,
+        ZonalOffset offset
+    ) {
+        super();
+
+        if (offset == null) {
+            throw new NullPointerException("Missing offset.");
+        } else if (start >= end) {
+            throw new IllegalArgumentException("Start must be before end: " + start + "/" + end);
+        }
+
+        this.start = start;
+        this.end = end;
+        this.offset = offset;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the POSIX time where this window starts (inclusive). </p>
+     *
+     * @return  POSIX time in seconds or {@code Long.MIN_VALUE} if there is no earlier transition
+     */
+    /*[deutsch]
+     * <p>Liefert die POSIX-Zeit, mit der dieses Fenster beginnt (inklusive). </p>
+     *
+     * @return  POSIX time in seconds or {@code Long.MIN_VALUE} if there is no earlier transition
+     */
+    public long getStartInclusive() {
+
+        return this.start;
+
+    }
+
+    /**
+     * <p>Yields the POSIX time where this window ends (exclusive). </p>
+     *
+     * @return  POSIX time in seconds or {@code Long.MAX_VALUE} if there is no later transition
+     */
+    /*[deutsch]
+     * <p>Liefert die POSIX-Zeit, mit der dieses Fenster endet (exklusive). </p>
+     *
+     * @return  POSIX time in seconds or {@code Long.MAX_VALUE} if there is no later transition
+     */
+    public long getEndExclusive() {
+
+        return this.end;
+
+    }
+
+    /**
+     * <p>Yields the total offset valid within this window. </p>
+     *
+     * @return  ZonalOffset
+     */
+    /*[deutsch]
+     * <p>Liefert die in diesem Fenster g&uuml;ltige Gesamtverschiebung. </p>
+     *
+     * @return  ZonalOffset
+     */
+    public ZonalOffset getOffset() {
+
+        return this.offset;
+
+    }
+
+    /**
+     * <p>Queries if given POSIX time is within this window. </p>
+     *
+     * @param   posixTime   POSIX time in seconds
+     * @return  {@code true} if the offset of this window is valid at given time else {@code false}
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob die angegebene POSIX-Zeit innerhalb dieses Fensters liegt. </p>
+     *
+     * @param   posixTime   POSIX time in seconds
+     * @return  {@code true} if the offset of this window is valid at given time else {@code false}
+     */
+    public boolean contains(long posixTime) {
+
+        return ((this.start <= posixTime) && (posixTime < this.end));
+
+    }
+
+    /**
+     * <p>Queries if given global timestamp is within this window. </p>
+     *
+     * @param   ut      unix reference time
+     * @return  {@code true} if the offset of this window is valid at given time else {@code false}
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob der angegebene globale Zeitpunkt innerhalb dieses Fensters liegt. </p>
+     *
+     * @param   ut      unix reference time
+     * @return  {@code true} if the offset of this window is valid at given time else {@code false}
+     */
+    public boolean contains(UnixTime ut) {
+
+        return this.contains(ut.getPosixTime());
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof OffsetWindow) {
+            OffsetWindow that = (OffsetWindow) obj;
+            return (
+                (this.start == that.start)
+                && (this.end == that.end)
+                && this.offset.equals(that.offset)
+            );
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        int h = (int) (this.start ^ (this.start >>> 32));
+        h = 31 * h + (int) (this.end ^ (this.end >>> 32));
+        return h + 37 * this.offset.hashCode();
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(64);
+        sb.append("[start=");
+        sb.append(this.start);
+        sb.append(",end=");
+        sb.append(this.end);
+        sb.append(",offset=");
+        sb.append(this.offset);
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+}
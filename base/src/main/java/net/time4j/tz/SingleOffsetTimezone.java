@@ -181,6 +181,17 @@ final class SingleOffsetTimezone
 
     }
 
+    @Override
+    public long getOffsetPair(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        long total = this.offset.getIntegralAmount();
+        return ((total << 32) | (total & 0xFFFFFFFFL));
+
+    }
+
     // optional
     @Override
     public ZonalTransition getStartTransition(UnixTime time) {
@@ -25,11 +25,10 @@ import net.time4j.base.GregorianDate;
 import net.time4j.base.ResourceLoader;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
+import net.time4j.tz.threeten.JdkZoneProviderSPI;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.SoftReference;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -37,13 +36,13 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -169,60 +168,52 @@ public abstract class Timezone
 
     private static final boolean ALLOW_SYSTEM_TZ_OVERRIDE = Boolean.getBoolean("net.time4j.allow.system.tz.override");
 
+    // incremented after every change of providers, keys of older generations are stale
+    private static final AtomicInteger KEY_GENERATION = new AtomicInteger();
     private static volatile ZonalKeys zonalKeys;
     private static volatile Timezone currentSystemTZ = null;
     private static volatile boolean cacheActive = true;
-    private static int softLimit = 11;
 
     private static final String NAME_JUT = "java.util.TimeZone";
     private static final String NAME_TZDB = "TZDB";
     private static final String NAME_DEFAULT = "DEFAULT";
-
-    private static final Map<String, TZID> PREDEFINED;
+    private static final String NAME_TZDB_LAZY = "TZDB-LAZY";
+    private static final String NAME_TZDB_COMPILED = "TZDB-COMPILED";
+
+    private static final Set<String> AREAS =
+        new HashSet<>(
+            Arrays.asList(
+                "AFRICA",
+                "AMERICA",
+                "AMERICA$ARGENTINA",
+                "AMERICA$INDIANA",
+                "AMERICA$KENTUCKY",
+                "AMERICA$NORTH_DAKOTA",
+                "ANTARCTICA",
+                "ASIA",
+                "ATLANTIC",
+                "AUSTRALIA",
+                "EUROPE",
+                "INDIAN",
+                "PACIFIC"));
+
+    // per area, the enums of olson-package are only loaded on demand
+    private static final ConcurrentMap<String, Map<String, TZID>> PREDEFINED = new ConcurrentHashMap<>();
+    private static final Map<String, TZID> UNIVERSAL;
     private static final Map<String, TZID> ETCETERA;
     private static final ZoneModelProvider PLATFORM_PROVIDER;
     private static final ZoneModelProvider DEFAULT_PROVIDER;
-    private static final ConcurrentMap<String, NamedReference> CACHE;
-    private static final ReferenceQueue<Timezone> QUEUE;
-    private static final LinkedList<Timezone> LAST_USED;
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+    private static final ZoneCache CACHE;
     private static final ConcurrentMap<String, ZoneModelProvider> PROVIDERS;
-
-    /**
-     * Default provider for tz-name-repository.
-     */
-    static final ZoneNameProvider NAME_PROVIDER;
+    // loading modes of the JDK-provider, created on demand and not scanned for zone keys
+    private static final ConcurrentMap<String, ZoneModelProvider> LOADING_MODES = new ConcurrentHashMap<>();
 
     private static final Timezone SYSTEM_TZ_ORIGINAL;
 
     static {
-        CACHE = new ConcurrentHashMap<>();
+        CACHE = new ZoneCache(DEFAULT_CACHE_SIZE);
         PROVIDERS = new ConcurrentHashMap<>();
-        QUEUE = new ReferenceQueue<>();
-        LAST_USED = new LinkedList<>(); // strong references
-
-        List<Class<? extends TZID>> areas;
-
-        try {
-            areas =
-                loadPredefined(
-                    Timezone.class.getClassLoader(),
-                    "AFRICA",
-                    "AMERICA",
-                    "AMERICA$ARGENTINA",
-                    "AMERICA$INDIANA",
-                    "AMERICA$KENTUCKY",
-                    "AMERICA$NORTH_DAKOTA",
-                    "ANTARCTICA",
-                    "ASIA",
-                    "ATLANTIC",
-                    "AUSTRALIA",
-                    "EUROPE",
-                    "INDIAN",
-                    "PACIFIC");
-        } catch (ClassNotFoundException cnfe) {
-            // olson-package not available
-            areas = Collections.emptyList();
-        }
 
         Map<String, TZID> temp1 = new HashMap<>();
         temp1.put("Z", ZonalOffset.UTC);
@@ -231,21 +222,13 @@ public abstract class Timezone
         temp1.put("GMT", ZonalOffset.UTC);
         temp1.put("UTC0", ZonalOffset.UTC);
         temp1.put("GMT0", ZonalOffset.UTC);
-
-        for (Class<? extends TZID> area : areas) {
-            for (TZID tzid : area.getEnumConstants()) {
-                temp1.put(tzid.canonical(), tzid);
-            }
-        }
-
-        PREDEFINED = Collections.unmodifiableMap(temp1);
+        UNIVERSAL = Collections.unmodifiableMap(temp1);
 
         Map<String, TZID> etcetera = new HashMap<>();
         fillEtcetera(etcetera);
         ETCETERA = Collections.unmodifiableMap(etcetera);
 
         ZoneModelProvider zp = null;
-        ZoneNameProvider np = null;
 
         for (ZoneModelProvider provider : ResourceLoader.getInstance().services(ZoneModelProvider.class)) {
             String name = provider.getName();
@@ -257,12 +240,7 @@ public abstract class Timezone
             }
         }
 
-        for (ZoneNameProvider provider : ResourceLoader.getInstance().services(ZoneNameProvider.class)) {
-            np = provider;
-        }
-
         PLATFORM_PROVIDER = new PlatformZoneProvider();
-        NAME_PROVIDER = ((np == null) ? PLATFORM_PROVIDER.getSpecificZoneNameRepository() : np);
         PROVIDERS.put(NAME_JUT, PLATFORM_PROVIDER);
 
         if (zp == null) {
@@ -295,9 +273,6 @@ public abstract class Timezone
         if (ALLOW_SYSTEM_TZ_OVERRIDE) {
             currentSystemTZ = SYSTEM_TZ_ORIGINAL;
         }
-
-        // Cache für Available-IDs
-        zonalKeys = new ZonalKeys();
     }
 
     //~ Konstruktoren -----------------------------------------------------
@@ -324,7 +299,7 @@ public abstract class Timezone
      */
     public static List<TZID> getAvailableIDs() {
 
-        return zonalKeys.availables;
+        return getZonalKeys().availables;
 
     }
 
@@ -362,7 +337,7 @@ public abstract class Timezone
     public static List<TZID> getAvailableIDs(String provider) {
 
         if (provider.equals("INCLUDE_ALIAS")) {
-            return zonalKeys.availablesAndAliases;
+            return getZonalKeys().availablesAndAliases;
         }
 
         ZoneModelProvider zp = getProvider(provider);
@@ -436,7 +411,7 @@ public abstract class Timezone
         ZoneNameProvider np = zp.getSpecificZoneNameRepository();
 
         if (np == null) {
-            np = NAME_PROVIDER;
+            np = getNameProvider();
         }
 
         Set<TZID> p = new HashSet<>();
@@ -758,7 +733,7 @@ public abstract class Timezone
         boolean useDefault = (providerName.isEmpty() || providerName.equals(NAME_DEFAULT));
 
         if (!useDefault && !providerName.equals("WINDOWS") && !providerName.equals("MILITARY")) {
-            provider = PROVIDERS.get(providerName);
+            provider = lookupProvider(providerName);
 
             if (provider == null) {
                 String msg;
@@ -1257,7 +1232,7 @@ public abstract class Timezone
         if (index >= 0) {
             String pname = canonical.substring(0, index);
             if (!pname.equals(NAME_DEFAULT)) {
-                provider = PROVIDERS.get(pname);
+                provider = lookupProvider(pname);
                 if (provider == null) {
                     return canonical;
                 }
@@ -1268,14 +1243,15 @@ public abstract class Timezone
         ZoneNameProvider np = provider.getSpecificZoneNameRepository();
 
         if (np == null) {
-            np = NAME_PROVIDER;
+            np = getNameProvider();
         }
 
         String name = np.getDisplayName(zoneID, style, locale);
 
         if (name.isEmpty()) {
-            if (np != NAME_PROVIDER) {
-                name = NAME_PROVIDER.getDisplayName(zoneID, style, locale);
+            ZoneNameProvider defaultProvider = getNameProvider();
+            if (np != defaultProvider) {
+                name = defaultProvider.getDisplayName(zoneID, style, locale);
             }
             name = (name.isEmpty() ? canonical : name);
         }
@@ -1328,7 +1304,7 @@ public abstract class Timezone
         boolean inserted = (PROVIDERS.putIfAbsent(name, provider) == null);
 
         if (inserted) {
-            zonalKeys = new ZonalKeys();
+            KEY_GENERATION.incrementAndGet(); // recalculate on demand
         }
 
         return inserted;
@@ -1413,15 +1389,7 @@ public abstract class Timezone
     ) {
 
         // Suche im Cache
-        Timezone tz = null;
-        NamedReference sref = CACHE.get(zoneID);
-
-        if (sref != null) {
-            tz = sref.get();
-            if (tz == null) {
-                CACHE.remove(sref.tzid);
-            }
-        }
+        Timezone tz = CACHE.get(zoneID);
 
         if (tz != null) {
             return tz;
@@ -1454,7 +1422,7 @@ public abstract class Timezone
             || providerName.equals(NAME_DEFAULT));
 
         if (!useDefault) {
-            provider = PROVIDERS.get(providerName);
+            provider = lookupProvider(providerName);
 
             if (provider == null) {
                 if (wantsException) {
@@ -1531,27 +1499,7 @@ public abstract class Timezone
 
         // bei Bedarf im Cache speichern
         if (cacheActive) {
-            NamedReference oldRef =
-                CACHE.putIfAbsent(
-                    zoneID,
-                    new NamedReference(tz, QUEUE)
-                );
-
-            if (oldRef == null) {
-                synchronized (Timezone.class) {
-                    LAST_USED.addFirst(tz);
-
-                    while (LAST_USED.size() >= softLimit) {
-                        LAST_USED.removeLast();
-                    }
-                }
-            } else {
-                Timezone oldZone = oldRef.get();
-
-                if (oldZone != null) {
-                    tz = oldZone;
-                }
-            }
+            tz = CACHE.putIfAbsent(zoneID, tz);
         }
 
         return tz;
@@ -1601,7 +1549,7 @@ public abstract class Timezone
     private static TZID resolve(String zoneKey) {
 
         // enums bevorzugen
-        TZID resolved = PREDEFINED.get(zoneKey);
+        TZID resolved = getPredefined(zoneKey);
 
         if (resolved == null) {
             if (zoneKey.startsWith("GMT")) {
@@ -1657,24 +1605,84 @@ public abstract class Timezone
         map.put("Etc/GMT+12", ZonalOffset.ofTotalSeconds(-12 * 3600));
     }
 
-    @SuppressWarnings("unchecked")
-    private static List<Class<? extends TZID>> loadPredefined(
-        ClassLoader loader,
-        String... names
-    ) throws ClassNotFoundException {
+    private static Map<String, TZID> loadPredefined(String area) {
 
-        List<Class<? extends TZID>> classes = new ArrayList<>();
+        Map<String, TZID> ids = new HashMap<>();
 
-        for (String name : names) {
-            Class<?> clazz =
-                Class.forName("net.time4j.tz.olson." + name, true, loader);
+        try {
+            Class<?> clazz = Class.forName("net.time4j.tz.olson." + area, true, Timezone.class.getClassLoader());
 
             if (TZID.class.isAssignableFrom(clazz)) {
-                classes.add((Class<? extends TZID>) clazz);
+                for (Object tzid : clazz.getEnumConstants()) {
+                    ids.put(TZID.class.cast(tzid).canonical(), TZID.class.cast(tzid));
+                }
+            }
+        } catch (ClassNotFoundException cnfe) {
+            // olson-package not available
+        }
+
+        return Collections.unmodifiableMap(ids);
+
+    }
+
+    private static TZID getPredefined(String zoneKey) {
+
+        int slash = zoneKey.indexOf('/');
+
+        if (slash == -1) {
+            return UNIVERSAL.get(zoneKey);
+        }
+
+        // America/Argentina/Buenos_Aires => AMERICA$ARGENTINA
+        String area = zoneKey.substring(0, slash).toUpperCase(Locale.ROOT);
+        int next = zoneKey.indexOf('/', slash + 1);
+
+        if (next != -1) {
+            area = area + "$" + zoneKey.substring(slash + 1, next).toUpperCase(Locale.ROOT);
+        }
+
+        if (!AREAS.contains(area)) {
+            return null;
+        }
+
+        Map<String, TZID> ids = PREDEFINED.get(area);
+
+        if (ids == null) {
+            ids = loadPredefined(area);
+            Map<String, TZID> old = PREDEFINED.putIfAbsent(area, ids);
+            if (old != null) {
+                ids = old;
             }
         }
 
-        return Collections.unmodifiableList(classes);
+        return ids.get(zoneKey);
+
+    }
+
+    private static ZonalKeys getZonalKeys() {
+
+        ZonalKeys keys = zonalKeys;
+        int generation = KEY_GENERATION.get();
+
+        // a concurrent invalidation might overwrite newer keys with stale ones,
+        // but stale keys are never used because their generation is checked
+        if ((keys == null) || (keys.generation != generation)) {
+            keys = new ZonalKeys(generation);
+            zonalKeys = keys;
+        }
+
+        return keys;
+
+    }
+
+    /**
+     * <p>Liefert den Standard-Provider f&uuml;r Zeitzonennamen. </p>
+     *
+     * @return  ZoneNameProvider (loaded on first call)
+     */
+    static ZoneNameProvider getNameProvider() {
+
+        return NameRepository.PROVIDER;
 
     }
 
@@ -1687,7 +1695,23 @@ public abstract class Timezone
         return (
             provider.equals(NAME_DEFAULT)
             ? DEFAULT_PROVIDER
-            : PROVIDERS.get(provider));
+            : lookupProvider(provider));
+
+    }
+
+    private static ZoneModelProvider lookupProvider(String name) {
+
+        ZoneModelProvider provider = PROVIDERS.get(name);
+
+        if (provider == null) {
+            if (name.equals(NAME_TZDB_LAZY)) {
+                provider = LOADING_MODES.computeIfAbsent(name, key -> JdkZoneProviderSPI.lazy());
+            } else if (name.equals(NAME_TZDB_COMPILED)) {
+                provider = LOADING_MODES.computeIfAbsent(name, key -> JdkZoneProviderSPI.compiled());
+            }
+        }
+
+        return provider;
 
     }
 
@@ -1756,12 +1780,7 @@ public abstract class Timezone
          */
         public static void refresh() {
 
-            synchronized (Timezone.class) {
-                while (QUEUE.poll() != null) {}
-                LAST_USED.clear();
-            }
-
-            zonalKeys = new ZonalKeys();
+            KEY_GENERATION.incrementAndGet(); // recalculate on demand
             CACHE.clear();
 
             if (ALLOW_SYSTEM_TZ_OVERRIDE) {
@@ -1799,17 +1818,32 @@ public abstract class Timezone
         }
 
         /**
-         * <p>Updates the size of the internal timezone cache. </p>
+         * <p>Ensures that the internal timezone cache can hold at least given count of timezones. </p>
+         *
+         * <p>Since version 5.0, the cache is bounded and holds strong references only, so this
+         * method just raises the maximum size if necessary. Smaller arguments including zero have
+         * no effect any longer and do not shrink the cache. Use {@link #setMaximumCacheSize(int)}
+         * or {@link #setCacheActive(boolean)} instead. </p>
          *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
+         * @deprecated  Use {@link #setMaximumCacheSize(int)}
          */
         /*[deutsch]
-         * <p>Konfiguriert die Gr&ouml;&szlig;e des internen Cache neu. </p>
+         * <p>Stellt sicher, da&szlig; der interne Cache mindestens die angegebene Anzahl von
+         * Zeitzonen halten kann. </p>
+         *
+         * <p>Seit Version 5.0 ist der Cache begrenzt und h&auml;lt nur starke Referenzen, so
+         * da&szlig; diese Methode bei Bedarf lediglich die maximale Gr&ouml;&szlig;e anhebt.
+         * Kleinere Argumente einschlie&szlig;lich null haben keine Wirkung mehr und verkleinern
+         * den Cache nicht. Stattdessen {@link #setMaximumCacheSize(int)} oder
+         * {@link #setCacheActive(boolean)} verwenden. </p>
          *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
+         * @deprecated  Use {@link #setMaximumCacheSize(int)}
          */
+        @Deprecated
         public static void setMinimumCacheSize(int minimumCacheSize) {
 
             if (minimumCacheSize < 0) {
@@ -1817,40 +1851,120 @@ public abstract class Timezone
                     "Negative timezone cache size: " + minimumCacheSize);
             }
 
-            NamedReference ref;
-
-            while ((ref = (NamedReference) QUEUE.poll()) != null) {
-                CACHE.remove(ref.tzid);
+            if (minimumCacheSize > CACHE.getMaximumSize()) {
+                CACHE.setMaximumSize(minimumCacheSize);
             }
 
-            synchronized (Timezone.class) {
-                softLimit = minimumCacheSize + 1;
-                int n = LAST_USED.size() - minimumCacheSize;
+        }
 
-                for (int i = 0; i < n; i++) {
-                    LAST_USED.removeLast();
-                }
+        /**
+         * <p>Updates the maximum size of the internal timezone cache. </p>
+         *
+         * <p>If the cache is full then the least recently used timezones will be evicted
+         * first (approximated by the CLOCK-algorithm). Reading the cache does not need any
+         * lock. The default size is {@code 1024}. </p>
+         *
+         * @param   maximumCacheSize    new maximum size of cache
+         * @throws  IllegalArgumentException if the argument is negative
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Konfiguriert die maximale Gr&ouml;&szlig;e des internen Cache neu. </p>
+         *
+         * <p>Ist der Cache voll, werden die am l&auml;ngsten nicht benutzten Zeitzonen zuerst
+         * entfernt (angen&auml;hert durch den CLOCK-Algorithmus). Das Lesen des Cache braucht
+         * keine Sperre. Die Standardgr&ouml;&szlig;e ist {@code 1024}. </p>
+         *
+         * @param   maximumCacheSize    new maximum size of cache
+         * @throws  IllegalArgumentException if the argument is negative
+         * @since   5.0
+         */
+        public static void setMaximumCacheSize(int maximumCacheSize) {
+
+            if (maximumCacheSize < 0) {
+                throw new IllegalArgumentException(
+                    "Negative timezone cache size: " + maximumCacheSize);
             }
 
+            CACHE.setMaximumSize(maximumCacheSize);
+
         }
 
-    }
+        /**
+         * <p>Yields the current count of cached timezones. </p>
+         *
+         * @return  int
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Anzahl der gepufferten Zeitzonen. </p>
+         *
+         * @return  int
+         * @since   5.0
+         */
+        public static int getSize() {
 
-    private static class NamedReference
-        extends SoftReference<Timezone> {
+            return CACHE.size();
 
-        //~ Instanzvariablen ----------------------------------------------
+        }
 
-        private final String tzid;
+        /**
+         * <p>Yields the count of successful cache lookups since the start of the application. </p>
+         *
+         * @return  long
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der erfolgreichen Cache-Abfragen seit dem Start der Anwendung. </p>
+         *
+         * @return  long
+         * @since   5.0
+         */
+        public static long getHitCount() {
 
-        //~ Konstruktoren -------------------------------------------------
+            return CACHE.getHitCount();
 
-        NamedReference(
-            Timezone tz,
-            ReferenceQueue<Timezone> queue
-        ) {
-            super(tz, queue);
-            this.tzid = tz.getID().canonical();
+        }
+
+        /**
+         * <p>Yields the count of failed cache lookups since the start of the application. </p>
+         *
+         * <p>Every miss causes a new load of the timezone data by the underlying provider. </p>
+         *
+         * @return  long
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der erfolglosen Cache-Abfragen seit dem Start der Anwendung. </p>
+         *
+         * <p>Jeder Fehlgriff verursacht ein neues Laden der Zeitzonendaten durch den
+         * zugrundeliegenden {@code ZoneModelProvider}. </p>
+         *
+         * @return  long
+         * @since   5.0
+         */
+        public static long getMissCount() {
+
+            return CACHE.getMissCount();
+
+        }
+
+        /**
+         * <p>Yields the count of timezones evicted from the full cache since the start of the application. </p>
+         *
+         * @return  long
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der aus dem vollen Cache entfernten Zeitzonen seit dem Start
+         * der Anwendung. </p>
+         *
+         * @return  long
+         * @since   5.0
+         */
+        public static long getEvictionCount() {
+
+            return CACHE.getEvictionCount();
 
         }
 
@@ -1860,17 +1974,23 @@ public abstract class Timezone
 
         //~ Instanzvariablen ----------------------------------------------
 
+        private final int generation;
         private final List<TZID> availables;
         private final List<TZID> availablesAndAliases;
 
         //~ Konstruktoren -------------------------------------------------
 
-        ZonalKeys() {
+        ZonalKeys(int generation) {
             super();
 
+            this.generation = generation;
+
             List<TZID> list = new ArrayList<>(1024);
             List<TZID> listAndAliases = new ArrayList<>(1024);
+            Set<TZID> known = new HashSet<>(1024);
+            Set<TZID> knownAndAliases = new HashSet<>(1024);
             list.add(ZonalOffset.UTC);
+            known.add(ZonalOffset.UTC);
 
             for (Map.Entry<String, ZoneModelProvider> e : PROVIDERS.entrySet()) {
                 ZoneModelProvider zp = e.getValue();
@@ -1886,18 +2006,22 @@ public abstract class Timezone
                     TZID tzid = resolve(id);
 
                     // wegen resolve() genügt Vergleich per equals()
-                    if (!list.contains(tzid)) {
+                    if (known.add(tzid)) {
                         list.add(tzid);
                     }
                 }
 
-                listAndAliases.addAll(list);
+                for (TZID tzid : list) {
+                    if (knownAndAliases.add(tzid)) {
+                        listAndAliases.add(tzid);
+                    }
+                }
 
                 for (String alias : zp.getAliases().keySet()) {
                     TZID tzid = resolve(alias);
 
                     // wegen resolve() genügt Vergleich per equals()
-                    if (!listAndAliases.contains(tzid)) {
+                    if (knownAndAliases.add(tzid)) {
                         listAndAliases.add(tzid);
                     }
                 }
@@ -1912,6 +2036,25 @@ public abstract class Timezone
 
     }
 
+    // the name provider is only loaded if zone names are really needed
+    private static class NameRepository {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final ZoneNameProvider PROVIDER;
+
+        static {
+            ZoneNameProvider np = null;
+
+            for (ZoneNameProvider provider : ResourceLoader.getInstance().services(ZoneNameProvider.class)) {
+                np = provider;
+            }
+
+            PROVIDER = ((np == null) ? PLATFORM_PROVIDER.getSpecificZoneNameRepository() : np);
+        }
+
+    }
+
     private static class PlatformZoneProvider
         implements ZoneModelProvider, ZoneNameProvider {
 
@@ -420,4 +420,117 @@ public interface TransitionHistory {
         );
     }
 
+    /**
+     * <p>Determines the offset valid at given global timestamp together with the
+     * surrounding interval where no other transition happens. </p>
+     *
+     * <p>Callers converting many increasing timestamps can reuse the offset of the
+     * returned window as long as {@link OffsetWindow#contains(UnixTime)} is true. The
+     * default implementation combines {@code getStartTransition()} and the next transition.
+     * Implementations are encouraged to override it with a single search. </p>
+     *
+     * @param   ut      unix reference time
+     * @return  offset window containing given reference time
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Bestimmt die zum angegebenen globalen Zeitpunkt g&uuml;ltige Verschiebung zusammen
+     * mit dem umgebenden Intervall, in dem kein anderer &Uuml;bergang stattfindet. </p>
+     *
+     * <p>Aufrufer, die viele aufsteigende Zeitpunkte umrechnen, k&ouml;nnen die Verschiebung
+     * des gelieferten Fensters wiederverwenden, solange {@link OffsetWindow#contains(UnixTime)}
+     * zutrifft. Die Standardimplementierung kombiniert {@code getStartTransition()} und den
+     * n&auml;chsten &Uuml;bergang. Implementierungen sollten sie mit einer einzigen Suche
+     * &uuml;berschreiben. </p>
+     *
+     * @param   ut      unix reference time
+     * @return  offset window containing given reference time
+     * @since   5.0
+     */
+    @SuppressWarnings("deprecation")
+    default OffsetWindow getOffsetWindow(UnixTime ut) {
+        ZonalTransition start = this.getStartTransition(ut);
+        ZonalTransition next = this.getNextTransition(ut);
+        return new OffsetWindow(
+            ((start == null) ? Long.MIN_VALUE : start.getPosixTime()),
+            ((next == null) ? Long.MAX_VALUE : next.getPosixTime()),
+            ((start == null) ? this.getInitialOffset() : ZonalOffset.ofTotalSeconds(start.getTotalOffset()))
+        );
+    }
+
+    /**
+     * <p>Determines the offsets at given local timestamp in a compact primitive form
+     * without creating any lists or transition objects. </p>
+     *
+     * <p>The lower 32 bits of the result contain the total offset in seconds which is
+     * valid at given local timestamp, or the total offset after the conflict transition
+     * if the local timestamp falls in a gap or an overlap. The upper 32 bits contain the
+     * total offset before the conflict transition or the same offset as in the lower
+     * bits if there is no conflict. Hence: </p>
+     *
+     * <pre>
+     *  long pair = history.getOffsetPair(localDate, localTime);
+     *  int total = (int) pair;
+     *  int previous = (int) (pair &gt;&gt; 32);
+     *  boolean gap = (total &gt; previous);
+     *  boolean overlap = (total &lt; previous);
+     * </pre>
+     *
+     * <p>The same note about the year of {@code localDate} as in
+     * {@link #getValidOffsets(GregorianDate, WallTime)} applies. The default
+     * implementation combines {@code getConflictTransition()} and {@code getValidOffsets()}.
+     * Implementations are encouraged to override it with a single search. </p>
+     *
+     * @param   localDate   local date in timezone
+     * @param   localTime   local wall time in timezone
+     * @return  previous offset in upper bits and total offset in lower bits
+     * @see     #getConflictTransition(GregorianDate, WallTime)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Verschiebungen zur angegebenen lokalen Zeit in einer kompakten
+     * primitiven Form, ohne Listen oder &Uuml;bergangsobjekte zu erzeugen. </p>
+     *
+     * <p>Die unteren 32 Bits des Ergebnisses enthalten die zur lokalen Zeit g&uuml;ltige
+     * Gesamtverschiebung in Sekunden oder die Gesamtverschiebung nach dem Konfliktzeitpunkt,
+     * wenn die lokale Zeit in eine L&uuml;cke oder eine &Uuml;berlappung f&auml;llt. Die
+     * oberen 32 Bits enthalten die Gesamtverschiebung vor dem Konfliktzeitpunkt oder die
+     * gleiche Verschiebung wie in den unteren Bits, wenn kein Konflikt vorliegt. Also: </p>
+     *
+     * <pre>
+     *  long pair = history.getOffsetPair(localDate, localTime);
+     *  int total = (int) pair;
+     *  int previous = (int) (pair &gt;&gt; 32);
+     *  boolean gap = (total &gt; previous);
+     *  boolean overlap = (total &lt; previous);
+     * </pre>
+     *
+     * <p>Der gleiche Hinweis zum Jahr von {@code localDate} wie in
+     * {@link #getValidOffsets(GregorianDate, WallTime)} gilt. Die Standardimplementierung
+     * kombiniert {@code getConflictTransition()} und {@code getValidOffsets()}.
+     * Implementierungen sollten sie mit einer einzigen Suche &uuml;berschreiben. </p>
+     *
+     * @param   localDate   local date in timezone
+     * @param   localTime   local wall time in timezone
+     * @return  previous offset in upper bits and total offset in lower bits
+     * @see     #getConflictTransition(GregorianDate, WallTime)
+     * @since   5.0
+     */
+    default long getOffsetPair(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+        ZonalTransition conflict = this.getConflictTransition(localDate, localTime);
+        int previous;
+        int total;
+        if (conflict == null) {
+            total = this.getValidOffsets(localDate, localTime).get(0).getIntegralAmount();
+            previous = total;
+        } else {
+            total = conflict.getTotalOffset();
+            previous = conflict.getPreviousOffset();
+        }
+        return ((((long) previous) << 32) | (total & 0xFFFFFFFFL));
+    }
+
 }
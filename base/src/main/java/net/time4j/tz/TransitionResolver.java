@@ -146,37 +146,34 @@ final class TransitionResolver
             throw new UnsupportedOperationException(NO_HISTORY);
         }
 
-        ZonalTransition conflict = history.getConflictTransition(date, time);
-
-        if (conflict != null) {
-            if (conflict.isGap()) {
-                switch (this.gapResolver) {
-                    case PUSH_FORWARD:
-                        long localSeconds = toLocalSeconds(y, m, d, h, min, s);
-                        localSeconds += conflict.getSize();
-                        return localSeconds - conflict.getTotalOffset();
-                    case NEXT_VALID_TIME:
-                        return conflict.getPosixTime();
-                    case ABORT:
-                        throwInvalidException(date, time, tz);
-                        break;
-                    default:
-                        String msg = this.gapResolver.name();
-                        throw new UnsupportedOperationException(msg);
-                }
-            } else if (conflict.isOverlap()) {
-                long localSeconds = toLocalSeconds(y, m, d, h, min, s);
-                int offset = conflict.getTotalOffset();
-                if (this.overlapResolver == OverlapResolver.EARLIER_OFFSET) {
-                    offset = conflict.getPreviousOffset();
-                }
-                return localSeconds - offset;
+        long pair = history.getOffsetPair(date, time);
+        int offset = (int) pair;
+        int previous = (int) (pair >> 32);
+
+        if (offset > previous) { // gap
+            switch (this.gapResolver) {
+                case PUSH_FORWARD:
+                    long localSeconds = toLocalSeconds(y, m, d, h, min, s);
+                    localSeconds += (offset - previous);
+                    return localSeconds - offset;
+                case NEXT_VALID_TIME:
+                    return history.getConflictTransition(date, time).getPosixTime();
+                case ABORT:
+                    throwInvalidException(date, time, tz);
+                    break;
+                default:
+                    String msg = this.gapResolver.name();
+                    throw new UnsupportedOperationException(msg);
             }
+        } else if (
+            (offset < previous) // overlap
+            && (this.overlapResolver == OverlapResolver.EARLIER_OFFSET)
+        ) {
+            offset = previous;
         }
 
         long localSeconds = toLocalSeconds(y, m, d, h, min, s);
-        ZonalOffset offset = history.getValidOffsets(date, time).get(0);
-        return localSeconds - offset.getIntegralAmount();
+        return localSeconds - offset;
 
     }
 
@@ -210,25 +207,22 @@ final class TransitionResolver
             throw new UnsupportedOperationException(NO_HISTORY);
         }
 
-        ZonalTransition conflict = history.getConflictTransition(date, time);
+        long pair = history.getOffsetPair(date, time);
+        int offset = (int) pair;
+        int previous = (int) (pair >> 32);
 
-        if (conflict != null) {
-            int offset = conflict.getTotalOffset();
-            if (conflict.isGap()) {
-                if (this.gapResolver == GapResolver.ABORT) {
-                    throwInvalidException(date, time, tz);
-                } else {
-                    return ZonalOffset.ofTotalSeconds(offset);
-                }
-            } else if (conflict.isOverlap()) {
-                if (this.overlapResolver == OverlapResolver.EARLIER_OFFSET) {
-                    offset = conflict.getPreviousOffset();
-                }
-                return ZonalOffset.ofTotalSeconds(offset);
+        if (offset > previous) { // gap
+            if (this.gapResolver == GapResolver.ABORT) {
+                throwInvalidException(date, time, tz);
             }
+        } else if (
+            (offset < previous) // overlap
+            && (this.overlapResolver == OverlapResolver.EARLIER_OFFSET)
+        ) {
+            offset = previous;
         }
 
-        return history.getValidOffsets(date, time).get(0);
+        return ZonalOffset.ofTotalSeconds(offset);
 
     }
 
@@ -28,8 +28,7 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Locale;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 
 /**
@@ -60,7 +59,11 @@ public final class ZonalOffset
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final ConcurrentMap<Integer, ZonalOffset> OFFSET_CACHE = new ConcurrentHashMap<>();
+    private static final int MAX_QUARTER_HOURS = 18 * 4;
+
+    // Viertelstundenintervalle im Bereich -18:00 bis +18:00, Index = Anzahl + 72
+    private static final AtomicReferenceArray<ZonalOffset> OFFSET_CACHE =
+        new AtomicReferenceArray<>(2 * MAX_QUARTER_HOURS + 1);
 
     private static final BigDecimal DECIMAL_60 = new BigDecimal(60);
     private static final BigDecimal DECIMAL_3600 = new BigDecimal(3600);
@@ -81,7 +84,7 @@ public final class ZonalOffset
 
     static {
         UTC = new ZonalOffset(0, 0);
-        OFFSET_CACHE.put(Integer.valueOf(0), UTC);
+        OFFSET_CACHE.set(MAX_QUARTER_HOURS, UTC);
     }
 
     private static final long serialVersionUID = -1410512619471503090L;
@@ -538,13 +541,15 @@ public final class ZonalOffset
             return new ZonalOffset(total, fraction);
         } else if (total == 0) {
             return UTC;
-        } else if ((total % (15 * 60)) == 0) { // Viertelstundenintervall
-            Integer value = Integer.valueOf(total);
-            ZonalOffset result = OFFSET_CACHE.get(value);
+        } else if (
+            ((total % (15 * 60)) == 0) // Viertelstundenintervall
+            && (Math.abs(total) <= MAX_QUARTER_HOURS * 15 * 60)
+        ) {
+            int index = total / (15 * 60) + MAX_QUARTER_HOURS;
+            ZonalOffset result = OFFSET_CACHE.get(index);
             if (result == null) {
-                result = new ZonalOffset(total, 0);
-                OFFSET_CACHE.putIfAbsent(value, result);
-                result = OFFSET_CACHE.get(value);
+                OFFSET_CACHE.compareAndSet(index, null, new ZonalOffset(total, 0));
+                result = OFFSET_CACHE.get(index);
             }
             return result;
         } else {
@@ -930,7 +935,7 @@ public final class ZonalOffset
      */
     public String getStdFormatPattern(Locale locale) {
 
-        return Timezone.NAME_PROVIDER.getStdFormatPattern((this.total == 0) && (this.fraction == 0), locale);
+        return Timezone.getNameProvider().getStdFormatPattern((this.total == 0) && (this.fraction == 0), locale);
 
     }
 
@@ -0,0 +1,217 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>Bounded cache of timezones with lock-free reads. </p>
+ *
+ * <p>The eviction policy is the CLOCK-algorithm (second chance), an approximation of LRU
+ * which only needs to set a flag in case of a hit. The lock is only used when a new zone
+ * is inserted which happens rarely. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class ZoneCache {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ConcurrentMap<String, Entry> map = new ConcurrentHashMap<>();
+    private final Deque<Entry> clock = new ArrayDeque<>(); // guarded by itself
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile int maxSize;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    ZoneCache(int maxSize) {
+        super();
+
+        this.maxSize = maxSize;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Looks up given zone identifier. </p>
+     *
+     * @param   zoneID  zone identifier as requested by the user
+     * @return  cached timezone or {@code null}
+     */
+    Timezone get(String zoneID) {
+
+        Entry entry = this.map.get(zoneID);
+
+        if (entry == null) {
+            this.misses.increment();
+            return null;
+        }
+
+        if (!entry.referenced) {
+            entry.referenced = true; // avoids contended writes on every hit
+        }
+
+        this.hits.increment();
+        return entry.zone;
+
+    }
+
+    /**
+     * <p>Stores given timezone unless there is already a cached one. </p>
+     *
+     * @param   zoneID  zone identifier as requested by the user
+     * @param   tz      timezone to be cached
+     * @return  cached timezone (either the old or the new one)
+     */
+    Timezone putIfAbsent(
+        String zoneID,
+        Timezone tz
+    ) {
+
+        Entry entry = new Entry(zoneID, tz);
+        Entry old = this.map.putIfAbsent(zoneID, entry);
+
+        if (old != null) {
+            return old.zone;
+        }
+
+        synchronized (this.clock) {
+            if (this.map.get(zoneID) == entry) { // not cleared in the meantime
+                this.clock.addLast(entry);
+                this.evict(this.maxSize);
+            }
+        }
+
+        return tz;
+
+    }
+
+    /**
+     * <p>Removes all entries. </p>
+     */
+    void clear() {
+
+        synchronized (this.clock) {
+            this.clock.clear();
+            this.map.clear();
+        }
+
+    }
+
+    /**
+     * <p>Sets the maximum count of cached zones and evicts surplus entries. </p>
+     *
+     * @param   maxSize     new maximum size
+     */
+    void setMaximumSize(int maxSize) {
+
+        synchronized (this.clock) {
+            this.maxSize = maxSize;
+            this.evict(maxSize);
+        }
+
+    }
+
+    int getMaximumSize() {
+
+        return this.maxSize;
+
+    }
+
+    int size() {
+
+        synchronized (this.clock) {
+            return this.clock.size();
+        }
+
+    }
+
+    long getHitCount() {
+
+        return this.hits.sum();
+
+    }
+
+    long getMissCount() {
+
+        return this.misses.sum();
+
+    }
+
+    long getEvictionCount() {
+
+        return this.evictions.sum();
+
+    }
+
+    // called under lock
+    private void evict(int limit) {
+
+        while (this.clock.size() > limit) {
+            Entry candidate = this.clock.pollFirst();
+
+            if (candidate.referenced) {
+                candidate.referenced = false; // second chance
+                this.clock.addLast(candidate);
+            } else if (this.map.remove(candidate.zoneID, candidate)) {
+                this.evictions.increment();
+            }
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Entry {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String zoneID;
+        private final Timezone zone;
+        private volatile boolean referenced;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Entry(
+            String zoneID,
+            Timezone zone
+        ) {
+            super();
+
+            this.zoneID = zoneID;
+            this.zone = zone;
+            this.referenced = false;
+
+        }
+
+    }
+
+}
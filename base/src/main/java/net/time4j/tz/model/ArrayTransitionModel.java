@@ -26,6 +26,7 @@ import net.time4j.base.GregorianDate;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
 import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetWindow;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
 
@@ -59,6 +60,10 @@ final class ArrayTransitionModel
 
     private transient final ZonalTransition[] transitions;
 
+    // flat primitive copies of transition data for cache-friendly binary search
+    private transient final long[] posixTimes;
+    private transient final long[] localLimits;
+
     // Cache
     private transient final List<ZonalTransition> stdTransitions;
     private transient int hash = 0;
@@ -95,10 +100,18 @@ final class ArrayTransitionModel
         }
 
         this.transitions = tmp;
+        this.posixTimes = new long[n];
+        this.localLimits = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            ZonalTransition zt = tmp[i];
+            this.posixTimes[i] = zt.getPosixTime();
+            this.localLimits[i] = zt.getPosixTime() + Math.max(zt.getTotalOffset(), zt.getPreviousOffset());
+        }
 
         // fill standard transition cache
         long end = TransitionModel.getFutureMoment(1);
-        this.stdTransitions = getTransitions(this.transitions, 0L, end);
+        this.stdTransitions = getTransitions(this.transitions, this.posixTimes, 0L, end);
 
     }
 
@@ -115,7 +128,7 @@ final class ArrayTransitionModel
     @Override
     public ZonalTransition getStartTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = search(ut.getPosixTime(), this.posixTimes);
 
         return (
             (index == 0)
@@ -137,7 +150,7 @@ final class ArrayTransitionModel
     @Override
     public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = search(ut.getPosixTime(), this.posixTimes);
 
         return (
             (index == this.transitions.length)
@@ -146,6 +159,21 @@ final class ArrayTransitionModel
 
     }
 
+    @Override
+    public OffsetWindow getOffsetWindow(UnixTime ut) {
+
+        int index = search(ut.getPosixTime(), this.posixTimes);
+        int n = this.transitions.length;
+
+        return new OffsetWindow(
+            ((index == 0) ? Long.MIN_VALUE : this.posixTimes[index - 1]),
+            ((index == n) ? Long.MAX_VALUE : this.posixTimes[index]),
+            ZonalOffset.ofTotalSeconds(
+                (index == 0) ? this.transitions[0].getPreviousOffset() : this.transitions[index - 1].getTotalOffset())
+        );
+
+    }
+
     @Override
     public List<ZonalOffset> getValidOffsets(
         GregorianDate localDate,
@@ -156,6 +184,16 @@ final class ArrayTransitionModel
 
     }
 
+    @Override
+    public long getOffsetPair(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        return this.getOffsetPair(localDate, localTime, null);
+
+    }
+
     @Override
     public List<ZonalTransition> getStdTransitions() {
 
@@ -171,6 +209,7 @@ final class ArrayTransitionModel
 
         return getTransitions(
             this.transitions,
+            this.posixTimes,
             startInclusive.getPosixTime(),
             endExclusive.getPosixTime());
 
@@ -242,7 +281,7 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = searchLocal(localSecs, this.localLimits);
 
         if (index == this.transitions.length) {
             return (
@@ -285,7 +324,7 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = searchLocal(localSecs, this.localLimits);
 
         if (index == this.transitions.length) {
             if (ruleModel == null) {
@@ -317,6 +356,49 @@ final class ArrayTransitionModel
 
     }
 
+    /**
+     * <p>Wird von {@link #getOffsetPair(GregorianDate, WallTime)}
+     * aufgerufen. </p>
+     *
+     * @param   localDate   local date in timezone
+     * @param   localTime   local wall time in timezone
+     * @param   ruleModel   optional last rules
+     * @return  previous offset in upper bits and total offset in lower bits
+     */
+    long getOffsetPair(
+        GregorianDate localDate,
+        WallTime localTime,
+        RuleBasedTransitionModel ruleModel // from CompositeTransitionModel
+    ) {
+
+        long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
+        int index = searchLocal(localSecs, this.localLimits);
+
+        if (index == this.transitions.length) {
+            if (ruleModel == null) {
+                int last = this.transitions[this.transitions.length - 1].getTotalOffset();
+                return TransitionModel.toPair(last, last);
+            } else {
+                return ruleModel.getOffsetPair(localDate, localSecs);
+            }
+        }
+
+        ZonalTransition test = this.transitions[index];
+
+        if (test.isGap()) {
+            if (test.getPosixTime() + test.getPreviousOffset() <= localSecs) {
+                return TransitionModel.toPair(test.getPreviousOffset(), test.getTotalOffset());
+            }
+        } else if (test.isOverlap()) {
+            if (test.getPosixTime() + test.getTotalOffset() <= localSecs) {
+                return TransitionModel.toPair(test.getPreviousOffset(), test.getTotalOffset());
+            }
+        }
+
+        return TransitionModel.toPair(test.getPreviousOffset(), test.getPreviousOffset());
+
+    }
+
     // Called by CompositeTransitionModel
     void dump(
         int size,
@@ -422,6 +504,7 @@ final class ArrayTransitionModel
 
     private static List<ZonalTransition> getTransitions(
         ZonalTransition[] transitions,
+        long[] posixTimes,
         long startInclusive,
         long endExclusive
     ) {
@@ -430,18 +513,18 @@ final class ArrayTransitionModel
             throw new IllegalArgumentException("Start after end.");
         }
 
-        int i1 = search(startInclusive, transitions);
-        int i2 = search(endExclusive, transitions);
+        int i1 = search(startInclusive, posixTimes);
+        int i2 = search(endExclusive, posixTimes);
 
         if (i2 == 0) {
             return Collections.emptyList();
-        } else if ((i1 > 0) && (transitions[i1 - 1].getPosixTime() == startInclusive)) {
+        } else if ((i1 > 0) && (posixTimes[i1 - 1] == startInclusive)) {
             i1--;
         }
 
         i2--;
 
-        if (transitions[i2].getPosixTime() == endExclusive) {
+        if (posixTimes[i2] == endExclusive) {
             i2--;
         }
 
@@ -460,16 +543,16 @@ final class ArrayTransitionModel
     // returns index of first transition after posixTime
     private static int search(
         long posixTime,
-        ZonalTransition[] transitions
+        long[] posixTimes
     ) {
 
         int low = 0;
-        int high = transitions.length - 1;
+        int high = posixTimes.length - 1;
 
         while (low <= high) {
-            int middle = (low + high) / 2;
+            int middle = (low + high) >>> 1;
 
-            if (transitions[middle].getPosixTime() <= posixTime) {
+            if (posixTimes[middle] <= posixTime) {
                 low = middle + 1;
             } else {
                 high = middle - 1;
@@ -483,18 +566,16 @@ final class ArrayTransitionModel
     // returns index of first transition after local date and time
     private static int searchLocal(
         long localSecs,
-        ZonalTransition[] transitions
+        long[] localLimits
     ) {
 
         int low = 0;
-        int high = transitions.length - 1;
+        int high = localLimits.length - 1;
 
         while (low <= high) {
-            int middle = (low + high) / 2;
-            ZonalTransition zt = transitions[middle];
-            int offset = Math.max(zt.getTotalOffset(), zt.getPreviousOffset());
+            int middle = (low + high) >>> 1;
 
-            if (zt.getPosixTime() + offset <= localSecs) {
+            if (localLimits[middle] <= localSecs) {
                 low = middle + 1;
             } else {
                 high = middle - 1;
@@ -0,0 +1,293 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledTransitionModel.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.model;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.base.UnixTime;
+import net.time4j.base.WallTime;
+import net.time4j.tz.OffsetWindow;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * <p>&Uuml;bergangsmodell, das alle &Uuml;berg&auml;nge eines festen Zeithorizonts
+ * in einem primitiven Array-Modell vorh&auml;lt und au&szlig;erhalb davon an die
+ * urspr&uuml;ngliche Historie delegiert. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       5.0
+ * @serial      exclude
+ * @doctags.concurrency {immutable}
+ */
+final class CompiledTransitionModel
+    extends TransitionModel {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long serialVersionUID = 6364521867592349286L;
+
+    // maximum distance between local time and POSIX time in seconds
+    private static final int MAX_OFFSET = 18 * 3600;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private transient final TransitionHistory delegate;
+    private transient final long start;
+    private transient final long end;
+    private transient final ArrayTransitionModel flat;
+    private transient final long first;
+    private transient final long last;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt ein neues Modell. </p>
+     *
+     * @param   delegate    original history
+     * @param   start       POSIX time of horizon start (inclusive)
+     * @param   end         POSIX time of horizon end (exclusive)
+     * @param   transitions all transitions of delegate within the horizon (not empty)
+     */
+    CompiledTransitionModel(
+        TransitionHistory delegate,
+        long start,
+        long end,
+        List<ZonalTransition> transitions
+    ) {
+        super();
+
+        this.delegate = delegate;
+        this.start = start;
+        this.end = end;
+        this.flat = new ArrayTransitionModel(transitions, false, false);
+        this.first = transitions.get(0).getPosixTime();
+        this.last = transitions.get(transitions.size() - 1).getPosixTime();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public ZonalOffset getInitialOffset() {
+
+        return this.delegate.getInitialOffset();
+
+    }
+
+    @Override
+    public ZonalTransition getStartTransition(UnixTime ut) {
+
+        long posix = ut.getPosixTime();
+
+        if ((posix >= this.first) && (posix < this.end)) {
+            return this.flat.getStartTransition(ut);
+        }
+
+        return this.delegate.getStartTransition(ut);
+
+    }
+
+    @Override
+    public OffsetWindow getOffsetWindow(UnixTime ut) {
+
+        long posix = ut.getPosixTime();
+
+        if ((posix >= this.first) && (posix < this.last)) {
+            return this.flat.getOffsetWindow(ut);
+        }
+
+        return this.delegate.getOffsetWindow(ut);
+
+    }
+
+    @Override
+    public ZonalTransition getConflictTransition(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        if (this.isInHorizon(TransitionModel.toLocalSecs(localDate, localTime))) {
+            return this.flat.getConflictTransition(localDate, localTime);
+        }
+
+        return this.delegate.getConflictTransition(localDate, localTime);
+
+    }
+
+    @Override
+    public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
+
+        long posix = ut.getPosixTime();
+
+        if ((posix >= this.start) && (posix < this.last)) {
+            return this.flat.findNextTransition(ut);
+        }
+
+        return this.delegate.findNextTransition(ut);
+
+    }
+
+    @Override
+    public List<ZonalOffset> getValidOffsets(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        if (this.isInHorizon(TransitionModel.toLocalSecs(localDate, localTime))) {
+            return this.flat.getValidOffsets(localDate, localTime);
+        }
+
+        return this.delegate.getValidOffsets(localDate, localTime);
+
+    }
+
+    @Override
+    public long getOffsetPair(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        if (this.isInHorizon(TransitionModel.toLocalSecs(localDate, localTime))) {
+            return this.flat.getOffsetPair(localDate, localTime);
+        }
+
+        return this.delegate.getOffsetPair(localDate, localTime);
+
+    }
+
+    @Override
+    public List<ZonalTransition> getStdTransitions() {
+
+        return this.delegate.getStdTransitions();
+
+    }
+
+    @Override
+    public List<ZonalTransition> getTransitions(
+        UnixTime startInclusive,
+        UnixTime endExclusive
+    ) {
+
+        return this.delegate.getTransitions(startInclusive, endExclusive);
+
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return this.delegate.isEmpty();
+
+    }
+
+    @Override
+    public void dump(Appendable buffer) throws IOException {
+
+        this.delegate.dump(buffer);
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof CompiledTransitionModel) {
+            CompiledTransitionModel that = (CompiledTransitionModel) obj;
+            return (
+                (this.start == that.start)
+                && (this.end == that.end)
+                && this.delegate.equals(that.delegate)
+            );
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return this.delegate.hashCode();
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(64);
+        sb.append(this.getClass().getName());
+        sb.append("[start=");
+        sb.append(this.start);
+        sb.append(",end=");
+        sb.append(this.end);
+        sb.append(",delegate=");
+        sb.append(this.delegate);
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    // called by TransitionModel.compile()
+    TransitionHistory getDelegate() {
+
+        return this.delegate;
+
+    }
+
+    // all transitions relevant for given local time are known by the flat model
+    private boolean isInHorizon(long localSecs) {
+
+        return ((localSecs - MAX_OFFSET >= this.start) && (localSecs + MAX_OFFSET < this.end));
+
+    }
+
+    /**
+     * @serialData  Serializes the original history only.
+     * @return      replacement object in serialization graph
+     */
+    private Object writeReplace() {
+
+        return this.delegate;
+
+    }
+
+    /**
+     * @serialData  Blocks because a serialization proxy is required.
+     * @param       in      object input stream
+     * @throws      InvalidObjectException (always)
+     */
+    private void readObject(ObjectInputStream in)
+        throws IOException {
+
+        throw new InvalidObjectException("Serialization proxy required.");
+
+    }
+
+}
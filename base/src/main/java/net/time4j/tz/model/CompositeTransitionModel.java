@@ -24,6 +24,7 @@ package net.time4j.tz.model;
 import net.time4j.base.GregorianDate;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
+import net.time4j.tz.OffsetWindow;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
 
@@ -104,6 +105,19 @@ final class CompositeTransitionModel
 
     }
 
+    @Override
+    public OffsetWindow getOffsetWindow(UnixTime ut) {
+
+        long posix = ut.getPosixTime();
+
+        if (posix < this.last.getPosixTime()) {
+            return this.arrayModel.getOffsetWindow(ut);
+        } else {
+            return this.ruleModel.getOffsetWindow(posix, this.last.getPosixTime());
+        }
+
+    }
+
     @Override
     public ZonalTransition getConflictTransition(
         GregorianDate localDate,
@@ -144,6 +158,19 @@ final class CompositeTransitionModel
 
     }
 
+    @Override
+    public long getOffsetPair(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        return this.arrayModel.getOffsetPair(
+            localDate,
+            localTime,
+            this.ruleModel);
+
+    }
+
     @Override
     public List<ZonalTransition> getStdTransitions() {
 
@@ -142,6 +142,17 @@ final class EmptyTransitionModel
 
     }
 
+    @Override
+    public long getOffsetPair(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        int total = this.offset.getIntegralAmount();
+        return TransitionModel.toPair(total, total);
+
+    }
+
     @Override
     public List<ZonalTransition> getStdTransitions() {
 
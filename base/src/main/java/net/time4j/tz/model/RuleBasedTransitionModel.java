@@ -30,6 +30,7 @@ import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
 import net.time4j.engine.EpochDays;
 import net.time4j.format.CalendarText;
+import net.time4j.tz.OffsetWindow;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
 
@@ -40,8 +41,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 
 /**
@@ -57,11 +57,12 @@ final class RuleBasedTransitionModel
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
+    private static final int FIRST_CACHED_YEAR = 1900;
     private static final int LAST_CACHED_YEAR;
 
     static {
         long ly = TransitionModel.getFutureMoment(100);
-        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(ly, EpochDays.UNIX);
+        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(Math.floorDiv(ly, 86400), EpochDays.UNIX);
         LAST_CACHED_YEAR =
             GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
     }
@@ -73,7 +74,10 @@ final class RuleBasedTransitionModel
     private transient final ZonalTransition initial;
     private transient final List<DaylightSavingRule> rules;
 
-    private transient final ConcurrentMap<Integer, List<ZonalTransition>> tCache = new ConcurrentHashMap<>();
+    // indexed by year - FIRST_CACHED_YEAR, avoids boxed keys in the hot path
+    // (years outside of the cached range are recomputed on every request)
+    private transient final AtomicReferenceArray<List<ZonalTransition>> tCache =
+        new AtomicReferenceArray<>(LAST_CACHED_YEAR - FIRST_CACHED_YEAR + 1);
     private transient final List<ZonalTransition> stdTransitions;
     private transient final boolean gregorian;
 
@@ -236,6 +240,13 @@ final class RuleBasedTransitionModel
 
     }
 
+    @Override
+    public OffsetWindow getOffsetWindow(UnixTime ut) {
+
+        return this.getOffsetWindow(ut.getPosixTime(), Long.MIN_VALUE);
+
+    }
+
     @Override
     public ZonalTransition getConflictTransition(
         GregorianDate localDate,
@@ -266,6 +277,17 @@ final class RuleBasedTransitionModel
 
     }
 
+    @Override
+    public long getOffsetPair(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
+        return this.getOffsetPair(localDate, localSecs);
+
+    }
+
     @Override
     public List<ZonalTransition> getStdTransitions() {
 
@@ -431,6 +453,46 @@ final class RuleBasedTransitionModel
 
     }
 
+    long getOffsetPair(
+        GregorianDate localDate,
+        long localSecs
+    ) {
+
+        long preModel = this.initial.getPosixTime();
+        int last = this.initial.getTotalOffset();
+        int max = Math.max(this.initial.getPreviousOffset(), last);
+
+        if (localSecs <= preModel + max) {
+            return TransitionModel.toPair(last, last);
+        }
+
+        List<ZonalTransition> transitions = this.getTransitions(localDate);
+
+        for (int i = 0, n = transitions.size(); i < n; i++) {
+            ZonalTransition t = transitions.get(i);
+            long tt = t.getPosixTime();
+            int previous = t.getPreviousOffset();
+            last = t.getTotalOffset();
+
+            if (t.isGap()) {
+                if (localSecs < tt + previous) {
+                    return TransitionModel.toPair(previous, previous);
+                } else if (localSecs < tt + last) {
+                    return TransitionModel.toPair(previous, last);
+                }
+            } else if (t.isOverlap()) {
+                if (localSecs < tt + last) {
+                    return TransitionModel.toPair(previous, previous);
+                } else if (localSecs < tt + previous) {
+                    return TransitionModel.toPair(previous, last);
+                }
+            }
+        }
+
+        return TransitionModel.toPair(last, last);
+
+    }
+
     static List<ZonalTransition> getTransitions(
         ZonalTransition initial,
         List<DaylightSavingRule> rules,
@@ -489,6 +551,62 @@ final class RuleBasedTransitionModel
 
     }
 
+    /**
+     * <p>Determines the offset window in one pass over the cached transitions
+     * of the relevant year. </p>
+     *
+     * @param   posix       POSIX time
+     * @param   minStart    start of window if there is no previous transition
+     * @return  offset window
+     */
+    OffsetWindow getOffsetWindow(
+        long posix,
+        long minStart // from CompositeTransitionModel
+    ) {
+
+        long preModel = this.initial.getPosixTime();
+
+        if (posix <= preModel) {
+            return new OffsetWindow(
+                minStart,
+                getNextTransition(posix, this.initial, this.rules).getPosixTime(),
+                this.getInitialOffset());
+        }
+
+        int stdOffset = this.initial.getStandardOffset();
+        int n = this.rules.size();
+        DaylightSavingRule rule = this.rules.get(0);
+        DaylightSavingRule previous = this.rules.get(n - 1);
+        int shift = getShift(rule, stdOffset, previous.getSavings());
+        int year = getYear(rule, posix + shift);
+        List<ZonalTransition> transitions = this.getTransitions(year);
+        ZonalTransition start;
+        ZonalTransition end;
+        int i = 0;
+
+        while ((i < n) && (posix >= transitions.get(i).getPosixTime())) {
+            i++;
+        }
+
+        if (i == n) {
+            start = transitions.get(n - 1);
+            end = this.getTransitions(year + 1).get(0);
+        } else {
+            start = ((i == 0) ? this.getTransitions(year - 1).get(n - 1) : transitions.get(i - 1));
+            end = transitions.get(i);
+        }
+
+        if (start.getPosixTime() <= preModel) {
+            return new OffsetWindow(minStart, end.getPosixTime(), this.getInitialOffset());
+        }
+
+        return new OffsetWindow(
+            start.getPosixTime(),
+            end.getPosixTime(),
+            ZonalOffset.ofTotalSeconds(start.getTotalOffset()));
+
+    }
+
     private static ZonalTransition getNextTransition(
         long ut,
         ZonalTransition initial,
@@ -567,8 +685,11 @@ final class RuleBasedTransitionModel
 
     private List<ZonalTransition> getTransitions(int year) {
 
-        Integer key = Integer.valueOf(year);
-        List<ZonalTransition> transitions = this.tCache.get(key);
+        boolean cacheable = (
+            (year >= FIRST_CACHED_YEAR)
+            && (year <= LAST_CACHED_YEAR)
+            && this.gregorian);
+        List<ZonalTransition> transitions = (cacheable ? this.tCache.get(year - FIRST_CACHED_YEAR) : null);
 
         if (transitions == null) {
             List<ZonalTransition> list = new ArrayList<>();
@@ -589,15 +710,8 @@ final class RuleBasedTransitionModel
 
             transitions = Collections.unmodifiableList(list);
 
-            if (
-                (year <= LAST_CACHED_YEAR)
-                && this.gregorian
-            ) {
-                List<ZonalTransition> old =
-                    this.tCache.putIfAbsent(key, transitions);
-                if (old != null) {
-                    transitions = old;
-                }
+            if (cacheable && !this.tCache.compareAndSet(year - FIRST_CACHED_YEAR, null, transitions)) {
+                transitions = this.tCache.get(year - FIRST_CACHED_YEAR);
             }
         }
 
@@ -170,6 +170,73 @@ public abstract class TransitionModel
 
     }
 
+    /**
+     * <p>Compiles given transition history into a flat primitive lookup table for
+     * the specified range of years. </p>
+     *
+     * <p>All transitions between the start of {@code fromYear} and the end of {@code toYear}
+     * (both in UTC) are expanded once into primitive arrays so that offset lookups inside
+     * this horizon only need a binary search on {@code long}-values, even for rule-based
+     * histories. Queries outside of the horizon are delegated to the original history.
+     * The compiled history is serialized as the original history. </p>
+     *
+     * @param   history     transition history to be compiled
+     * @param   fromYear    first gregorian year of horizon
+     * @param   toYear      last gregorian year of horizon (inclusive)
+     * @return  compiled transition history or the original one if there is no transition in given horizon
+     * @throws  IllegalArgumentException if the year range is invalid
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>&Uuml;bersetzt die angegebene {@code TransitionHistory} f&uuml;r den angegebenen
+     * Jahresbereich in eine flache primitive Nachschlagetabelle. </p>
+     *
+     * <p>Alle &Uuml;berg&auml;nge zwischen dem Beginn von {@code fromYear} und dem Ende von
+     * {@code toYear} (beides in UTC) werden einmalig in primitive Arrays expandiert, so da&szlig;
+     * die Suche nach Verschiebungen innerhalb dieses Horizonts nur eine bin&auml;re Suche auf
+     * {@code long}-Werten braucht, sogar f&uuml;r regelbasierte Historien. Abfragen au&szlig;erhalb
+     * des Horizonts werden an die urspr&uuml;ngliche Historie delegiert. Die &uuml;bersetzte
+     * Historie wird als die urspr&uuml;ngliche Historie serialisiert. </p>
+     *
+     * @param   history     transition history to be compiled
+     * @param   fromYear    first gregorian year of horizon
+     * @param   toYear      last gregorian year of horizon (inclusive)
+     * @return  compiled transition history or the original one if there is no transition in given horizon
+     * @throws  IllegalArgumentException if the year range is invalid
+     * @since   5.0
+     */
+    public static TransitionHistory compile(
+        TransitionHistory history,
+        int fromYear,
+        int toYear
+    ) {
+
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException("Start year after end year: " + fromYear + "/" + toYear);
+        }
+
+        GregorianMath.checkDate(fromYear, 1, 1);
+        GregorianMath.checkDate(toYear, 12, 31);
+
+        if (history.isEmpty()) {
+            return history;
+        } else if (history instanceof CompiledTransitionModel) {
+            history = ((CompiledTransitionModel) history).getDelegate();
+        }
+
+        long start = toPosixTime(fromYear);
+        long end = toPosixTime(toYear + 1);
+        List<ZonalTransition> transitions =
+            history.getTransitions(Moment.of(start, TimeScale.POSIX), Moment.of(end, TimeScale.POSIX));
+
+        if (transitions.isEmpty()) {
+            return history;
+        }
+
+        return new CompiledTransitionModel(history, start, end, transitions);
+
+    }
+
     @Override
     public boolean isEmpty() {
 
@@ -266,6 +333,15 @@ public abstract class TransitionModel
 
     }
 
+    static long toPair(
+        int previous,
+        int total
+    ) {
+
+        return ((((long) previous) << 32) | (total & 0xFFFFFFFFL));
+
+    }
+
     static long toLocalSecs(
         GregorianDate localDate,
         WallTime localTime
@@ -309,6 +385,13 @@ public abstract class TransitionModel
 
     }
 
+    private static long toPosixTime(int year) {
+
+        long mjd = GregorianMath.toMJD(year, 1, 1);
+        return EpochDays.UNIX.transform(mjd, EpochDays.MODIFIED_JULIAN_DATE) * 86400;
+
+    }
+
     private static String format(int offset) {
 
         return ZonalOffset.ofTotalSeconds(offset).toString();
@@ -133,7 +133,7 @@ public final class WindowsZone
      */
     public static Set<String> getAvailableNames() {
 
-        return WinZoneProviderSPI.NAME_BASED_MAP.keySet();
+        return WinZoneProviderSPI.getNameBasedMap().keySet();
 
     }
 
@@ -313,7 +313,7 @@ public final class WindowsZone
      */
     public Set<TZID> resolve(Locale country) {
 
-        Set<TZID> ids = WinZoneProviderSPI.NAME_BASED_MAP.get(this.name).get(FormatUtils.getRegion(country));
+        Set<TZID> ids = WinZoneProviderSPI.getNameBasedMap().get(this.name).get(FormatUtils.getRegion(country));
 
         if (ids == null) {
             return Collections.emptySet();
@@ -372,7 +372,7 @@ public final class WindowsZone
             String region = country.getCountry();
             if (!region.isEmpty() && !region.equals("001")) {
                 // in case of ambivalence, the 001-region uses a reasonable fallback and preferred default
-                ids = WinZoneProviderSPI.NAME_BASED_MAP.get(this.name).get("001");
+                ids = WinZoneProviderSPI.getNameBasedMap().get(this.name).get("001");
             }
         }
 
@@ -398,7 +398,7 @@ public final class WindowsZone
      */
     static String getVersion() {
 
-        return WinZoneProviderSPI.WIN_NAME_VERSION;
+        return WinZoneProviderSPI.getWindowsVersion();
 
     }
 
@@ -406,7 +406,7 @@ public final class WindowsZone
 
         if (
             name.isEmpty()
-            || !WinZoneProviderSPI.NAME_BASED_MAP.keySet().contains(name)
+            || !WinZoneProviderSPI.getNameBasedMap().keySet().contains(name)
         ) {
             throw new IllegalArgumentException("Unknown windows zone: " + name);
         }
@@ -54,30 +54,31 @@ public class WinZoneProviderSPI
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    // Map<country, Map<tzid, name>>
-    private static final Map<String, Map<String, String>> REPOSITORY;
-
-    // Map<country, Set<tzid>>
-    private static final Map<String, Set<String>> PREFERRED_KEYS;
+    private static final String VKEY = "VERSION";
 
-    // Map<name, Map<country, Set<tzid>>>
-    public static final Map<String, Map<String, Set<TZID>>> NAME_BASED_MAP;
+    //~ Methoden ----------------------------------------------------------
 
-    // Version of windowsZones.xml
-    public static final String WIN_NAME_VERSION;
+    /**
+     * <p>Yields a map of windows names to country-dependent sets of windows zone identifiers. </p>
+     *
+     * @return  Map&lt;name, Map&lt;country, Set&lt;tzid&gt;&gt;&gt; (loaded on first call)
+     */
+    public static Map<String, Map<String, Set<TZID>>> getNameBasedMap() {
 
-    private static final String VKEY = "VERSION";
+        return Repository.NAME_BASED_MAP;
 
-    static {
-        Map<String, Map<String, String>> map = loadData();
-        WIN_NAME_VERSION = map.get(VKEY).keySet().iterator().next();
-        map.remove(VKEY);
-        REPOSITORY = Collections.unmodifiableMap(map);
-        PREFERRED_KEYS = prepareSmartMode();
-        NAME_BASED_MAP = prepareResolvers();
     }
 
-    //~ Methoden ----------------------------------------------------------
+    /**
+     * <p>Yields the version of underlying windowsZones.xml. </p>
+     *
+     * @return  version string (loaded on first call)
+     */
+    public static String getWindowsVersion() {
+
+        return Repository.WIN_NAME_VERSION;
+
+    }
 
     @Override
     public Set<String> getAvailableIDs() {
@@ -163,7 +164,7 @@ public class WinZoneProviderSPI
 
     private static Map<String, String> idsToNames(String country) {
 
-        Map<String, String> map = REPOSITORY.get(country);
+        Map<String, String> map = Repository.REPOSITORY.get(country);
 
         if (map == null) {
             return Collections.emptyMap();
@@ -187,7 +188,7 @@ public class WinZoneProviderSPI
 
     private static Set<String> getPreferences(String country) {
 
-        Set<String> preferences = PREFERRED_KEYS.get(country);
+        Set<String> preferences = Repository.PREFERRED_KEYS.get(country);
 
         if (preferences == null) {
             return Collections.emptySet();
@@ -235,12 +236,13 @@ public class WinZoneProviderSPI
 
     }
 
-    private static Map<String, Set<String>> prepareSmartMode() {
+    private static Map<String, Set<String>> prepareSmartMode(Map<String, Map<String, String>> repository) {
 
         Map<String, Set<String>> preferredKeys = new HashMap<>();
+        Map<String, String> fallback = repository.get("001");
 
-        for (String country : REPOSITORY.keySet()) {
-            Map<String, String> map = idsToNames(country);
+        for (String country : repository.keySet()) {
+            Map<String, String> map = repository.get(country);
             Set<String> keys = map.keySet();
 
             if (keys.size() >= 2) {
@@ -248,7 +250,7 @@ public class WinZoneProviderSPI
                 Set<String> names = new HashSet<>(map.values());
 
                 for (String name : names) {
-                    for (Map.Entry<String, String> e : getFallbackSet()) {
+                    for (Map.Entry<String, String> e : fallback.entrySet()) {
                         if (e.getValue().equals(name)) {
                             keys.add(e.getKey());
                         }
@@ -263,18 +265,12 @@ public class WinZoneProviderSPI
 
     }
 
-    private static Set<Map.Entry<String, String>> getFallbackSet() {
-
-        return idsToNames("001").entrySet();
-
-    }
-
-    private static Map<String, Map<String, Set<TZID>>> prepareResolvers() {
+    private static Map<String, Map<String, Set<TZID>>> prepareResolvers(Map<String, Map<String, String>> repository) {
 
         Map<String, Map<String, Set<TZID>>> nameBasedMap = new HashMap<>();
 
-        for (String country : REPOSITORY.keySet()) {
-            Map<String, String> idsToNames = REPOSITORY.get(country);
+        for (String country : repository.keySet()) {
+            Map<String, String> idsToNames = repository.get(country);
 
             for (Map.Entry<String, String> e : idsToNames.entrySet()) {
                 String id = e.getKey();
@@ -300,4 +296,34 @@ public class WinZoneProviderSPI
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    // the data are only loaded when windows zones are really used
+    private static class Repository {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        // Map<country, Map<tzid, name>>
+        private static final Map<String, Map<String, String>> REPOSITORY;
+
+        // Map<country, Set<tzid>>
+        private static final Map<String, Set<String>> PREFERRED_KEYS;
+
+        // Map<name, Map<country, Set<tzid>>>
+        private static final Map<String, Map<String, Set<TZID>>> NAME_BASED_MAP;
+
+        // Version of windowsZones.xml
+        private static final String WIN_NAME_VERSION;
+
+        static {
+            Map<String, Map<String, String>> map = loadData();
+            WIN_NAME_VERSION = map.get(VKEY).keySet().iterator().next();
+            map.remove(VKEY);
+            REPOSITORY = Collections.unmodifiableMap(map);
+            PREFERRED_KEYS = prepareSmartMode(REPOSITORY);
+            NAME_BASED_MAP = prepareResolvers(REPOSITORY);
+        }
+
+    }
+
 }
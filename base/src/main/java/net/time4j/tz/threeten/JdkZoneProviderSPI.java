@@ -37,7 +37,9 @@ import net.time4j.tz.model.TransitionModel;
 import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.Instant;
+import java.time.Year;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.zone.ZoneOffsetTransition;
 import java.time.zone.ZoneOffsetTransitionRule;
 import java.time.zone.ZoneRules;
@@ -53,27 +55,90 @@ import java.util.Set;
  * <p>SPI-implementation for the indirect evaluation of &quot;tzdb.dat&quot;-repository
  * via the new zone-api in Java-8. </p>
  *
+ * <p>The public constructor yields the standard provider with the name &quot;TZDB&quot; which
+ * copies all transitions of a zone into a new model on loading. Two alternative loading
+ * modes are available under their own provider names: </p>
+ *
+ * <ul>
+ *     <li>&quot;TZDB-LAZY&quot;: Every loaded history just delegates to the underlying
+ *     {@code java.time.zone.ZoneRules} so that loading is cheap in time and memory. Suitable
+ *     if many zones are touched only a few times (zone pickers, bulk exports). </li>
+ *     <li>&quot;TZDB-COMPILED&quot;: The lazy history is compiled once into a primitive lookup
+ *     table for the years 1970 until {@link #COMPILED_HORIZON} years after the current year,
+ *     see {@link TransitionModel#compile(TransitionHistory, int, int)}. Suitable for zones
+ *     with frequent offset lookups. </li>
+ * </ul>
+ *
+ * <p>Example: {@code Timezone.of("TZDB-LAZY~Europe/Berlin")}. Both alternative providers are
+ * not registered at startup but created when their names are used for the first time. </p>
+ *
  * @author  Meno Hochschild
  * @since   4.0
  */
 public class JdkZoneProviderSPI
     implements ZoneModelProvider {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Count of years after the current year covered by the compiled loading mode.
+     *
+     * @since   5.0
+     */
+    public static final int COMPILED_HORIZON = 30;
+
+    private static final int MODE_EAGER = 0;
+    private static final int MODE_LAZY = 1;
+    private static final int MODE_COMPILED = 2;
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final String version;
+    private final int mode;
 
     //~ Konstruktoren -----------------------------------------------------
 
     public JdkZoneProviderSPI() {
+        this(MODE_EAGER);
+
+    }
+
+    private JdkZoneProviderSPI(int mode) {
         super();
 
         this.version = ZoneRulesProvider.getVersions("America/New_York").lastEntry().getKey();
+        this.mode = mode;
 
     }
 
     //~ Methoden ----------------------------------------------------------
 
+    /**
+     * <p>Creates a provider with the name &quot;TZDB-LAZY&quot; which delegates
+     * all queries of loaded histories to the zone rules of JSR-310. </p>
+     *
+     * @return  new provider instance
+     * @since   5.0
+     */
+    public static JdkZoneProviderSPI lazy() {
+
+        return new JdkZoneProviderSPI(MODE_LAZY);
+
+    }
+
+    /**
+     * <p>Creates a provider with the name &quot;TZDB-COMPILED&quot; which compiles
+     * the lazy histories once into primitive lookup tables. </p>
+     *
+     * @return  new provider instance
+     * @since   5.0
+     */
+    public static JdkZoneProviderSPI compiled() {
+
+        return new JdkZoneProviderSPI(MODE_COMPILED);
+
+    }
+
     @Override
     public Set<String> getAvailableIDs() {
 
@@ -98,7 +163,14 @@ public class JdkZoneProviderSPI
     @Override
     public String getName() {
 
-        return "TZDB";
+        switch (this.mode) {
+            case MODE_LAZY:
+                return "TZDB-LAZY";
+            case MODE_COMPILED:
+                return "TZDB-COMPILED";
+            default:
+                return "TZDB";
+        }
 
     }
 
@@ -121,6 +193,14 @@ public class JdkZoneProviderSPI
 
         try {
             ZoneRules zoneRules = ZoneId.of(zoneID).getRules();
+
+            if (this.mode == MODE_LAZY) {
+                return new ZoneRulesHistory(zoneRules);
+            } else if (this.mode == MODE_COMPILED) {
+                int year = Year.now(ZoneOffset.UTC).getValue();
+                return TransitionModel.compile(new ZoneRulesHistory(zoneRules), 1970, year + COMPILED_HORIZON);
+            }
+
             ZonalOffset initialOffset = ZonalOffset.ofTotalSeconds(zoneRules.getOffset(Instant.MIN).getTotalSeconds());
             List<ZonalTransition> transitions = new ArrayList<>();
             List<DaylightSavingRule> rules = new ArrayList<>();
@@ -0,0 +1,325 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneRulesHistory.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.threeten;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.base.UnixTime;
+import net.time4j.base.WallTime;
+import net.time4j.tz.OffsetWindow;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * <p>Leichtgewichtige {@code TransitionHistory}, die alle Abfragen direkt an die
+ * {@code ZoneRules} von JSR-310 delegiert, ohne die &Uuml;berg&auml;nge vorab zu kopieren. </p>
+ *
+ * <p>Das Laden einer Zeitzone kostet so nur den Zugriff auf {@code ZoneId.getRules()}.
+ * &Uuml;berg&auml;nge werden erst bei Bedarf als {@code ZonalTransition} erzeugt. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       5.0
+ * @serial      include
+ * @doctags.concurrency {immutable}
+ */
+final class ZoneRulesHistory
+    implements TransitionHistory, Serializable {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long serialVersionUID = -4405470939285384307L;
+
+    private static final String NEW_LINE = System.getProperty("line.separator");
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    /**
+     * @serial  zone rules of JSR-310 as delegate
+     */
+    private final ZoneRules rules;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt eine neue Instanz. </p>
+     *
+     * @param   rules       zone rules of JSR-310
+     */
+    ZoneRulesHistory(ZoneRules rules) {
+        super();
+
+        if (rules == null) {
+            throw new NullPointerException("Missing zone rules.");
+        }
+
+        this.rules = rules;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public ZonalOffset getInitialOffset() {
+
+        return ZonalOffset.ofTotalSeconds(this.rules.getOffset(Instant.MIN).getTotalSeconds());
+
+    }
+
+    @Override
+    public ZonalTransition getStartTransition(UnixTime ut) {
+
+        // previousTransition() yields the last transition strictly before its argument
+        ZoneOffsetTransition zot = this.rules.previousTransition(Instant.ofEpochSecond(ut.getPosixTime() + 1));
+        return ((zot == null) ? null : this.convert(zot));
+
+    }
+
+    @Override
+    public ZonalTransition getConflictTransition(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        ZoneOffsetTransition zot = this.rules.getTransition(toLocalDateTime(localDate, localTime));
+        return ((zot == null) ? null : this.convert(zot));
+
+    }
+
+    @Deprecated
+    @Override
+    public ZonalTransition getNextTransition(UnixTime ut) {
+
+        Optional<ZonalTransition> opt = this.findNextTransition(ut);
+        return (opt.isPresent() ? opt.get() : null);
+
+    }
+
+    @Override
+    public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
+
+        ZoneOffsetTransition zot = this.rules.nextTransition(Instant.ofEpochSecond(ut.getPosixTime()));
+        return ((zot == null) ? Optional.empty() : Optional.of(this.convert(zot)));
+
+    }
+
+    @Override
+    public OffsetWindow getOffsetWindow(UnixTime ut) {
+
+        long posix = ut.getPosixTime();
+        ZoneOffsetTransition start = this.rules.previousTransition(Instant.ofEpochSecond(posix + 1));
+        ZoneOffsetTransition next = this.rules.nextTransition(Instant.ofEpochSecond(posix));
+        ZoneOffset offset = ((start == null) ? this.rules.getOffset(Instant.MIN) : start.getOffsetAfter());
+
+        return new OffsetWindow(
+            ((start == null) ? Long.MIN_VALUE : start.toEpochSecond()),
+            ((next == null) ? Long.MAX_VALUE : next.toEpochSecond()),
+            ZonalOffset.ofTotalSeconds(offset.getTotalSeconds())
+        );
+
+    }
+
+    @Override
+    public List<ZonalOffset> getValidOffsets(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        LocalDateTime ldt = toLocalDateTime(localDate, localTime);
+        ZoneOffsetTransition zot = this.rules.getTransition(ldt);
+
+        if (zot == null) {
+            return Collections.singletonList(ZonalOffset.ofTotalSeconds(this.rules.getOffset(ldt).getTotalSeconds()));
+        } else if (zot.isGap()) {
+            return Collections.emptyList();
+        }
+
+        // overlap: offset after transition is smaller than offset before
+        List<ZonalOffset> offsets = new ArrayList<>(2);
+        offsets.add(ZonalOffset.ofTotalSeconds(zot.getOffsetAfter().getTotalSeconds()));
+        offsets.add(ZonalOffset.ofTotalSeconds(zot.getOffsetBefore().getTotalSeconds()));
+        return Collections.unmodifiableList(offsets);
+
+    }
+
+    @Override
+    public long getOffsetPair(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        LocalDateTime ldt = toLocalDateTime(localDate, localTime);
+        ZoneOffsetTransition zot = this.rules.getTransition(ldt);
+        int previous;
+        int total;
+
+        if (zot == null) {
+            total = this.rules.getOffset(ldt).getTotalSeconds();
+            previous = total;
+        } else {
+            total = zot.getOffsetAfter().getTotalSeconds();
+            previous = zot.getOffsetBefore().getTotalSeconds();
+        }
+
+        return ((((long) previous) << 32) | (total & 0xFFFFFFFFL));
+
+    }
+
+    @Override
+    public List<ZonalTransition> getStdTransitions() {
+
+        long end = (System.currentTimeMillis() / 1000) + (long) (365.2425 * 86400L);
+        return this.getTransitions(0L, end);
+
+    }
+
+    @Override
+    public List<ZonalTransition> getTransitions(
+        UnixTime startInclusive,
+        UnixTime endExclusive
+    ) {
+
+        return this.getTransitions(startInclusive.getPosixTime(), endExclusive.getPosixTime());
+
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return this.rules.isFixedOffset();
+
+    }
+
+    @Override
+    public void dump(Appendable buffer) throws IOException {
+
+        for (ZoneOffsetTransition zot : this.rules.getTransitions()) {
+            ZonalTransition transition = this.convert(zot);
+            buffer.append(">>> Transition at: ").append(zot.getInstant().toString());
+            buffer.append(" from ").append(ZonalOffset.ofTotalSeconds(transition.getPreviousOffset()).toString());
+            buffer.append(" to ").append(ZonalOffset.ofTotalSeconds(transition.getTotalOffset()).toString());
+            buffer.append(", DST=");
+            buffer.append(ZonalOffset.ofTotalSeconds(transition.getDaylightSavingOffset()).toString());
+            buffer.append(NEW_LINE);
+        }
+
+        buffer.append("*** Last rules:").append(NEW_LINE);
+
+        for (ZoneOffsetTransitionRule rule : this.rules.getTransitionRules()) {
+            buffer.append(">>> ").append(rule.toString()).append(NEW_LINE);
+        }
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof ZoneRulesHistory) {
+            ZoneRulesHistory that = (ZoneRulesHistory) obj;
+            return this.rules.equals(that.rules);
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return this.rules.hashCode();
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(64);
+        sb.append(this.getClass().getName());
+        sb.append("[rules=");
+        sb.append(this.rules);
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    private List<ZonalTransition> getTransitions(
+        long startInclusive,
+        long endExclusive
+    ) {
+
+        if (startInclusive > endExclusive) {
+            throw new IllegalArgumentException("Start after end.");
+        }
+
+        List<ZonalTransition> result = new ArrayList<>();
+        ZoneOffsetTransition zot = this.rules.nextTransition(Instant.ofEpochSecond(startInclusive - 1));
+
+        while ((zot != null) && (zot.toEpochSecond() < endExclusive)) {
+            result.add(this.convert(zot));
+            zot = this.rules.nextTransition(zot.getInstant());
+        }
+
+        return Collections.unmodifiableList(result);
+
+    }
+
+    private ZonalTransition convert(ZoneOffsetTransition zot) {
+
+        Instant instant = zot.getInstant();
+
+        return new ZonalTransition(
+            instant.getEpochSecond(),
+            zot.getOffsetBefore().getTotalSeconds(),
+            zot.getOffsetAfter().getTotalSeconds(),
+            Math.toIntExact(this.rules.getDaylightSavings(instant).getSeconds()));
+
+    }
+
+    // local time 24:00 is interpreted as start of next day
+    private static LocalDateTime toLocalDateTime(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        LocalDate date = LocalDate.of(localDate.getYear(), localDate.getMonth(), localDate.getDayOfMonth());
+        int secs = localTime.getHour() * 3600 + localTime.getMinute() * 60 + localTime.getSecond();
+        return LocalDateTime.ofEpochSecond(date.toEpochDay() * 86400 + secs, 0, ZoneOffset.UTC);
+
+    }
+
+}
@@ -532,6 +532,59 @@ public class DurationBasicsTest {
             is(Duration.ofPositive().nanos(123455789).build()));
     }
 
+    @Test
+    public void plusStandardUnitsConsistentWithItemList() {
+        Duration<IsoUnit> d =
+            Duration.ofZero().plus(3, HOURS).plus(2, YEARS).plus(5, MILLIS).plus(4, DAYS).plus(1, MICROS);
+        List<Item<IsoUnit>> items = new ArrayList<>();
+        items.add(Item.<IsoUnit>of(2, YEARS));
+        items.add(Item.<IsoUnit>of(4, DAYS));
+        items.add(Item.<IsoUnit>of(3, HOURS));
+        items.add(Item.<IsoUnit>of(5001000, NANOS));
+        Duration<IsoUnit> expected = new Duration<>(items, false);
+        assertThat(d.getTotalLength(), is(expected.getTotalLength()));
+        assertThat(d, is(expected));
+        assertThat(d.hashCode(), is(expected.hashCode()));
+        assertThat(d.inverse().getTotalLength(), is(expected.getTotalLength()));
+        assertThat(d.getTotalLength().size(), is(4));
+        assertThat(d.contains(DAYS), is(true));
+        assertThat(d.contains(MONTHS), is(false));
+        assertThat(d.getPartialAmount(HOURS), is(3L));
+        assertThat(d.getPartialAmount(MINUTES), is(0L));
+        assertThat(d.getPartialAmount(MICROS), is(5001L));
+    }
+
+    @Test
+    public void plusRemovesItemsWithZeroSum() {
+        Duration<CalendarUnit> d = Duration.ofCalendarUnits(0, 4, 3).plus(-3, DAYS);
+        assertThat(d.getTotalLength(), is(Collections.singletonList(Item.of(4, MONTHS))));
+        d = d.inverse().plus(4, MONTHS);
+        assertThat(d.isEmpty(), is(true));
+        assertThat(d.isNegative(), is(false));
+        assertThat(d, is(Duration.<CalendarUnit>ofZero()));
+        assertThat(d.getTotalLength().isEmpty(), is(true));
+    }
+
+    @Test
+    public void plusDurationWithNonStandardUnits() {
+        IsoDateUnit weekBasedYears = CalendarUnit.weekBasedYears();
+        Duration<IsoDateUnit> d1 = Duration.<IsoDateUnit>of(2, weekBasedYears).plus(3, WEEKS);
+        Duration<IsoDateUnit> d2 = Duration.<IsoDateUnit>of(1, WEEKS).plus(1, weekBasedYears);
+        Duration<IsoDateUnit> sum = d1.plus(d2);
+        assertThat(sum.getPartialAmount(weekBasedYears), is(3L));
+        assertThat(sum.getPartialAmount(WEEKS), is(4L));
+        assertThat(sum.getTotalLength().size(), is(2));
+        assertThat(sum.plus(d2.inverse()), is(d1));
+    }
+
+    @Test
+    public void plusDurationWithFractionsAndSignChange() {
+        Duration<ClockUnit> d1 = Duration.ofClockUnits(0, 0, 2).plus(Duration.of(3, MILLIS));
+        assertThat(d1.getTotalLength().get(1), is(Item.of(3000000, NANOS)));
+        Duration<ClockUnit> d2 = Duration.of(5, SECONDS).inverse();
+        assertThat(d1.plus(d2), is(Duration.ofClockUnits(0, 0, 2).plus(997, MILLIS).inverse()));
+    }
+
     @Test
     public void plusWithMixedSigns1() {
         assertThat(
@@ -21,6 +21,7 @@ import org.junit.runners.Suite.SuiteClasses;
         CopticOperatorTest.class,
         DiyanetDataTest.class,
         DiyanetRangeTest.class,
+        EastAsianDataTest.class,
         EraNameTest.class,
         EthiopianCalendarTest.class,
         EthiopianMiscellaneousTest.class,
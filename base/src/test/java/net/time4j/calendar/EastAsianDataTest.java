@@ -0,0 +1,182 @@
+package net.time4j.calendar;
+
+import net.time4j.PlainDate;
+import net.time4j.engine.CalendarSystem;
+import net.time4j.engine.EpochDays;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class EastAsianDataTest {
+
+    @Test
+    public void chineseDataEqualToAstronomicalCalculation() throws IOException {
+        checkData(ChineseCalendar.axis().getCalendarSystem(), "chinese");
+    }
+
+    @Test
+    public void koreanDataEqualToAstronomicalCalculation() throws IOException {
+        checkData(KoreanCalendar.axis().getCalendarSystem(), "dangi");
+    }
+
+    @Test
+    public void vietnameseDataEqualToAstronomicalCalculation() throws IOException {
+        checkData(VietnameseCalendar.axis().getCalendarSystem(), "vietnam");
+    }
+
+    @Test
+    public void chineseConversions() {
+        checkConversions(ChineseCalendar.axis().getCalendarSystem());
+    }
+
+    @Test
+    public void koreanConversions() {
+        checkConversions(KoreanCalendar.axis().getCalendarSystem());
+    }
+
+    @Test
+    public void vietnameseConversions() {
+        checkConversions(VietnameseCalendar.axis().getCalendarSystem());
+    }
+
+    private static void checkData(
+        CalendarSystem<?> calsys,
+        String calendarType
+    ) throws IOException {
+        EastAsianCS<?> cs = (EastAsianCS<?>) calsys;
+        Properties expected = new Properties();
+        expected.putAll(createData(cs, calendarType));
+        Properties actual = new Properties();
+
+        try (InputStream is = EastAsianData.class.getClassLoader().getResourceAsStream(
+            "data/" + calendarType + ".data")
+        ) {
+            actual.load(is);
+        }
+
+        assertThat(actual, is(expected));
+    }
+
+    private static void checkConversions(CalendarSystem<?> calsys) {
+        EastAsianCS<?> cs = (EastAsianCS<?>) calsys;
+
+        for (long utcDays = cs.getMinimumSinceUTC(); utcDays <= cs.getMaximumSinceUTC(); utcDays += 101) {
+            EastAsianCalendar<?, ?> cal = cs.transform(utcDays);
+            assertThat(cal, is(cs.calculateDate(utcDays)));
+            assertThat(cs.newMoonOnOrAfter(utcDays), is(cs.calculateNewMoonOnOrAfter(utcDays)));
+            int cycle = cal.getCycle();
+            int year = cal.getYear().getNumber();
+            assertThat(cs.newYear(cycle, year), is(cs.calculateNewYear(cycle, year)));
+            assertThat(
+                cs.transform(cycle, year, cal.getMonth(), cal.getDayOfMonth()),
+                is(utcDays));
+            long monthStart = utcDays - cal.getDayOfMonth() + 1;
+            long lengthOfMonth = cs.calculateNewMoonOnOrAfter(monthStart + 1) - monthStart;
+            assertThat(cs.isValid(cycle, year, cal.getMonth(), 30), is(lengthOfMonth == 30));
+        }
+    }
+
+    // generates the content of data files in a reproducible way using astronomical calculations only
+    private static Map<String, String> createData(
+        EastAsianCS<?> cs,
+        String calendarType
+    ) {
+        int min = elapsedYears(cs.calculateDate(cs.getMinimumSinceUTC()));
+        int max = elapsedYears(cs.calculateDate(cs.getMaximumSinceUTC()));
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("type", calendarType);
+        data.put("version", "1.0");
+        data.put("min", String.valueOf(min));
+        data.put("max", String.valueOf(max));
+        long newYear = cs.calculateNewYear(min / 60 + 1, min % 60 + 1);
+        data.put("iso-start", PlainDate.of(newYear, EpochDays.UTC).toString());
+
+        for (int e = min; e <= max; e++) {
+            long nextNewYear = cs.calculateNewYear((e + 1) / 60 + 1, (e + 1) % 60 + 1);
+            StringBuilder lengths = new StringBuilder();
+            int leapMonth = 0;
+            long monthStart = newYear;
+            while (monthStart < nextNewYear) {
+                EastAsianCalendar<?, ?> cal = cs.calculateDate(monthStart);
+                assertThat(elapsedYears(cal), is(e));
+                assertThat(cal.getDayOfMonth(), is(1));
+                if (cal.getMonth().isLeap()) {
+                    leapMonth = cal.getMonth().getNumber();
+                }
+                long next = cs.calculateNewMoonOnOrAfter(monthStart + 1);
+                lengths.append(next - monthStart == 30 ? '1' : '0');
+                monthStart = next;
+            }
+            assertThat(monthStart, is(nextNewYear));
+            assertThat(leapMonth, is(cs.getLeapMonth(e / 60 + 1, e % 60 + 1)));
+            data.put(String.valueOf(e), leapMonth + " " + lengths);
+            newYear = nextNewYear;
+        }
+
+        return data;
+    }
+
+    private static int elapsedYears(EastAsianCalendar<?, ?> cal) {
+        return (cal.getCycle() - 1) * 60 + cal.getYear().getNumber() - 1;
+    }
+
+    /**
+     * Generating method for data files, usage: EastAsianDataTest [target-directory].
+     */
+    public static void main(String[] args) throws IOException {
+        File dir = new File(args.length > 0 ? args[0] : "src/main/resources/data");
+        write(dir, ChineseCalendar.axis().getCalendarSystem(), "chinese");
+        write(dir, KoreanCalendar.axis().getCalendarSystem(), "dangi");
+        write(dir, VietnameseCalendar.axis().getCalendarSystem(), "vietnam");
+    }
+
+    private static void write(
+        File dir,
+        CalendarSystem<?> calsys,
+        String calendarType
+    ) throws IOException {
+        Map<String, String> data = createData((EastAsianCS<?>) calsys, calendarType);
+        String nl = "\n";
+
+        try (Writer writer =
+            new OutputStreamWriter(new FileOutputStream(new File(dir, calendarType + ".data")), StandardCharsets.UTF_8)
+        ) {
+            writer.write("# calendar type (cldr-spec)" + nl);
+            writer.write("type=" + data.remove("type") + nl + nl);
+            writer.write("# generated by astronomical calculations (new moons and major solar terms)" + nl);
+            writer.write("version=" + data.remove("version") + nl + nl);
+            writer.write("# minimum lunisolar year (counted as elapsed years since chinese epoch -2636)" + nl);
+            writer.write("min=" + data.remove("min") + nl + nl);
+            writer.write("# maximum lunisolar year (counted as elapsed years since chinese epoch -2636)" + nl);
+            writer.write("max=" + data.remove("max") + nl + nl);
+            writer.write("# ISO-8601-date corresponding to first day of minimum lunisolar year" + nl);
+            writer.write("iso-start=" + data.remove("iso-start") + nl + nl);
+            writer.write("# tabular data-------------------------------------------" + nl);
+            writer.write("# - every row denotes a lunisolar year" + nl);
+            writer.write("# - first cell is the number of leap month (zero if there is no leap month)" + nl);
+            writer.write("# - second cell indicates the lengths of months in order of occurrence" + nl);
+            writer.write("#   (0 = 29 days, 1 = 30 days)" + nl);
+            writer.write("# -------------------------------------------------------" + nl);
+            for (Map.Entry<String, String> e : data.entrySet()) {
+                writer.write(e.getKey() + "=" + e.getValue() + nl);
+            }
+        }
+    }
+
+}
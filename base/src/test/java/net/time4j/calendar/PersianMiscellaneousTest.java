@@ -7,6 +7,7 @@ import net.time4j.PlainTimestamp;
 import net.time4j.Weekday;
 import net.time4j.calendar.astro.AstronomicalSeason;
 import net.time4j.calendar.astro.JulianDay;
+import net.time4j.calendar.astro.SolarTime;
 import net.time4j.engine.CalendarDate;
 import net.time4j.engine.CalendarDays;
 import net.time4j.engine.ChronoElement;
@@ -270,6 +271,41 @@ public class PersianMiscellaneousTest {
         }
     }
 
+    @Test
+    public void astronomicalNewYearConsistentWithEquinox() {
+        ZonalOffset offset = PersianAlgorithm.STD_OFFSET;
+        for (int round = 0; round < 2; round++) { // second round uses cached values
+            for (int year = 1; year <= 3000 - 622; year++) {
+                PlainTimestamp tsp =
+                    AstronomicalSeason.VERNAL_EQUINOX.inYear(year + 621).get(SolarTime.apparentAt(offset));
+                PlainDate expected = tsp.getCalendarDate();
+                if (tsp.getHour() >= 12) {
+                    expected = expected.plus(1, CalendarUnit.DAYS);
+                }
+                long utcDays = PersianAlgorithm.ASTRONOMICAL.transform(new PersianCalendar(year, 1, 1), offset);
+                assertThat(utcDays, is(expected.getDaysSinceEpochUTC()));
+                if (year > 1) {
+                    PersianCalendar lastDayOfPreviousYear = PersianAlgorithm.ASTRONOMICAL.transform(utcDays - 1, offset);
+                    assertThat(lastDayOfPreviousYear.getYear(), is(year - 1));
+                    assertThat(lastDayOfPreviousYear.getMonth(), is(PersianMonth.ESFAND));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void astronomicalRoundtripOfYear() {
+        ZonalOffset offset = PersianAlgorithm.STD_OFFSET;
+        long start = PersianAlgorithm.ASTRONOMICAL.transform(new PersianCalendar(1403, 1, 1), offset);
+        long end = PersianAlgorithm.ASTRONOMICAL.transform(new PersianCalendar(1404, 1, 1), offset);
+        assertThat(end - start, is(PersianAlgorithm.ASTRONOMICAL.isLeapYear(1403) ? 366L : 365L));
+        for (long utcDays = start; utcDays < end; utcDays++) {
+            PersianCalendar pcal = PersianAlgorithm.ASTRONOMICAL.transform(utcDays, offset);
+            assertThat(pcal.getYear(), is(1403));
+            assertThat(PersianAlgorithm.ASTRONOMICAL.transform(pcal, offset), is(utcDays));
+        }
+    }
+
     @Test
     public void formatPersianCalendar() throws ParseException {
         ChronoFormatter<PersianCalendar> formatter = // y MMMM d, EEEE
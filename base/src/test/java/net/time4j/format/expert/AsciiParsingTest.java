@@ -0,0 +1,81 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class AsciiParsingTest {
+
+    @Test
+    public void parseByteArrayRegion() throws ParseException {
+        byte[] ascii = "id=17;ts=2016-12-31T23:59:59.5Z;".getBytes(StandardCharsets.US_ASCII);
+        Moment expected = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(500_000_000, SI.NANOSECONDS);
+        assertThat(
+            Iso8601Format.EXTENDED_DATE_TIME_OFFSET.parseAscii(ascii, 9, 22),
+            is(expected));
+    }
+
+    @Test
+    public void parseHeapByteBuffer() throws ParseException {
+        ByteBuffer buffer = ByteBuffer.wrap("xx2016-02-29".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(2);
+        assertThat(Iso8601Format.EXTENDED_CALENDAR_DATE.parseAscii(buffer), is(PlainDate.of(2016, 2, 29)));
+        assertThat(buffer.position(), is(2));
+    }
+
+    @Test
+    public void parseDirectByteBuffer() throws ParseException {
+        byte[] ascii = "2016-02-29T17:45".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(ascii.length);
+        buffer.put(ascii);
+        buffer.flip();
+        assertThat(
+            Iso8601Format.EXTENDED_DATE_TIME.parseAscii(buffer),
+            is(PlainTimestamp.of(2016, 2, 29, 17, 45)));
+    }
+
+    @Test
+    public void parseDateWithIso8601() throws ParseException {
+        byte[] ascii = "[2016-W09-1]".getBytes(StandardCharsets.US_ASCII);
+        assertThat(Iso8601Format.parseDate(ascii, 1, 10), is(PlainDate.of(2016, 2, 29)));
+    }
+
+    @Test
+    public void parseNonAsciiBytes() {
+        byte[] utf8 = "29. März 2016".getBytes(StandardCharsets.UTF_8);
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        try {
+            f.parseAscii(utf8, 0, utf8.length);
+            fail("Non-ASCII bytes must not be decoded.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(4));
+        }
+    }
+
+    @Test(expected=ParseException.class)
+    public void parseTrailingBytes() throws ParseException {
+        byte[] ascii = "2016-02-29x".getBytes(StandardCharsets.US_ASCII);
+        Iso8601Format.EXTENDED_CALENDAR_DATE.parseAscii(ascii, 0, ascii.length);
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void parseInvalidRegion() throws ParseException {
+        Iso8601Format.EXTENDED_CALENDAR_DATE.parseAscii(new byte[10], 5, 6);
+    }
+
+}
@@ -0,0 +1,118 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.CharBuffer;
+import java.util.BitSet;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ColumnParseTest {
+
+    private static final ChronoFormatter<PlainDate> DATE_FORMAT =
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+    private static final ChronoFormatter<Moment> MOMENT_FORMAT =
+        ChronoFormatter.ofMomentPattern("uuuu-MM-dd'T'HH:mm:ssXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+
+    @Test
+    public void parseEpochDays() {
+        CharSequence[] texts = {"2018-03-01", "2018-02-30", "", null, "1970-01-01", "2018-03-01x"};
+        int[] target = new int[texts.length];
+        BitSet errors = new BitSet();
+        int success = DATE_FORMAT.parseColumn(texts, target, date -> (int) date.getDaysSinceEpochUTC(), errors);
+        assertThat(success, is(2));
+        assertThat(target[0], is((int) PlainDate.of(2018, 3, 1).getDaysSinceEpochUTC()));
+        assertThat(target[4], is((int) PlainDate.of(1970, 1, 1).getDaysSinceEpochUTC()));
+        assertThat(errors.toString(), is("{1, 2, 3, 5}"));
+    }
+
+    @Test
+    public void parseEpochSeconds() {
+        CharSequence[] texts = {"2016-12-31T23:59:59Z", "2017-01-01T05:29:59+05:30", "2017-01-01T05:29:59"};
+        long[] target = new long[texts.length];
+        BitSet errors = new BitSet();
+        int success = MOMENT_FORMAT.parseColumn(texts, target, Moment::getPosixTime, errors);
+        long expected = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().getPosixTime();
+        assertThat(success, is(2));
+        assertThat(target[0], is(expected));
+        assertThat(target[1], is(expected));
+        assertThat(target[2], is(0L));
+        assertThat(errors.toString(), is("{2}"));
+    }
+
+    @Test
+    public void parseRegionsOfCharBuffer() {
+        CharBuffer buffer = CharBuffer.wrap("2016-12-31T23:59:59Z,xyz,2017-01-01T00:00:00Z\n");
+        int[] starts = {0, 21, 25};
+        int[] ends = {20, 24, 45};
+        long[] target = new long[3];
+        BitSet errors = new BitSet();
+        int success = MOMENT_FORMAT.parseColumn(buffer, starts, ends, target, Moment::getPosixTime, errors);
+        assertThat(success, is(2));
+        assertThat(target[0], is(PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().getPosixTime()));
+        assertThat(target[2], is(PlainTimestamp.of(2017, 1, 1, 0, 0).atUTC().getPosixTime()));
+        assertThat(errors.toString(), is("{1}"));
+    }
+
+    @Test
+    public void parseRegionsWithGenericPath() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.ENGLISH);
+        String source = "1. March 2018;31. December 1999;";
+        int[] target = new int[2];
+        BitSet errors = new BitSet();
+        int success =
+            f.parseColumn(source, new int[] {0, 14}, new int[] {13, 31}, target, PlainDate::getDayOfYear, errors);
+        assertThat(success, is(2));
+        assertThat(target[0], is(60));
+        assertThat(target[1], is(365));
+        assertThat(errors.isEmpty(), is(true));
+    }
+
+    @Test
+    public void reuseErrorBitmap() {
+        BitSet errors = new BitSet();
+        errors.set(0, 3);
+        CharSequence[] texts = {"2018-03-01", "xyz", "1970-01-01"};
+        int success = DATE_FORMAT.parseColumn(texts, new int[3], PlainDate::getDayOfYear, errors);
+        assertThat(success, is(2));
+        assertThat(errors.toString(), is("{1}"));
+        errors.set(0);
+        success =
+            DATE_FORMAT.parseColumn(
+                "2018-03-01;1970-01-01;xyz",
+                new int[] {0, 11, 22},
+                new int[] {10, 21, 25},
+                new long[3],
+                PlainDate::getDaysSinceEpochUTC,
+                errors);
+        assertThat(success, is(2));
+        assertThat(errors.toString(), is("{2}"));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void parseRegionsWithInconsistentIndices() {
+        DATE_FORMAT.parseColumn("2018-03-01", new int[1], new int[2], new int[2], PlainDate::getDayOfYear, new BitSet());
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void parseRegionsOutOfBounds() {
+        DATE_FORMAT.parseColumn("2018-03-01", new int[] {0}, new int[] {11}, new int[1], PlainDate::getDayOfYear, new BitSet());
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void parseColumnWithShortTarget() {
+        DATE_FORMAT.parseColumn(new CharSequence[2], new int[1], PlainDate::getDayOfYear, new BitSet());
+    }
+
+}
@@ -0,0 +1,162 @@
+package net.time4j.format.expert;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.format.Attributes;
+import net.time4j.format.Leniency;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class FixedNumericFormatTest {
+
+    @Test
+    public void compiledOnlyForSupportedPatterns() {
+        assertThat(
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd'T'HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT)
+                .hasFixedFormat(),
+            is(true));
+        assertThat(
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC)
+                .hasFixedFormat(),
+            is(true));
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT).hasFixedFormat(),
+            is(true));
+        assertThat(
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.ENGLISH).hasFixedFormat(),
+            is(false));
+        assertThat(
+            ChronoFormatter.ofDatePattern("uuuu-MM[-dd]", PatternType.CLDR, Locale.ROOT).hasFixedFormat(),
+            is(false));
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.ZERO_DIGIT, '٠').hasFixedFormat(),
+            is(false));
+    }
+
+    @Test
+    public void printTimestamp() {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd'T'HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT);
+        assertThat(
+            f.format(PlainTimestamp.of(2016, 2, 9, 7, 5, 3).plus(45_678_912, ClockUnit.NANOS)),
+            is("2016-02-09T07:05:03.045"));
+        StringBuilder buffer = new StringBuilder(">");
+        f.print(PlainTimestamp.of(1, 1, 1, 0, 0), buffer, f.getAttributes());
+        assertThat(buffer.toString(), is(">0001-01-01T00:00:00.000"));
+    }
+
+    @Test
+    public void printMomentWithOffset() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        Moment m = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC();
+        assertThat(f.format(m), is("2016-12-31T23:59:59.000Z"));
+        assertThat(
+            f.withTimezone(ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 5, 30)).format(m),
+            is("2017-01-01T05:29:59.000+05:30"));
+        assertThat(
+            f.withTimezone(ZonalOffset.ofHours(OffsetSign.BEHIND_UTC, 8)).format(m),
+            is("2016-12-31T15:59:59.000-08:00"));
+    }
+
+    @Test
+    public void printLeapSecondViaGenericPath() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd'T'HH:mm:ssXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        Moment ls = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        assertThat(f.format(ls), is("2016-12-31T23:59:60Z"));
+    }
+
+    @Test
+    public void printFiveDigitYearViaGenericPath() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.format(PlainDate.of(12345, 1, 2)), is("12345-01-02"));
+        assertThat(f.format(PlainDate.of(-44, 3, 15)), is("-0044-03-15"));
+    }
+
+    @Test
+    public void printVariableWidth() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("d.M.uuuu", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.format(PlainDate.of(2018, 3, 5)), is("5.3.2018"));
+        assertThat(f.format(PlainDate.of(2018, 11, 25)), is("25.11.2018"));
+    }
+
+    @Test
+    public void parseTimestamp() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd'T'HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT);
+        assertThat(
+            f.parse("2016-02-09T07:05:03.045"),
+            is(PlainTimestamp.of(PlainDate.of(2016, 2, 9), PlainTime.of(7, 5, 3, 45_000_000))));
+    }
+
+    @Test
+    public void parseMomentWithOffset() throws ParseException {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        Moment expected = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC();
+        assertThat(f.parse("2016-12-31T23:59:59.000Z"), is(expected));
+        assertThat(f.parse("2017-01-01T05:29:59.000+05:30"), is(expected));
+        assertThat(f.parse("2016-12-31T15:59:59.000-08:00"), is(expected));
+    }
+
+    @Test
+    public void parseNonCanonicalViaGenericPath() throws ParseException {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        Moment expected = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC();
+        assertThat(f.parse("2016-12-31t23:59:59.000z"), is(expected));
+        assertThat(f.parse("2016-12-31T23:59:59.000+00:00"), is(expected));
+    }
+
+    @Test
+    public void parseVariableWidth() throws ParseException {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("d.M.uuuu", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.parse("5.3.2018"), is(PlainDate.of(2018, 3, 5)));
+        assertThat(f.parse("25.11.2018"), is(PlainDate.of(2018, 11, 25)));
+        assertThat(f.parse("25.11.12345"), is(PlainDate.of(12345, 11, 25)));
+    }
+
+    @Test
+    public void parseLaxWithMoreDigits() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("d.M.uuuu", PatternType.CLDR, Locale.ROOT).with(Leniency.LAX);
+        assertThat(f.parse("005.03.2018"), is(PlainDate.of(2018, 3, 5)));
+    }
+
+    @Test(expected=ParseException.class)
+    public void parseInvalidDay() throws ParseException {
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT).parse("2018-02-30");
+    }
+
+    @Test(expected=ParseException.class)
+    public void parseMissingDigits() throws ParseException {
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT).parse("2018-2-03");
+    }
+
+    @Test(expected=ParseException.class)
+    public void parseInvalidOffset() throws ParseException {
+        ChronoFormatter.ofMomentPattern(
+            "uuuu-MM-dd'T'HH:mmXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC).parse("2018-02-03T10:15+19:00");
+    }
+
+}
@@ -9,13 +9,16 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         AdjacentDigitParsingTest.class,
+        AsciiParsingTest.class,
         CLDRSanityTest.class,
         ChronoHierarchyTest.class,
+        ColumnParseTest.class,
         DayPeriodTest.class,
         DecimalFormatTest.class,
         DefaultValueTest.class,
         DozenalNumberTest.class,
         DuplicateElementTest.class,
+        FixedNumericFormatTest.class,
         FractionTest.class,
         Iso8601FormatTest.class,
         LiteralWithBidisTest.class,
@@ -27,6 +30,7 @@ import org.junit.runners.Suite.SuiteClasses;
         OffsetPatternTest.class,
         OrFormatTest.class,
         OrdinalTest.class,
+        ParseContextTest.class,
         ParsingTextOverflowTest.class,
         SkipUnknownTest.class,
         StyleProcessorTest.class,
@@ -29,6 +29,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.text.DateFormat;
 import java.text.DateFormatSymbols;
 import java.text.FieldPosition;
@@ -858,6 +860,35 @@ public class MiscellaneousTest {
         assertThat(tsp, is(PlainTimestamp.of(2016, 2, 29, 0, 0)));
     }
 
+    @Test
+    public void formatTextToBufferWithoutAllocation() throws IOException {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (
+            !(bean instanceof com.sun.management.ThreadMXBean)
+            || !((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+        ) {
+            return; // no allocation counter on this JVM
+        }
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) bean;
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("EEEE, d. MMMM uuuu, QQQQ, h:mm a", PatternType.CLDR, Locale.ENGLISH);
+        PlainTimestamp tsp = PlainTimestamp.of(2018, 3, 25, 13, 45);
+        StringBuilder buffer = new StringBuilder(64);
+        for (int i = 0; i < 1000; i++) {
+            buffer.setLength(0);
+            f.formatToBuffer(tsp, buffer);
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = mx.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 1000; i++) {
+            buffer.setLength(0);
+            f.formatToBuffer(tsp, buffer);
+        }
+        long allocated = mx.getThreadAllocatedBytes(threadId) - before;
+        assertThat(buffer.toString(), is("Sunday, 25. March 2018, 1st quarter, 1:45 pm"));
+        assertThat("Allocated bytes per call: " + (allocated / 1000.0), allocated < 1000, is(true));
+    }
+
     private static ChronoFormatter<PlainDate> getQuarterDateFormatter() {
         return ChronoFormatter.setUp(PlainDate.class, Locale.US)
             .addFixedInteger(PlainDate.YEAR, 4)
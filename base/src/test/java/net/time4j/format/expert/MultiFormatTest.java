@@ -1,14 +1,19 @@
 package net.time4j.format.expert;
 
+import net.time4j.Moment;
 import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.ZonalOffset;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.text.ParseException;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 
@@ -56,6 +61,124 @@ public class MultiFormatTest {
         mfp.parse(null);
     }
 
+    @Test
+    public void compiledSharesCommonPrefixes() {
+        MultiFormatParser<PlainTimestamp> mfp = createTimestampFormat().compile();
+        // shared: uuuu-MM-dd (5), then HH:mm after space (4), :ss (2), 'T'HH:mm (4), /MM/dd HH:mm (8)
+        assertThat(mfp.getCountOfNodes(), is(23));
+        assertThat(mfp.compile() == mfp, is(true));
+    }
+
+    @Test
+    public void compiledEqualToSequential() {
+        MultiFormatParser<PlainTimestamp> sequential = createTimestampFormat();
+        MultiFormatParser<PlainTimestamp> compiled = sequential.compile();
+        String[] inputs = {
+            "2015-12-31 23:59:58",
+            "2015-12-31 23:59",
+            "2015-12-31T23:59",
+            "2015/12/31 10:15",
+            "2015/12/31",
+            "2015-12-31",
+            "2015-12-31 23:59:58xyz",
+            "2015-12-31 25:00",
+            "2015-02-30 10:00",
+            "2015-1-31 10:00",
+            "2015",
+            "x",
+            "2015/13/01",
+            "2015-12-31T23:59+01:00"
+        };
+        for (String input : inputs) {
+            for (int start = 0; start < Math.min(2, input.length()); start++) {
+                ParseLog plog1 = new ParseLog(start);
+                ParseLog plog2 = new ParseLog(start);
+                PlainTimestamp tsp1 = sequential.parse(input, plog1);
+                PlainTimestamp tsp2 = compiled.parse(input, plog2);
+                assertThat(input, tsp2, is(tsp1));
+                assertThat(input, plog2.getPosition(), is(plog1.getPosition()));
+                assertThat(input, plog2.getErrorIndex(), is(plog1.getErrorIndex()));
+                assertThat(input, plog2.getErrorMessage(), is(plog1.getErrorMessage()));
+            }
+            String r1;
+            String r2;
+            try {
+                r1 = sequential.parse(input).toString();
+            } catch (ParseException pe) {
+                r1 = pe.getMessage() + "@" + pe.getErrorOffset();
+            }
+            try {
+                r2 = compiled.parse(input).toString();
+            } catch (ParseException pe) {
+                r2 = pe.getMessage() + "@" + pe.getErrorOffset();
+            }
+            assertThat(input, r2, is(r1));
+        }
+    }
+
+    @Test
+    public void compiledKeepsOrderOfFormats() throws ParseException {
+        ChronoFormatter<PlainDate> dmy =
+            ChronoFormatter.ofDatePattern("dd/MM/uuuu", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> mdy =
+            ChronoFormatter.ofDatePattern("MM/dd/uuuu", PatternType.CLDR, Locale.ROOT);
+        assertThat(MultiFormatParser.of(dmy, mdy).compile().parse("05/03/2018"), is(PlainDate.of(2018, 3, 5)));
+        assertThat(MultiFormatParser.of(mdy, dmy).compile().parse("05/03/2018"), is(PlainDate.of(2018, 5, 3)));
+        assertThat(MultiFormatParser.of(dmy, mdy).compile().parse("05/13/2018"), is(PlainDate.of(2018, 5, 13)));
+    }
+
+    @Test
+    public void compiledWithFormatsWhichCannotShareSteps() throws ParseException {
+        ChronoFormatter<Moment> withOffset =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mmXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        ChronoFormatter<Moment> withoutOffset =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        MultiFormatParser<Moment> mfp = MultiFormatParser.of(withOffset, withoutOffset).compile();
+        Moment expected = PlainTimestamp.of(2015, 12, 31, 23, 59).atUTC();
+        assertThat(mfp.getCountOfNodes(), is(0));
+        assertThat(mfp.parse("2015-12-31 23:59Z"), is(expected));
+        assertThat(mfp.parse("2015-12-31 23:59"), is(expected));
+        assertThat(mfp.parse("2015-12-31 23:59+02:00", new ParseLog()), is(expected.minus(2, TimeUnit.HOURS)));
+    }
+
+    @Test
+    public void compiledParseFailure() {
+        MultiFormatParser<PlainDate> mfp = createMultipleFormat().compile();
+        ParseLog plog = new ParseLog();
+        assertThat(mfp.parse("31-12-2015", plog), nullValue());
+        assertThat(plog.isError(), is(true));
+    }
+
+    @Test(expected=ParseException.class)
+    public void compiledParseTrailingChars() throws ParseException {
+        createMultipleFormat().compile().parse("31.12.2015xyz");
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void compiledParseEmptyString() throws ParseException {
+        createMultipleFormat().compile().parse("");
+    }
+
+    @Test
+    public void compiledParseMultipleFormat() throws ParseException {
+        MultiFormatParser<PlainDate> mfp = createMultipleFormat().compile();
+        PlainDate expected = PlainDate.of(2015, 12, 31);
+        assertThat(mfp.parse("31.12.2015"), is(expected));
+        assertThat(mfp.parse("12/31/2015"), is(expected));
+        assertThat(mfp.parse("31. Dezember 2015"), is(expected));
+        assertThat(mfp.parse("31. décembre 2015"), is(expected));
+        assertThat(mfp.parse("31st of December 2015"), is(expected));
+    }
+
+    private static MultiFormatParser<PlainTimestamp> createTimestampFormat() {
+        return MultiFormatParser.of(
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss", PatternType.CLDR, Locale.ROOT),
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT),
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd'T'HH:mm", PatternType.CLDR, Locale.ROOT),
+            ChronoFormatter.ofTimestampPattern("uuuu/MM/dd HH:mm", PatternType.CLDR, Locale.ROOT)
+        );
+    }
+
     private static MultiFormatParser<PlainDate> createMultipleFormat() {
         ChronoFormatter<PlainDate> germanStyle =
             ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
@@ -7,11 +7,16 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.CharBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 
 @RunWith(JUnit4.class)
@@ -49,6 +54,71 @@ public class OrFormatTest {
         assertThat(f.format(date2), is("365"));
     }
 
+    @Test
+    public void formatToReusedBuffer() throws IOException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern(
+                "E, [dd.MM.|MM/dd/]uuuu|EEEE, d. MMMM uuuu", PatternType.CLDR, Locale.ENGLISH);
+        StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            buffer.setLength(0);
+            f.formatToBuffer(PlainDate.of(2015, 12, 31), buffer);
+            assertThat(buffer.toString(), is("Thu, 31.12.2015"));
+        }
+        CharBuffer cb = CharBuffer.allocate(32);
+        f.formatToBuffer(PlainDate.of(2016, 1, 1), cb);
+        cb.flip();
+        assertThat(cb.toString(), is("Fri, 01.01.2016"));
+    }
+
+    @Test
+    public void formatToBufferAfterFailure() throws IOException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.setUp(PlainDate.axis(), Locale.ROOT)
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 1)
+                .or()
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 2)
+                .build();
+        StringBuilder buffer = new StringBuilder();
+        try {
+            f.formatToBuffer(PlainDate.of(2015, 12, 31), buffer);
+            fail("Day-of-year with three digits should not be printable.");
+        } catch (IllegalArgumentException iae) {
+            // expected
+        }
+        f.formatToBuffer(PlainDate.of(2015, 1, 10), buffer);
+        assertThat(buffer.toString(), is("10"));
+    }
+
+    @Test
+    public void formatToBufferWithoutAllocation() throws IOException {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (
+            !(bean instanceof com.sun.management.ThreadMXBean)
+            || !((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+        ) {
+            return; // no allocation counter on this JVM
+        }
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) bean;
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("[dd.MM.|MM/dd/]uuuu", PatternType.CLDR, Locale.ROOT);
+        PlainDate date = PlainDate.of(2015, 12, 31);
+        StringBuilder buffer = new StringBuilder(32);
+        for (int i = 0; i < 1000; i++) {
+            buffer.setLength(0);
+            f.formatToBuffer(date, buffer);
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = mx.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 1000; i++) {
+            buffer.setLength(0);
+            f.formatToBuffer(date, buffer);
+        }
+        long allocated = mx.getThreadAllocatedBytes(threadId) - before;
+        assertThat(buffer.toString(), is("31.12.2015"));
+        assertThat("Allocated bytes per call: " + (allocated / 1000.0), allocated < 1000, is(true));
+    }
+
     @Test
     public void parse() throws ParseException {
         ChronoFormatter<PlainDate> f =
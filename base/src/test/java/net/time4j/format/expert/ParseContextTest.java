@@ -0,0 +1,136 @@
+package net.time4j.format.expert;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.ChronoEntity;
+import net.time4j.format.Attributes;
+import net.time4j.format.Leniency;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParsePosition;
+import java.util.BitSet;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ParseContextTest {
+
+    @Test
+    public void reuseForManyTexts() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ParseContext context = new ParseContext();
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(f.parse("2018-03-25", pp, context), is(PlainDate.of(2018, 3, 25)));
+        assertThat(pp.getIndex(), is(10));
+        ChronoEntity<?> raw = context.getRawValues();
+        pp.setIndex(0);
+        assertThat(f.parse("2017-12-31", pp, context), is(PlainDate.of(2017, 12, 31)));
+        assertThat(context.getRawValues(), sameInstance(raw));
+        assertThat(raw.getInt(PlainDate.YEAR), is(2017));
+    }
+
+    @Test
+    public void startPositionAndTrailingText() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ParseContext context = new ParseContext();
+        ParsePosition pp = new ParsePosition(4);
+        assertThat(f.parse("xyz 2018-03-25 abc", pp, context), is(PlainDate.of(2018, 3, 25)));
+        assertThat(pp.getIndex(), is(14));
+        assertThat(pp.getErrorIndex(), is(-1));
+    }
+
+    @Test
+    public void errorAfterSuccess() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ParseContext context = new ParseContext();
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(f.parse("2018-03-25", pp, context), is(PlainDate.of(2018, 3, 25)));
+        pp.setIndex(0);
+        assertThat(f.parse("2018-02-30", pp, context), nullValue());
+        assertThat(pp.getErrorIndex() >= 0, is(true));
+        assertThat(context.getLog().isError(), is(true));
+        pp = new ParsePosition(0);
+        assertThat(f.parse("2018-02-28", pp, context), is(PlainDate.of(2018, 2, 28)));
+        assertThat(context.getLog().isError(), is(false));
+    }
+
+    @Test
+    public void sharedBetweenFormatters() {
+        ChronoFormatter<PlainDate> f1 = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainTimestamp> f2 =
+            ChronoFormatter.ofTimestampPattern("d. MMMM uuuu HH:mm", PatternType.CLDR, Locale.ENGLISH);
+        ParseContext context = new ParseContext();
+        assertThat(f1.parse("2018-03-25", new ParsePosition(0), context), is(PlainDate.of(2018, 3, 25)));
+        assertThat(
+            f2.parse("25. March 2018 17:45", new ParsePosition(0), context),
+            is(PlainTimestamp.of(2018, 3, 25, 17, 45)));
+        assertThat(f1.parse("2018-03-26", new ParsePosition(0), context), is(PlainDate.of(2018, 3, 26)));
+    }
+
+    @Test
+    public void attributesOfContext() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ParseContext strict = new ParseContext();
+        ParseContext lax = new ParseContext(new Attributes.Builder().set(Attributes.LENIENCY, Leniency.LAX).build());
+        assertThat(f.parse("2018-02-30", new ParsePosition(0), strict), nullValue());
+        assertThat(f.parse("2018-02-30", new ParsePosition(0), lax), is(PlainDate.of(2018, 3, 2)));
+        assertThat(f.parse("2018-02-31", new ParsePosition(0), lax), is(PlainDate.of(2018, 3, 3)));
+    }
+
+    @Test
+    public void resetReleasesValues() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ParseContext context = new ParseContext();
+        f.parse("2018-03-25", new ParsePosition(0), context);
+        context.reset();
+        assertThat(context.getRawValues().contains(PlainDate.YEAR), is(false));
+        assertThat(context.getLog().getPosition(), is(0));
+    }
+
+    @Test
+    public void nestedCustomizedFormatter() {
+        ChronoFormatter<PlainDate> inner = ChronoFormatter.ofDatePattern("uuuu-MMM-dd", PatternType.CLDR, Locale.ENGLISH);
+        ChronoFormatter<PlainTimestamp> outer =
+            ChronoFormatter.setUp(PlainTimestamp.axis(), Locale.ENGLISH)
+                .addPattern("HH:mm ", PatternType.CLDR)
+                .addCustomized(PlainDate.COMPONENT, inner)
+                .build();
+        String text = "10:15 2018-Mar-25";
+        PlainTimestamp expected = PlainTimestamp.of(2018, 3, 25, 10, 15);
+        ParseContext context = new ParseContext();
+        for (int i = 0; i < 3; i++) {
+            ParsePosition pp = new ParsePosition(0);
+            assertThat(outer.parse(text, pp, context), is(expected));
+            assertThat(pp.getIndex(), is(text.length()));
+        }
+        long[] target = new long[2];
+        BitSet errors = new BitSet();
+        int count =
+            outer.parseColumn(
+                new CharSequence[] {text, "11:30 2018-Apr-01"}, target, tsp -> tsp.getMinute(), errors);
+        assertThat(count, is(2));
+        assertThat(errors.isEmpty(), is(true));
+        assertThat(target[0], is(15L));
+        assertThat(target[1], is(30L));
+    }
+
+    @Test
+    public void noPhantomNanoAfterFailedOrBlock() {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm|uuuu-MM-dd", PatternType.CLDR, Locale.ROOT)
+                .withDefault(PlainTime.DIGITAL_HOUR_OF_DAY, 0)
+                .withDefault(PlainTime.MINUTE_OF_HOUR, 0);
+        ParseLog plog = new ParseLog();
+        assertThat(f.parse("2018-03-25", plog), is(PlainTimestamp.of(2018, 3, 25, 0, 0)));
+        assertThat(plog.getRawValues().contains(PlainTime.NANO_OF_SECOND), is(false));
+    }
+
+}
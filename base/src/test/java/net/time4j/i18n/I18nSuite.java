@@ -22,7 +22,9 @@ import org.junit.runners.Suite.SuiteClasses;
         NumberSymbolTest.class,
         PluralRulesTest.class,
         PrettyTimeTest.class,
+        PropertyArchiveTest.class,
         RootLocaleTest.class,
+        TextAccessorTest.class,
         WeekdataTest.class
     }
 )
@@ -0,0 +1,120 @@
+package net.time4j.i18n;
+
+import net.time4j.format.internal.PropertyArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PropertyArchiveTest {
+
+    private static final File ROOT = new File("src/main/resources");
+
+    @Test
+    public void compiledArchiveEqualToPropertyFiles() throws IOException {
+        PropertyArchive archive = compile();
+        List<String> expectedNames = new ArrayList<>();
+        collect(ROOT, "", expectedNames);
+        expectedNames.sort(null);
+        assertThat(archive.getResourceNames(), is(expectedNames));
+        assertThat(expectedNames.size() > 1000, is(true));
+
+        for (String name : expectedNames) {
+            assertThat(name, archive.getProperties(name), is(read(new File(ROOT, name))));
+        }
+    }
+
+    @Test
+    public void unknownResource() throws IOException {
+        PropertyArchive archive = compile();
+        assertThat(archive.getProperties("names/iso8601_xyz.properties"), nullValue());
+        assertThat(archive.getProperties("names/iso8601_de.properties").get("M(a)_1"), is("Jan."));
+    }
+
+    @Test
+    public void withOffset() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(new byte[] {1, 2, 3});
+        PropertyArchive.compile(ROOT, out);
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        buffer.position(3);
+        assertThat(
+            PropertyArchive.of(buffer).getProperties("units/upattern_en.properties").get("Sw1"),
+            is("{0} second"));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void corruptArchive() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PropertyArchive.compile(ROOT, out);
+        byte[] bytes = out.toByteArray();
+        PropertyArchive.of(ByteBuffer.wrap(bytes, 0, bytes.length - 1));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void noArchive() {
+        PropertyArchive.of(ByteBuffer.wrap("#abc=xyz".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static PropertyArchive compile() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PropertyArchive.compile(ROOT, out);
+        return PropertyArchive.of(ByteBuffer.wrap(out.toByteArray()));
+    }
+
+    private static void collect(
+        File dir,
+        String prefix,
+        List<String> names
+    ) {
+        for (File file : dir.listFiles()) {
+            if (file.isDirectory()) {
+                collect(file, prefix + file.getName() + "/", names);
+            } else if (file.getName().endsWith(".properties")) {
+                names.add(prefix + file.getName());
+            }
+        }
+    }
+
+    // same rules as in PropertyBundle
+    private static Map<String, String> read(File file) throws IOException {
+        Map<String, String> map = new HashMap<>();
+        try (BufferedReader reader =
+                 new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty() && (line.charAt(0) == '\uFEFF')) {
+                    line = line.substring(1);
+                }
+                line = line.trim();
+                if (line.isEmpty() || (line.charAt(0) == '#')) {
+                    continue;
+                }
+                int pos = line.indexOf('=');
+                if ((pos >= 0) && (pos + 1 < line.length())) {
+                    map.put(line.substring(0, pos), line.substring(pos + 1));
+                }
+            }
+        }
+        return map;
+    }
+
+}
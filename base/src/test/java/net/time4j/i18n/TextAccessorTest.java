@@ -0,0 +1,199 @@
+package net.time4j.i18n;
+
+import net.time4j.Meridiem;
+import net.time4j.Month;
+import net.time4j.Weekday;
+import net.time4j.format.CalendarText;
+import net.time4j.format.Leniency;
+import net.time4j.format.OutputContext;
+import net.time4j.format.TextAccessor;
+import net.time4j.format.TextWidth;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TextAccessorTest {
+
+    private static final Locale[] LOCALES = {
+        Locale.ROOT, Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH, new Locale("tr"), new Locale("ru"),
+        new Locale("ar"), new Locale("fa"), new Locale("hi"), new Locale("ja"), new Locale("zh"),
+        new Locale("ko"), new Locale("el"), new Locale("he"), new Locale("vi"), new Locale("ka"),
+        new Locale("fi"), new Locale("hu"), new Locale("lt"), new Locale("pl"), new Locale("ca"),
+        new Locale("nl"), new Locale("sv"), new Locale("es"), new Locale("pt"), new Locale("it")
+    };
+
+    @Test
+    public void sameResultsAsLinearScan() {
+        for (Locale locale : LOCALES) {
+            CalendarText ct = CalendarText.getIsoInstance(locale);
+            for (TextWidth tw : TextWidth.values()) {
+                for (OutputContext oc : OutputContext.values()) {
+                    check(ct.getStdMonths(tw, oc), Month.class, locale);
+                    check(ct.getWeekdays(tw, oc), Weekday.class, locale);
+                    check(ct.getMeridiems(tw, oc), Meridiem.class, locale);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void firstFullMatchWins() {
+        TextAccessor accessor = CalendarText.getIsoInstance(Locale.ENGLISH).getStdMonths(TextWidth.WIDE, OutputContext.FORMAT);
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(accessor.parse("Marches", pp, Month.class, Leniency.SMART), is(Month.MARCH));
+        assertThat(pp.getIndex(), is(5));
+    }
+
+    @Test
+    public void narrowFormsNeedUniqueMatch() {
+        TextAccessor accessor =
+            CalendarText.getIsoInstance(Locale.ENGLISH).getStdMonths(TextWidth.NARROW, OutputContext.FORMAT);
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(accessor.parse("J", pp, Month.class, Leniency.SMART), nullValue());
+        assertThat(pp.getErrorIndex(), is(0));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("F", pp, Month.class, Leniency.SMART), is(Month.FEBRUARY));
+        assertThat(pp.getIndex(), is(1));
+    }
+
+    @Test
+    public void partialCompareWithUniquePrefix() {
+        TextAccessor accessor = CalendarText.getIsoInstance(Locale.ENGLISH).getStdMonths(TextWidth.WIDE, OutputContext.FORMAT);
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(accessor.parse("Septx", pp, Month.class, Leniency.LAX), is(Month.SEPTEMBER));
+        assertThat(pp.getIndex(), is(4));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("Ju", pp, Month.class, Leniency.LAX), nullValue());
+    }
+
+    @Test
+    public void turkishDotlessI() {
+        TextAccessor accessor =
+            CalendarText.getIsoInstance(new Locale("tr")).getStdMonths(TextWidth.WIDE, OutputContext.FORMAT);
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(accessor.parse("kasım", pp, Month.class, Leniency.SMART), is(Month.NOVEMBER));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("kasim", pp, Month.class, Leniency.SMART), nullValue());
+    }
+
+    private static <V extends Enum<V>> void check(
+        TextAccessor accessor,
+        Class<V> type,
+        Locale locale
+    ) {
+        List<String> inputs = new ArrayList<>();
+        for (String text : accessor.getTextForms()) {
+            inputs.add(text);
+            inputs.add(text + "x");
+            inputs.add("x" + text);
+            inputs.add(text.toUpperCase(Locale.ROOT));
+            inputs.add(text.toLowerCase(Locale.ROOT));
+            inputs.add(text.replace('i', 'ı').replace('I', 'İ'));
+            for (int i = 1; i < text.length(); i++) {
+                inputs.add(text.substring(0, i));
+                inputs.add(text.substring(0, i) + "x");
+            }
+        }
+        inputs.add("");
+        for (String input : inputs) {
+            for (Leniency leniency : Leniency.values()) {
+                for (int start = 0; start <= Math.min(1, input.length()); start++) {
+                    ParsePosition expectedPos = new ParsePosition(start);
+                    V expected = linear(accessor.getTextForms(), input, expectedPos, type, leniency);
+                    ParsePosition pp = new ParsePosition(start);
+                    V result = accessor.parse(input, pp, type, leniency);
+                    String msg = locale + "/" + input + "/" + leniency + "/" + start;
+                    assertThat(msg, result, is(expected));
+                    assertThat(msg, pp.getIndex(), is(expectedPos.getIndex()));
+                    assertThat(msg, pp.getErrorIndex(), is(expectedPos.getErrorIndex()));
+                }
+            }
+        }
+    }
+
+    // copy of the original linear algorithm as reference
+    private static <V extends Enum<V>> V linear(
+        List<String> textForms,
+        CharSequence parseable,
+        ParsePosition status,
+        Class<V> valueType,
+        Leniency leniency
+    ) {
+        boolean caseInsensitive = (leniency != Leniency.STRICT);
+        boolean partialCompare = (leniency == Leniency.LAX);
+        V[] enums = valueType.getEnumConstants();
+        int len = textForms.size();
+        int start = status.getIndex();
+        int end = parseable.length();
+        int maxEq = 0;
+        V candidate = null;
+
+        for (int i = 0; i < enums.length; i++) {
+            String s = ((i >= len) ? enums[i].name() : textForms.get(i));
+            int pos = start;
+            int n = s.length();
+            boolean eq = true;
+            for (int j = 0; eq && (j < n); j++) {
+                if (start + j >= end) {
+                    eq = false;
+                } else {
+                    char c = parseable.charAt(start + j);
+                    char t = s.charAt(j);
+                    eq = (c == t) || (caseInsensitive && compareIgnoreCase(c, t));
+                    if (eq) {
+                        pos++;
+                    }
+                }
+            }
+            if (partialCompare || (n == 1)) {
+                if (maxEq < pos - start) {
+                    maxEq = pos - start;
+                    candidate = enums[i];
+                } else if (maxEq == pos - start) {
+                    candidate = null;
+                }
+            } else if (eq) {
+                status.setIndex(pos);
+                return enums[i];
+            }
+        }
+
+        if (candidate == null) {
+            status.setErrorIndex(start);
+        } else {
+            status.setIndex(start + maxEq);
+        }
+        return candidate;
+    }
+
+    private static boolean compareIgnoreCase(char c1, char c2) {
+        if (c1 >= 'a' && c1 <= 'z') {
+            if (c2 >= 'A' && c2 <= 'Z') {
+                c2 = (char) (c2 + 'a' - 'A');
+            }
+            return (c1 == c2);
+        } else if (c1 >= 'A' && c1 <= 'Z') {
+            c1 = (char) (c1 + 'a' - 'A');
+            if (c2 >= 'A' && c2 <= 'Z') {
+                c2 = (char) (c2 + 'a' - 'A');
+            }
+            return (c1 == c2);
+        }
+        return (
+            Character.toUpperCase(c1) == Character.toUpperCase(c2)
+                || Character.toLowerCase(c1) == Character.toLowerCase(c2)
+        );
+    }
+
+}
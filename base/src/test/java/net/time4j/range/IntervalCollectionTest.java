@@ -1,5 +1,6 @@
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
@@ -14,10 +15,12 @@ import java.text.ParseException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import static net.time4j.ClockUnit.NANOS;
 import static org.hamcrest.CoreMatchers.is;
@@ -1284,4 +1287,107 @@ public class IntervalCollectionTest {
         assertThat(icoll.size(), is(2));
     }
 
+
+    @Test
+    public void plusKeepsSortedOrder() {
+        Random random = new Random(23);
+        List<DateInterval> all = new ArrayList<>();
+        IntervalCollection<PlainDate> icoll = IntervalCollection.onDateAxis();
+
+        for (int i = 0; i < 200; i++) {
+            DateInterval interval = randomInterval(random, 100);
+            all.add(interval);
+            icoll = icoll.plus(interval);
+        }
+
+        List<ChronoInterval<PlainDate>> expected = new ArrayList<>(all);
+        expected.sort(DateInterval.comparator());
+        assertThat(icoll.getIntervals(), is(expected));
+        assertThat(IntervalCollection.onDateAxis().plus(all).getIntervals(), is(expected));
+        assertThat(
+            IntervalCollection.onDateAxis().plus(all.subList(0, 50)).plus(all.subList(50, 200)).getIntervals(),
+            is(expected));
+    }
+
+    @Test
+    public void builder() {
+        Random random = new Random(29);
+        List<DateInterval> all = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            all.add(randomInterval(random, 50));
+        }
+
+        IntervalCollection<PlainDate> base = IntervalCollection.onDateAxis().plus(all.subList(0, 10));
+        IntervalCollection.Builder<PlainDate> builder = IntervalCollection.Builder.setUp(base);
+        assertThat(builder.build() == base, is(true));
+
+        for (DateInterval interval : all.subList(10, 50)) {
+            builder.add(interval);
+        }
+
+        builder.add(DateInterval.atomic(PlainDate.of(2017, 1, 1)).withOpenEnd()); // empty
+        builder.addAll(all.subList(50, 100));
+        IntervalCollection<PlainDate> icoll = builder.build();
+        assertThat(icoll, is(IntervalCollection.onDateAxis().plus(all)));
+        assertThat(icoll.size(), is(100));
+        assertThat(builder.build(), is(icoll));
+        assertThat(base.size(), is(10));
+    }
+
+    @Test
+    public void setOperationsAsPointSets() {
+        Random random = new Random(31);
+
+        for (int round = 0; round < 50; round++) {
+            IntervalCollection<PlainDate> c1 = IntervalCollection.onDateAxis();
+            IntervalCollection<PlainDate> c2 = IntervalCollection.onDateAxis();
+            for (int i = 0, n = random.nextInt(20); i < n; i++) {
+                c1 = c1.plus(randomInterval(random, 200));
+            }
+            for (int i = 0, n = random.nextInt(20); i < n; i++) {
+                c2 = c2.plus(randomInterval(random, 200));
+            }
+
+            BitSet b1 = toDays(c1);
+            BitSet b2 = toDays(c2);
+            BitSet and = (BitSet) b1.clone();
+            and.and(b2);
+            BitSet or = (BitSet) b1.clone();
+            or.or(b2);
+            BitSet xor = (BitSet) b1.clone();
+            xor.xor(b2);
+
+            IntervalCollection<PlainDate> intersection = c1.intersect(c2);
+            assertThat(toDays(intersection), is(and));
+            assertThat(intersection.isDisjunct(), is(true));
+            assertThat(intersection, is(c2.intersect(c1)));
+            assertThat(toDays(c1.union(c2)), is(or));
+            assertThat(c1.union(c2).isDisjunct(), is(true));
+            assertThat(toDays(c1.xor(c2)), is(xor));
+            assertThat(toDays(c1.withBlocks()), is(b1));
+        }
+    }
+
+    private static final PlainDate ORIGIN = PlainDate.of(2017, 1, 1);
+
+    private static DateInterval randomInterval(
+        Random random,
+        int range
+    ) {
+        PlainDate start = ORIGIN.plus(random.nextInt(range), CalendarUnit.DAYS);
+        return DateInterval.between(start, start.plus(random.nextInt(10), CalendarUnit.DAYS));
+    }
+
+    private static BitSet toDays(IntervalCollection<PlainDate> icoll) {
+        BitSet days = new BitSet();
+        for (ChronoInterval<PlainDate> interval : icoll.getIntervals()) {
+            PlainDate date = interval.getStart().getTemporal();
+            while (interval.contains(date)) {
+                days.set((int) CalendarUnit.DAYS.between(ORIGIN, date));
+                date = date.plus(1, CalendarUnit.DAYS);
+            }
+        }
+        return days;
+    }
+
 }
@@ -0,0 +1,147 @@
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IntervalIndexTest {
+
+    @Test
+    public void emptyIndex() {
+        IntervalIndex<PlainDate, DateInterval> index =
+            IntervalIndex.onDateAxis(Collections.singletonList(DateInterval.atomic(PlainDate.of(2017, 1, 1)).collapse()));
+        assertThat(index.isEmpty(), is(true));
+        assertThat(index.size(), is(0));
+        assertThat(index.findIntersections(PlainDate.of(2017, 1, 1)).isEmpty(), is(true));
+        assertThat(index.findIntersections(DateInterval.since(PlainDate.of(2017, 1, 1))).isEmpty(), is(true));
+    }
+
+    @Test
+    public void sameAsIntervalTreeOnDateAxis() {
+        Random random = new Random(5);
+        PlainDate base = PlainDate.of(2017, 1, 1);
+        List<DateInterval> intervals = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            PlainDate start = base.plus(random.nextInt(365), CalendarUnit.DAYS);
+            DateInterval interval = DateInterval.between(start, start.plus(random.nextInt(30), CalendarUnit.DAYS));
+            switch (random.nextInt(5)) {
+                case 0:
+                    interval = interval.withOpenEnd();
+                    break;
+                case 1:
+                    interval = DateInterval.since(start);
+                    break;
+                case 2:
+                    interval = DateInterval.until(start);
+                    break;
+                default:
+                    // closed
+            }
+            intervals.add(interval);
+        }
+
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(intervals);
+        IntervalIndex<PlainDate, DateInterval> index = IntervalIndex.onDateAxis(intervals);
+        assertThat(index.size(), is(tree.size()));
+        assertThat(new ArrayList<>(index), is(new ArrayList<>(tree)));
+
+        for (int i = -10; i < 400; i++) {
+            PlainDate date = base.plus(i, CalendarUnit.DAYS);
+            assertThat(index.findIntersections(date), is(tree.findIntersections(date)));
+            DateInterval search = DateInterval.between(date, date.plus(random.nextInt(10), CalendarUnit.DAYS));
+            assertThat(index.findIntersections(search), is(tree.findIntersections(search)));
+            assertThat(
+                index.findIntersections(search.withOpenEnd()),
+                is(tree.findIntersections(search.withOpenEnd())));
+        }
+
+        assertThat(index.findIntersections(DateInterval.since(base)), is(tree.findIntersections(DateInterval.since(base))));
+    }
+
+    @Test
+    public void sameAsIntervalTreeOnMomentAxis() {
+        Random random = new Random(11);
+        Moment base = PlainTimestamp.of(2016, 12, 31, 23, 0).atUTC();
+        List<MomentInterval> intervals = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            Moment start = base.plus(random.nextInt(7200), SI.SECONDS).plus(random.nextInt(3), SI.NANOSECONDS);
+            Moment end = start.plus(random.nextInt(600), SI.SECONDS);
+            MomentInterval interval = MomentInterval.between(start, end);
+            intervals.add(random.nextBoolean() ? interval : interval.withClosedEnd());
+        }
+
+        IntervalTree<Moment, MomentInterval> tree = IntervalTree.onMomentAxis(intervals);
+        IntervalIndex<Moment, MomentInterval> index = IntervalIndex.onMomentAxis(intervals);
+
+        for (int i = 0; i < 8000; i += 7) {
+            Moment m = base.plus(i, SI.SECONDS);
+            assertThat(index.findIntersections(m), is(tree.findIntersections(m)));
+            MomentInterval search = MomentInterval.between(m, m.plus(random.nextInt(100), SI.SECONDS));
+            assertThat(index.findIntersections(search), is(tree.findIntersections(search)));
+        }
+    }
+
+    @Test
+    public void leapSecond() {
+        Moment leap = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        Moment next = PlainTimestamp.of(2017, 1, 1, 0, 0).atUTC();
+        MomentInterval beforeLeap = MomentInterval.between(PlainTimestamp.of(2016, 12, 31, 23, 59).atUTC(), leap);
+        MomentInterval fromLeap = MomentInterval.between(leap, next);
+        IntervalIndex<Moment, MomentInterval> index = IntervalIndex.onMomentAxis(Arrays.asList(fromLeap, beforeLeap));
+        assertThat(leap.isLeapSecond(), is(true));
+        assertThat(index.findIntersections(leap), is(Collections.singletonList(fromLeap)));
+        assertThat(index.findIntersections(next).isEmpty(), is(true));
+        assertThat(new ArrayList<>(index), is(Arrays.asList(beforeLeap, fromLeap)));
+    }
+
+    @Test
+    public void visitorCancellation() {
+        DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+        DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+        DateInterval i3 = DateInterval.between(PlainDate.of(2014, 5, 1), PlainDate.of(2014, 6, 30));
+        IntervalIndex<PlainDate, DateInterval> index = IntervalIndex.onDateAxis(Arrays.asList(i1, i2, i3));
+        List<DateInterval> visited = new ArrayList<>();
+        index.findIntersections(
+            PlainDate.of(2014, 5, 31),
+            interval -> {
+                visited.add(interval);
+                return true;
+            });
+        assertThat(visited, is(Collections.singletonList(i1)));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void momentOutOfRange() {
+        Moment m = PlainTimestamp.of(1500, 1, 1, 0, 0).atUTC();
+        IntervalIndex.onMomentAxis(Collections.singletonList(MomentInterval.since(m)));
+    }
+
+    @Test
+    public void timeScaleIsUTC() {
+        Moment m = Moment.of(0, TimeScale.UTC);
+        IntervalIndex<Moment, MomentInterval> index =
+            IntervalIndex.onMomentAxis(Collections.singletonList(MomentInterval.since(m)));
+        assertThat(index.findIntersections(m).size(), is(1));
+        assertThat(index.findIntersections(Moment.of(2 * 365 * 86400 - 1, 999_999_999, TimeScale.POSIX)).isEmpty(), is(true));
+    }
+
+}
@@ -1,6 +1,7 @@
 package net.time4j.range;
 
 import net.time4j.Moment;
+import net.time4j.CalendarUnit;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
@@ -14,6 +15,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -296,4 +298,115 @@ public class IntervalTreeTest {
         assertThat(tree.isEmpty(), is(true));
     }
 
+
+    @Test
+    public void plusAndMinus() {
+        Random random = new Random(17);
+        List<DateInterval> expected = new ArrayList<>();
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(expected);
+        PlainDate base = PlainDate.of(2017, 1, 1);
+
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                PlainDate start = base.plus(random.nextInt(100), CalendarUnit.DAYS);
+                DateInterval interval =
+                    DateInterval.between(start, start.plus(random.nextInt(10), CalendarUnit.DAYS));
+                expected.add(interval);
+                tree = tree.plus(interval);
+            } else {
+                DateInterval interval = expected.remove(random.nextInt(expected.size()));
+                tree = tree.minus(interval);
+            }
+
+            if (i % 100 == 0) {
+                PlainDate date = base.plus(random.nextInt(110), CalendarUnit.DAYS);
+                DateInterval search = DateInterval.between(date, date.plus(random.nextInt(5), CalendarUnit.DAYS));
+                List<DateInterval> found = new ArrayList<>();
+                for (DateInterval interval : expected) {
+                    if (interval.intersects(search)) {
+                        found.add(interval);
+                    }
+                }
+                List<DateInterval> result = new ArrayList<>(tree.findIntersections(search));
+                found.sort(IntervalTreeTest::compare);
+                result.sort(IntervalTreeTest::compare);
+                assertThat(result, is(found));
+            }
+        }
+
+        assertThat(tree.size(), is(expected.size()));
+        expected.sort(IntervalTreeTest::compare);
+        List<DateInterval> stored = new ArrayList<>(tree);
+        stored.sort(IntervalTreeTest::compare);
+        assertThat(stored, is(expected));
+    }
+
+    @Test
+    public void plusAndMinusArePersistent() {
+        DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+        DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+        DateInterval i3 = DateInterval.between(PlainDate.of(2014, 6, 15), PlainDate.of(2014, 6, 30));
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(Arrays.asList(i3, i1));
+
+        IntervalTree<PlainDate, DateInterval> added = tree.plus(i2);
+        assertThat(new ArrayList<>(added), is(Arrays.asList(i1, i2, i3)));
+        assertThat(new ArrayList<>(tree), is(Arrays.asList(i1, i3)));
+
+        IntervalTree<PlainDate, DateInterval> removed = added.minus(i1);
+        assertThat(new ArrayList<>(removed), is(Arrays.asList(i2, i3)));
+        assertThat(added.size(), is(3));
+        assertThat(removed.size(), is(2));
+        assertThat(removed.contains(i1), is(false));
+        assertThat(added.contains(i1), is(true));
+
+        IntervalTree<PlainDate, DateInterval> duplicate = added.plus(i3);
+        assertThat(duplicate.size(), is(4));
+        assertThat(duplicate.minus(i3).size(), is(3));
+        assertThat(duplicate.minus(i3).contains(i3), is(true));
+    }
+
+    @Test
+    public void minusUnknownOrEmpty() {
+        DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+        DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(Collections.singletonList(i1));
+        assertThat(tree.minus(i2) == tree, is(true));
+        assertThat(tree.minus(i1.withOpenEnd()) == tree, is(true));
+        assertThat(tree.plus(i1.collapse()) == tree, is(true));
+        assertThat(tree.minus(i1).isEmpty(), is(true));
+    }
+
+    @Test
+    public void findIntersectionsWithVisitor() {
+        DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+        DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+        DateInterval i3 = DateInterval.between(PlainDate.of(2014, 6, 15), PlainDate.of(2014, 6, 30));
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(Arrays.asList(i3, i1, i2));
+
+        List<DateInterval> visited = new ArrayList<>();
+        tree.findIntersections(PlainDate.of(2014, 5, 31), interval -> !visited.add(interval));
+        assertThat(visited, is(Arrays.asList(i1, i2)));
+
+        visited.clear();
+        tree.findIntersections(
+            DateInterval.between(PlainDate.of(2014, 5, 1), PlainDate.of(2014, 7, 1)),
+            interval -> {
+                visited.add(interval);
+                return (visited.size() == 2); // cancel after second interval
+            });
+        assertThat(visited, is(Arrays.asList(i1, i2)));
+
+        visited.clear();
+        tree.findIntersections(DateInterval.since(PlainDate.of(2014, 6, 2)), interval -> !visited.add(interval));
+        assertThat(visited, is(Collections.singletonList(i3)));
+    }
+
+    private static int compare(
+        DateInterval i1,
+        DateInterval i2
+    ) {
+        int cmp = i1.getStartAsCalendarDate().compareTo(i2.getStartAsCalendarDate());
+        return ((cmp == 0) ? i1.getEndAsCalendarDate().compareTo(i2.getEndAsCalendarDate()) : cmp);
+    }
+
 }
@@ -24,6 +24,7 @@ import org.junit.runners.Suite.SuiteClasses;
         DayPartitionTest.class,
         HolidayTest.class,
         IntervalCollectionTest.class,
+        IntervalIndexTest.class,
         IntervalTreeTest.class,
         IsoRecurrenceTest.class,
         MomentIntervalFormatTest.class,
@@ -11,6 +11,7 @@ import org.junit.runners.JUnit4;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -294,6 +295,42 @@ public class LeapSecondTest {
             is(1341100801L + NLS_OFFSET));
     }
 
+    @Test
+    public void indexedLookupEqualToLinearScan() {
+        LeapSeconds instance = LeapSeconds.getInstance();
+        List<ExtendedLSE> events = new ArrayList<>(); // descending order
+
+        for (LeapSecondEvent event : instance) {
+            events.add((ExtendedLSE) event);
+        }
+
+        List<Long> utcs = new ArrayList<>();
+        List<Long> unixTimes = new ArrayList<>();
+
+        for (ExtendedLSE lse : events) {
+            for (long delta = -3; delta <= 3; delta++) {
+                utcs.add(lse.utc() + delta);
+                unixTimes.add(lse.raw() + UTC_OFFSET + delta);
+            }
+        }
+
+        for (long t = -86400; t < 5000000000L; t += 86399) {
+            utcs.add(t);
+            unixTimes.add(t);
+        }
+
+        for (long utc : utcs) {
+            assertThat(instance.getShift(utc), is(linearShift(events, utc)));
+            assertThat(instance.getNextEvent(utc), is(linearNextEvent(events, utc)));
+            assertThat(instance.strip(utc), is(linearStrip(events, instance.supportsNegativeLS(), utc)));
+            assertThat(instance.isPositiveLS(utc), is(linearShift(events, utc) == 1 && isEventTime(events, utc)));
+        }
+
+        for (long unixTime : unixTimes) {
+            assertThat(instance.enhance(unixTime), is(linearEnhance(events, unixTime)));
+        }
+    }
+
     @Test
     public void getDateOfExpiration() {
         GregorianDate expected = PlainDate.of(2017, 12, 28);
@@ -309,6 +346,83 @@ public class LeapSecondTest {
             is(expected.getYear()));
     }
 
+    // reference implementations as linear scans over events in descending order
+
+    private static int linearShift(
+        List<ExtendedLSE> events,
+        long utc
+    ) {
+        if (utc > 0) {
+            for (ExtendedLSE lse : events) {
+                if (utc > lse.utc()) {
+                    return 0;
+                } else if (utc > lse.utc() - lse.getShift()) {
+                    return (int) (utc - lse.utc() + lse.getShift());
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isEventTime(
+        List<ExtendedLSE> events,
+        long utc
+    ) {
+        for (ExtendedLSE lse : events) {
+            if (lse.utc() == utc) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static LeapSecondEvent linearNextEvent(
+        List<ExtendedLSE> events,
+        long utc
+    ) {
+        LeapSecondEvent result = null;
+        for (ExtendedLSE lse : events) {
+            if (utc >= lse.utc()) {
+                break;
+            }
+            result = lse;
+        }
+        return result;
+    }
+
+    private static long linearEnhance(
+        List<ExtendedLSE> events,
+        long unixTime
+    ) {
+        long epochTime = unixTime - UTC_OFFSET;
+        if (epochTime >= 0) {
+            for (ExtendedLSE lse : events) {
+                if (lse.raw() < epochTime) {
+                    return epochTime + lse.utc() - lse.raw();
+                }
+            }
+        }
+        return epochTime;
+    }
+
+    private static long linearStrip(
+        List<ExtendedLSE> events,
+        boolean snls,
+        long utc
+    ) {
+        if (utc > 0) {
+            for (ExtendedLSE lse : events) {
+                if (
+                    (lse.utc() - lse.getShift() < utc)
+                    || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
+                ) {
+                    return utc + lse.raw() - lse.utc() + UTC_OFFSET;
+                }
+            }
+        }
+        return utc + UTC_OFFSET;
+    }
+
     private static PlainDate toPlainDate(GregorianDate date) {
         return PlainDate.of(
             date.getYear(), date.getMonth(), date.getDayOfMonth());
@@ -5,8 +5,10 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -41,18 +43,53 @@ public class ProviderRegistrationTest {
         System.out.println(Timezone.getProviderInfo());
     }
 
+    @Test
+    public void availableIDsAfterConcurrentRegistration() throws InterruptedException {
+        int count = 20;
+        AtomicBoolean done = new AtomicBoolean(false);
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                Timezone.getAvailableIDs();
+            }
+        });
+        reader.start();
+        for (int i = 0; i < count; i++) {
+            String id = "Test/Generation" + i;
+            Timezone.registerProvider(new DummyProvider("generation" + i, Collections.singleton(id)));
+            Timezone.getAvailableIDs();
+        }
+        done.set(true);
+        reader.join();
+        Set<String> ids = new HashSet<>();
+        for (TZID tzid : Timezone.getAvailableIDs()) {
+            ids.add(tzid.canonical());
+        }
+        for (int i = 0; i < count; i++) {
+            assertThat(ids.contains("Test/Generation" + i), is(true));
+        }
+    }
+
     private static class DummyProvider
         implements ZoneModelProvider {
 
         private final String name;
+        private final Set<String> ids;
 
         DummyProvider(String name) {
+            this(name, Collections.emptySet());
+        }
+
+        DummyProvider(
+            String name,
+            Set<String> ids
+        ) {
             this.name = name;
+            this.ids = ids;
         }
 
         @Override
         public Set<String> getAvailableIDs() {
-            return Collections.emptySet();
+            return this.ids;
         }
 
         @Override
@@ -0,0 +1,101 @@
+package net.time4j.tz;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TimezoneCacheTest {
+
+    private static final String[] IDS = {
+        "Europe/Berlin", "Europe/Paris", "Asia/Tokyo", "America/New_York", "Australia/Sydney"
+    };
+
+    @Before
+    public void setUp() {
+        Timezone.Cache.refresh();
+    }
+
+    @After
+    public void tearDown() {
+        Timezone.Cache.setMaximumCacheSize(1024);
+        Timezone.Cache.refresh();
+    }
+
+    @Test
+    public void hitsAndMisses() {
+        long hits = Timezone.Cache.getHitCount();
+        long misses = Timezone.Cache.getMissCount();
+        Timezone tz = Timezone.of("Europe/Berlin");
+        assertThat(Timezone.Cache.getMissCount() > misses, is(true));
+        misses = Timezone.Cache.getMissCount();
+        hits = Timezone.Cache.getHitCount();
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(tz));
+        assertThat(Timezone.Cache.getHitCount() - hits, is(1L));
+        assertThat(Timezone.Cache.getMissCount(), is(misses));
+    }
+
+    @Test
+    public void boundedSizeWithEviction() {
+        Timezone.Cache.setMaximumCacheSize(3);
+        long evictions = Timezone.Cache.getEvictionCount();
+        for (String id : IDS) {
+            Timezone.of(id);
+        }
+        assertThat(Timezone.Cache.getSize(), is(3));
+        assertThat(Timezone.Cache.getEvictionCount() - evictions >= 2, is(true));
+    }
+
+    @Test
+    public void secondChanceForRecentlyUsedZone() {
+        Timezone.Cache.setMaximumCacheSize(2);
+        Timezone berlin = Timezone.of(IDS[0]);
+        Timezone.of(IDS[1]);
+        assertThat(Timezone.of(IDS[0]), sameInstance(berlin)); // marks Berlin as recently used
+        Timezone.of(IDS[2]); // evicts Paris
+        long misses = Timezone.Cache.getMissCount();
+        assertThat(Timezone.of(IDS[0]), sameInstance(berlin));
+        assertThat(Timezone.Cache.getMissCount(), is(misses));
+        Timezone.of(IDS[1]);
+        assertThat(Timezone.Cache.getMissCount(), is(misses + 1));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void minimumSizeOnlyRaisesLimit() {
+        Timezone.Cache.setMaximumCacheSize(4);
+        Timezone.Cache.setMinimumCacheSize(2);
+        for (String id : IDS) {
+            Timezone.of(id);
+        }
+        assertThat(Timezone.Cache.getSize(), is(4));
+        Timezone.Cache.setMinimumCacheSize(0); // does not shrink or disable the cache
+        assertThat(Timezone.Cache.getSize(), is(4));
+        Timezone.of(IDS[IDS.length - 1]);
+        assertThat(Timezone.Cache.getSize(), is(4));
+    }
+
+    @Test
+    public void inactiveCache() {
+        Timezone.Cache.setCacheActive(false);
+        try {
+            Timezone.of("Europe/Berlin");
+            assertThat(Timezone.Cache.getSize(), is(0));
+        } finally {
+            Timezone.Cache.setCacheActive(true);
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeMaximumSize() {
+        Timezone.Cache.setMaximumCacheSize(-1);
+    }
+
+}
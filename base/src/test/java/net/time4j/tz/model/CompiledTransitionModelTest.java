@@ -0,0 +1,181 @@
+package net.time4j.tz.model;
+
+import net.time4j.ClockUnit;
+import net.time4j.Month;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
+import net.time4j.base.UnixTime;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class CompiledTransitionModelTest {
+
+    private static final ZonalTransition FIRST =
+        new ZonalTransition(0L, 1800, 7200, 3600);
+    private static final ZonalTransition SECOND =
+        new ZonalTransition(365 * 86400L, 7200, 3600, 0);
+    private static final ZonalTransition THIRD =
+        new ZonalTransition(830 * 86400L, 3600, 7200, 3600);
+
+    private static final List<DaylightSavingRule> RULES =
+        Arrays.asList(
+            GregorianTimezoneRule.ofLastWeekday(Month.MARCH, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 3600),
+            GregorianTimezoneRule.ofLastWeekday(Month.OCTOBER, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 0));
+
+    @Test
+    public void compositeModel() {
+        TransitionHistory history =
+            TransitionModel.of(ZonalOffset.ofTotalSeconds(1800), Arrays.asList(FIRST, SECOND, THIRD), RULES);
+        TransitionHistory compiled = TransitionModel.compile(history, 1971, 2100);
+        assertThat(compiled, instanceOf(CompiledTransitionModel.class));
+        checkEquivalence(history, compiled);
+    }
+
+    @Test
+    public void ruleModel() {
+        TransitionHistory history = TransitionModel.of(ZonalOffset.ofTotalSeconds(3600), RULES);
+        TransitionHistory compiled = TransitionModel.compile(history, 1990, 2040);
+        checkEquivalence(history, compiled);
+        assertThat(TransitionModel.compile(compiled, 2000, 2010), instanceOf(CompiledTransitionModel.class));
+    }
+
+    @Test
+    public void compileWithoutTransitionsInHorizon() {
+        TransitionHistory history = TransitionModel.of(Arrays.asList(FIRST, SECOND, THIRD));
+        assertThat(TransitionModel.compile(history, 1980, 2000), sameInstance(history));
+    }
+
+    @Test
+    public void offsetPairOfArrayModel() {
+        TransitionHistory history = TransitionModel.of(Arrays.asList(FIRST, SECOND, THIRD));
+        checkEquivalence(history, history);
+    }
+
+    @Test
+    public void offsetPairOfEmptyModel() {
+        TransitionHistory history = new EmptyTransitionModel(ZonalOffset.ofTotalSeconds(-5 * 3600));
+        long pair = history.getOffsetPair(PlainDate.of(2018, 3, 25), PlainTime.of(2, 30));
+        assertThat((int) pair, is(-5 * 3600));
+        assertThat((int) (pair >> 32), is(-5 * 3600));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void compileWithInvalidYears() {
+        TransitionModel.compile(TransitionModel.of(ZonalOffset.ofTotalSeconds(3600), RULES), 2000, 1999);
+    }
+
+    @Test
+    public void serializedAsOriginal() throws IOException, ClassNotFoundException {
+        TransitionHistory history = TransitionModel.of(ZonalOffset.ofTotalSeconds(3600), RULES);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(TransitionModel.compile(history, 1990, 2040));
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        assertThat(ois.readObject(), is((Object) history));
+        ois.close();
+    }
+
+    private static void checkEquivalence(
+        TransitionHistory history,
+        TransitionHistory compiled
+    ) {
+        long end = PlainTimestamp.of(2110, 1, 1, 0, 0).atUTC().getPosixTime();
+        for (long t = -2 * 86400L; t < end; t += 86400 + 3 * 3600 + 17) {
+            checkPosix(history, compiled, t);
+        }
+        for (ZonalTransition zt : history.getTransitions(new UT(-86400L), new UT(end))) {
+            for (long delta = -7200; delta <= 7200; delta += 1800) {
+                checkPosix(history, compiled, zt.getPosixTime() + delta);
+                checkLocal(history, compiled, zt.getPosixTime() + zt.getPreviousOffset() + delta);
+            }
+        }
+    }
+
+    private static void checkPosix(
+        TransitionHistory history,
+        TransitionHistory compiled,
+        long posix
+    ) {
+        UT ut = new UT(posix);
+        assertThat(compiled.getStartTransition(ut), is(history.getStartTransition(ut)));
+        assertThat(compiled.findNextTransition(ut), is(history.findNextTransition(ut)));
+        assertThat(compiled.getOffsetWindow(ut), is(history.getOffsetWindow(ut)));
+    }
+
+    private static void checkLocal(
+        TransitionHistory history,
+        TransitionHistory compiled,
+        long localSecs
+    ) {
+        PlainTimestamp tsp = PlainTimestamp.of(PlainDate.of(1970, 1, 1), PlainTime.midnightAtStartOfDay()).plus(
+            localSecs, ClockUnit.SECONDS);
+        assertThat(
+            compiled.getValidOffsets(tsp.getCalendarDate(), tsp.getWallTime()),
+            is(history.getValidOffsets(tsp.getCalendarDate(), tsp.getWallTime())));
+        assertThat(
+            compiled.getConflictTransition(tsp.getCalendarDate(), tsp.getWallTime()),
+            is(history.getConflictTransition(tsp.getCalendarDate(), tsp.getWallTime())));
+        long expectedPair = toPair(history, tsp);
+        assertThat(history.getOffsetPair(tsp.getCalendarDate(), tsp.getWallTime()), is(expectedPair));
+        assertThat(compiled.getOffsetPair(tsp.getCalendarDate(), tsp.getWallTime()), is(expectedPair));
+    }
+
+    private static long toPair(
+        TransitionHistory history,
+        PlainTimestamp tsp
+    ) {
+        ZonalTransition conflict = history.getConflictTransition(tsp.getCalendarDate(), tsp.getWallTime());
+        List<ZonalOffset> offsets = history.getValidOffsets(tsp.getCalendarDate(), tsp.getWallTime());
+        if (conflict == null) {
+            assertThat(offsets.size(), is(1));
+            long offset = offsets.get(0).getIntegralAmount();
+            return (offset << 32) | (offset & 0xFFFFFFFFL);
+        }
+        assertThat(offsets.size(), is(conflict.isGap() ? 0 : 2));
+        return (((long) conflict.getPreviousOffset()) << 32) | (conflict.getTotalOffset() & 0xFFFFFFFFL);
+    }
+
+    private static class UT implements UnixTime {
+
+        private final long ut;
+
+        UT(long ut) {
+            super();
+            this.ut = ut;
+        }
+
+        @Override
+        public long getPosixTime() {
+            return this.ut;
+        }
+
+        @Override
+        public int getNanosecond() {
+            return 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,201 @@
+package net.time4j.tz.model;
+
+import net.time4j.Month;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
+import net.time4j.base.UnixTime;
+import net.time4j.tz.OffsetWindow;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class OffsetWindowTest {
+
+    private static final ZonalTransition FIRST =
+        new ZonalTransition(0L, 1800, 7200, 3600);
+    private static final ZonalTransition SECOND =
+        new ZonalTransition(365 * 86400L, 7200, 3600, 0);
+    private static final ZonalTransition THIRD =
+        new ZonalTransition(830 * 86400L, 3600, 7200, 3600);
+
+    private static final List<DaylightSavingRule> RULES =
+        Arrays.asList(
+            GregorianTimezoneRule.ofLastWeekday(Month.MARCH, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 3600),
+            GregorianTimezoneRule.ofLastWeekday(Month.OCTOBER, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 0));
+
+    @Test
+    public void arrayModel() {
+        TransitionHistory history =
+            TransitionModel.of(Arrays.asList(FIRST, SECOND, THIRD));
+        OffsetWindow window = history.getOffsetWindow(new UT(-1));
+        assertThat(window.getStartInclusive(), is(Long.MIN_VALUE));
+        assertThat(window.getEndExclusive(), is(0L));
+        assertThat(window.getOffset(), is(ZonalOffset.ofTotalSeconds(1800)));
+        window = history.getOffsetWindow(new UT(0));
+        assertThat(window.getStartInclusive(), is(0L));
+        assertThat(window.getEndExclusive(), is(365 * 86400L));
+        assertThat(window.getOffset(), is(ZonalOffset.ofTotalSeconds(7200)));
+        window = history.getOffsetWindow(new UT(1000 * 86400L));
+        assertThat(window.getStartInclusive(), is(830 * 86400L));
+        assertThat(window.getEndExclusive(), is(Long.MAX_VALUE));
+        assertThat(window.getOffset(), is(ZonalOffset.ofTotalSeconds(7200)));
+        checkConsistency(history);
+    }
+
+    @Test
+    public void compositeModel() {
+        checkConsistency(
+            TransitionModel.of(ZonalOffset.ofTotalSeconds(1800), Arrays.asList(FIRST, SECOND, THIRD), RULES));
+    }
+
+    @Test
+    public void ruleModel() {
+        checkConsistency(
+            TransitionModel.of(ZonalOffset.ofTotalSeconds(3600), RULES));
+    }
+
+    @Test
+    public void emptyModel() {
+        TransitionHistory history =
+            TransitionModel.of(
+                ZonalOffset.ofTotalSeconds(3600),
+                Collections.<ZonalTransition>emptyList(),
+                Collections.<DaylightSavingRule>emptyList());
+        OffsetWindow window = history.getOffsetWindow(new UT(0));
+        assertThat(window.getStartInclusive(), is(Long.MIN_VALUE));
+        assertThat(window.getEndExclusive(), is(Long.MAX_VALUE));
+        assertThat(window.getOffset(), is(ZonalOffset.ofTotalSeconds(3600)));
+    }
+
+    @Test
+    public void cachedOffsetInTimezone() {
+        TransitionHistory history =
+            TransitionModel.of(ZonalOffset.ofTotalSeconds(1800), Arrays.asList(FIRST, SECOND, THIRD), RULES);
+        Timezone tz = Timezone.of("Test/Window", history);
+        long end = PlainTimestamp.of(2030, 1, 1, 0, 0).atUTC().getPosixTime();
+        for (long t = -86400L; t < end; t += 3 * 3600 + 17) { // forward
+            assertThat(tz.getOffset(new UT(t)), is(expectedOffset(history, t)));
+        }
+        for (long t = end; t > -86400L; t -= 5 * 86400 + 7) { // backward
+            assertThat(tz.getOffset(new UT(t)), is(expectedOffset(history, t)));
+        }
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        ZonalOffset offset = ZonalOffset.ofTotalSeconds(3600);
+        OffsetWindow window = new OffsetWindow(0L, 86400L, offset);
+        assertThat(window.equals(new OffsetWindow(0L, 86400L, offset)), is(true));
+        assertThat(window.hashCode(), is(new OffsetWindow(0L, 86400L, offset).hashCode()));
+        assertThat(window.equals(new OffsetWindow(0L, 2 * 86400L, offset)), is(false));
+        assertThat(window.hashCode() == new OffsetWindow(0L, 2 * 86400L, offset).hashCode(), is(false));
+    }
+
+    @Test
+    public void realZones() {
+        String[] zones = {
+            "Europe/Berlin", "America/New_York", "Australia/Sydney", "America/Santiago", "Pacific/Auckland"};
+        for (String zone : zones) {
+            TransitionHistory history = Timezone.of(zone).getHistory();
+            long end = PlainTimestamp.of(2150, 1, 1, 0, 0).atUTC().getPosixTime();
+            for (long t = -2000000000L; t < end; t += 86400 * 13 + 3607) {
+                assertThat(zone, history.getOffsetWindow(new UT(t)), is(expectedWindow(history, t)));
+            }
+        }
+    }
+
+    @Test
+    public void cachedOffsetConcurrently() throws InterruptedException {
+        TransitionHistory history =
+            TransitionModel.of(ZonalOffset.ofTotalSeconds(1800), Arrays.asList(FIRST, SECOND, THIRD), RULES);
+        Timezone tz = Timezone.of("Test/Window", history);
+        long summer = PlainTimestamp.of(2020, 7, 1, 0, 0).atUTC().getPosixTime();
+        long winter = PlainTimestamp.of(2020, 1, 1, 0, 0).atUTC().getPosixTime();
+        boolean[] ok = {true};
+        Thread other = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                ok[0] &= tz.getOffset(new UT(winter + i)).equals(expectedOffset(history, winter));
+            }
+        });
+        other.start();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(tz.getOffset(new UT(summer + i)), is(expectedOffset(history, summer)));
+        }
+        other.join();
+        assertThat(ok[0], is(true));
+    }
+
+    private static void checkConsistency(TransitionHistory history) {
+        long end = PlainTimestamp.of(2030, 1, 1, 0, 0).atUTC().getPosixTime();
+        List<ZonalTransition> transitions = history.getTransitions(new UT(-86400L), new UT(end));
+        for (ZonalTransition zt : transitions) {
+            long tt = zt.getPosixTime();
+            OffsetWindow window = history.getOffsetWindow(new UT(tt));
+            assertThat(window.getStartInclusive(), is(tt));
+            assertThat(window.getOffset(), is(ZonalOffset.ofTotalSeconds(zt.getTotalOffset())));
+            assertThat(history.getOffsetWindow(new UT(tt - 1)).getEndExclusive(), is(tt));
+        }
+        for (long t = -86400L; t < end; t += 86400 + 3 * 3600 + 17) {
+            OffsetWindow window = history.getOffsetWindow(new UT(t));
+            assertThat(window.contains(t), is(true));
+            assertThat(window.getOffset(), is(expectedOffset(history, t)));
+            assertThat(window, is(expectedWindow(history, t)));
+        }
+    }
+
+    private static OffsetWindow expectedWindow(
+        TransitionHistory history,
+        long posix
+    ) {
+        ZonalTransition start = history.getStartTransition(new UT(posix));
+        ZonalTransition next = history.getNextTransition(new UT(posix));
+        return new OffsetWindow(
+            ((start == null) ? Long.MIN_VALUE : start.getPosixTime()),
+            ((next == null) ? Long.MAX_VALUE : next.getPosixTime()),
+            expectedOffset(history, posix));
+    }
+
+    private static ZonalOffset expectedOffset(
+        TransitionHistory history,
+        long posix
+    ) {
+        ZonalTransition zt = history.getStartTransition(new UT(posix));
+        return ((zt == null) ? history.getInitialOffset() : ZonalOffset.ofTotalSeconds(zt.getTotalOffset()));
+    }
+
+    private static class UT implements UnixTime {
+
+        private final long ut;
+
+        UT(long ut) {
+            super();
+            this.ut = ut;
+        }
+
+        @Override
+        public long getPosixTime() {
+            return this.ut;
+        }
+
+        @Override
+        public int getNanosecond() {
+            return 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package net.time4j.tz.olson;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.EpochConversions;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class EpochConversionsTest {
+
+    private static final long START = PlainTimestamp.of(1900, 1, 1, 0, 0).atUTC().getPosixTime();
+    private static final long END = PlainTimestamp.of(2040, 1, 1, 0, 0).atUTC().getPosixTime();
+
+    @Test
+    public void sortedSecondsLikeMoment() {
+        long[] src = new long[5000];
+        long step = (END - START) / src.length;
+        for (int i = 0; i < src.length; i++) {
+            src[i] = START + i * step;
+        }
+        checkAgainstMoment(Timezone.of(EUROPE.BERLIN), src);
+        checkAgainstMoment(Timezone.of(AMERICA.NEW_YORK), src);
+        checkAgainstMoment(Timezone.of(AUSTRALIA.LORD_HOWE), src);
+    }
+
+    @Test
+    public void unsortedSecondsLikeMoment() {
+        Random random = new Random(4711);
+        long[] src = new long[5000];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = START + (long) (random.nextDouble() * (END - START));
+        }
+        checkAgainstMoment(Timezone.of(EUROPE.BERLIN), src);
+        checkAgainstMoment(Timezone.of(ASIA.KOLKATA), src);
+    }
+
+    @Test
+    public void aroundTransitionInMillis() {
+        Timezone tz = Timezone.of(EUROPE.BERLIN);
+        long t = PlainTimestamp.of(2018, 3, 25, 1, 0).atUTC().getPosixTime() * 1000; // start of summer time
+        long[] src = {t - 1, t, t + 1};
+        long[] local = new long[3];
+        EpochConversions.toLocalTimes(tz, TimeUnit.MILLISECONDS, src, 0, local, 0, 3);
+        assertThat(local[0], is(t - 1 + 3_600_000));
+        assertThat(local[1], is(t + 7_200_000));
+        assertThat(local[2], is(t + 1 + 7_200_000));
+    }
+
+    @Test
+    public void nanosBeforeEpoch() {
+        Timezone tz = Timezone.of(ZonalOffset.ofHours(OffsetSign.BEHIND_UTC, 5));
+        long[] src = {-1L, 18_000_000_000_000L, 18_000_000_000_000L - 1};
+        long[] local = new long[3];
+        int[] days = new int[3];
+        int[] packed = new int[3];
+        EpochConversions.toLocalTimes(tz, TimeUnit.NANOSECONDS, src, 0, local, 0, 3);
+        EpochConversions.toLocalEpochDays(tz, TimeUnit.NANOSECONDS, src, 0, days, 0, 3);
+        EpochConversions.toPackedDates(tz, TimeUnit.NANOSECONDS, src, 0, packed, 0, 3);
+        assertThat(local[0], is(-1L - 18_000_000_000_000L));
+        assertThat(local[1], is(0L));
+        assertThat(local[2], is(-1L));
+        assertThat(days[0], is(-1));
+        assertThat(days[1], is(0));
+        assertThat(days[2], is(-1));
+        assertThat(packed[0], is(19691231));
+        assertThat(packed[1], is(19700101));
+        assertThat(packed[2], is(19691231));
+    }
+
+    @Test
+    public void chunkedRanges() {
+        Timezone tz = Timezone.of(EUROPE.BERLIN);
+        long[] src = {0L, 1_000_000_000L, 1_500_000_000L, 2_000_000_000L};
+        int[] dest = new int[6];
+        EpochConversions.toPackedDates(tz, TimeUnit.SECONDS, src, 1, dest, 2, 2);
+        assertThat(dest[0], is(0));
+        assertThat(dest[1], is(0));
+        assertThat(dest[2], is(20010909));
+        assertThat(dest[3], is(20170714));
+        assertThat(dest[4], is(0));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void invalidRange() {
+        EpochConversions.toLocalTimes(
+            Timezone.of(EUROPE.BERLIN), TimeUnit.SECONDS, new long[3], 1, new long[3], 0, 3);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void unsupportedUnit() {
+        EpochConversions.toLocalTimes(
+            Timezone.of(EUROPE.BERLIN), TimeUnit.MINUTES, new long[1], 0, new long[1], 0, 1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void packedYearOutOfRange() {
+        long[] src = {PlainTimestamp.of(10000, 1, 1, 12, 0).atUTC().getPosixTime()};
+        EpochConversions.toPackedDates(Timezone.of(EUROPE.BERLIN), TimeUnit.SECONDS, src, 0, new int[1], 0, 1);
+    }
+
+    private static void checkAgainstMoment(
+        Timezone tz,
+        long[] src
+    ) {
+        int n = src.length;
+        long[] local = new long[n];
+        int[] days = new int[n];
+        int[] packed = new int[n];
+        EpochConversions.toLocalTimes(tz, TimeUnit.SECONDS, src, 0, local, 0, n);
+        EpochConversions.toLocalEpochDays(tz, TimeUnit.SECONDS, src, 0, days, 0, n);
+        EpochConversions.toPackedDates(tz, TimeUnit.SECONDS, src, 0, packed, 0, n);
+
+        for (int i = 0; i < n; i++) {
+            PlainTimestamp tsp = Moment.of(src[i], TimeScale.POSIX).toZonalTimestamp(tz.getID());
+            PlainDate date = tsp.getCalendarDate();
+            assertThat(local[i], is(tsp.atUTC().getPosixTime()));
+            assertThat((long) days[i], is(date.get(EpochDays.UNIX)));
+            assertThat(
+                packed[i],
+                is(date.getYear() * 10000 + date.getMonth() * 100 + date.getDayOfMonth()));
+        }
+    }
+
+}
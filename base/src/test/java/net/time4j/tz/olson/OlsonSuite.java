@@ -2,10 +2,12 @@ package net.time4j.tz.olson;
 
 import net.time4j.tz.threeten.JdkZoneProviderTest;
 import net.time4j.tz.model.ArrayTransitionModelTest;
+import net.time4j.tz.model.CompiledTransitionModelTest;
 import net.time4j.tz.model.CompositeTransitionModelTest;
 import net.time4j.tz.model.CustomZoneTest;
 import net.time4j.tz.model.DaylightSavingRuleTest;
 import net.time4j.tz.model.EireZoneTest;
+import net.time4j.tz.model.OffsetWindowTest;
 import net.time4j.tz.model.RulesLikeBerlin1947Test;
 import net.time4j.tz.model.RulesLikeDhaka2009Test;
 import net.time4j.tz.model.RulesOfEuropeanUnionTest;
@@ -24,14 +26,17 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         ArrayTransitionModelTest.class,
+        CompiledTransitionModelTest.class,
         CompositeTransitionModelTest.class,
         CountryToZonesTest.class,
         CustomZoneTest.class,
         DaylightSavingRuleTest.class,
         EireZoneTest.class,
+        EpochConversionsTest.class,
         JdkZoneProviderTest.class,
         LocalizedGMTOffsetTest.class,
         NegativeDayOfMonthPatternTest.class,
+        OffsetWindowTest.class,
         PredefinedIDTest.class,
         RulesLikeBerlin1947Test.class,
         RulesLikeDhaka2009Test.class,
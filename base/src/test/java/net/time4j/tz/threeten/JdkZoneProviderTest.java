@@ -3,6 +3,8 @@ package net.time4j.tz.threeten;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.TransitionHistory;
@@ -15,6 +17,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static net.time4j.ClockUnit.MINUTES;
 import static org.hamcrest.CoreMatchers.is;
@@ -26,6 +30,11 @@ import static org.junit.Assert.fail;
 @RunWith(JUnit4.class)
 public class JdkZoneProviderTest {
 
+    private static final String[] ZONES = {
+        "Europe/Berlin", "America/New_York", "Asia/Dhaka", "Africa/Casablanca",
+        "Australia/Lord_Howe", "Asia/Kolkata", "America/Sao_Paulo", "Pacific/Apia", "SystemV/EST5"
+    };
+
     private static ZoneModelProvider zp = null;
 
     @BeforeClass
@@ -235,4 +244,91 @@ public class JdkZoneProviderTest {
             is(0));
     }
 
+    @Test
+    public void namesOfLoadingModes() {
+        assertThat(JdkZoneProviderSPI.lazy().getName(), is("TZDB-LAZY"));
+        assertThat(JdkZoneProviderSPI.compiled().getName(), is("TZDB-COMPILED"));
+    }
+
+    @Test
+    public void lazyHistoryEqualToEagerModel() {
+        checkLoadingMode(JdkZoneProviderSPI.lazy());
+    }
+
+    @Test
+    public void compiledHistoryEqualToEagerModel() {
+        checkLoadingMode(JdkZoneProviderSPI.compiled());
+    }
+
+    @Test
+    public void lazySystemV() {
+        TransitionHistory h = JdkZoneProviderSPI.lazy().load("SystemV/EST5");
+        assertThat(h.isEmpty(), is(true));
+        assertThat(
+            h.getInitialOffset(),
+            is(ZonalOffset.ofHours(OffsetSign.BEHIND_UTC, 5)));
+    }
+
+    @Test
+    public void timezoneOfLazyProvider() {
+        Timezone tz = Timezone.of("TZDB-LAZY~Europe/Berlin");
+        assertThat(tz.getID().canonical(), is("TZDB-LAZY~Europe/Berlin"));
+        Moment m = PlainTimestamp.of(2018, 3, 25, 0, 59).atUTC();
+        assertThat(tz.getOffset(m), is(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1)));
+        assertThat(tz.getOffset(m.plus(1, TimeUnit.MINUTES)), is(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2)));
+        assertThat(
+            PlainTimestamp.of(2018, 3, 25, 2, 30).in(tz),
+            is(PlainTimestamp.of(2018, 3, 25, 1, 30).atUTC()));
+        assertThat(
+            Timezone.of("TZDB-COMPILED~Europe/Berlin").getOffset(m),
+            is(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1)));
+    }
+
+    @Test
+    public void loadingModesCreatedOnDemand() {
+        assertThat(Timezone.of("TZDB-LAZY~America/New_York").getHistory().isEmpty(), is(false));
+        assertThat(Timezone.getRegisteredProviders().contains("TZDB-LAZY"), is(false));
+        assertThat(Timezone.getRegisteredProviders().contains("TZDB-COMPILED"), is(false));
+        assertThat(Timezone.getAvailableIDs("TZDB-COMPILED").contains(Timezone.of("Europe/Berlin").getID()), is(true));
+    }
+
+    private static void checkLoadingMode(ZoneModelProvider provider) {
+        ZoneModelProvider eager = new JdkZoneProviderSPI();
+        Moment start = PlainTimestamp.of(1850, 1, 1, 0, 0).atUTC();
+        Moment end = PlainTimestamp.of(2100, 1, 1, 0, 0).atUTC();
+
+        for (String tzid : ZONES) {
+            TransitionHistory expected = eager.load(tzid);
+            TransitionHistory actual = provider.load(tzid);
+            assertThat(tzid, actual.getInitialOffset(), is(expected.getInitialOffset()));
+            assertThat(tzid, actual.isEmpty(), is(expected.isEmpty()));
+            List<ZonalTransition> transitions = expected.getTransitions(start, end);
+            assertThat(tzid, actual.getTransitions(start, end), is(transitions));
+
+            for (ZonalTransition zt : transitions) {
+                for (long delta = -3601; delta <= 3601; delta += 1800) {
+                    Moment ut = Moment.of(zt.getPosixTime() + delta, TimeScale.POSIX);
+                    assertThat(tzid, actual.getStartTransition(ut), is(expected.getStartTransition(ut)));
+                    assertThat(tzid, actual.findNextTransition(ut), is(expected.findNextTransition(ut)));
+                    assertThat(tzid, actual.getOffsetWindow(ut), is(expected.getOffsetWindow(ut)));
+                    PlainTimestamp tsp = ut.toZonalTimestamp(ZonalOffset.ofTotalSeconds(zt.getPreviousOffset()));
+                    PlainDate date = tsp.getCalendarDate();
+                    PlainTime time = tsp.getWallTime();
+                    assertThat(
+                        tzid + "/" + tsp,
+                        actual.getValidOffsets(date, time),
+                        is(expected.getValidOffsets(date, time)));
+                    assertThat(
+                        tzid + "/" + tsp,
+                        actual.getConflictTransition(date, time),
+                        is(expected.getConflictTransition(date, time)));
+                    assertThat(
+                        tzid + "/" + tsp,
+                        actual.getOffsetPair(date, time),
+                        is(expected.getOffsetPair(date, time)));
+                }
+            }
+        }
+    }
+
 }
\ No newline at end of file
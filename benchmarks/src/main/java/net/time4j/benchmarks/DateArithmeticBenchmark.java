@@ -0,0 +1,105 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DateArithmeticBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures calendar arithmetic on {@code PlainDate}, covering the day-based path and the
+ * month-based path with end-of-month handling. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DateArithmeticBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private PlainDate date;
+    private PlainDate other;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.date = PlainDate.of(2016, 1, 31);
+        this.other = PlainDate.of(2045, 7, 14);
+
+    }
+
+    @Benchmark
+    public PlainDate plusDays() {
+
+        return this.date.plus(1000, CalendarUnit.DAYS);
+
+    }
+
+    @Benchmark
+    public PlainDate plusMonths() {
+
+        return this.date.plus(13, CalendarUnit.MONTHS);
+
+    }
+
+    @Benchmark
+    public PlainDate plusWeeks() {
+
+        return this.date.plus(5, CalendarUnit.WEEKS);
+
+    }
+
+    @Benchmark
+    public long daysBetween() {
+
+        return CalendarUnit.DAYS.between(this.date, this.other);
+
+    }
+
+    @Benchmark
+    public long monthsBetween() {
+
+        return CalendarUnit.MONTHS.between(this.date, this.other);
+
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DurationBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Duration;
+import net.time4j.IsoUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the construction, merging and normalization of durations with standard units. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DurationBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private Duration<IsoUnit> duration;
+    private Duration<IsoUnit> other;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.duration = Duration.ofPositive().years(1).days(3).hours(30).minutes(75).build();
+        this.other = Duration.ofPositive().months(2).days(4).seconds(3605).millis(250).build();
+
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> plusAmount() {
+
+        return this.duration.plus(45, ClockUnit.MINUTES).plus(1, CalendarUnit.WEEKS);
+
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> plusDuration() {
+
+        return this.duration.plus(this.other);
+
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> normalize() {
+
+        return this.duration.plus(this.other).with(Duration.STD_PERIOD);
+
+    }
+
+}
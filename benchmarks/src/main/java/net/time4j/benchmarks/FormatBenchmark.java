@@ -0,0 +1,178 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.PatternType;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures printing and parsing via {@code ChronoFormatter} for a fixed-width numeric pattern
+ * (which qualifies for the compiled fast path) and a localized text pattern (generic path). </p>
+ *
+ * <p>The multi-threaded variants share one formatter instance in order to expose contention
+ * on shared state. </p>
+ *
+ * <p>The variants with the prefix {@code formatToBuffer} write into a reused buffer. Running them
+ * with {@code -prof gc} shows the allocation per call ({@code gc.alloc.rate.norm}): zero bytes
+ * are expected for the or-block and text patterns of plain dates. The moment pattern still
+ * allocates its local timestamp. {@link ZeroAllocationBenchmark} checks the zero cases. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private ChronoFormatter<Moment> isoFormatter;
+    private ChronoFormatter<PlainDate> textFormatter;
+    private ChronoFormatter<PlainDate> orFormatter;
+    private Moment moment;
+    private PlainDate date;
+    private String isoText;
+    private String dateText;
+    private StringBuilder buffer;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.isoFormatter =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        this.textFormatter = ChronoFormatter.ofDatePattern("EEEE, d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        this.orFormatter = ChronoFormatter.ofDatePattern("[dd.MM.|MM/dd/]uuuu", PatternType.CLDR, Locale.ROOT);
+        this.moment = PlainTimestamp.of(2018, 3, 25, 1, 59, 59).atUTC();
+        this.date = PlainDate.of(2018, 3, 25);
+        this.isoText = this.isoFormatter.format(this.moment);
+        this.dateText = this.textFormatter.format(this.date);
+        this.buffer = new StringBuilder(64);
+
+    }
+
+    @Benchmark
+    public String formatFixed() {
+
+        return this.isoFormatter.format(this.moment);
+
+    }
+
+    @Benchmark
+    public String formatText() {
+
+        return this.textFormatter.format(this.date);
+
+    }
+
+    @Benchmark
+    public String formatOrBlock() {
+
+        return this.orFormatter.format(this.date);
+
+    }
+
+    @Benchmark
+    public StringBuilder formatToBufferFixed() throws IOException {
+
+        this.buffer.setLength(0);
+        this.isoFormatter.formatToBuffer(this.moment, this.buffer);
+        return this.buffer;
+
+    }
+
+    @Benchmark
+    public StringBuilder formatToBufferText() throws IOException {
+
+        this.buffer.setLength(0);
+        this.textFormatter.formatToBuffer(this.date, this.buffer);
+        return this.buffer;
+
+    }
+
+    @Benchmark
+    public StringBuilder formatToBufferOrBlock() throws IOException {
+
+        this.buffer.setLength(0);
+        this.orFormatter.formatToBuffer(this.date, this.buffer);
+        return this.buffer;
+
+    }
+
+    @Benchmark
+    public Moment parseFixed() throws ParseException {
+
+        return this.isoFormatter.parse(this.isoText);
+
+    }
+
+    @Benchmark
+    public PlainDate parseText() throws ParseException {
+
+        return this.textFormatter.parse(this.dateText);
+
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String formatFixedConcurrently() {
+
+        return this.isoFormatter.format(this.moment);
+
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Moment parseFixedConcurrently() throws ParseException {
+
+        return this.isoFormatter.parse(this.isoText);
+
+    }
+
+}
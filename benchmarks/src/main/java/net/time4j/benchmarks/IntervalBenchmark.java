@@ -0,0 +1,191 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.range.ChronoInterval;
+import net.time4j.range.DateInterval;
+import net.time4j.range.IntervalCollection;
+import net.time4j.range.IntervalIndex;
+import net.time4j.range.IntervalTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the set operations of {@code IntervalCollection} and the search for intersections
+ * in {@code IntervalTree} and {@code IntervalIndex} on randomly distributed but reproducible date
+ * intervals. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class IntervalBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<ChronoInterval<PlainDate>> intervals;
+    private IntervalCollection<PlainDate> collection;
+    private IntervalCollection<PlainDate> other;
+    private IntervalTree<PlainDate, ChronoInterval<PlainDate>> tree;
+    private IntervalIndex<PlainDate, ChronoInterval<PlainDate>> index;
+    private PlainDate probe;
+    private int count;
+    private final IntervalTree.Visitor<ChronoInterval<PlainDate>> counter = interval -> {
+        this.count++;
+        return false;
+    };
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.intervals = createIntervals(this.size, 4711L);
+        this.collection = IntervalCollection.onDateAxis().plus(this.intervals);
+        this.other = IntervalCollection.onDateAxis().plus(createIntervals(this.size, 815L));
+        this.tree = IntervalTree.onDateAxis(this.intervals);
+        this.index = IntervalIndex.onDateAxis(this.intervals);
+        this.probe = PlainDate.of(2000, 1, 1).plus(this.size * 5, CalendarUnit.DAYS);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> plus() {
+
+        return IntervalCollection.onDateAxis().plus(this.intervals);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> withBlocks() {
+
+        return this.collection.withBlocks();
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> withGaps() {
+
+        return this.collection.withGaps();
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> union() {
+
+        return this.collection.union(this.other);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> intersect() {
+
+        return this.collection.intersect(this.other);
+
+    }
+
+    @Benchmark
+    public List<ChronoInterval<PlainDate>> findInTree() {
+
+        return this.tree.findIntersections(this.probe);
+
+    }
+
+    @Benchmark
+    public List<ChronoInterval<PlainDate>> findInIndex() {
+
+        return this.index.findIntersections(this.probe);
+
+    }
+
+    @Benchmark
+    public int visitTree() {
+
+        this.count = 0;
+        this.tree.findIntersections(this.probe, this.counter);
+        return this.count;
+
+    }
+
+    @Benchmark
+    public int visitIndex() {
+
+        this.count = 0;
+        this.index.findIntersections(this.probe, this.counter);
+        return this.count;
+
+    }
+
+    @Benchmark
+    @Threads(4)
+    public IntervalCollection<PlainDate> withBlocksConcurrently() {
+
+        return this.collection.withBlocks();
+
+    }
+
+    private static List<ChronoInterval<PlainDate>> createIntervals(
+        int count,
+        long seed
+    ) {
+
+        Random random = new Random(seed);
+        List<ChronoInterval<PlainDate>> list = new ArrayList<>(count);
+        PlainDate origin = PlainDate.of(2000, 1, 1);
+
+        for (int i = 0; i < count; i++) {
+            PlainDate start = origin.plus(random.nextInt(count * 10), CalendarUnit.DAYS);
+            PlainDate end = start.plus(random.nextInt(30), CalendarUnit.DAYS);
+            list.add(DateInterval.between(start, end));
+        }
+
+        return list;
+
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LeapSecondBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.scale.LeapSeconds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the translation between POSIX time and UTC time including leap seconds, both for
+ * recent dates (the common case) and for dates spread over the whole leap second era. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LeapSecondBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int SIZE = 1024;
+
+    // 1972-01-01T00:00:00Z and 2017-01-01T00:00:00Z
+    private static final long START_1972 = 63072000L;
+    private static final long START_2017 = 1483228800L;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private LeapSeconds leapSeconds;
+    private long[] unixTimes;
+    private long[] utcTimes;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.leapSeconds = LeapSeconds.getInstance();
+        this.unixTimes = new long[SIZE];
+        this.utcTimes = new long[SIZE];
+        long step = (START_2017 - START_1972) / SIZE;
+
+        for (int i = 0; i < SIZE; i++) {
+            this.unixTimes[i] = START_1972 + i * step;
+            this.utcTimes[i] = this.leapSeconds.enhance(this.unixTimes[i]);
+        }
+
+    }
+
+    @Benchmark
+    public long enhanceRecent() {
+
+        return this.leapSeconds.enhance(START_2017 + 86400L);
+
+    }
+
+    @Benchmark
+    public long enhanceSpread() {
+
+        this.index = (this.index + 1) & (SIZE - 1);
+        return this.leapSeconds.enhance(this.unixTimes[this.index]);
+
+    }
+
+    @Benchmark
+    public long stripSpread() {
+
+        this.index = (this.index + 1) & (SIZE - 1);
+        return this.leapSeconds.strip(this.utcTimes[this.index]);
+
+    }
+
+    @Benchmark
+    public int shiftSpread() {
+
+        this.index = (this.index + 1) & (SIZE - 1);
+        return this.leapSeconds.getShift(this.utcTimes[this.index]);
+
+    }
+
+}
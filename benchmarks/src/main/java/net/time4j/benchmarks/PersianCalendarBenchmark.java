@@ -0,0 +1,114 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PersianCalendarBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.calendar.PersianAlgorithm;
+import net.time4j.calendar.PersianCalendar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Compares the conversion throughput of the astronomical Persian algorithm with the
+ * arithmetical algorithm of Borkowski, walking day by day through several Persian years. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PersianCalendarBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int DAYS = 3653;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private PersianCalendar[] dates;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        PersianCalendar start = PersianCalendar.of(1395, 1, 1);
+        this.dates = new PersianCalendar[DAYS];
+
+        for (int i = 0; i < DAYS; i++) {
+            this.dates[i] = start.plus(i, PersianCalendar.Unit.DAYS);
+        }
+
+    }
+
+    @Benchmark
+    public PersianCalendar.Date borkowski() {
+
+        return this.next().getDate(PersianAlgorithm.BORKOWSKI);
+
+    }
+
+    @Benchmark
+    public PersianCalendar.Date astronomical() {
+
+        return this.next().getDate(PersianAlgorithm.ASTRONOMICAL);
+
+    }
+
+    @Benchmark
+    public int lengthOfYearBorkowski() {
+
+        return this.next().getDate(PersianAlgorithm.BORKOWSKI).getMaximum(PersianCalendar.DAY_OF_YEAR);
+
+    }
+
+    @Benchmark
+    public int lengthOfYearAstronomical() {
+
+        return this.next().getDate(PersianAlgorithm.ASTRONOMICAL).getMaximum(PersianCalendar.DAY_OF_YEAR);
+
+    }
+
+    private PersianCalendar next() {
+
+        int i = this.index;
+        this.index = ((i + 1 == DAYS) ? 0 : i + 1);
+        return this.dates[i];
+
+    }
+
+}
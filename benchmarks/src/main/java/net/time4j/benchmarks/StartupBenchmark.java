@@ -0,0 +1,80 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (StartupBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.SystemClock;
+import net.time4j.tz.Timezone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the cold start of Time4J, that is the time needed by the first call of typical
+ * entry points in a fresh JVM including class loading and static initialization. </p>
+ *
+ * <p>Every fork measures exactly one invocation without warmup so the results show the
+ * startup costs and not the steady state. Time4J-classes must not be touched by the
+ * benchmark class itself outside of the benchmark methods. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public String momentNow() {
+
+        return Moment.nowInSystemTime().toString();
+
+    }
+
+    @Benchmark
+    public PlainDate today() {
+
+        return SystemClock.inLocalView().today();
+
+    }
+
+    @Benchmark
+    public String systemTimezone() {
+
+        return Timezone.ofSystem().getID().canonical();
+
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZeroAllocationBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.PatternType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Checks that {@code ChronoFormatter.formatToBuffer()} does not allocate for the supported
+ * patterns, that is patterns of plain ISO types consisting of numeric elements and the texts
+ * of month, weekday, quarter or AM/PM. </p>
+ *
+ * <p>The benchmark methods can be run like any other suite. The main method runs them with
+ * the GC profiler and fails if {@code gc.alloc.rate.norm} of any method is not zero: </p>
+ *
+ * <pre>
+ *     java -cp benchmarks/target/benchmarks.jar net.time4j.benchmarks.ZeroAllocationBenchmark
+ * </pre>
+ *
+ * <p>Moments (conversion to a local timestamp), eras and flexible day periods still allocate
+ * and are therefore not covered. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ZeroAllocationBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final String NORMALIZED_ALLOCATION_RATE = "gc.alloc.rate.norm";
+
+    // bytes per operation which can be attributed to the measurement itself
+    private static final double TOLERANCE = 0.5;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private ChronoFormatter<PlainTimestamp> numericFormatter;
+    private ChronoFormatter<PlainTimestamp> textFormatter;
+    private ChronoFormatter<PlainDate> orFormatter;
+    private PlainTimestamp timestamp;
+    private StringBuilder buffer;
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Runs all benchmarks of this class with the GC profiler. </p>
+     *
+     * @param   args    ignored
+     * @throws  RunnerException if JMH fails
+     * @throws  IllegalStateException if any benchmark allocates memory
+     */
+    public static void main(String[] args) throws RunnerException {
+
+        Options options =
+            new OptionsBuilder()
+                .include(ZeroAllocationBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        List<String> failures = new ArrayList<>();
+
+        for (RunResult result : new Runner(options).run()) {
+            String benchmark = result.getParams().getBenchmark();
+            Result<?> allocation = null;
+
+            for (String key : result.getSecondaryResults().keySet()) {
+                if (key.endsWith(NORMALIZED_ALLOCATION_RATE)) { // JMH prefixes a middle dot
+                    allocation = result.getSecondaryResults().get(key);
+                }
+            }
+
+            if (allocation == null) {
+                failures.add(benchmark + ": " + NORMALIZED_ALLOCATION_RATE + " not available");
+            } else if (allocation.getScore() > TOLERANCE) {
+                failures.add(benchmark + ": " + allocation.getScore() + " " + allocation.getScoreUnit());
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Allocation detected: " + failures);
+        }
+
+    }
+
+    @Setup
+    public void setUp() {
+
+        this.numericFormatter =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd'T'HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT);
+        this.textFormatter =
+            ChronoFormatter.ofTimestampPattern("EEEE, d. MMMM uuuu, QQQQ, h:mm a", PatternType.CLDR, Locale.ENGLISH);
+        this.orFormatter = ChronoFormatter.ofDatePattern("[dd.MM.|MM/dd/]uuuu", PatternType.CLDR, Locale.ROOT);
+        this.timestamp = PlainTimestamp.of(2018, 3, 25, 13, 45, 59);
+        this.buffer = new StringBuilder(64);
+
+    }
+
+    @Benchmark
+    public StringBuilder numeric() throws IOException {
+
+        this.buffer.setLength(0);
+        this.numericFormatter.formatToBuffer(this.timestamp, this.buffer);
+        return this.buffer;
+
+    }
+
+    @Benchmark
+    public StringBuilder text() throws IOException {
+
+        this.buffer.setLength(0);
+        this.textFormatter.formatToBuffer(this.timestamp, this.buffer);
+        return this.buffer;
+
+    }
+
+    @Benchmark
+    public StringBuilder orBlock() throws IOException {
+
+        this.buffer.setLength(0);
+        this.orFormatter.formatToBuffer(this.timestamp.getCalendarDate(), this.buffer);
+        return this.buffer;
+
+    }
+
+}
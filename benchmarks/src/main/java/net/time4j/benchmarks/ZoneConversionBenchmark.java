@@ -0,0 +1,173 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneConversionBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.olson.EUROPE;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the conversion between {@code Moment} and local timestamps in a historized zone,
+ * including the zone lookup by identifier which runs through the global timezone cache. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ZoneConversionBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int SIZE = 1024;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final TZID berlin = EUROPE.BERLIN;
+    private Timezone zone;
+    private Moment[] moments;
+    private PlainTimestamp[] timestamps;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.zone = Timezone.of(this.berlin);
+        this.moments = new Moment[SIZE];
+        this.timestamps = new PlainTimestamp[SIZE];
+        long start = PlainTimestamp.of(1990, 1, 1, 0, 0).atUTC().getPosixTime();
+
+        for (int i = 0; i < SIZE; i++) {
+            // about 11.5 days per step such that many transitions are crossed
+            Moment m = Moment.of(start + i * 997_000L, TimeScale.POSIX);
+            this.moments[i] = m;
+            this.timestamps[i] = m.toZonalTimestamp(this.berlin);
+        }
+
+    }
+
+    @Benchmark
+    public PlainTimestamp toZonalTimestamp(Cursor cursor) {
+
+        return this.moments[cursor.next()].toZonalTimestamp(this.berlin);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp toZonalTimestampWithOffset(Cursor cursor) {
+
+        return this.moments[cursor.next()].toZonalTimestamp(ZonalOffset.UTC);
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetOfMoment(Cursor cursor) {
+
+        return this.zone.getOffset(this.moments[cursor.next()]);
+
+    }
+
+    @Benchmark
+    public Moment atTimezone(Cursor cursor) {
+
+        return this.timestamps[cursor.next()].in(this.zone);
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetOfLocalTimestamp(Cursor cursor) {
+
+        PlainTimestamp tsp = this.timestamps[cursor.next()];
+        return this.zone.getOffset(tsp.getCalendarDate(), tsp.getWallTime());
+
+    }
+
+    @Benchmark
+    public Timezone lookupById() {
+
+        return Timezone.of(this.berlin);
+
+    }
+
+    @Benchmark
+    @Threads(4)
+    public PlainTimestamp toZonalTimestampConcurrently(Cursor cursor) {
+
+        return this.moments[cursor.next()].toZonalTimestamp(this.berlin);
+
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Timezone lookupByIdConcurrently() {
+
+        return Timezone.of(this.berlin);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Per-thread position in the sample arrays. </p>
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private int index;
+
+        //~ Methoden ------------------------------------------------------
+
+        int next() {
+
+            this.index = (this.index + 1) & (SIZE - 1);
+            return this.index;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneLoadingBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.threeten.JdkZoneProviderSPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Compares the loading modes of the JSR-310-based zone provider: the eager copy of all
+ * transitions (&quot;TZDB&quot;), the lazy delegation to {@code ZoneRules} (&quot;TZDB-LAZY&quot;)
+ * and the one-time compilation into primitive tables (&quot;TZDB-COMPILED&quot;). </p>
+ *
+ * <p>The method {@code loadAllZones} measures the latency of loading every available zone. The
+ * memory costs are visible in the column {@code gc.alloc.rate.norm} when running with {@code -prof gc}.
+ * The other methods measure offset lookups in a loaded zone. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ZoneLoadingBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int SIZE = 1024;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"TZDB", "TZDB-LAZY", "TZDB-COMPILED"})
+    private String provider;
+
+    private ZoneModelProvider zp;
+    private String[] zoneIDs;
+    private Timezone zone;
+    private Moment[] moments;
+    private PlainTimestamp[] timestamps;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        switch (this.provider) {
+            case "TZDB-LAZY":
+                this.zp = JdkZoneProviderSPI.lazy();
+                break;
+            case "TZDB-COMPILED":
+                this.zp = JdkZoneProviderSPI.compiled();
+                break;
+            default:
+                this.zp = new JdkZoneProviderSPI();
+        }
+
+        this.zoneIDs = this.zp.getAvailableIDs().toArray(new String[0]);
+        this.zone = Timezone.of(this.provider + "~Europe/Berlin");
+        this.moments = new Moment[SIZE];
+        this.timestamps = new PlainTimestamp[SIZE];
+        long start = PlainTimestamp.of(1990, 1, 1, 0, 0).atUTC().getPosixTime();
+
+        for (int i = 0; i < SIZE; i++) {
+            Moment m = Moment.of(start + i * 997_000L, TimeScale.POSIX);
+            this.moments[i] = m;
+            this.timestamps[i] = m.toZonalTimestamp(this.zone.getID());
+        }
+
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loadAllZones() {
+
+        int count = 0;
+
+        for (String zoneID : this.zoneIDs) {
+            TransitionHistory history = this.zp.load(zoneID);
+            if (!history.isEmpty()) {
+                count++;
+            }
+        }
+
+        return count;
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetOfMoment() {
+
+        return this.zone.getOffset(this.moments[this.next()]);
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetOfLocalTimestamp() {
+
+        PlainTimestamp tsp = this.timestamps[this.next()];
+        return this.zone.getOffset(tsp.getCalendarDate(), tsp.getWallTime());
+
+    }
+
+    private int next() {
+
+        this.index = (this.index + 1) & (SIZE - 1);
+        return this.index;
+
+    }
+
+}
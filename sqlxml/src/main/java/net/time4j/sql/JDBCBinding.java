@@ -0,0 +1,564 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2015-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (JDBCBinding.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.sql;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.TemporalType;
+import net.time4j.engine.ChronoException;
+import net.time4j.scale.TimeScale;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+
+/**
+ * <p>Reads and binds temporal column values of JDBC row by row. </p>
+ *
+ * <p>In contrast to {@link JDBCAdapter}, this class uses the type mapping of JDBC 4.2, that is
+ * {@code ResultSet.getObject(int, Class)} and {@code PreparedStatement.setObject(int, Object, int)}
+ * with the types {@code LocalDate}, {@code LocalTime}, {@code LocalDateTime} and
+ * {@code OffsetDateTime}. The values are directly converted to the Time4J-types without any
+ * intermediate {@code java.sql.Timestamp} and without any dependency on the system timezone.
+ * Therefore the system property &quot;net.time4j.sql.utc.conversion&quot; is not relevant here.
+ * Only if the JDBC driver does not support the type mapping of JDBC 4.2 then this class falls
+ * back to the old JDBC types and the conversion of {@code JDBCAdapter}. </p>
+ *
+ * <p>SQL-NULL is represented by {@code null}. Example for reading: </p>
+ *
+ * <pre>
+ *  try (ResultSet rs = stmt.executeQuery(&quot;SELECT ts FROM events&quot;)) {
+ *      while (rs.next()) {
+ *          PlainTimestamp tsp = JDBCBinding.readPlainTimestamp(rs, 1);
+ *          ...
+ *      }
+ *  }
+ * </pre>
+ *
+ * <p>Example for batched writing: </p>
+ *
+ * <pre>
+ *  List&lt;Moment&gt; moments = ...;
+ *  try (PreparedStatement ps = con.prepareStatement(&quot;INSERT INTO log (ts) VALUES (?)&quot;)) {
+ *      JDBCBinding.executeBatch(ps, moments, (stmt, m) -&gt; JDBCBinding.bind(stmt, 1, m), 1000);
+ *  }
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+/*[deutsch]
+ * <p>Liest und bindet Datums- und Zeitwerte von JDBC-Spalten zeilenweise. </p>
+ *
+ * <p>Im Unterschied zu {@link JDBCAdapter} verwendet diese Klasse die Typzuordnung von JDBC 4.2,
+ * also {@code ResultSet.getObject(int, Class)} und {@code PreparedStatement.setObject(int, Object, int)}
+ * mit den Typen {@code LocalDate}, {@code LocalTime}, {@code LocalDateTime} und {@code OffsetDateTime}.
+ * Die Werte werden direkt in die Time4J-Typen umgewandelt, ohne einen {@code java.sql.Timestamp} als
+ * Zwischenschritt und ohne Abh&auml;ngigkeit von der Systemzeitzone. Die System-Property
+ * &quot;net.time4j.sql.utc.conversion&quot; ist hier deshalb nicht relevant. Nur wenn der JDBC-Treiber
+ * die Typzuordnung von JDBC 4.2 nicht unterst&uuml;tzt, greift diese Klasse auf die alten JDBC-Typen
+ * und die Konversion von {@code JDBCAdapter} zur&uuml;ck. </p>
+ *
+ * <p>SQL-NULL wird durch {@code null} dargestellt. Beispiel zum Lesen: </p>
+ *
+ * <pre>
+ *  try (ResultSet rs = stmt.executeQuery(&quot;SELECT ts FROM events&quot;)) {
+ *      while (rs.next()) {
+ *          PlainTimestamp tsp = JDBCBinding.readPlainTimestamp(rs, 1);
+ *          ...
+ *      }
+ *  }
+ * </pre>
+ *
+ * <p>Beispiel zum Schreiben in Stapeln: </p>
+ *
+ * <pre>
+ *  List&lt;Moment&gt; moments = ...;
+ *  try (PreparedStatement ps = con.prepareStatement(&quot;INSERT INTO log (ts) VALUES (?)&quot;)) {
+ *      JDBCBinding.executeBatch(ps, moments, (stmt, m) -&gt; JDBCBinding.bind(stmt, 1, m), 1000);
+ *  }
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+public final class JDBCBinding {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private JDBCBinding() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Reads a column of type DATE in the current row. </p>
+     *
+     * @param   rs      result set positioned on a row
+     * @param   column  column index starting with 1
+     * @return  calendar date or {@code null} if SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liest eine Spalte des Typs DATE in der aktuellen Zeile. </p>
+     *
+     * @param   rs      result set positioned on a row
+     * @param   column  column index starting with 1
+     * @return  calendar date or {@code null} if SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @since   5.0
+     */
+    public static PlainDate readPlainDate(
+        ResultSet rs,
+        int column
+    ) throws SQLException {
+
+        try {
+            LocalDate value = rs.getObject(column, LocalDate.class);
+            return ((value == null) ? null : TemporalType.LOCAL_DATE.translate(value));
+        } catch (SQLFeatureNotSupportedException ex) {
+            java.sql.Date value = rs.getDate(column);
+            return ((value == null) ? null : JDBCAdapter.SQL_DATE.translate(value));
+        }
+
+    }
+
+    /**
+     * <p>Reads a column of type TIME in the current row. </p>
+     *
+     * @param   rs      result set positioned on a row
+     * @param   column  column index starting with 1
+     * @return  wall time or {@code null} if SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liest eine Spalte des Typs TIME in der aktuellen Zeile. </p>
+     *
+     * @param   rs      result set positioned on a row
+     * @param   column  column index starting with 1
+     * @return  wall time or {@code null} if SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @since   5.0
+     */
+    public static PlainTime readPlainTime(
+        ResultSet rs,
+        int column
+    ) throws SQLException {
+
+        try {
+            LocalTime value = rs.getObject(column, LocalTime.class);
+            return ((value == null) ? null : TemporalType.LOCAL_TIME.translate(value));
+        } catch (SQLFeatureNotSupportedException ex) {
+            java.sql.Time value = rs.getTime(column);
+            return ((value == null) ? null : JDBCAdapter.SQL_TIME.translate(value));
+        }
+
+    }
+
+    /**
+     * <p>Reads a column of type TIMESTAMP in the current row. </p>
+     *
+     * @param   rs      result set positioned on a row
+     * @param   column  column index starting with 1
+     * @return  local timestamp or {@code null} if SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liest eine Spalte des Typs TIMESTAMP in der aktuellen Zeile. </p>
+     *
+     * @param   rs      result set positioned on a row
+     * @param   column  column index starting with 1
+     * @return  local timestamp or {@code null} if SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @since   5.0
+     */
+    public static PlainTimestamp readPlainTimestamp(
+        ResultSet rs,
+        int column
+    ) throws SQLException {
+
+        try {
+            LocalDateTime value = rs.getObject(column, LocalDateTime.class);
+            return ((value == null) ? null : TemporalType.LOCAL_DATE_TIME.translate(value));
+        } catch (SQLFeatureNotSupportedException ex) {
+            java.sql.Timestamp value = rs.getTimestamp(column);
+            return ((value == null) ? null : JDBCAdapter.SQL_TIMESTAMP.translate(value));
+        }
+
+    }
+
+    /**
+     * <p>Reads a column of type TIMESTAMP WITH TIME ZONE in the current row. </p>
+     *
+     * @param   rs      result set positioned on a row
+     * @param   column  column index starting with 1
+     * @return  moment or {@code null} if SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @throws  ChronoException if the value is out of the range of {@code Moment}
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liest eine Spalte des Typs TIMESTAMP WITH TIME ZONE in der aktuellen Zeile. </p>
+     *
+     * @param   rs      result set positioned on a row
+     * @param   column  column index starting with 1
+     * @return  moment or {@code null} if SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @throws  ChronoException if the value is out of the range of {@code Moment}
+     * @since   5.0
+     */
+    public static Moment readMoment(
+        ResultSet rs,
+        int column
+    ) throws SQLException {
+
+        try {
+            OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+
+            if (value == null) {
+                return null;
+            }
+
+            try {
+                return Moment.of(value.toEpochSecond(), value.getNano(), TimeScale.POSIX);
+            } catch (IllegalArgumentException iae) {
+                throw new ChronoException(iae.getMessage(), iae);
+            }
+        } catch (SQLFeatureNotSupportedException ex) {
+            java.sql.Timestamp value = rs.getTimestamp(column);
+            return ((value == null) ? null : JDBCAdapter.SQL_TIMESTAMP_WITH_ZONE.translate(value));
+        }
+
+    }
+
+    /**
+     * <p>Binds given calendar date as parameter of type DATE. </p>
+     *
+     * @param   ps      prepared statement
+     * @param   index   parameter index starting with 1
+     * @param   date    calendar date (optional, {@code null} means SQL-NULL)
+     * @throws  SQLException if the parameter cannot be set
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Bindet das angegebene Kalenderdatum als Parameter des Typs DATE. </p>
+     *
+     * @param   ps      prepared statement
+     * @param   index   parameter index starting with 1
+     * @param   date    calendar date (optional, {@code null} means SQL-NULL)
+     * @throws  SQLException if the parameter cannot be set
+     * @since   5.0
+     */
+    public static void bind(
+        PreparedStatement ps,
+        int index,
+        PlainDate date
+    ) throws SQLException {
+
+        if (date == null) {
+            ps.setNull(index, Types.DATE);
+            return;
+        }
+
+        try {
+            ps.setObject(index, TemporalType.LOCAL_DATE.from(date), Types.DATE);
+        } catch (SQLFeatureNotSupportedException ex) {
+            ps.setDate(index, JDBCAdapter.SQL_DATE.from(date));
+        }
+
+    }
+
+    /**
+     * <p>Binds given wall time as parameter of type TIME. </p>
+     *
+     * <p>The time 24:00 is stored as midnight at start of day. </p>
+     *
+     * @param   ps      prepared statement
+     * @param   index   parameter index starting with 1
+     * @param   time    wall time (optional, {@code null} means SQL-NULL)
+     * @throws  SQLException if the parameter cannot be set
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Bindet die angegebene Uhrzeit als Parameter des Typs TIME. </p>
+     *
+     * <p>Die Uhrzeit 24:00 wird als Mitternacht zu Beginn des Tages gespeichert. </p>
+     *
+     * @param   ps      prepared statement
+     * @param   index   parameter index starting with 1
+     * @param   time    wall time (optional, {@code null} means SQL-NULL)
+     * @throws  SQLException if the parameter cannot be set
+     * @since   5.0
+     */
+    public static void bind(
+        PreparedStatement ps,
+        int index,
+        PlainTime time
+    ) throws SQLException {
+
+        if (time == null) {
+            ps.setNull(index, Types.TIME);
+            return;
+        }
+
+        try {
+            ps.setObject(index, TemporalType.LOCAL_TIME.from(time), Types.TIME);
+        } catch (SQLFeatureNotSupportedException ex) {
+            ps.setTime(index, JDBCAdapter.SQL_TIME.from(time));
+        }
+
+    }
+
+    /**
+     * <p>Binds given local timestamp as parameter of type TIMESTAMP. </p>
+     *
+     * @param   ps      prepared statement
+     * @param   index   parameter index starting with 1
+     * @param   tsp     local timestamp (optional, {@code null} means SQL-NULL)
+     * @throws  SQLException if the parameter cannot be set
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Bindet den angegebenen lokalen Zeitstempel als Parameter des Typs TIMESTAMP. </p>
+     *
+     * @param   ps      prepared statement
+     * @param   index   parameter index starting with 1
+     * @param   tsp     local timestamp (optional, {@code null} means SQL-NULL)
+     * @throws  SQLException if the parameter cannot be set
+     * @since   5.0
+     */
+    public static void bind(
+        PreparedStatement ps,
+        int index,
+        PlainTimestamp tsp
+    ) throws SQLException {
+
+        if (tsp == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+            return;
+        }
+
+        try {
+            ps.setObject(index, TemporalType.LOCAL_DATE_TIME.from(tsp), Types.TIMESTAMP);
+        } catch (SQLFeatureNotSupportedException ex) {
+            ps.setTimestamp(index, JDBCAdapter.SQL_TIMESTAMP.from(tsp));
+        }
+
+    }
+
+    /**
+     * <p>Binds given moment as parameter of type TIMESTAMP WITH TIME ZONE, using the offset UTC. </p>
+     *
+     * <p>Leap seconds are not storable and will be stored as the preceding second. </p>
+     *
+     * @param   ps      prepared statement
+     * @param   index   parameter index starting with 1
+     * @param   moment  moment (optional, {@code null} means SQL-NULL)
+     * @throws  SQLException if the parameter cannot be set
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Bindet den angegebenen Moment als Parameter des Typs TIMESTAMP WITH TIME ZONE
+     * mit dem Offset UTC. </p>
+     *
+     * <p>Schaltsekunden sind nicht speicherf&auml;hig und werden als die vorherige Sekunde
+     * gespeichert. </p>
+     *
+     * @param   ps      prepared statement
+     * @param   index   parameter index starting with 1
+     * @param   moment  moment (optional, {@code null} means SQL-NULL)
+     * @throws  SQLException if the parameter cannot be set
+     * @since   5.0
+     */
+    public static void bind(
+        PreparedStatement ps,
+        int index,
+        Moment moment
+    ) throws SQLException {
+
+        if (moment == null) {
+            ps.setNull(index, Types.TIMESTAMP_WITH_TIMEZONE);
+            return;
+        }
+
+        try {
+            OffsetDateTime odt = OffsetDateTime.ofInstant(TemporalType.INSTANT.from(moment), ZoneOffset.UTC);
+            ps.setObject(index, odt, Types.TIMESTAMP_WITH_TIMEZONE);
+        } catch (SQLFeatureNotSupportedException ex) {
+            ps.setTimestamp(index, JDBCAdapter.SQL_TIMESTAMP_WITH_ZONE.from(moment));
+        }
+
+    }
+
+    /**
+     * <p>Binds all given rows in batches and executes them. </p>
+     *
+     * <p>For every row, the binder sets the parameters of the statement, then the row is added via
+     * {@code addBatch()}. After every {@code batchSize} rows and after the last row, the batch will
+     * be executed. </p>
+     *
+     * @param   <R>         type of row objects
+     * @param   ps          prepared statement
+     * @param   rows        row objects to be written
+     * @param   binder      sets the parameters of one row
+     * @param   batchSize   maximum count of rows per batch execution
+     * @return  update counts of all rows in order as returned by {@code executeBatch()}
+     * @throws  IllegalArgumentException if the batch size is smaller than {@code 1}
+     * @throws  SQLException if any parameter cannot be set or the batch execution fails
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Bindet alle angegebenen Zeilen in Stapeln und f&uuml;hrt sie aus. </p>
+     *
+     * <p>F&uuml;r jede Zeile setzt der {@code binder} die Parameter der Anweisung, danach wird die
+     * Zeile mit {@code addBatch()} hinzugef&uuml;gt. Nach jeweils {@code batchSize} Zeilen und nach
+     * der letzten Zeile wird der Stapel ausgef&uuml;hrt. </p>
+     *
+     * @param   <R>         type of row objects
+     * @param   ps          prepared statement
+     * @param   rows        row objects to be written
+     * @param   binder      sets the parameters of one row
+     * @param   batchSize   maximum count of rows per batch execution
+     * @return  update counts of all rows in order as returned by {@code executeBatch()}
+     * @throws  IllegalArgumentException if the batch size is smaller than {@code 1}
+     * @throws  SQLException if any parameter cannot be set or the batch execution fails
+     * @since   5.0
+     */
+    public static <R> int[] executeBatch(
+        PreparedStatement ps,
+        Iterable<R> rows,
+        RowBinder<? super R> binder,
+        int batchSize
+    ) throws SQLException {
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        int[] counts = new int[0];
+        int size = 0;
+        int pending = 0;
+
+        for (R row : rows) {
+            binder.bind(ps, row);
+            ps.addBatch();
+            pending++;
+
+            if (pending == batchSize) {
+                int[] batch = ps.executeBatch();
+                counts = append(counts, size, batch);
+                size += batch.length;
+                pending = 0;
+            }
+        }
+
+        if (pending > 0) {
+            int[] batch = ps.executeBatch();
+            counts = append(counts, size, batch);
+            size += batch.length;
+        }
+
+        return ((size == counts.length) ? counts : Arrays.copyOf(counts, size));
+
+    }
+
+    // appends to a growable buffer whose capacity is doubled if needed (amortized linear time)
+    private static int[] append(
+        int[] buffer,
+        int size,
+        int[] values
+    ) {
+
+        if (size == 0) {
+            return values;
+        }
+
+        int required = size + values.length;
+        int[] result = buffer;
+
+        if (required > buffer.length) {
+            result = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+
+        System.arraycopy(values, 0, result, size, values.length);
+        return result;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Sets the statement parameters of one row object. </p>
+     *
+     * @param   <R>     type of row objects
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Setzt die Anweisungsparameter eines Zeilenobjekts. </p>
+     *
+     * @param   <R>     type of row objects
+     * @since   5.0
+     */
+    @FunctionalInterface
+    public interface RowBinder<R> {
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Sets the parameters of given statement for given row object. </p>
+         *
+         * @param   ps      prepared statement
+         * @param   row     row object
+         * @throws  SQLException if any parameter cannot be set
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Setzt die Parameter der angegebenen Anweisung f&uuml;r das angegebene Zeilenobjekt. </p>
+         *
+         * @param   ps      prepared statement
+         * @param   row     row object
+         * @throws  SQLException if any parameter cannot be set
+         * @since   5.0
+         */
+        void bind(
+            PreparedStatement ps,
+            R row
+        ) throws SQLException;
+
+    }
+
+}
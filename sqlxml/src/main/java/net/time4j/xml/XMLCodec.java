@@ -0,0 +1,1047 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (XMLCodec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.xml;
+
+import net.time4j.ClockUnit;
+import net.time4j.Duration;
+import net.time4j.IsoUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.ZonalDateTime;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.ChronoException;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.tz.ZonalOffset;
+
+import java.text.ParseException;
+
+import static net.time4j.CalendarUnit.DAYS;
+import static net.time4j.CalendarUnit.MONTHS;
+import static net.time4j.CalendarUnit.YEARS;
+import static net.time4j.ClockUnit.HOURS;
+import static net.time4j.ClockUnit.MINUTES;
+import static net.time4j.ClockUnit.NANOS;
+import static net.time4j.ClockUnit.SECONDS;
+
+
+/**
+ * <p>Parses and prints the lexical representations of the XML-Schema-types {@code xsd:date},
+ * {@code xsd:time}, {@code xsd:dateTime} and {@code xsd:duration} directly as Time4J-types. </p>
+ *
+ * <p>In contrast to {@link XMLAdapter}, this class does not use any {@code DatatypeFactory} or
+ * {@code XMLGregorianCalendar} but works directly on char sequences. It is suitable for JAXB
+ * ({@code XmlAdapter<String, PlainDate>} etc.) and for StAX-streams. Character arrays of StAX can
+ * be parsed without copying via {@code java.nio.CharBuffer.wrap(char[], int, int)}. Example: </p>
+ *
+ * <pre>
+ *  public class DateAdapter extends XmlAdapter&lt;String, PlainDate&gt; {
+ *      public PlainDate unmarshal(String v) throws ParseException {
+ *          return XMLCodec.parseDate(v);
+ *      }
+ *      public String marshal(PlainDate v) {
+ *          return XMLCodec.printDate(v);
+ *      }
+ *  }
+ * </pre>
+ *
+ * <p>Leading and trailing whitespace is ignored during parsing (whitespace facet
+ * &quot;collapse&quot;). The year zero and negative years are interpreted according to
+ * XML-Schema 1.1, that is as proleptic ISO-years like in {@code PlainDate}. Fractional
+ * seconds are truncated to nanosecond precision. The parsers throw a {@code ParseException}
+ * if the text does not conform to the lexical space and an {@code ArithmeticException}
+ * if a valid value is out of the range of Time4J. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+/*[deutsch]
+ * <p>Interpretiert und formatiert die lexikalischen Darstellungen der XML-Schema-Typen
+ * {@code xsd:date}, {@code xsd:time}, {@code xsd:dateTime} und {@code xsd:duration} direkt
+ * als Time4J-Typen. </p>
+ *
+ * <p>Im Unterschied zu {@link XMLAdapter} verwendet diese Klasse weder eine {@code DatatypeFactory}
+ * noch {@code XMLGregorianCalendar}, sondern arbeitet direkt mit Zeichenfolgen. Sie eignet sich
+ * f&uuml;r JAXB ({@code XmlAdapter<String, PlainDate>} usw.) und f&uuml;r StAX-Str&ouml;me.
+ * Zeichen-Arrays von StAX k&ouml;nnen ohne Kopie mittels {@code java.nio.CharBuffer.wrap(char[], int, int)}
+ * interpretiert werden. Beispiel: </p>
+ *
+ * <pre>
+ *  public class DateAdapter extends XmlAdapter&lt;String, PlainDate&gt; {
+ *      public PlainDate unmarshal(String v) throws ParseException {
+ *          return XMLCodec.parseDate(v);
+ *      }
+ *      public String marshal(PlainDate v) {
+ *          return XMLCodec.printDate(v);
+ *      }
+ *  }
+ * </pre>
+ *
+ * <p>F&uuml;hrende und nachfolgende Leerzeichen werden beim Interpretieren ignoriert
+ * (whitespace facet &quot;collapse&quot;). Das Jahr null und negative Jahre werden wie in
+ * XML-Schema 1.1 als proleptische ISO-Jahre wie in {@code PlainDate} verstanden. Sekundenbruchteile
+ * werden auf Nanosekunden abgeschnitten. Die Interpretationsmethoden werfen eine
+ * {@code ParseException}, wenn der Text nicht dem lexikalischen Raum entspricht, und eine
+ * {@code ArithmeticException}, wenn ein g&uuml;ltiger Wert au&szlig;erhalb des Wertebereichs
+ * von Time4J liegt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+public final class XMLCodec {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAX_OFFSET_MINUTES = 14 * 60;
+    private static final int NO_OFFSET = Integer.MIN_VALUE;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private XMLCodec() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Parses given lexical representation of {@code xsd:date}. </p>
+     *
+     * <p>An optional timezone offset is validated but ignored. </p>
+     *
+     * @param   text    lexical representation, for example &quot;2014-02-28&quot;
+     * @return  calendar date
+     * @throws  ParseException if given text is not a valid {@code xsd:date}
+     * @throws  ArithmeticException if the year is out of range
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert die angegebene lexikalische Darstellung von {@code xsd:date}. </p>
+     *
+     * <p>Ein optionaler Zeitzonen-Offset wird gepr&uuml;ft, aber ignoriert. </p>
+     *
+     * @param   text    lexical representation, for example &quot;2014-02-28&quot;
+     * @return  calendar date
+     * @throws  ParseException if given text is not a valid {@code xsd:date}
+     * @throws  ArithmeticException if the year is out of range
+     * @since   5.0
+     */
+    public static PlainDate parseDate(CharSequence text) throws ParseException {
+
+        int start = start(text);
+        int end = end(text, start);
+        int pos = dateEnd(text, start, end);
+        PlainDate date = toDate(text, start, pos);
+        offsetMinutes(text, pos, end);
+        return date;
+
+    }
+
+    /**
+     * <p>Parses given lexical representation of {@code xsd:time}. </p>
+     *
+     * <p>An optional timezone offset is validated but ignored. The value
+     * &quot;24:00:00&quot; yields {@code PlainTime.midnightAtEndOfDay()}. </p>
+     *
+     * @param   text    lexical representation, for example &quot;14:45:30.5&quot;
+     * @return  wall time
+     * @throws  ParseException if given text is not a valid {@code xsd:time}
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert die angegebene lexikalische Darstellung von {@code xsd:time}. </p>
+     *
+     * <p>Ein optionaler Zeitzonen-Offset wird gepr&uuml;ft, aber ignoriert. Der Wert
+     * &quot;24:00:00&quot; ergibt {@code PlainTime.midnightAtEndOfDay()}. </p>
+     *
+     * @param   text    lexical representation, for example &quot;14:45:30.5&quot;
+     * @return  wall time
+     * @throws  ParseException if given text is not a valid {@code xsd:time}
+     * @since   5.0
+     */
+    public static PlainTime parseTime(CharSequence text) throws ParseException {
+
+        int start = start(text);
+        int end = end(text, start);
+        int pos = timeEnd(text, start, end, false);
+        PlainTime time = toTime(text, start, pos);
+        offsetMinutes(text, pos, end);
+        return time;
+
+    }
+
+    /**
+     * <p>Parses given lexical representation of {@code xsd:dateTime} as local timestamp. </p>
+     *
+     * <p>An optional timezone offset is validated but ignored. The time 24:00:00 is
+     * normalized to the start of the following day. </p>
+     *
+     * @param   text    lexical representation, for example &quot;2014-02-28T14:45:30&quot;
+     * @return  local timestamp
+     * @throws  ParseException if given text is not a valid {@code xsd:dateTime}
+     *          or contains a leap second
+     * @throws  ArithmeticException if the year is out of range
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert die angegebene lexikalische Darstellung von {@code xsd:dateTime}
+     * als lokalen Zeitstempel. </p>
+     *
+     * <p>Ein optionaler Zeitzonen-Offset wird gepr&uuml;ft, aber ignoriert. Die Uhrzeit
+     * 24:00:00 wird auf den Beginn des Folgetags normalisiert. </p>
+     *
+     * @param   text    lexical representation, for example &quot;2014-02-28T14:45:30&quot;
+     * @return  local timestamp
+     * @throws  ParseException if given text is not a valid {@code xsd:dateTime}
+     *          or contains a leap second
+     * @throws  ArithmeticException if the year is out of range
+     * @since   5.0
+     */
+    public static PlainTimestamp parseDateTime(CharSequence text) throws ParseException {
+
+        int start = start(text);
+        int end = end(text, start);
+        int pos = dateEnd(text, start, end);
+        PlainDate date = toDate(text, start, pos);
+        checkChar(text, pos, end, 'T');
+        int timeEnd = timeEnd(text, pos + 1, end, false);
+        PlainTime time = toTime(text, pos + 1, timeEnd);
+        offsetMinutes(text, timeEnd, end);
+        return PlainTimestamp.of(date, time);
+
+    }
+
+    /**
+     * <p>Parses given lexical representation of {@code xsd:dateTime} with timezone offset. </p>
+     *
+     * <p>A leap second is only accepted if it is registered and leap seconds are enabled.
+     * If leap seconds are disabled then it is interpreted as the preceding second. </p>
+     *
+     * @param   text    lexical representation, for example &quot;2014-02-28T14:45:30+01:00&quot;
+     * @return  moment with timezone offset
+     * @throws  ParseException if given text is not a valid {@code xsd:dateTime} or has no offset
+     * @throws  ArithmeticException if the year is out of range
+     * @throws  ChronoException if a leap second is not registered or the moment is out of range
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert die angegebene lexikalische Darstellung von {@code xsd:dateTime}
+     * mit Zeitzonen-Offset. </p>
+     *
+     * <p>Eine Schaltsekunde wird nur akzeptiert, wenn sie registriert ist und Schaltsekunden
+     * aktiviert sind. Sind Schaltsekunden deaktiviert, wird sie als die vorherige Sekunde
+     * interpretiert. </p>
+     *
+     * @param   text    lexical representation, for example &quot;2014-02-28T14:45:30+01:00&quot;
+     * @return  moment with timezone offset
+     * @throws  ParseException if given text is not a valid {@code xsd:dateTime} or has no offset
+     * @throws  ArithmeticException if the year is out of range
+     * @throws  ChronoException if a leap second is not registered or the moment is out of range
+     * @since   5.0
+     */
+    public static ZonalDateTime parseDateTimeOffset(CharSequence text) throws ParseException {
+
+        int start = start(text);
+        int end = end(text, start);
+        int pos = dateEnd(text, start, end);
+        PlainDate date = toDate(text, start, pos);
+        checkChar(text, pos, end, 'T');
+        int timeStart = pos + 1;
+        int timeEnd = timeEnd(text, timeStart, end, true);
+        int second = digits(text, timeStart + 6, 2);
+        PlainTime time = toTime(text, timeStart, timeEnd);
+        int offsetMinutes = offsetMinutes(text, timeEnd, end);
+
+        if (offsetMinutes == NO_OFFSET) {
+            throw new ParseException("Missing timezone offset: " + text, timeEnd);
+        }
+
+        ZonalOffset offset = ZonalOffset.ofTotalSeconds(offsetMinutes * 60);
+        Moment moment = PlainTimestamp.of(date, time).at(offset);
+
+        if ((second == 60) && LeapSeconds.getInstance().isEnabled()) {
+            Moment ls = moment.plus(1, SI.SECONDS);
+            if (ls.isLeapSecond()) {
+                return ls.inZonalView(offset);
+            } else {
+                throw new ChronoException("Leap second not registered: " + text);
+            }
+        }
+
+        return moment.inZonalView(offset);
+
+    }
+
+    /**
+     * <p>Parses given lexical representation of {@code xsd:duration}. </p>
+     *
+     * @param   text    lexical representation, for example &quot;-P1Y2M10DT3H5.5S&quot;
+     * @return  duration in years, months, days, hours, minutes, seconds and nanoseconds
+     * @throws  ParseException if given text is not a valid {@code xsd:duration}
+     * @throws  ArithmeticException if any amount is out of range
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert die angegebene lexikalische Darstellung von {@code xsd:duration}. </p>
+     *
+     * @param   text    lexical representation, for example &quot;-P1Y2M10DT3H5.5S&quot;
+     * @return  duration in years, months, days, hours, minutes, seconds and nanoseconds
+     * @throws  ParseException if given text is not a valid {@code xsd:duration}
+     * @throws  ArithmeticException if any amount is out of range
+     * @since   5.0
+     */
+    public static Duration<IsoUnit> parseDuration(CharSequence text) throws ParseException {
+
+        int start = start(text);
+        int end = end(text, start);
+        int pos = start;
+        boolean negative = false;
+
+        if ((pos < end) && (text.charAt(pos) == '-')) {
+            negative = true;
+            pos++;
+        }
+
+        checkChar(text, pos, end, 'P');
+        pos++;
+
+        Duration<IsoUnit> duration = Duration.ofZero();
+        String symbols = "YMD";
+        int symbolIndex = 0;
+        boolean components = false;
+        boolean timePart = false;
+
+        while (pos < end) {
+            char c = text.charAt(pos);
+
+            if (c == 'T') {
+                if (timePart || (pos + 1 == end)) {
+                    throw new ParseException("Invalid time part: " + text, pos);
+                }
+                timePart = true;
+                symbols = "HMS";
+                symbolIndex = 0;
+                pos++;
+                continue;
+            }
+
+            int numStart = pos;
+            long amount = 0;
+
+            while ((pos < end) && isDigit(text.charAt(pos))) {
+                amount = Math.addExact(Math.multiplyExact(amount, 10), text.charAt(pos) - '0');
+                pos++;
+            }
+
+            if (pos == numStart) {
+                throw new ParseException("Digit expected: " + text, pos);
+            }
+
+            int nanos = 0;
+
+            if (timePart && (pos < end) && (text.charAt(pos) == '.')) {
+                int fracStart = pos + 1;
+                pos = fracStart;
+                while ((pos < end) && isDigit(text.charAt(pos))) {
+                    pos++;
+                }
+                if ((pos == fracStart) || (pos == end) || (text.charAt(pos) != 'S')) {
+                    throw new ParseException("Invalid fraction of seconds: " + text, pos);
+                }
+                nanos = fraction(text, fracStart, pos);
+            }
+
+            if (pos == end) {
+                throw new ParseException("Unit symbol expected: " + text, pos);
+            }
+
+            int found = symbols.indexOf(text.charAt(pos), symbolIndex);
+
+            if (found == -1) {
+                throw new ParseException("Unexpected unit symbol: " + text, pos);
+            }
+
+            IsoUnit unit = (timePart ? toClockUnit(found) : toCalendarUnit(found));
+            duration = duration.plus(amount, unit);
+
+            if (nanos != 0) {
+                duration = duration.plus(nanos, NANOS);
+            }
+
+            symbolIndex = found + 1;
+            components = true;
+            pos++;
+        }
+
+        if (!components) {
+            throw new ParseException("Missing duration components: " + text, pos);
+        }
+
+        return (negative ? duration.inverse() : duration);
+
+    }
+
+    /**
+     * <p>Prints given calendar date as {@code xsd:date} without timezone offset. </p>
+     *
+     * @param   date    calendar date
+     * @return  lexical representation
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert das angegebene Kalenderdatum als {@code xsd:date} ohne Zeitzonen-Offset. </p>
+     *
+     * @param   date    calendar date
+     * @return  lexical representation
+     * @since   5.0
+     */
+    public static String printDate(PlainDate date) {
+
+        StringBuilder buffer = new StringBuilder(10);
+        printDate(date, buffer);
+        return buffer.toString();
+
+    }
+
+    /**
+     * <p>Prints given calendar date as {@code xsd:date} without timezone offset into given buffer. </p>
+     *
+     * @param   date    calendar date
+     * @param   buffer  target buffer
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert das angegebene Kalenderdatum als {@code xsd:date} ohne Zeitzonen-Offset
+     * in den angegebenen Puffer. </p>
+     *
+     * @param   date    calendar date
+     * @param   buffer  target buffer
+     * @since   5.0
+     */
+    public static void printDate(
+        PlainDate date,
+        StringBuilder buffer
+    ) {
+
+        appendDate(date.getYear(), date.getMonth(), date.getDayOfMonth(), buffer);
+
+    }
+
+    /**
+     * <p>Prints given wall time as {@code xsd:time} without timezone offset. </p>
+     *
+     * <p>Fractional seconds are printed with as many digits as necessary. </p>
+     *
+     * @param   time    wall time
+     * @return  lexical representation
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Uhrzeit als {@code xsd:time} ohne Zeitzonen-Offset. </p>
+     *
+     * <p>Sekundenbruchteile werden mit so vielen Ziffern wie n&ouml;tig ausgegeben. </p>
+     *
+     * @param   time    wall time
+     * @return  lexical representation
+     * @since   5.0
+     */
+    public static String printTime(PlainTime time) {
+
+        StringBuilder buffer = new StringBuilder(18);
+        printTime(time, buffer);
+        return buffer.toString();
+
+    }
+
+    /**
+     * <p>Prints given wall time as {@code xsd:time} without timezone offset into given buffer. </p>
+     *
+     * @param   time    wall time
+     * @param   buffer  target buffer
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Uhrzeit als {@code xsd:time} ohne Zeitzonen-Offset
+     * in den angegebenen Puffer. </p>
+     *
+     * @param   time    wall time
+     * @param   buffer  target buffer
+     * @since   5.0
+     */
+    public static void printTime(
+        PlainTime time,
+        StringBuilder buffer
+    ) {
+
+        appendTime(time.getHour(), time.getMinute(), time.getSecond(), time.getNanosecond(), buffer);
+
+    }
+
+    /**
+     * <p>Prints given local timestamp as {@code xsd:dateTime} without timezone offset. </p>
+     *
+     * @param   tsp     local timestamp
+     * @return  lexical representation
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen lokalen Zeitstempel als {@code xsd:dateTime} ohne
+     * Zeitzonen-Offset. </p>
+     *
+     * @param   tsp     local timestamp
+     * @return  lexical representation
+     * @since   5.0
+     */
+    public static String printDateTime(PlainTimestamp tsp) {
+
+        StringBuilder buffer = new StringBuilder(29);
+        printDateTime(tsp, buffer);
+        return buffer.toString();
+
+    }
+
+    /**
+     * <p>Prints given local timestamp as {@code xsd:dateTime} without timezone offset
+     * into given buffer. </p>
+     *
+     * @param   tsp     local timestamp
+     * @param   buffer  target buffer
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen lokalen Zeitstempel als {@code xsd:dateTime} ohne
+     * Zeitzonen-Offset in den angegebenen Puffer. </p>
+     *
+     * @param   tsp     local timestamp
+     * @param   buffer  target buffer
+     * @since   5.0
+     */
+    public static void printDateTime(
+        PlainTimestamp tsp,
+        StringBuilder buffer
+    ) {
+
+        PlainDate date = tsp.getCalendarDate();
+        PlainTime time = tsp.getWallTime();
+        appendDate(date.getYear(), date.getMonth(), date.getDayOfMonth(), buffer);
+        buffer.append('T');
+        appendTime(time.getHour(), time.getMinute(), time.getSecond(), time.getNanosecond(), buffer);
+
+    }
+
+    /**
+     * <p>Prints given moment with timezone offset as {@code xsd:dateTime}. </p>
+     *
+     * <p>A leap second is printed with the second 60. The offset UTC is printed as &quot;Z&quot;. </p>
+     *
+     * @param   zdt     moment with timezone offset
+     * @return  lexical representation
+     * @throws  ChronoException if the offset is not representable in XML-Schema
+     *          (fractional minutes or beyond 14 hours)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen Moment mit Zeitzonen-Offset als {@code xsd:dateTime}. </p>
+     *
+     * <p>Eine Schaltsekunde wird mit der Sekunde 60 ausgegeben. Der Offset UTC wird als
+     * &quot;Z&quot; ausgegeben. </p>
+     *
+     * @param   zdt     moment with timezone offset
+     * @return  lexical representation
+     * @throws  ChronoException if the offset is not representable in XML-Schema
+     *          (fractional minutes or beyond 14 hours)
+     * @since   5.0
+     */
+    public static String printDateTimeOffset(ZonalDateTime zdt) {
+
+        StringBuilder buffer = new StringBuilder(35);
+        printDateTimeOffset(zdt, buffer);
+        return buffer.toString();
+
+    }
+
+    /**
+     * <p>Prints given moment with timezone offset as {@code xsd:dateTime} into given buffer. </p>
+     *
+     * @param   zdt     moment with timezone offset
+     * @param   buffer  target buffer
+     * @throws  ChronoException if the offset is not representable in XML-Schema
+     *          (fractional minutes or beyond 14 hours)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen Moment mit Zeitzonen-Offset als {@code xsd:dateTime}
+     * in den angegebenen Puffer. </p>
+     *
+     * @param   zdt     moment with timezone offset
+     * @param   buffer  target buffer
+     * @throws  ChronoException if the offset is not representable in XML-Schema
+     *          (fractional minutes or beyond 14 hours)
+     * @since   5.0
+     */
+    public static void printDateTimeOffset(
+        ZonalDateTime zdt,
+        StringBuilder buffer
+    ) {
+
+        ZonalOffset offset = zdt.getOffset();
+        int total = offset.getIntegralAmount();
+
+        if (
+            (offset.getFractionalAmount() != 0)
+            || (total % 60 != 0)
+            || (Math.abs(total / 60) > MAX_OFFSET_MINUTES)
+        ) {
+            throw new ChronoException("Offset not representable in XML-Schema: " + offset);
+        }
+
+        PlainTimestamp tsp = zdt.toTimestamp();
+        PlainDate date = tsp.getCalendarDate();
+        PlainTime time = tsp.getWallTime();
+        int second = (zdt.isLeapSecond() ? 60 : time.getSecond());
+        appendDate(date.getYear(), date.getMonth(), date.getDayOfMonth(), buffer);
+        buffer.append('T');
+        appendTime(time.getHour(), time.getMinute(), second, time.getNanosecond(), buffer);
+
+        if (total == 0) {
+            buffer.append('Z');
+        } else {
+            int minutes = Math.abs(total / 60);
+            buffer.append((total < 0) ? '-' : '+');
+            append2(minutes / 60, buffer);
+            buffer.append(':');
+            append2(minutes % 60, buffer);
+        }
+
+    }
+
+    /**
+     * <p>Prints given duration as {@code xsd:duration}. </p>
+     *
+     * @param   duration    duration in ISO-units
+     * @return  lexical representation
+     * @throws  ChronoException if the duration contains units not representable in XML-Schema
+     * @see     Duration#toStringXML()
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Dauer als {@code xsd:duration}. </p>
+     *
+     * @param   duration    duration in ISO-units
+     * @return  lexical representation
+     * @throws  ChronoException if the duration contains units not representable in XML-Schema
+     * @see     Duration#toStringXML()
+     * @since   5.0
+     */
+    public static String printDuration(Duration<?> duration) {
+
+        return duration.toStringXML();
+
+    }
+
+    /**
+     * <p>Prints given duration as {@code xsd:duration} into given buffer. </p>
+     *
+     * @param   duration    duration in ISO-units
+     * @param   buffer      target buffer
+     * @throws  ChronoException if the duration contains units not representable in XML-Schema
+     * @see     Duration#toStringXML()
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Dauer als {@code xsd:duration} in den angegebenen Puffer. </p>
+     *
+     * @param   duration    duration in ISO-units
+     * @param   buffer      target buffer
+     * @throws  ChronoException if the duration contains units not representable in XML-Schema
+     * @see     Duration#toStringXML()
+     * @since   5.0
+     */
+    public static void printDuration(
+        Duration<?> duration,
+        StringBuilder buffer
+    ) {
+
+        buffer.append(duration.toStringXML());
+
+    }
+
+    // first non-whitespace position
+    private static int start(CharSequence text) {
+
+        int pos = 0;
+
+        while ((pos < text.length()) && isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+
+        return pos;
+
+    }
+
+    // position after last non-whitespace character
+    private static int end(
+        CharSequence text,
+        int start
+    ) {
+
+        int end = text.length();
+
+        while ((end > start) && isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+
+        return end;
+
+    }
+
+    // validates the syntax of "-?yyyy-MM-dd" and yields the end position
+    private static int dateEnd(
+        CharSequence text,
+        int start,
+        int end
+    ) throws ParseException {
+
+        int pos = start;
+
+        if ((pos < end) && (text.charAt(pos) == '-')) {
+            pos++;
+        }
+
+        int yearStart = pos;
+
+        while ((pos < end) && isDigit(text.charAt(pos))) {
+            pos++;
+        }
+
+        int len = pos - yearStart;
+
+        if ((len < 4) || ((len > 4) && (text.charAt(yearStart) == '0'))) {
+            throw new ParseException("Invalid year: " + text, yearStart);
+        }
+
+        checkChar(text, pos, end, '-');
+        checkDigits(text, pos + 1, end, 2);
+        checkChar(text, pos + 3, end, '-');
+        checkDigits(text, pos + 4, end, 2);
+        return pos + 6;
+
+    }
+
+    // syntax already validated by dateEnd()
+    private static PlainDate toDate(
+        CharSequence text,
+        int start,
+        int dateEnd
+    ) throws ParseException {
+
+        boolean negative = (text.charAt(start) == '-');
+        int yearStart = (negative ? start + 1 : start);
+        int yearEnd = dateEnd - 6;
+
+        if (yearEnd - yearStart > 9) {
+            throw new ArithmeticException("Year out of supported range: " + text);
+        }
+
+        int year = digits(text, yearStart, yearEnd - yearStart);
+        int month = digits(text, yearEnd + 1, 2);
+        int dom = digits(text, yearEnd + 4, 2);
+
+        if (negative) {
+            year = -year;
+        }
+
+        if (!GregorianMath.isValid(year, month, dom)) {
+            throw new ParseException("Invalid date: " + text, yearEnd + 1);
+        }
+
+        return PlainDate.of(year, month, dom);
+
+    }
+
+    // validates the syntax of "hh:mm:ss(.s+)?" and yields the end position
+    private static int timeEnd(
+        CharSequence text,
+        int start,
+        int end,
+        boolean leapSecond
+    ) throws ParseException {
+
+        checkDigits(text, start, end, 2);
+        checkChar(text, start + 2, end, ':');
+        checkDigits(text, start + 3, end, 2);
+        checkChar(text, start + 5, end, ':');
+        checkDigits(text, start + 6, end, 2);
+
+        int pos = start + 8;
+
+        if ((pos < end) && (text.charAt(pos) == '.')) {
+            pos++;
+            int fracStart = pos;
+            while ((pos < end) && isDigit(text.charAt(pos))) {
+                pos++;
+            }
+            if (pos == fracStart) {
+                throw new ParseException("Missing fraction of seconds: " + text, pos);
+            }
+        }
+
+        int hour = digits(text, start, 2);
+        int minute = digits(text, start + 3, 2);
+        int second = digits(text, start + 6, 2);
+
+        if (hour == 24) {
+            if ((minute != 0) || (second != 0) || (pos > start + 8 && fraction(text, start + 9, pos) != 0)) {
+                throw new ParseException("Invalid time 24:00:00: " + text, start);
+            }
+        } else if ((hour > 23) || (minute > 59) || (second > (leapSecond ? 60 : 59))) {
+            throw new ParseException("Invalid time: " + text, start);
+        }
+
+        return pos;
+
+    }
+
+    // syntax already validated by timeEnd(), a leap second is mapped to the second 59
+    private static PlainTime toTime(
+        CharSequence text,
+        int start,
+        int timeEnd
+    ) {
+
+        int hour = digits(text, start, 2);
+        int minute = digits(text, start + 3, 2);
+        int second = Math.min(digits(text, start + 6, 2), 59);
+        int nano = ((timeEnd > start + 8) ? fraction(text, start + 9, timeEnd) : 0);
+
+        if (hour == 24) {
+            return PlainTime.midnightAtEndOfDay();
+        }
+
+        return PlainTime.of(hour, minute, second, nano);
+
+    }
+
+    // validates optional timezone offset up to the end, yields offset in minutes or NO_OFFSET
+    private static int offsetMinutes(
+        CharSequence text,
+        int pos,
+        int end
+    ) throws ParseException {
+
+        if (pos == end) {
+            return NO_OFFSET;
+        }
+
+        char c = text.charAt(pos);
+
+        if ((c == 'Z') && (pos + 1 == end)) {
+            return 0;
+        } else if (((c == '+') || (c == '-')) && (pos + 6 == end)) {
+            checkDigits(text, pos + 1, end, 2);
+            checkChar(text, pos + 3, end, ':');
+            checkDigits(text, pos + 4, end, 2);
+            int hours = digits(text, pos + 1, 2);
+            int minutes = digits(text, pos + 4, 2);
+            int total = hours * 60 + minutes;
+            if ((minutes > 59) || (total > MAX_OFFSET_MINUTES)) {
+                throw new ParseException("Invalid timezone offset: " + text, pos);
+            }
+            return ((c == '-') ? -total : total);
+        }
+
+        throw new ParseException("Unexpected trailing characters: " + text, pos);
+
+    }
+
+    private static void checkChar(
+        CharSequence text,
+        int pos,
+        int end,
+        char expected
+    ) throws ParseException {
+
+        if ((pos >= end) || (text.charAt(pos) != expected)) {
+            throw new ParseException("Expected '" + expected + "': " + text, pos);
+        }
+
+    }
+
+    private static void checkDigits(
+        CharSequence text,
+        int pos,
+        int end,
+        int count
+    ) throws ParseException {
+
+        if (pos + count > end) {
+            throw new ParseException("Unexpected end of text: " + text, end);
+        }
+
+        for (int i = pos; i < pos + count; i++) {
+            if (!isDigit(text.charAt(i))) {
+                throw new ParseException("Digit expected: " + text, i);
+            }
+        }
+
+    }
+
+    // assumes count digits starting at pos
+    private static int digits(
+        CharSequence text,
+        int pos,
+        int count
+    ) {
+
+        int value = 0;
+
+        for (int i = pos; i < pos + count; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+
+        return value;
+
+    }
+
+    // nanoseconds of given fraction digits, truncated after nine digits
+    private static int fraction(
+        CharSequence text,
+        int start,
+        int end
+    ) {
+
+        int nano = 0;
+
+        for (int i = 0; i < 9; i++) {
+            int pos = start + i;
+            nano = nano * 10 + ((pos < end) ? (text.charAt(pos) - '0') : 0);
+        }
+
+        return nano;
+
+    }
+
+    private static IsoUnit toCalendarUnit(int index) {
+
+        switch (index) {
+            case 0:
+                return YEARS;
+            case 1:
+                return MONTHS;
+            default:
+                return DAYS;
+        }
+
+    }
+
+    private static ClockUnit toClockUnit(int index) {
+
+        switch (index) {
+            case 0:
+                return HOURS;
+            case 1:
+                return MINUTES;
+            default:
+                return SECONDS;
+        }
+
+    }
+
+    private static void appendDate(
+        int year,
+        int month,
+        int dom,
+        StringBuilder buffer
+    ) {
+
+        if (year < 0) {
+            buffer.append('-');
+            year = -year;
+        }
+
+        if (year < 1000) {
+            buffer.append('0');
+            if (year < 100) {
+                buffer.append('0');
+                if (year < 10) {
+                    buffer.append('0');
+                }
+            }
+        }
+
+        buffer.append(year);
+        buffer.append('-');
+        append2(month, buffer);
+        buffer.append('-');
+        append2(dom, buffer);
+
+    }
+
+    private static void appendTime(
+        int hour,
+        int minute,
+        int second,
+        int nano,
+        StringBuilder buffer
+    ) {
+
+        append2(hour, buffer);
+        buffer.append(':');
+        append2(minute, buffer);
+        buffer.append(':');
+        append2(second, buffer);
+
+        if (nano != 0) {
+            buffer.append('.');
+            // prints the digits until the remainder is zero (no trailing zeros)
+            for (int divisor = 100_000_000; nano != 0; divisor /= 10) {
+                buffer.append((char) ('0' + nano / divisor));
+                nano %= divisor;
+            }
+        }
+
+    }
+
+    private static void append2(
+        int value,
+        StringBuilder buffer
+    ) {
+
+        buffer.append((char) ('0' + value / 10));
+        buffer.append((char) ('0' + value % 10));
+
+    }
+
+    private static boolean isDigit(char c) {
+
+        return ((c >= '0') && (c <= '9'));
+
+    }
+
+    private static boolean isWhitespace(char c) {
+
+        return ((c == ' ') || (c == '\t') || (c == '\r') || (c == '\n'));
+
+    }
+
+}
@@ -1,7 +1,9 @@
 package net.time4j;
 
 import net.time4j.sql.JDBCAdapterTest;
+import net.time4j.sql.JDBCBindingTest;
 import net.time4j.xml.XMLAdapterTest;
+import net.time4j.xml.XMLCodecTest;
 
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -12,7 +14,9 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         JDBCAdapterTest.class,
-        XMLAdapterTest.class
+        JDBCBindingTest.class,
+        XMLAdapterTest.class,
+        XMLCodecTest.class
     }
 )
 public class SqlXmlSuite {
@@ -0,0 +1,270 @@
+package net.time4j.sql;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class JDBCBindingTest {
+
+    static {
+        System.setProperty("net.time4j.sql.utc.conversion", "true");
+    }
+
+    @Test
+    public void readPlainDate() throws Exception {
+        ResultSet rs = resultSet(LocalDate.of(2012, 7, 1));
+        assertThat(JDBCBinding.readPlainDate(rs, 1), is(PlainDate.of(2012, 7, 1)));
+    }
+
+    @Test
+    public void readPlainTime() throws Exception {
+        ResultSet rs = resultSet(LocalTime.of(23, 59, 59, 123456789));
+        assertThat(JDBCBinding.readPlainTime(rs, 1), is(PlainTime.of(23, 59, 59, 123456789)));
+    }
+
+    @Test
+    public void readPlainTimestamp() throws Exception {
+        ResultSet rs = resultSet(LocalDateTime.of(2012, 7, 1, 0, 0, 0, 210));
+        assertThat(
+            JDBCBinding.readPlainTimestamp(rs, 1),
+            is(PlainTimestamp.of(2012, 7, 1, 0, 0).with(PlainTime.NANO_OF_SECOND, 210)));
+    }
+
+    @Test
+    public void readMoment() throws Exception {
+        ResultSet rs = resultSet(OffsetDateTime.of(2012, 7, 1, 2, 0, 0, 210, ZoneOffset.ofHours(2)));
+        assertThat(JDBCBinding.readMoment(rs, 1), is(Moment.of(1341100800L, 210, TimeScale.POSIX)));
+    }
+
+    @Test
+    public void readNull() throws Exception {
+        ResultSet rs = resultSet(null);
+        assertThat(JDBCBinding.readPlainDate(rs, 1), nullValue());
+        assertThat(JDBCBinding.readPlainTime(rs, 1), nullValue());
+        assertThat(JDBCBinding.readPlainTimestamp(rs, 1), nullValue());
+        assertThat(JDBCBinding.readMoment(rs, 1), nullValue());
+    }
+
+    @Test
+    public void readWithOldDriver() throws Exception {
+        java.sql.Timestamp ts = new java.sql.Timestamp(1341100800L * 1000);
+        ts.setNanos(210);
+        ResultSet rs = oldResultSet(ts);
+        assertThat(
+            JDBCBinding.readPlainTimestamp(rs, 1),
+            is(PlainTimestamp.of(2012, 7, 1, 0, 0).with(PlainTime.NANO_OF_SECOND, 210)));
+        assertThat(JDBCBinding.readMoment(rs, 1), is(Moment.of(1341100800L, 210, TimeScale.POSIX)));
+    }
+
+    @Test
+    public void bindValues() throws Exception {
+        List<Object[]> calls = new ArrayList<>();
+        PreparedStatement ps = statement(calls, false);
+        JDBCBinding.bind(ps, 1, PlainDate.of(2012, 7, 1));
+        JDBCBinding.bind(ps, 2, PlainTime.midnightAtEndOfDay());
+        JDBCBinding.bind(ps, 3, PlainTimestamp.of(2012, 7, 1, 0, 0).with(PlainTime.NANO_OF_SECOND, 210));
+        JDBCBinding.bind(ps, 4, Moment.of(1341100800L, 210, TimeScale.POSIX));
+        assertThat(calls.get(0), is(new Object[] {"setObject", 1, LocalDate.of(2012, 7, 1), Types.DATE}));
+        assertThat(calls.get(1), is(new Object[] {"setObject", 2, LocalTime.MIDNIGHT, Types.TIME}));
+        assertThat(
+            calls.get(2),
+            is(new Object[] {"setObject", 3, LocalDateTime.of(2012, 7, 1, 0, 0, 0, 210), Types.TIMESTAMP}));
+        assertThat(
+            calls.get(3),
+            is(new Object[] {
+                "setObject", 4, OffsetDateTime.of(2012, 7, 1, 0, 0, 0, 210, ZoneOffset.UTC),
+                Types.TIMESTAMP_WITH_TIMEZONE}));
+    }
+
+    @Test
+    public void bindLeapSecond() throws Exception {
+        List<Object[]> calls = new ArrayList<>();
+        Moment leapSecond = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        JDBCBinding.bind(statement(calls, false), 1, leapSecond);
+        assertThat(
+            calls.get(0)[2],
+            is((Object) OffsetDateTime.of(2016, 12, 31, 23, 59, 59, 0, ZoneOffset.UTC)));
+    }
+
+    @Test
+    public void bindNull() throws Exception {
+        List<Object[]> calls = new ArrayList<>();
+        PreparedStatement ps = statement(calls, false);
+        JDBCBinding.bind(ps, 1, (PlainDate) null);
+        JDBCBinding.bind(ps, 2, (PlainTime) null);
+        JDBCBinding.bind(ps, 3, (PlainTimestamp) null);
+        JDBCBinding.bind(ps, 4, (Moment) null);
+        assertThat(calls.get(0), is(new Object[] {"setNull", 1, Types.DATE}));
+        assertThat(calls.get(1), is(new Object[] {"setNull", 2, Types.TIME}));
+        assertThat(calls.get(2), is(new Object[] {"setNull", 3, Types.TIMESTAMP}));
+        assertThat(calls.get(3), is(new Object[] {"setNull", 4, Types.TIMESTAMP_WITH_TIMEZONE}));
+    }
+
+    @Test
+    public void bindWithOldDriver() throws Exception {
+        List<Object[]> calls = new ArrayList<>();
+        PlainTimestamp tsp = PlainTimestamp.of(2012, 7, 1, 0, 0).with(PlainTime.NANO_OF_SECOND, 210);
+        JDBCBinding.bind(statement(calls, true), 1, tsp);
+        assertThat(
+            calls.get(0),
+            is(new Object[] {"setTimestamp", 1, JDBCAdapter.SQL_TIMESTAMP.from(tsp)}));
+    }
+
+    @Test
+    public void executeBatch() throws Exception {
+        List<Object[]> calls = new ArrayList<>();
+        List<PlainDate> dates = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            dates.add(PlainDate.of(2018, 1, i));
+        }
+        int[] counts =
+            JDBCBinding.executeBatch(statement(calls, false), dates, (ps, date) -> JDBCBinding.bind(ps, 1, date), 2);
+        assertThat(counts, is(new int[] {1, 1, 1, 1, 1}));
+        List<String> names = new ArrayList<>();
+        for (Object[] call : calls) {
+            names.add((String) call[0]);
+        }
+        assertThat(
+            names,
+            is(Arrays.asList(
+                "setObject", "addBatch", "setObject", "addBatch", "executeBatch",
+                "setObject", "addBatch", "setObject", "addBatch", "executeBatch",
+                "setObject", "addBatch", "executeBatch")));
+    }
+
+    @Test
+    public void executeManyBatches() throws Exception {
+        List<Object[]> calls = new ArrayList<>();
+        List<PlainDate> dates = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            dates.add(PlainDate.of(2018, 1, 1).plus(i, CalendarUnit.DAYS));
+        }
+        int[] counts =
+            JDBCBinding.executeBatch(statement(calls, false), dates, (ps, date) -> JDBCBinding.bind(ps, 1, date), 3);
+        int[] expected = new int[1000];
+        Arrays.fill(expected, 1);
+        assertThat(counts, is(expected));
+        int executions = 0;
+        for (Object[] call : calls) {
+            if (call[0].equals("executeBatch")) {
+                executions++;
+            }
+        }
+        assertThat(executions, is(334));
+    }
+
+    @Test
+    public void executeEmptyBatch() throws Exception {
+        List<Object[]> calls = new ArrayList<>();
+        int[] counts =
+            JDBCBinding.executeBatch(
+                statement(calls, false),
+                Collections.<PlainDate>emptyList(),
+                (ps, date) -> JDBCBinding.bind(ps, 1, date),
+                100);
+        assertThat(counts.length, is(0));
+        assertThat(calls.isEmpty(), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void executeBatchWithInvalidSize() throws Exception {
+        JDBCBinding.executeBatch(
+            statement(new ArrayList<>(), false),
+            Collections.<PlainDate>emptyList(),
+            (ps, date) -> JDBCBinding.bind(ps, 1, date),
+            0);
+    }
+
+    // JDBC-4.2-driver which yields given value for column 1
+    private static ResultSet resultSet(Object value) {
+        return (ResultSet) Proxy.newProxyInstance(
+            JDBCBindingTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("getObject") && (args.length == 2) && args[0].equals(1)) {
+                    Class<?> type = (Class<?>) args[1];
+                    return ((value == null) ? null : type.cast(value));
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    // old driver without support for java.time-types
+    private static ResultSet oldResultSet(java.sql.Timestamp value) {
+        return (ResultSet) Proxy.newProxyInstance(
+            JDBCBindingTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("getObject")) {
+                    throw new SQLFeatureNotSupportedException();
+                } else if (method.getName().equals("getTimestamp") && args[0].equals(1)) {
+                    return value;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    // records all calls, every batch entry counts as one updated row
+    private static PreparedStatement statement(
+        List<Object[]> calls,
+        boolean oldDriver
+    ) {
+        int[] pending = new int[1];
+        return (PreparedStatement) Proxy.newProxyInstance(
+            JDBCBindingTest.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class},
+            (proxy, method, args) -> {
+                String name = method.getName();
+                if (oldDriver && name.equals("setObject")) {
+                    throw new SQLFeatureNotSupportedException();
+                }
+                List<Object> call = new ArrayList<>();
+                call.add(name);
+                if (args != null) {
+                    call.addAll(Arrays.asList(args));
+                }
+                calls.add(call.toArray());
+                switch (name) {
+                    case "addBatch":
+                        pending[0]++;
+                        return null;
+                    case "executeBatch":
+                        int[] counts = new int[pending[0]];
+                        Arrays.fill(counts, 1);
+                        pending[0] = 0;
+                        return counts;
+                    default:
+                        return null;
+                }
+            });
+    }
+
+}
@@ -0,0 +1,223 @@
+package net.time4j.xml;
+
+import net.time4j.Duration;
+import net.time4j.IsoUnit;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.ZonalDateTime;
+import net.time4j.engine.ChronoException;
+import net.time4j.format.expert.Iso8601Format;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.CharBuffer;
+import java.text.ParseException;
+import javax.xml.datatype.DatatypeFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class XMLCodecTest {
+
+    @Test
+    public void parseDate() throws ParseException {
+        assertThat(XMLCodec.parseDate("2014-02-28"), is(PlainDate.of(2014, 2, 28)));
+        assertThat(XMLCodec.parseDate(" 2014-02-28+01:00\n"), is(PlainDate.of(2014, 2, 28)));
+        assertThat(XMLCodec.parseDate("-0044-03-15Z"), is(PlainDate.of(-44, 3, 15)));
+        assertThat(XMLCodec.parseDate("12345-03-15"), is(PlainDate.of(12345, 3, 15)));
+    }
+
+    @Test
+    public void printDate() {
+        assertThat(XMLCodec.printDate(PlainDate.of(2014, 2, 28)), is("2014-02-28"));
+        assertThat(XMLCodec.printDate(PlainDate.of(-44, 3, 15)), is("-0044-03-15"));
+        assertThat(XMLCodec.printDate(PlainDate.of(12345, 3, 15)), is("12345-03-15"));
+        StringBuilder buffer = new StringBuilder("x=");
+        XMLCodec.printDate(PlainDate.of(7, 1, 1), buffer);
+        assertThat(buffer.toString(), is("x=0007-01-01"));
+    }
+
+    @Test
+    public void parseTime() throws ParseException {
+        assertThat(XMLCodec.parseTime("23:59:36.123"), is(PlainTime.of(23, 59, 36, 123_000_000)));
+        assertThat(XMLCodec.parseTime("23:59:36.1234567891Z"), is(PlainTime.of(23, 59, 36, 123_456_789)));
+        assertThat(XMLCodec.parseTime("24:00:00.000"), is(PlainTime.midnightAtEndOfDay()));
+    }
+
+    @Test
+    public void printTime() {
+        assertThat(XMLCodec.printTime(PlainTime.of(23, 59, 36, 120_000_000)), is("23:59:36.12"));
+        assertThat(XMLCodec.printTime(PlainTime.of(23, 59, 36, 1)), is("23:59:36.000000001"));
+        assertThat(XMLCodec.printTime(PlainTime.of(9, 5)), is("09:05:00"));
+        assertThat(XMLCodec.printTime(PlainTime.midnightAtEndOfDay()), is("24:00:00"));
+    }
+
+    @Test
+    public void parseDateTime() throws ParseException {
+        assertThat(
+            XMLCodec.parseDateTime("2014-02-28T14:45:30.5+01:00"),
+            is(PlainTimestamp.of(2014, 2, 28, 14, 45, 30).with(PlainTime.NANO_OF_SECOND, 500_000_000)));
+        assertThat(
+            XMLCodec.parseDateTime("2014-02-28T24:00:00"),
+            is(PlainTimestamp.of(2014, 3, 1, 0, 0)));
+    }
+
+    @Test
+    public void parseDateTimeOfCharBuffer() throws ParseException {
+        char[] chars = "<a>2014-02-28T14:45:30</a>".toCharArray();
+        assertThat(
+            XMLCodec.parseDateTime(CharBuffer.wrap(chars, 3, 19)),
+            is(PlainTimestamp.of(2014, 2, 28, 14, 45, 30)));
+    }
+
+    @Test
+    public void printDateTime() {
+        assertThat(
+            XMLCodec.printDateTime(PlainTimestamp.of(2014, 2, 28, 14, 45, 30)),
+            is("2014-02-28T14:45:30"));
+    }
+
+    @Test
+    public void parseDateTimeOffset() throws Exception {
+        String xml = "2012-06-30T23:59:60.123456789Z";
+        ZonalDateTime expected = ZonalDateTime.parse(xml, Iso8601Format.EXTENDED_DATE_TIME_OFFSET);
+        assertThat(XMLCodec.parseDateTimeOffset(xml), is(expected));
+        assertThat(
+            XMLCodec.parseDateTimeOffset(xml),
+            is(XMLAdapter.XML_DATE_TIME_OFFSET.translate(DatatypeFactory.newInstance().newXMLGregorianCalendar(xml))));
+        assertThat(
+            XMLCodec.parseDateTimeOffset("2014-02-28T14:45:30-05:30"),
+            is(PlainTimestamp.of(2014, 2, 28, 20, 15, 30).atUTC().inZonalView(ZonalOffset.ofTotalSeconds(-19800))));
+    }
+
+    @Test
+    public void printDateTimeOffset() throws ParseException {
+        ZonalDateTime zdt =
+            ZonalDateTime.parse("2012-06-30T23:59:60.123Z", Iso8601Format.EXTENDED_DATE_TIME_OFFSET);
+        assertThat(XMLCodec.printDateTimeOffset(zdt), is("2012-06-30T23:59:60.123Z"));
+        ZonalOffset offset = ZonalOffset.ofTotalSeconds(-19800);
+        assertThat(
+            XMLCodec.printDateTimeOffset(PlainTimestamp.of(2014, 2, 28, 14, 45, 30).at(offset).inZonalView(offset)),
+            is("2014-02-28T14:45:30-05:30"));
+    }
+
+    @Test(expected=ChronoException.class)
+    public void printDateTimeOffsetWithSeconds() {
+        ZonalOffset offset = ZonalOffset.ofTotalSeconds(3601);
+        XMLCodec.printDateTimeOffset(PlainTimestamp.of(2014, 2, 28, 14, 45, 30).at(offset).inZonalView(offset));
+    }
+
+    @Test
+    public void parseDuration() throws Exception {
+        Duration<IsoUnit> expected =
+            Duration.ofNegative().years(1).months(1).days(10).hours(3).seconds(5).nanos(123456789).build();
+        assertThat(XMLCodec.parseDuration("-P1Y1M10DT3H5.123456789S"), is(expected));
+        assertThat(
+            XMLCodec.parseDuration("-P1Y1M10DT3H5.123456789S"),
+            is(XMLAdapter.XML_DURATION.translate(DatatypeFactory.newInstance().newDuration("-P1Y1M10DT3H5.123456789S"))));
+        assertThat(XMLCodec.parseDuration("PT0S"), is(Duration.ofZero()));
+        assertThat(XMLCodec.parseDuration("P2M"), is(Duration.ofPositive().months(2).build()));
+    }
+
+    @Test
+    public void printDuration() {
+        Duration<IsoUnit> d =
+            Duration.ofNegative().years(1).months(1).days(10).hours(3).seconds(5).nanos(123456789).build();
+        assertThat(XMLCodec.printDuration(d), is("-P1Y1M10DT3H5.123456789S"));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void parseDateOutOfRange() throws ParseException {
+        XMLCodec.parseDate("1000000000-01-01");
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void parseDurationOutOfRange() throws ParseException {
+        XMLCodec.parseDuration("P99999999999999999999Y");
+    }
+
+    @Test
+    public void invalidDate() {
+        checkInvalid("2012-6-30", 6);
+        checkInvalid("02012-06-30", 0);
+        checkInvalid("201-06-30", 0);
+        checkInvalid("2012-06-31", 5);
+        checkInvalid("2012-06-30+14:01", 10);
+        checkInvalid("2012-06-30Z1", 10);
+        checkInvalid("", 0);
+    }
+
+    @Test
+    public void invalidTime() {
+        checkInvalidTime("24:00:01");
+        checkInvalidTime("23:60:00");
+        checkInvalidTime("23:59:60");
+        checkInvalidTime("12:00:00.");
+        checkInvalidTime("12:00");
+    }
+
+    @Test
+    public void invalidDateTime() {
+        try {
+            XMLCodec.parseDateTime("2012-06-30 12:00:00");
+            fail("Missing separator T accepted.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(10));
+        }
+        try {
+            XMLCodec.parseDateTimeOffset("2012-06-30T12:00:00");
+            fail("Missing offset accepted.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(19));
+        }
+    }
+
+    @Test
+    public void invalidDuration() {
+        checkInvalidDuration("P");
+        checkInvalidDuration("-P");
+        checkInvalidDuration("PT");
+        checkInvalidDuration("P1DT");
+        checkInvalidDuration("P1M1Y");
+        checkInvalidDuration("P1.5D");
+        checkInvalidDuration("P1W");
+        checkInvalidDuration("PT1,5S");
+    }
+
+    private static void checkInvalid(
+        String text,
+        int errorOffset
+    ) {
+        try {
+            XMLCodec.parseDate(text);
+            fail("Invalid date accepted: " + text);
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(errorOffset));
+        }
+    }
+
+    private static void checkInvalidTime(String text) {
+        try {
+            XMLCodec.parseTime(text);
+            fail("Invalid time accepted: " + text);
+        } catch (ParseException pe) {
+            // expected
+        }
+    }
+
+    private static void checkInvalidDuration(String text) {
+        try {
+            XMLCodec.parseDuration(text);
+            fail("Invalid duration accepted: " + text);
+        } catch (ParseException pe) {
+            // expected
+        }
+    }
+
+}